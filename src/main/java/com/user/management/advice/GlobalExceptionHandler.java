@@ -1,6 +1,8 @@
 package com.user.management.advice;
 
 import com.user.management.dto.ApiExceptionDto;
+import com.user.management.exception.BulkCapacityExceededException;
+import com.user.management.exception.BulkTimeoutException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -35,6 +37,18 @@ public class GlobalExceptionHandler {
                 .body(new ApiExceptionDto(LocalDateTime.now(), e.getMessage()));
     }
 
+    /**
+     * 일괄 처리 대기열이 가득 차 요청을 거절했거나 제한 시간 안에 끝나지 않은 경우 503 으로 응답합니다.
+     *
+     * @param e 발생한 BulkCapacityExceededException 또는 BulkTimeoutException
+     * @return 응답 본문에 에러 정보를 담은 ResponseEntity
+     */
+    @ExceptionHandler({BulkCapacityExceededException.class, BulkTimeoutException.class})
+    public ResponseEntity<ApiExceptionDto> handleBulkUnavailableException(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ApiExceptionDto(LocalDateTime.now(), e.getMessage()));
+    }
+
     /**
      * 유효성 검증에서 발생한 예외를 처리하기 위한 메소드입니다.
      * 발생한 에러를 map 형태로 반환합니다.
@@ -0,0 +1,103 @@
+package com.user.management.buffer;
+
+import com.user.management.shard.ShardContext;
+import com.user.management.shard.UserShardRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 사용자의 마지막 로그인 시간을 메모리에 모아 두었다가 주기적으로 한 번에 반영하는 write-behind 버퍼입니다.
+ * 사용자마다 가장 최근의 로그인 시간만 유지하며, 애플리케이션 종료 시 남은 값을 모두 반영합니다.
+ * 샤딩을 사용하면 사용자가 저장된 shard 별로 나누어 반영하고, 재분배 중에는 이전 위치에도 반영합니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LatestLoginAtBuffer {
+    private static final String UPDATE_LATEST_LOGIN_AT =
+            "UPDATE users SET latest_login_at = ? WHERE user_id = ? AND (latest_login_at IS NULL OR latest_login_at < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserShardRouter userShardRouter;
+    private final ConcurrentMap<String, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자의 로그인 시간을 버퍼에 기록합니다. 이미 더 최근 값이 있으면 무시됩니다.
+     *
+     * @param userId  사용자 ID
+     * @param loginAt 로그인 시간
+     */
+    public void record(String userId, LocalDateTime loginAt) {
+        pending.merge(userId, loginAt, (current, candidate) -> candidate.isAfter(current) ? candidate : current);
+    }
+
+    /**
+     * 버퍼에 쌓인 로그인 시간을 shard 마다 하나의 batch UPDATE 문으로 반영합니다.
+     * 반영에 실패한 값은 다음 주기에 다시 시도할 수 있도록 버퍼로 되돌립니다.
+     */
+    @Scheduled(fixedDelayString = "${app.login-buffer.flush-interval-ms:3000}")
+    public synchronized void flush() {
+        if (pending.isEmpty())
+            return;
+
+        Map<Integer, List<Object[]>> batchArgsByShard = new TreeMap<>();
+        for (String userId : pending.keySet()) {
+            LocalDateTime loginAt = pending.remove(userId);
+            if (loginAt != null) {
+                Timestamp timestamp = Timestamp.valueOf(loginAt);
+                Object[] args = new Object[]{timestamp, userId, timestamp};
+                int shard = userShardRouter.shardOf(userId);
+                batchArgsByShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(args);
+                int previousShard = userShardRouter.previousShardOf(userId);
+                if (previousShard != shard)
+                    batchArgsByShard.computeIfAbsent(previousShard, key -> new ArrayList<>()).add(args);
+            }
+        }
+
+        batchArgsByShard.forEach(this::flushShard);
+    }
+
+    private void flushShard(int shard, List<Object[]> batchArgs) {
+        try {
+            ShardContext.runOn(shard, () -> jdbcTemplate.batchUpdate(UPDATE_LATEST_LOGIN_AT, batchArgs));
+            log.debug("latest_login_at flushed for {} users on shard {}", batchArgs.size(), shard);
+        } catch (DataAccessException e) {
+            batchArgs.forEach(args -> record((String) args[1], ((Timestamp) args[0]).toLocalDateTime()));
+            log.warn("latest_login_at flush failed on shard {}, {} users requeued", shard, batchArgs.size(), e);
+        }
+    }
+
+    /**
+     * 정상 종료 시 버퍼에 남아 있는 값을 모두 반영합니다.
+     */
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+
+    /**
+     * 아직 반영되지 않은 사용자 수를 반환합니다.
+     *
+     * @return 버퍼에 남아 있는 사용자 수
+     */
+    public int size() {
+        return pending.size();
+    }
+}
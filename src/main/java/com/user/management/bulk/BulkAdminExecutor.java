@@ -0,0 +1,150 @@
+package com.user.management.bulk;
+
+import com.user.management.dto.BulkItemResult;
+import com.user.management.dto.BulkUserResponse;
+import com.user.management.exception.BulkCapacityExceededException;
+import com.user.management.exception.BulkTimeoutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * 관리자 일괄 처리를 전용 executor 에서 실행합니다.
+ * 공용 ForkJoinPool 대신 이름이 붙은 고정 크기 스레드와 제한된 대기열을 사용하여 동시에 실행되는 일괄 처리 수를 제한하고,
+ * 대기열이 가득 차면 {@link BulkCapacityExceededException} 으로 즉시 거절합니다.
+ * 처리 중 발생한 예외는 그대로 다시 던져 ControllerAdvice 가 기존과 같은 상태 코드로 응답하도록 하며,
+ * 제한 시간 안에 끝나지 않으면 {@link BulkTimeoutException} 을 던집니다.
+ * <p>
+ * 메트릭: executor 상태(bulk.admin 이름의 executor.* 지표), bulk.admin.duration(operation, outcome),
+ * bulk.admin.items(operation, status)
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class BulkAdminExecutor implements DisposableBean {
+    private static final String EXECUTOR_NAME = "bulk.admin";
+
+    private final ThreadPoolExecutor threadPool;
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+    private final Duration timeout;
+
+    /**
+     * Instantiates a new Bulk admin executor.
+     *
+     * @param meterRegistry 지표를 기록할 registry
+     * @param concurrency   동시에 실행할 일괄 처리 수
+     * @param queueCapacity 실행을 기다릴 수 있는 일괄 처리 수
+     * @param timeout       요청 스레드가 결과를 기다리는 최대 시간
+     */
+    public BulkAdminExecutor(MeterRegistry meterRegistry,
+                             @Value("${app.bulk.concurrency:2}") int concurrency,
+                             @Value("${app.bulk.queue-capacity:10}") int queueCapacity,
+                             @Value("${app.bulk.timeout:30s}") Duration timeout) {
+        this.meterRegistry = meterRegistry;
+        this.timeout = timeout;
+        this.threadPool = new ThreadPoolExecutor(
+                concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("bulk-admin-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPool, EXECUTOR_NAME);
+    }
+
+    /**
+     * 일괄 처리를 실행하고 끝날 때까지 기다립니다.
+     *
+     * @param operation 지표에 기록할 작업 이름 (promote, permit, delete 등)
+     * @param userIds   대상 사용자 ID
+     * @param work      사용자 ID 를 받아 일괄 처리하는 작업
+     * @return 사용자 ID 별 처리 결과
+     * @throws BulkCapacityExceededException 대기열이 가득 찬 경우
+     * @throws BulkTimeoutException          제한 시간 안에 끝나지 않은 경우
+     */
+    public BulkUserResponse execute(String operation,
+                                    Collection<String> userIds,
+                                    Function<Collection<String>, BulkUserResponse> work) {
+        Future<BulkUserResponse> future;
+        try {
+            future = executor.submit(() -> work.apply(userIds));
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter("bulk.admin.rejected", "operation", operation).increment();
+            throw new BulkCapacityExceededException();
+        }
+
+        long startedAt = System.nanoTime();
+        BulkUserResponse response;
+        String outcome = "failure";
+        try {
+            response = future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            outcome = "success";
+        } catch (ExecutionException e) {
+            log.warn("bulk {} failed and was rolled back: size={}", operation, userIds.size(), e.getCause());
+            throw rethrow(e.getCause() != null ? e.getCause() : e);
+        } catch (TimeoutException e) {
+            outcome = "timeout";
+            log.warn("bulk {} did not finish within {}: size={}", operation, timeout, userIds.size());
+            throw new BulkTimeoutException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("bulk " + operation + " interrupted", e);
+        } finally {
+            Timer.builder("bulk.admin.duration")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        recordItems(operation, response);
+        return response;
+    }
+
+    @Override
+    public void destroy() {
+        threadPool.shutdown();
+    }
+
+    private void recordItems(String operation, BulkUserResponse response) {
+        for (BulkItemResult.Status status : BulkItemResult.Status.values()) {
+            long count = response.getItems()
+                    .stream()
+                    .filter(item -> item.getStatus() == status)
+                    .count();
+            if (count > 0)
+                Counter.builder("bulk.admin.items")
+                        .tag("operation", operation)
+                        .tag("status", status.name())
+                        .register(meterRegistry)
+                        .increment(count);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException)
+            return (RuntimeException) cause;
+        if (cause instanceof Error)
+            throw (Error) cause;
+        return new IllegalStateException(cause);
+    }
+}
@@ -0,0 +1,227 @@
+package com.user.management.bulk;
+
+import com.user.management.dto.BulkJobResponse;
+import com.user.management.dto.BulkUserResponse;
+import com.user.management.exception.BulkCapacityExceededException;
+import com.user.management.exception.BulkJobNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 수천 명 단위의 관리자 일괄 처리를 백그라운드 작업으로 실행합니다.
+ * 작업은 즉시 ID 를 반환하고, 전용 executor 에서 청크 단위로 처리하며 청크마다 그 청크의 결과를 {@link BulkJobStore} 에 기록합니다.
+ * 청크마다 별도의 트랜잭션으로 처리되므로, 실패한 청크만 롤백되어 failed 로 표시되고 나머지 청크는 계속 처리됩니다.
+ * 청크 밖에서 {@link Error} 등 예상하지 못한 오류로 중단되면 작업은 FAILED 로 기록됩니다.
+ * 취소 요청은 다음 청크를 시작하기 전에 반영됩니다.
+ * 재분배처럼 청크로 나누지 않는 작업도 {@link #submitTask} 로 같은 executor 에서 실행하고 같은 방식으로 상태를 조회합니다.
+ * <p>
+ * 작업을 실행하던 노드가 종료되면 해당 작업은 RUNNING 상태로 남으며 보관 기간이 지나면 만료됩니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class BulkJobService implements DisposableBean {
+    private static final String EXECUTOR_NAME = "bulk.jobs";
+
+    private final BulkJobStore jobStore;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+    private final ThreadPoolExecutor threadPool;
+    private final ExecutorService executor;
+
+    /**
+     * Instantiates a new Bulk job service.
+     *
+     * @param jobStore      작업 상태 저장소
+     * @param meterRegistry 지표를 기록할 registry
+     * @param chunkSize     한 트랜잭션에서 처리할 사용자 수
+     * @param concurrency   동시에 실행할 작업 수
+     * @param queueCapacity 실행을 기다릴 수 있는 작업 수
+     */
+    public BulkJobService(BulkJobStore jobStore,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.bulk.job-chunk-size:500}") int chunkSize,
+                          @Value("${app.bulk.job-concurrency:1}") int concurrency,
+                          @Value("${app.bulk.job-queue-capacity:20}") int queueCapacity) {
+        this.jobStore = jobStore;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+        this.threadPool = new ThreadPoolExecutor(
+                concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("bulk-job-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPool, EXECUTOR_NAME);
+    }
+
+    /**
+     * 일괄 처리 작업을 등록하고 즉시 반환합니다.
+     *
+     * @param operation 작업 종류 (promote, permit, reject-delete, delete)
+     * @param userIds   대상 사용자 ID
+     * @param work      사용자 ID 청크를 받아 하나의 트랜잭션으로 처리하는 작업
+     * @return 대기 상태의 작업
+     * @throws BulkCapacityExceededException 작업 대기열이 가득 찬 경우
+     */
+    public BulkJobResponse submit(String operation,
+                                  Collection<String> userIds,
+                                  Function<Collection<String>, BulkUserResponse> work) {
+        List<String> ids = userIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+
+        BulkJobResponse job = BulkJobResponse.queued(UUID.randomUUID().toString(), operation, ids.size());
+        return enqueue(job, () -> run(job, () -> runChunks(job, ids, work)));
+    }
+
+    /**
+     * 청크로 나누지 않는 하나의 작업을 등록하고 즉시 반환합니다.
+     * 작업이 끝나면 반환값을 result 에 기록하며, 취소 요청은 작업을 시작하기 전에만 반영됩니다.
+     *
+     * @param operation 작업 종류 (reshard)
+     * @param work      실행할 작업
+     * @return 대기 상태의 작업
+     * @throws BulkCapacityExceededException 작업 대기열이 가득 찬 경우
+     */
+    public BulkJobResponse submitTask(String operation, Supplier<?> work) {
+        BulkJobResponse job = BulkJobResponse.queued(UUID.randomUUID().toString(), operation, 1);
+        return enqueue(job, () -> run(job, () -> {
+            if (jobStore.isCancelRequested(job.getJobId())) {
+                job.setStatus(BulkJobResponse.JobStatus.CANCELLED);
+                return;
+            }
+            job.setResult(work.get());
+            job.setProcessed(1);
+        }));
+    }
+
+    /**
+     * 작업 상태를 조회합니다.
+     *
+     * @param jobId 작업 ID
+     * @return 작업 상태
+     * @throws BulkJobNotFoundException 작업이 없거나 만료된 경우
+     */
+    public BulkJobResponse getJob(String jobId) {
+        return jobStore.find(jobId)
+                .orElseThrow(() -> new BulkJobNotFoundException(jobId));
+    }
+
+    /**
+     * 작업 취소를 요청합니다. 이미 처리한 청크는 되돌리지 않습니다.
+     *
+     * @param jobId 작업 ID
+     * @return 취소 요청이 반영된 작업 상태
+     * @throws BulkJobNotFoundException 작업이 없거나 만료된 경우
+     */
+    public BulkJobResponse cancel(String jobId) {
+        getJob(jobId);
+        jobStore.requestCancel(jobId);
+        return getJob(jobId);
+    }
+
+    @Override
+    public void destroy() {
+        threadPool.shutdown();
+    }
+
+    private BulkJobResponse enqueue(BulkJobResponse job, Runnable task) {
+        jobStore.save(job);
+
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            job.setStatus(BulkJobResponse.JobStatus.CANCELLED);
+            job.setFailureMessage("rejected: job queue is full");
+            jobStore.save(job);
+            throw new BulkCapacityExceededException();
+        }
+        return job;
+    }
+
+    private void runChunks(BulkJobResponse job, List<String> ids, Function<Collection<String>, BulkUserResponse> work) {
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            if (jobStore.isCancelRequested(job.getJobId())) {
+                job.setStatus(BulkJobResponse.JobStatus.CANCELLED);
+                break;
+            }
+
+            List<String> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            BulkUserResponse result;
+            try {
+                result = work.apply(chunk);
+            } catch (RuntimeException e) {
+                log.warn("bulk job {} chunk failed and was rolled back: job={}, size={}",
+                        job.getOperation(), job.getJobId(), chunk.size(), e);
+                result = BulkUserResponse.failed(chunk, e.getMessage());
+            }
+            record(job, chunk.size(), result);
+        }
+    }
+
+    private void run(BulkJobResponse job, Runnable work) {
+        long startedAt = System.nanoTime();
+        job.setStatus(BulkJobResponse.JobStatus.RUNNING);
+        touch(job);
+
+        try {
+            work.run();
+
+            if (job.getStatus() == BulkJobResponse.JobStatus.RUNNING)
+                job.setStatus(BulkJobResponse.JobStatus.COMPLETED);
+        } catch (Throwable e) {
+            log.error("bulk job {} stopped unexpectedly: job={}", job.getOperation(), job.getJobId(), e);
+            job.setStatus(BulkJobResponse.JobStatus.FAILED);
+            job.setFailureMessage(String.valueOf(e));
+            throw e;
+        } finally {
+            touch(job);
+            Timer.builder("bulk.jobs.duration")
+                    .tag("operation", job.getOperation())
+                    .tag("status", job.getStatus().name())
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void record(BulkJobResponse job, int chunkSize, BulkUserResponse result) {
+        try {
+            jobStore.recordChunk(job.getJobId(), chunkSize, result);
+        } catch (RuntimeException e) {
+            log.warn("bulk job progress could not be saved, continuing: job={}", job.getJobId(), e);
+        }
+    }
+
+    private void touch(BulkJobResponse job) {
+        job.setUpdatedAt(LocalDateTime.now());
+        try {
+            jobStore.save(job);
+        } catch (RuntimeException e) {
+            log.warn("bulk job state could not be saved, continuing: job={}", job.getJobId(), e);
+        }
+    }
+}
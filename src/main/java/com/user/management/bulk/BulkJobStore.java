@@ -0,0 +1,177 @@
+package com.user.management.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.management.dto.BulkJobResponse;
+import com.user.management.dto.BulkUserResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 일괄 처리 작업 상태를 Redis 에 보관합니다.
+ * 작업 상태(종류, 상태, 전체 수)는 JSON 으로, 진행 카운터는 hash 로, 결과별 사용자 ID 는 list 로 나누어 저장하여
+ * 청크를 처리할 때마다 그 청크의 ID 만 추가하고 카운터만 증가시킵니다. 누적된 ID 목록 전체를 다시 쓰지 않습니다.
+ * 작업 상태는 작업을 실행하는 노드만 기록하고, 취소 요청은 별도 키에 기록하여 두 쓰기가 서로 덮어쓰지 않도록 합니다.
+ * 모든 키는 마지막 갱신 후 보관 기간이 지나면 만료됩니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Component
+public class BulkJobStore {
+    private static final String KEY_PREFIX = "bulk-job::";
+    private static final String CANCEL_SUFFIX = "::cancel";
+    private static final String PROGRESS_SUFFIX = "::progress";
+    private static final String PROCESSED_FIELD = "processed";
+    private static final String FAILURE_MESSAGE_FIELD = "failureMessage";
+    private static final String UPDATED_AT_FIELD = "updatedAt";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration retention;
+
+    /**
+     * Instantiates a new Bulk job store.
+     *
+     * @param redisTemplate the redis template
+     * @param objectMapper  작업 상태를 JSON 으로 변환할 mapper
+     * @param retention     작업 상태 보관 기간
+     */
+    public BulkJobStore(StringRedisTemplate redisTemplate,
+                        ObjectMapper objectMapper,
+                        @Value("${app.bulk.job-retention:1d}") Duration retention) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.retention = retention;
+    }
+
+    /**
+     * 작업 상태를 저장합니다. 진행 카운터와 결과별 사용자 ID 는 {@link #recordChunk} 로 따로 기록합니다.
+     *
+     * @param job 작업 상태
+     */
+    public void save(BulkJobResponse job) {
+        try {
+            redisTemplate.opsForValue()
+                    .set(KEY_PREFIX + job.getJobId(), objectMapper.writeValueAsString(job), retention);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("bulk job state could not be written: " + job.getJobId(), e);
+        }
+    }
+
+    /**
+     * 한 청크의 처리 결과를 기록합니다. 결과별 사용자 ID 를 list 에 추가하고 처리한 사용자 수를 증가시키며,
+     * 하나의 pipeline 으로 전송합니다.
+     *
+     * @param jobId     작업 ID
+     * @param chunkSize 처리한 청크의 사용자 수
+     * @param result    청크 처리 결과
+     */
+    public void recordChunk(String jobId, int chunkSize, BulkUserResponse result) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                String progressKey = KEY_PREFIX + jobId + PROGRESS_SUFFIX;
+                redis.opsForHash().increment(progressKey, PROCESSED_FIELD, chunkSize);
+                redis.opsForHash().put(progressKey, UPDATED_AT_FIELD, LocalDateTime.now().toString());
+                if (result.getFailureMessage() != null)
+                    redis.opsForHash().put(progressKey, FAILURE_MESSAGE_FIELD, result.getFailureMessage());
+                redis.expire(progressKey, retention);
+
+                append(redis, jobId, "changed", result.getChanged());
+                append(redis, jobId, "unchanged", result.getUnchanged());
+                append(redis, jobId, "missing", result.getMissing());
+                append(redis, jobId, "failed", result.getFailed());
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 작업 상태를 조회합니다. 진행 카운터와 결과별 사용자 ID 를 합쳐서 반환합니다.
+     *
+     * @param jobId 작업 ID
+     * @return 작업 상태, 없거나 만료되었으면 empty
+     */
+    public Optional<BulkJobResponse> find(String jobId) {
+        String json = redisTemplate.opsForValue()
+                .get(KEY_PREFIX + jobId);
+        if (json == null)
+            return Optional.empty();
+
+        BulkJobResponse job;
+        try {
+            job = objectMapper.readValue(json, BulkJobResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("bulk job state could not be read: " + jobId, e);
+        }
+
+        Map<Object, Object> progress = redisTemplate.opsForHash()
+                .entries(KEY_PREFIX + jobId + PROGRESS_SUFFIX);
+        if (progress.containsKey(PROCESSED_FIELD))
+            job.setProcessed(Integer.parseInt((String) progress.get(PROCESSED_FIELD)));
+        if (progress.containsKey(UPDATED_AT_FIELD)) {
+            LocalDateTime updatedAt = LocalDateTime.parse((String) progress.get(UPDATED_AT_FIELD));
+            if (job.getUpdatedAt() == null || updatedAt.isAfter(job.getUpdatedAt()))
+                job.setUpdatedAt(updatedAt);
+        }
+        if (job.getFailureMessage() == null)
+            job.setFailureMessage((String) progress.get(FAILURE_MESSAGE_FIELD));
+
+        job.setChanged(idsOf(jobId, "changed"));
+        job.setUnchanged(idsOf(jobId, "unchanged"));
+        job.setMissing(idsOf(jobId, "missing"));
+        job.setFailed(idsOf(jobId, "failed"));
+        job.setCancelRequested(isCancelRequested(jobId));
+        return Optional.of(job);
+    }
+
+    /**
+     * 작업 취소를 요청합니다. 작업을 실행하는 노드가 다음 청크를 시작하기 전에 확인합니다.
+     *
+     * @param jobId 작업 ID
+     */
+    public void requestCancel(String jobId) {
+        redisTemplate.opsForValue()
+                .set(KEY_PREFIX + jobId + CANCEL_SUFFIX, "1", retention);
+    }
+
+    /**
+     * 작업 취소가 요청되었는지 확인합니다.
+     *
+     * @param jobId 작업 ID
+     * @return 취소 요청 여부
+     */
+    public boolean isCancelRequested(String jobId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + jobId + CANCEL_SUFFIX));
+    }
+
+    private List<String> idsOf(String jobId, String result) {
+        List<String> ids = redisTemplate.opsForList()
+                .range(KEY_PREFIX + jobId + "::" + result, 0, -1);
+
+        return ids == null ? new ArrayList<>() : new ArrayList<>(ids);
+    }
+
+    private void append(RedisOperations<String, String> redis, String jobId, String result, List<String> ids) {
+        if (ids.isEmpty())
+            return;
+
+        String key = KEY_PREFIX + jobId + "::" + result;
+        redis.opsForList().rightPushAll(key, ids);
+        redis.expire(key, retention);
+    }
+}
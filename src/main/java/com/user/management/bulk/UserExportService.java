@@ -0,0 +1,178 @@
+package com.user.management.bulk;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.management.dto.UserExportRow;
+import com.user.management.repository.UserReadModelRepository;
+import com.user.management.shard.UserShards;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 사용자 정보를 CSV 또는 NDJSON 으로 내보냅니다. (관리자만 요청 가능)
+ * 페이지 조회와 달리 count 쿼리와 캐시 없이 하나의 forward-only 쿼리로 한 행씩 읽어 바로 출력 스트림에 쓰므로,
+ * 사용자 수와 관계없이 일정한 메모리를 사용합니다. 비밀번호는 조회하지도, 내보내지도 않습니다.
+ * 사용자는 가입 시각, user_id 순서로 내보냅니다. 관리자 목록과 같이 읽기 모델(user_read_model)에서 읽습니다.
+ * 샤딩을 사용하면 shard 마다 읽기 전용 트랜잭션을 열어 shard 순서대로 이어서 내보내므로, 순서는 shard 안에서만 유지됩니다.
+ * 열: id, name, email, roleName, statusName, provider
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class UserExportService {
+    private static final String CSV_HEADER = "id,name,email,roleName,statusName,provider";
+
+    private final UserReadModelRepository userReadModelRepository;
+    private final ObjectMapper objectMapper;
+    private final UserShards userShards;
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * Instantiates a new User export service.
+     *
+     * @param userReadModelRepository 내보낼 사용자를 읽을 읽기 모델 레포지터리
+     * @param objectMapper            NDJSON 출력에 사용할 mapper
+     * @param userShards              shard 마다 내보내기를 실행할 helper
+     * @param transactionManager      shard 마다 읽기 전용 트랜잭션을 시작할 트랜잭션 매니저
+     */
+    public UserExportService(UserReadModelRepository userReadModelRepository,
+                             ObjectMapper objectMapper,
+                             UserShards userShards,
+                             PlatformTransactionManager transactionManager) {
+        this.userReadModelRepository = userReadModelRepository;
+        this.objectMapper = objectMapper;
+        this.userShards = userShards;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 사용자 정보를 CSV 로 내보냅니다.
+     *
+     * @param statusId status id, 거르지 않으려면 null
+     * @param roleId   role id, 거르지 않으려면 null
+     * @param output   쓸 출력 스트림, 닫지 않습니다.
+     * @return 내보낸 사용자 수
+     * @throws IOException 출력에 실패한 경우 (클라이언트 연결 종료 등)
+     */
+    public long exportCsv(Long statusId, Long roleId, OutputStream output) throws IOException {
+        Writer writer = writer(output);
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        long count = forEachUser(statusId, roleId, user -> {
+            writer.write(csv(user.getId()));
+            writer.write(',');
+            writer.write(csv(user.getName()));
+            writer.write(',');
+            writer.write(csv(user.getEmail()));
+            writer.write(',');
+            writer.write(csv(user.getRoleName()));
+            writer.write(',');
+            writer.write(csv(user.getStatusName()));
+            writer.write(',');
+            writer.write(csv(user.getProvider()));
+            writer.write('\n');
+        });
+        writer.flush();
+
+        log.info("users exported as csv: count={}, statusId={}, roleId={}", count, statusId, roleId);
+        return count;
+    }
+
+    /**
+     * 사용자 정보를 NDJSON 으로 내보냅니다.
+     *
+     * @param statusId status id, 거르지 않으려면 null
+     * @param roleId   role id, 거르지 않으려면 null
+     * @param output   쓸 출력 스트림, 닫지 않습니다.
+     * @return 내보낸 사용자 수
+     * @throws IOException 출력에 실패한 경우 (클라이언트 연결 종료 등)
+     */
+    public long exportNdjson(Long statusId, Long roleId, OutputStream output) throws IOException {
+        Writer writer = writer(output);
+        JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(writer)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .setRootValueSeparator(null);
+
+        long count = forEachUser(statusId, roleId, user -> {
+            generator.writeStartObject();
+            generator.writeStringField("id", user.getId());
+            generator.writeStringField("name", user.getName());
+            generator.writeStringField("email", user.getEmail());
+            generator.writeStringField("roleName", user.getRoleName());
+            generator.writeStringField("statusName", user.getStatusName());
+            generator.writeStringField("provider", user.getProvider());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        });
+        generator.flush();
+
+        log.info("users exported as ndjson: count={}, statusId={}, roleId={}", count, statusId, roleId);
+        return count;
+    }
+
+    private long forEachUser(Long statusId, Long roleId, UserWriter userWriter) throws IOException {
+        AtomicLong count = new AtomicLong();
+        try {
+            userShards.forEachShard(shard -> readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<UserExportRow> users = stream(statusId, roleId)) {
+                    Iterator<UserExportRow> iterator = users.iterator();
+                    while (iterator.hasNext()) {
+                        userWriter.write(iterator.next());
+                        count.incrementAndGet();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return count.get();
+    }
+
+    private Stream<UserExportRow> stream(Long statusId, Long roleId) {
+        if (statusId != null && roleId != null)
+            return userReadModelRepository.streamUserDataByStatusIdAndRoleId(statusId, roleId);
+        if (statusId != null)
+            return userReadModelRepository.streamUserDataByStatusId(statusId);
+        if (roleId != null)
+            return userReadModelRepository.streamUserDataByRoleId(roleId);
+        return userReadModelRepository.streamUserData();
+    }
+
+    private Writer writer(OutputStream output) {
+        return new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    private String csv(String value) {
+        if (value == null)
+            return "";
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0)
+            return value;
+
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @FunctionalInterface
+    private interface UserWriter {
+        void write(UserExportRow user) throws IOException;
+    }
+}
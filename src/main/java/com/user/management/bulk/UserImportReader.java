@@ -0,0 +1,190 @@
+package com.user.management.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.management.dto.UserCreateRequest;
+import com.user.management.exception.InvalidImportFileException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 가져오기 파일을 한 행씩 읽어 {@link UserCreateRequest} 로 변환합니다.
+ * 파일 전체를 메모리에 올리지 않으며, 해석할 수 없는 행은 오류 행으로 반환하고 다음 행을 계속 읽습니다.
+ * <ul>
+ *     <li>CSV: 첫 행은 id, name, email, password 열을 포함하는 헤더이며 열 순서는 자유롭습니다.
+ *     큰따옴표로 감싼 값과 "" 이스케이프를 지원하고, 값 안의 줄바꿈은 지원하지 않습니다.</li>
+ *     <li>NDJSON: 한 행에 하나의 JSON 객체({"id", "name", "email", "password"})</li>
+ * </ul>
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+abstract class UserImportReader {
+    private static final List<String> CSV_COLUMNS = List.of("id", "name", "email", "password");
+
+    private final BufferedReader reader;
+    private long line;
+
+    private UserImportReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * CSV 형식을 읽는 reader 를 생성합니다. 헤더를 바로 읽습니다.
+     *
+     * @param reader 입력
+     * @return reader
+     * @throws InvalidImportFileException 헤더가 없거나 필요한 열이 없는 경우
+     */
+    static UserImportReader csv(BufferedReader reader) {
+        return new Csv(reader);
+    }
+
+    /**
+     * NDJSON 형식을 읽는 reader 를 생성합니다.
+     *
+     * @param reader       입력
+     * @param objectMapper JSON 변환에 사용할 mapper
+     * @return reader
+     */
+    static UserImportReader ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+        return new NdJson(reader, objectMapper);
+    }
+
+    /**
+     * 다음 행을 읽습니다. 빈 행은 건너뜁니다.
+     *
+     * @return 읽은 행, 더 이상 행이 없으면 null
+     */
+    Row next() {
+        String text;
+        do {
+            text = readLine();
+            if (text == null)
+                return null;
+        } while (text.isBlank());
+
+        return parse(line, text);
+    }
+
+    protected abstract Row parse(long line, String text);
+
+    protected String readLine() {
+        try {
+            String text = reader.readLine();
+            if (text != null)
+                line++;
+            return text;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 읽은 한 행. request 와 error 중 하나만 값을 가집니다.
+     */
+    @Getter
+    @AllArgsConstructor
+    static class Row {
+        private final long line;
+        private final UserCreateRequest request;
+        private final String error;
+    }
+
+    private static class Csv extends UserImportReader {
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        private Csv(BufferedReader reader) {
+            super(reader);
+            String header = readLine();
+            if (header == null)
+                throw new InvalidImportFileException("CSV 헤더가 없습니다.");
+
+            List<String> names = split(header.startsWith("\uFEFF") ? header.substring(1) : header);
+            for (int i = 0; i < names.size(); i++)
+                columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+            for (String column : CSV_COLUMNS)
+                if (!columns.containsKey(column))
+                    throw new InvalidImportFileException("CSV 헤더에 " + column + " 열이 없습니다.");
+        }
+
+        @Override
+        protected Row parse(long line, String text) {
+            List<String> values;
+            try {
+                values = split(text);
+            } catch (IllegalArgumentException e) {
+                return new Row(line, null, e.getMessage());
+            }
+
+            return new Row(line, new UserCreateRequest(
+                    value(values, "id"),
+                    value(values, "name"),
+                    value(values, "password"),
+                    value(values, "email")), null);
+        }
+
+        private String value(List<String> values, String column) {
+            int index = columns.get(column);
+            return index < values.size() ? values.get(index).trim() : null;
+        }
+
+        private static List<String> split(String text) {
+            List<String> values = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            if (quoted)
+                throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다.");
+
+            values.add(current.toString());
+            return values;
+        }
+    }
+
+    private static class NdJson extends UserImportReader {
+        private final ObjectMapper objectMapper;
+
+        private NdJson(BufferedReader reader, ObjectMapper objectMapper) {
+            super(reader);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        protected Row parse(long line, String text) {
+            try {
+                return new Row(line, objectMapper.readValue(text, UserCreateRequest.class), null);
+            } catch (JsonProcessingException e) {
+                return new Row(line, null, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package com.user.management.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.management.cache.CacheGenerationManager;
+import com.user.management.data.ReferenceDataRegistry;
+import com.user.management.dto.UserCreateRequest;
+import com.user.management.dto.UserImportError;
+import com.user.management.dto.UserImportResponse;
+import com.user.management.repository.UserRepository;
+import com.user.management.service.impl.UserCountProvider;
+import com.user.management.service.impl.UserReadModelSynchronizer;
+import com.user.management.shard.ShardContext;
+import com.user.management.shard.UserEmailIndex;
+import com.user.management.shard.UserShardRouter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * CSV 또는 NDJSON 파일로 사용자를 한 번에 등록합니다. (관리자만 요청 가능)
+ * 파일을 한 행씩 읽어 batch 크기만큼 모은 뒤, batch 마다
+ * <ol>
+ *     <li>필수 값 검증과 batch 안의 중복 ID/email 확인</li>
+ *     <li>이미 존재하는 ID/email 을 IN 조회 두 번으로 확인하고, 남은 email 을 {@link UserEmailIndex} 에 한 번에 등록</li>
+ *     <li>비밀번호를 전용 스레드 풀에서 병렬로 해싱</li>
+ *     <li>JDBC batch INSERT (rewriteBatchedStatements 로 multi-row INSERT) 를 하나의 트랜잭션으로 실행</li>
+ * </ol>
+ * 순서로 처리합니다. 동시에 등록된 사용자와 충돌하여 batch INSERT 가 실패하면 해당 batch 를 행 단위로 다시 등록하여
+ * 실패한 행만 오류로 보고하고 그 행의 email 등록을 취소합니다. 가져온 사용자는 일반 권한, 활성 상태, 기본 Provider 로 등록됩니다.
+ * 샤딩을 사용하면 검증한 batch 를 사용자 ID 의 shard 별로 나누어, shard 마다 2~4 단계를 실행합니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class UserImportService implements DisposableBean {
+    private static final int MAX_REPORTED_ERRORS = 1_000;
+    private static final String INSERT_USER =
+            "INSERT INTO users (user_id, user_name, user_password, user_email, role_id, status_id, provider_id, created_at, latest_login_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final CacheGenerationManager cacheGeneration;
+    private final UserCountProvider userCountProvider;
+    private final UserReadModelSynchronizer userReadModelSynchronizer;
+    private final UserShardRouter userShardRouter;
+    private final UserEmailIndex userEmailIndex;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final ThreadPoolExecutor hashPool;
+
+    /**
+     * Instantiates a new User import service.
+     *
+     * @param userRepository            the user repository
+     * @param jdbcTemplate              batch INSERT 에 사용할 템플릿
+     * @param transactionManager        batch 마다 트랜잭션을 시작할 트랜잭션 매니저
+     * @param passwordEncoder           the password encoder
+     * @param referenceDataRegistry     기본 권한, 상태, Provider
+     * @param cacheGeneration           목록 캐시 세대 관리
+     * @param userCountProvider         개수 캐시
+     * @param userReadModelSynchronizer 등록한 사용자를 batch 와 같은 트랜잭션에서 읽기 모델에 반영
+     * @param userShardRouter           batch 를 shard 별로 나눌 router
+     * @param userEmailIndex            모든 shard 에 걸친 email 중복을 막을 email 색인
+     * @param validator                 행 검증에 사용할 validator
+     * @param objectMapper              NDJSON 변환에 사용할 mapper
+     * @param batchSize                 한 번에 INSERT 할 행 수
+     * @param hashPoolSize              비밀번호 해싱 스레드 수, 0 이하이면 CPU 코어 수
+     */
+    public UserImportService(UserRepository userRepository,
+                             JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             PasswordEncoder passwordEncoder,
+                             ReferenceDataRegistry referenceDataRegistry,
+                             CacheGenerationManager cacheGeneration,
+                             UserCountProvider userCountProvider,
+                             UserReadModelSynchronizer userReadModelSynchronizer,
+                             UserShardRouter userShardRouter,
+                             UserEmailIndex userEmailIndex,
+                             Validator validator,
+                             ObjectMapper objectMapper,
+                             @Value("${app.import.batch-size:500}") int batchSize,
+                             @Value("${app.import.hash-pool-size:0}") int hashPoolSize) {
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.referenceDataRegistry = referenceDataRegistry;
+        this.cacheGeneration = cacheGeneration;
+        this.userCountProvider = userCountProvider;
+        this.userReadModelSynchronizer = userReadModelSynchronizer;
+        this.userShardRouter = userShardRouter;
+        this.userEmailIndex = userEmailIndex;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+
+        int poolSize = hashPoolSize > 0 ? hashPoolSize : Runtime.getRuntime().availableProcessors();
+        this.hashPool = new ThreadPoolExecutor(
+                poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(batchSize),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.hashPool.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * CSV 파일로 사용자를 등록합니다.
+     *
+     * @param input CSV 입력 (UTF-8)
+     * @return 등록 결과
+     */
+    public UserImportResponse importCsv(InputStream input) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        return importRows(UserImportReader.csv(reader));
+    }
+
+    /**
+     * NDJSON 파일로 사용자를 등록합니다.
+     *
+     * @param input NDJSON 입력 (UTF-8)
+     * @return 등록 결과
+     */
+    public UserImportResponse importNdjson(InputStream input) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        return importRows(UserImportReader.ndjson(reader, objectMapper));
+    }
+
+    @Override
+    public void destroy() {
+        hashPool.shutdown();
+    }
+
+    private UserImportResponse importRows(UserImportReader reader) {
+        Result result = new Result();
+        List<UserImportReader.Row> batch = new ArrayList<>(batchSize);
+
+        UserImportReader.Row row;
+        while ((row = reader.next()) != null) {
+            result.total++;
+            if (row.getError() != null) {
+                result.fail(row.getLine(), null, row.getError());
+                continue;
+            }
+
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                importBatch(batch, result);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty())
+            importBatch(batch, result);
+
+        if (result.imported > 0) {
+            cacheGeneration.advance("getUsers");
+            userCountProvider.invalidate();
+        }
+        log.info("user import finished: total={}, imported={}, failed={}", result.total, result.imported, result.failed);
+        return new UserImportResponse(result.total, result.imported, result.failed, result.errors,
+                result.failed > result.errors.size());
+    }
+
+    private void importBatch(List<UserImportReader.Row> batch, Result result) {
+        Map<String, UserImportReader.Row> candidates = new LinkedHashMap<>();
+        Set<String> ids = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (UserImportReader.Row row : batch) {
+            UserCreateRequest request = row.getRequest();
+            Set<ConstraintViolation<UserCreateRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                result.fail(row.getLine(), request.getId(), violations.stream()
+                        .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+            } else if (!ids.add(request.getId())) {
+                result.fail(row.getLine(), request.getId(), "파일 안에서 중복된 ID 입니다.");
+            } else if (!emails.add(request.getEmail())) {
+                result.fail(row.getLine(), request.getId(), "파일 안에서 중복된 email 입니다.");
+            } else {
+                candidates.put(request.getId(), row);
+            }
+        }
+
+        // 재분배 중에는 새 위치의 primary key 제약이 아직 이전 위치에 있는 사용자를 막지 못합니다.
+        if (userShardRouter.isResharding())
+            rejectIdsOnPreviousShard(candidates, result);
+        userShardRouter.partition(candidates.keySet()).forEach((shard, shardIds) -> ShardContext.runOn(shard, () ->
+                importShardBatch(shardIds.stream().map(candidates::get).collect(Collectors.toList()), result)));
+    }
+
+    private void rejectIdsOnPreviousShard(Map<String, UserImportReader.Row> candidates, Result result) {
+        userShardRouter.partitionByPreviousShard(candidates.keySet()).forEach((previousShard, ids) -> {
+            List<String> movingIds = ids.stream()
+                    .filter(id -> userShardRouter.shardOf(id) != previousShard)
+                    .collect(Collectors.toList());
+            if (movingIds.isEmpty())
+                return;
+
+            for (String id : ShardContext.callOn(previousShard, () -> userRepository.findExistingIds(movingIds))) {
+                UserImportReader.Row row = candidates.remove(id);
+                result.fail(row.getLine(), id, id + "는 이미 존재하는 사용자입니다.");
+            }
+        });
+    }
+
+    private void importShardBatch(List<UserImportReader.Row> candidates, Result result) {
+        Set<String> ids = candidates.stream()
+                .map(row -> row.getRequest().getId())
+                .collect(Collectors.toSet());
+        Set<String> emails = candidates.stream()
+                .map(row -> row.getRequest().getEmail())
+                .collect(Collectors.toSet());
+        Set<String> existingIds = new HashSet<>(userRepository.findExistingIds(ids));
+        Set<String> existingEmails = new HashSet<>(userRepository.findExistingEmails(emails));
+        Map<String, String> claims = new LinkedHashMap<>();
+        for (UserImportReader.Row row : candidates) {
+            if (existingIds.contains(row.getRequest().getId()))
+                result.fail(row.getLine(), row.getRequest().getId(), row.getRequest().getId() + "는 이미 존재하는 사용자입니다.");
+            else if (existingEmails.contains(row.getRequest().getEmail()))
+                result.fail(row.getLine(), row.getRequest().getId(), row.getRequest().getEmail() + "는 이미 사용 중인 email 입니다.");
+            else
+                claims.put(row.getRequest().getEmail(), row.getRequest().getId());
+        }
+        if (claims.isEmpty())
+            return;
+
+        Set<String> takenEmails = userEmailIndex.claimAll(claims);
+        List<UserImportReader.Row> inserts = new ArrayList<>(claims.size());
+        for (UserImportReader.Row row : candidates) {
+            if (!claims.containsKey(row.getRequest().getEmail()))
+                continue;
+            if (takenEmails.contains(row.getRequest().getEmail()))
+                result.fail(row.getLine(), row.getRequest().getId(), row.getRequest().getEmail() + "는 이미 사용 중인 email 입니다.");
+            else
+                inserts.add(row);
+        }
+        if (inserts.isEmpty())
+            return;
+
+        List<CompletableFuture<String>> hashes = inserts.stream()
+                .map(row -> CompletableFuture.supplyAsync(() -> passwordEncoder.encode(row.getRequest().getPassword()), hashPool))
+                .collect(Collectors.toList());
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batchArgs = new ArrayList<>(inserts.size());
+        for (int i = 0; i < inserts.size(); i++)
+            batchArgs.add(insertArgs(inserts.get(i).getRequest(), hashes.get(i).join(), now));
+
+        try {
+            List<String> insertedIds = inserts.stream()
+                    .map(row -> row.getRequest().getId())
+                    .collect(Collectors.toList());
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_USER, batchArgs);
+                userReadModelSynchronizer.sync(insertedIds);
+            });
+            result.imported += inserts.size();
+        } catch (DataAccessException e) {
+            log.info("user import batch conflicted, retrying row by row: size={}", inserts.size(), e);
+            for (int i = 0; i < inserts.size(); i++)
+                insertOne(inserts.get(i), batchArgs.get(i), result);
+        }
+    }
+
+    private void insertOne(UserImportReader.Row row, Object[] args, Result result) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(INSERT_USER, args);
+                userReadModelSynchronizer.sync(List.of(row.getRequest().getId()));
+            });
+            result.imported++;
+        } catch (DuplicateKeyException e) {
+            userEmailIndex.release(row.getRequest().getEmail(), row.getRequest().getId());
+            result.fail(row.getLine(), row.getRequest().getId(), "이미 존재하는 ID 또는 email 입니다.");
+        } catch (DataAccessException e) {
+            userEmailIndex.release(row.getRequest().getEmail(), row.getRequest().getId());
+            result.fail(row.getLine(), row.getRequest().getId(), e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    private Object[] insertArgs(UserCreateRequest request, String encodedPassword, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return new Object[]{
+                request.getId(),
+                request.getName(),
+                encodedPassword,
+                request.getEmail(),
+                referenceDataRegistry.getUserRole().getId(),
+                referenceDataRegistry.getActiveStatus().getId(),
+                referenceDataRegistry.getDefaultProvider().getId(),
+                timestamp,
+                timestamp
+        };
+    }
+
+    private static class Result {
+        private final List<UserImportError> errors = new ArrayList<>();
+        private long total;
+        private long imported;
+        private long failed;
+
+        private void fail(long line, String id, String reason) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS)
+                errors.add(new UserImportError(line, id, reason));
+        }
+    }
+}
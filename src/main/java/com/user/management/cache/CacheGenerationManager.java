@@ -0,0 +1,136 @@
+package com.user.management.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 캐시 키에 포함할 세대(generation) 값을 Redis 카운터로 관리합니다.
+ * 캐시 키에 현재 세대를 포함시키면, 데이터 변경 시 키를 지우는 대신 카운터를 O(1)로 증가시키는 것만으로
+ * 이전 세대의 엔트리를 모두 무효화할 수 있습니다. 이전 세대 엔트리는 캐시 TTL 에 의해 만료됩니다.
+ * <p>
+ * 읽을 때마다 Redis 를 조회하지 않도록 세대를 인스턴스 내부에 보관하고,
+ * 세대를 올린 인스턴스가 near cache 무효화 채널로 새 세대를 알리면 다른 인스턴스가 이를 반영합니다.
+ * 메시지를 놓치더라도 near cache 의 expire-after-write 가 지나면 Redis 에서 다시 읽습니다.
+ * <p>
+ * 캐시 어노테이션의 SpEL 에서 {@code @cacheGeneration.current('getUsers')} 형태로 사용합니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Slf4j
+@Component("cacheGeneration")
+public class CacheGenerationManager implements MessageListener {
+    private static final String KEY_PREFIX = "cache-generation::";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String nodeId = UUID.randomUUID().toString();
+    private final LoadingCache<String, Long> generations;
+
+    /**
+     * Instantiates a new Cache generation manager.
+     *
+     * @param redisTemplate   세대 카운터 조회, 증가와 알림 발행에 사용할 템플릿
+     * @param cacheProperties 알림 채널과 내부 보관 시간(near cache expire-after-write) 설정
+     */
+    public CacheGenerationManager(StringRedisTemplate redisTemplate, UserCacheProperties cacheProperties) {
+        this.redisTemplate = redisTemplate;
+        this.channel = cacheProperties.getInvalidationChannel();
+        this.generations = Caffeine.newBuilder()
+                .expireAfterWrite(cacheProperties.getNear().getExpireAfterWrite())
+                .build(this::load);
+    }
+
+    /**
+     * 캐시의 현재 세대를 반환합니다.
+     *
+     * @param cacheName 캐시 이름
+     * @return 현재 세대, 한 번도 증가하지 않았다면 0
+     */
+    public long current(String cacheName) {
+        return generations.get(cacheName);
+    }
+
+    /**
+     * 캐시의 세대를 증가시킵니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 증가시켜, 커밋 전 데이터가 새 세대로 캐싱되지 않도록 합니다.
+     *
+     * @param cacheName 캐시 이름
+     */
+    public void advance(String cacheName) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(cacheName);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increment(cacheName);
+            }
+        });
+    }
+
+    /**
+     * 다른 인스턴스가 알린 새 세대를 반영합니다. 세대는 증가만 하므로 더 큰 값만 받아들입니다.
+     *
+     * @param message 무효화 채널 메시지
+     * @param pattern the pattern
+     */
+    @Override
+    public void onMessage(Message message, @Nullable byte[] pattern) {
+        CacheInvalidationMessage invalidation;
+        try {
+            invalidation = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), CacheInvalidationMessage.class);
+        } catch (JsonProcessingException e) {
+            log.warn("malformed cache invalidation message ignored", e);
+            return;
+        }
+        if (invalidation.getGeneration() == null || Objects.equals(nodeId, invalidation.getOrigin()))
+            return;
+
+        remember(invalidation.getCacheName(), invalidation.getGeneration());
+    }
+
+    private void increment(String cacheName) {
+        Long generation = redisTemplate.opsForValue()
+                .increment(KEY_PREFIX + cacheName);
+        if (generation == null)
+            return;
+
+        remember(cacheName, generation);
+        CacheInvalidationMessage message = new CacheInvalidationMessage(nodeId, cacheName, null, generation);
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("cache generation publish failed: cache={}, generation={}", cacheName, generation, e);
+        }
+    }
+
+    private void remember(String cacheName, long generation) {
+        generations.asMap().merge(cacheName, generation, Math::max);
+    }
+
+    private Long load(String cacheName) {
+        String generation = redisTemplate.opsForValue()
+                .get(KEY_PREFIX + cacheName);
+
+        return generation == null ? 0L : Long.parseLong(generation);
+    }
+}
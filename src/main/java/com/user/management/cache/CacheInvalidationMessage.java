@@ -0,0 +1,26 @@
+package com.user.management.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인스턴스 간 near cache 무효화를 위해 Redis pub/sub 으로 주고받는 메시지입니다.
+ * 캐시 세대가 증가한 경우에도 새 세대를 담아 같은 채널로 보내며, 이때 key 는 null 이므로 이전 세대의 near cache 엔트리도 함께 비워집니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidationMessage {
+    private String origin;
+    private String cacheName;
+    private String key; // null 이면 캐시 전체 무효화
+    private Long generation; // 세대 증가 알림일 때의 새 세대
+
+    public CacheInvalidationMessage(String origin, String cacheName, String key) {
+        this(origin, cacheName, key, null);
+    }
+}
@@ -0,0 +1,20 @@
+package com.user.management.cache;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * 다른 인스턴스의 near cache 에 무효화 메시지를 전파하는 인터페이스입니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface CacheInvalidationPublisher {
+    /**
+     * 캐시 무효화 메시지를 전파합니다.
+     *
+     * @param cacheName 캐시 이름
+     * @param key       무효화할 키, null 이면 캐시 전체를 무효화합니다.
+     */
+    void publish(String cacheName, @Nullable Object key);
+}
@@ -0,0 +1,252 @@
+package com.user.management.cache;
+
+import com.user.management.dto.RoleResponse;
+import com.user.management.dto.UserDataResponse;
+import com.user.management.page.CountStrategy;
+import com.user.management.page.RestPage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.lang.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 캐시 값({@link UserDataResponse}, {@link RoleResponse}, {@link RestPage}, Long)을
+ * 타입 메타데이터 없이 고정된 필드 순서로 기록하는 바이너리 직렬화기입니다.
+ * <p>
+ * 형식: [버전 1byte][플래그 1byte][본문]. 플래그의 첫 비트가 켜져 있으면 본문은 GZIP 으로 압축되어 있습니다.
+ * 본문은 [타입 1byte][필드...] 이며, 알 수 없는 타입은 기존 JSON 직렬화로 기록합니다.
+ * 버전 1 값(페이지에 count strategy 가 없음)도 읽을 수 있으며,
+ * 지원하지 않는 버전의 값은 캐시 미스로 처리하고, 이전 JSON 형식의 값도 읽을 수 있으므로
+ * 인스턴스를 순차적으로 배포하는 동안에도 캐시를 그대로 사용할 수 있습니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Slf4j
+public class CompactCacheValueSerializer implements RedisSerializer<Object> {
+    static final byte VERSION = 2;
+
+    private static final byte MIN_READABLE_VERSION = 1;
+
+    private static final byte FLAG_GZIP = 0x01;
+
+    private static final byte TYPE_JSON = 0;
+    private static final byte TYPE_USER_DATA = 1;
+    private static final byte TYPE_ROLE = 2;
+    private static final byte TYPE_PAGE = 3;
+    private static final byte TYPE_LONG = 4;
+
+    private final int compressionThreshold;
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+
+    /**
+     * Instantiates a new Compact cache value serializer.
+     *
+     * @param compressionThreshold 본문이 이 크기(byte) 이상이면 압축합니다.
+     */
+    public CompactCacheValueSerializer(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(@Nullable Object value) throws SerializationException {
+        if (value == null)
+            return new byte[0];
+
+        try {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(body)) {
+                writeValue(out, value);
+            }
+
+            byte[] payload = body.toByteArray();
+            byte flags = 0;
+            if (payload.length >= compressionThreshold) {
+                payload = gzip(payload);
+                flags |= FLAG_GZIP;
+            }
+
+            byte[] bytes = new byte[payload.length + 2];
+            bytes[0] = VERSION;
+            bytes[1] = flags;
+            System.arraycopy(payload, 0, bytes, 2, payload.length);
+            return bytes;
+        } catch (IOException e) {
+            throw new SerializationException("Could not write cache value: " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    @Nullable
+    public Object deserialize(@Nullable byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0)
+            return null;
+
+        if (bytes[0] == '{' || bytes[0] == '[')
+            return jsonSerializer.deserialize(bytes);
+
+        byte version = bytes[0];
+        if (version < MIN_READABLE_VERSION || version > VERSION) {
+            log.debug("unsupported cache value version {}, treated as a miss", bytes[0]);
+            return null;
+        }
+
+        try {
+            InputStream body = new ByteArrayInputStream(bytes, 2, bytes.length - 2);
+            if ((bytes[1] & FLAG_GZIP) != 0)
+                body = new GZIPInputStream(body);
+
+            try (DataInputStream in = new DataInputStream(body)) {
+                return readValue(in, version);
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Could not read cache value", e);
+        }
+    }
+
+    private void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value instanceof UserDataResponse) {
+            UserDataResponse user = (UserDataResponse) value;
+            out.writeByte(TYPE_USER_DATA);
+            writeString(out, user.getId());
+            writeString(out, user.getName());
+            writeString(out, user.getEmail());
+            writeString(out, user.getRoleName());
+            writeString(out, user.getStatusName());
+            writeString(out, user.getPassword());
+            writeString(out, user.getProvider());
+        } else if (value instanceof RoleResponse) {
+            RoleResponse role = (RoleResponse) value;
+            out.writeByte(TYPE_ROLE);
+            writeLong(out, role.getRoleId());
+            writeString(out, role.getRoleName());
+        } else if (value instanceof RestPage) {
+            RestPage<?> page = (RestPage<?>) value;
+            out.writeByte(TYPE_PAGE);
+            writeVarInt(out, page.getNumber());
+            writeVarInt(out, page.getSize());
+            out.writeLong(page.getTotalElements());
+            writeString(out, page.getCountStrategy() == null ? null : page.getCountStrategy().name());
+            writeVarInt(out, page.getNumberOfElements());
+            for (Object element : page.getContent())
+                writeValue(out, element);
+        } else if (value instanceof Long) {
+            out.writeByte(TYPE_LONG);
+            out.writeLong((Long) value);
+        } else {
+            byte[] json = jsonSerializer.serialize(value);
+            out.writeByte(TYPE_JSON);
+            writeVarInt(out, json.length);
+            out.write(json);
+        }
+    }
+
+    private Object readValue(DataInputStream in, byte version) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case TYPE_USER_DATA:
+                return UserDataResponse.builder()
+                        .id(readString(in))
+                        .name(readString(in))
+                        .email(readString(in))
+                        .roleName(readString(in))
+                        .statusName(readString(in))
+                        .password(readString(in))
+                        .provider(readString(in))
+                        .build();
+            case TYPE_ROLE:
+                return new RoleResponse(readLong(in), readString(in));
+            case TYPE_PAGE:
+                int number = readVarInt(in);
+                int size = readVarInt(in);
+                long total = in.readLong();
+                String countStrategy = version >= 2 ? readString(in) : null;
+                int count = readVarInt(in);
+                List<Object> content = new ArrayList<>(count);
+                for (int i = 0; i < count; i++)
+                    content.add(readValue(in, version));
+                return new RestPage<>(content, number, Math.max(size, 1), total,
+                        countStrategy == null ? null : CountStrategy.valueOf(countStrategy));
+            case TYPE_LONG:
+                return in.readLong();
+            case TYPE_JSON:
+                byte[] json = new byte[readVarInt(in)];
+                in.readFully(json);
+                return jsonSerializer.deserialize(json);
+            default:
+                throw new IOException("unknown cache value type " + type);
+        }
+    }
+
+    private void writeString(DataOutputStream out, @Nullable String value) throws IOException {
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length + 1);
+        out.write(bytes);
+    }
+
+    @Nullable
+    private String readString(DataInputStream in) throws IOException {
+        int length = readVarInt(in);
+        if (length == 0)
+            return null;
+
+        byte[] bytes = new byte[length - 1];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void writeLong(DataOutputStream out, @Nullable Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null)
+            out.writeLong(value);
+    }
+
+    @Nullable
+    private Long readLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+        throw new IOException("malformed length");
+    }
+
+    private byte[] gzip(byte[] payload) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(payload.length / 2);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(payload);
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -0,0 +1,94 @@
+package com.user.management.cache;
+
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * 저장하는 엔트리의 TTL 에 캐시별 무작위 지연 시간(jitter)을 더하는 {@link RedisCacheWriter} 입니다.
+ * 같은 시각에 저장된 키가 동시에 만료되어 DB 조회가 한꺼번에 몰리는 것을 막습니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+public class JitterRedisCacheWriter implements RedisCacheWriter {
+    private final RedisCacheWriter delegate;
+    private final Function<String, Duration> jitterByCacheName;
+
+    /**
+     * Instantiates a new Jitter redis cache writer.
+     *
+     * @param delegate          실제 Redis 에 쓰는 writer
+     * @param jitterByCacheName 캐시 이름별 최대 jitter
+     */
+    public JitterRedisCacheWriter(RedisCacheWriter delegate, Function<String, Duration> jitterByCacheName) {
+        this.delegate = delegate;
+        this.jitterByCacheName = jitterByCacheName;
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+        delegate.put(name, key, value, withJitter(name, ttl));
+    }
+
+    @Override
+    @Nullable
+    public byte[] get(String name, byte[] key) {
+        return delegate.get(name, key);
+    }
+
+    @Override
+    @Nullable
+    public byte[] putIfAbsent(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+        return delegate.putIfAbsent(name, key, value, withJitter(name, ttl));
+    }
+
+    @Override
+    public void remove(String name, byte[] key) {
+        delegate.remove(name, key);
+    }
+
+    @Override
+    public void clean(String name, byte[] pattern) {
+        delegate.clean(name, pattern);
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+        delegate.clearStatistics(name);
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+        return new JitterRedisCacheWriter(delegate.withStatisticsCollector(cacheStatisticsCollector), jitterByCacheName);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return delegate.getCacheStatistics(cacheName);
+    }
+
+    /**
+     * TTL 에 0 이상 jitter 이하의 무작위 시간을 더합니다.
+     * TTL 이 없거나(영구 저장) jitter 가 0 이면 그대로 반환합니다.
+     *
+     * @param name 캐시 이름
+     * @param ttl  원래 TTL
+     * @return jitter 가 더해진 TTL
+     */
+    Duration withJitter(String name, @Nullable Duration ttl) {
+        if (ttl == null || ttl.isZero() || ttl.isNegative())
+            return ttl;
+
+        Duration jitter = jitterByCacheName.apply(name);
+        if (jitter == null || jitter.isZero() || jitter.isNegative())
+            return ttl;
+
+        return ttl.plusMillis(ThreadLocalRandom.current().nextLong(jitter.toMillis() + 1));
+    }
+}
@@ -0,0 +1,88 @@
+package com.user.management.cache;
+
+import com.user.management.shard.ShardContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * 만료가 임박한 캐시 엔트리를 백그라운드에서 미리 다시 적재하는 refresh-ahead 정책입니다.
+ * 조회한 엔트리의 남은 TTL 이 기준 시간보다 작으면, 호출자에게는 기존 값을 그대로 반환하고
+ * 키마다 한 번만 백그라운드 재적재를 수행합니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Slf4j
+public class RefreshAhead {
+    private final StringRedisTemplate redisTemplate;
+    private final Executor executor;
+    private final Duration threshold;
+    private final UnaryOperator<String> keyPrefix;
+    private final Set<Object> inFlight = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Instantiates a new Refresh ahead.
+     *
+     * @param redisTemplate 남은 TTL 조회에 사용할 템플릿
+     * @param executor      재적재를 수행할 executor
+     * @param threshold     남은 TTL 이 이 값보다 작으면 재적재합니다.
+     * @param keyPrefix     캐시 이름으로 Redis 키 prefix 를 만드는 함수 ({@link UserCacheProperties#keyPrefixOf(String)})
+     */
+    public RefreshAhead(StringRedisTemplate redisTemplate, Executor executor, Duration threshold,
+                        UnaryOperator<String> keyPrefix) {
+        this.redisTemplate = redisTemplate;
+        this.executor = executor;
+        this.threshold = threshold;
+        this.keyPrefix = keyPrefix;
+    }
+
+    /**
+     * 엔트리의 남은 TTL 이 기준 시간보다 작은지 확인합니다.
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     * @return 재적재 대상 여부
+     */
+    public boolean isDue(String cacheName, Object key) {
+        Long remaining = redisTemplate.getExpire(keyPrefix.apply(cacheName) + key, TimeUnit.MILLISECONDS);
+
+        return remaining != null && remaining >= 0 && remaining < threshold.toMillis();
+    }
+
+    /**
+     * 키의 재적재를 백그라운드에서 수행합니다. 같은 키의 재적재가 진행 중이면 무시합니다.
+     * executor 가 작업을 거절하면 이번 재적재는 건너뛰고, 다음 조회에서 다시 시도할 수 있도록 키를 풀어 둡니다.
+     * 재적재는 호출한 스레드의 shard 에서 실행되도록 {@link ShardContext} 를 넘겨받습니다.
+     *
+     * @param key    캐시 키
+     * @param reload 재적재 작업
+     */
+    public void refresh(Object key, Runnable reload) {
+        if (!inFlight.add(key))
+            return;
+
+        int shard = ShardContext.current();
+        try {
+            executor.execute(() -> {
+                try {
+                    ShardContext.runOn(shard, reload);
+                } catch (RuntimeException e) {
+                    log.warn("refresh-ahead failed: key={}", key, e);
+                } finally {
+                    inFlight.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key);
+            log.debug("refresh-ahead skipped, executor is busy: key={}", key);
+        }
+    }
+}
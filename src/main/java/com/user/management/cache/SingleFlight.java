@@ -0,0 +1,191 @@
+package com.user.management.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 캐시 미스가 동시에 발생했을 때 키마다 하나의 로더만 실행되도록 묶어주는 single-flight 입니다.
+ * 같은 인스턴스에서 같은 키를 요청한 나머지 호출자는 먼저 시작된 로더의 결과를 기다리며,
+ * 대기 시간이 지나면 직접 로더를 실행합니다.
+ * Redis 락을 사용하도록 설정하면 여러 인스턴스 사이에서도 로더가 하나만 실행되고,
+ * 락을 얻지 못한 인스턴스는 다른 인스턴스가 Redis 에 저장한 값을 기다립니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Slf4j
+public class SingleFlight {
+    private static final String LOAD_METRIC = "cache.loads";
+    private static final long LOCK_POLL_INTERVAL_MS = 50L;
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final String cacheName;
+    private final Duration waitTimeout;
+    @Nullable
+    private final StringRedisTemplate lockTemplate;
+    private final Duration lockLease;
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter loaded;
+    private final Counter coalesced;
+    private final Counter timedOut;
+    private final Counter servedByPeer;
+
+    /**
+     * Instantiates a new Single flight.
+     *
+     * @param cacheName     캐시 이름 (락 키와 메트릭 태그에 사용)
+     * @param waitTimeout   먼저 시작된 로더를 기다리는 최대 시간
+     * @param lockTemplate  인스턴스 간 락에 사용할 템플릿, 사용하지 않으면 null
+     * @param lockLease     Redis 락 유지 시간
+     * @param meterRegistry 로드 결과를 기록할 registry
+     */
+    public SingleFlight(String cacheName,
+                        Duration waitTimeout,
+                        @Nullable StringRedisTemplate lockTemplate,
+                        Duration lockLease,
+                        MeterRegistry meterRegistry) {
+        this.cacheName = cacheName;
+        this.waitTimeout = waitTimeout;
+        this.lockTemplate = lockTemplate;
+        this.lockLease = lockLease;
+        this.loaded = loadCounter(meterRegistry, "loaded");
+        this.coalesced = loadCounter(meterRegistry, "coalesced");
+        this.timedOut = loadCounter(meterRegistry, "timeout");
+        this.servedByPeer = loadCounter(meterRegistry, "peer");
+    }
+
+    /**
+     * 키의 로더를 실행합니다. 같은 키의 로더가 이미 실행 중이면 그 결과를 기다립니다.
+     *
+     * @param key    캐시 키
+     * @param loader 값을 적재하고 캐시에 저장하는 로더
+     * @param peek   다른 인스턴스가 저장한 값을 확인하는 조회, 없으면 null 을 반환
+     * @param <T>    값 타입
+     * @return 적재된 값
+     * @throws Exception 로더가 던진 예외
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Object key, Callable<T> loader, Callable<T> peek) throws Exception {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null)
+            return (T) await(key, existing, loader);
+
+        try {
+            T value = loadOnce(key, loader, peek);
+            flight.complete(value);
+            return value;
+        } catch (Exception | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    @Nullable
+    private Object await(Object key, CompletableFuture<Object> existing, Callable<?> loader) throws Exception {
+        coalesced.increment();
+        try {
+            return existing.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timedOut.increment();
+            log.debug("single-flight wait timed out, loading directly: cache={}, key={}", cacheName, key);
+            loaded.increment();
+            return loader.call();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception)
+                throw (Exception) cause;
+            throw (Error) cause;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            loaded.increment();
+            return loader.call();
+        }
+    }
+
+    @Nullable
+    private <T> T loadOnce(Object key, Callable<T> loader, Callable<T> peek) throws Exception {
+        if (lockTemplate == null) {
+            loaded.increment();
+            return loader.call();
+        }
+
+        String lockKey = "lock:" + cacheName + "::" + key;
+        String token = UUID.randomUUID().toString();
+        long deadline = System.currentTimeMillis() + waitTimeout.toMillis();
+
+        while (!tryLock(lockKey, token)) {
+            if (System.currentTimeMillis() >= deadline) {
+                timedOut.increment();
+                loaded.increment();
+                return loader.call();
+            }
+            try {
+                Thread.sleep(LOCK_POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                loaded.increment();
+                return loader.call();
+            }
+
+            T value = peek.call();
+            if (value != null) {
+                servedByPeer.increment();
+                return value;
+            }
+        }
+
+        try {
+            loaded.increment();
+            return loader.call();
+        } finally {
+            unlock(lockKey, token);
+        }
+    }
+
+    private boolean tryLock(String lockKey, String token) {
+        try {
+            return Boolean.TRUE.equals(lockTemplate.opsForValue().setIfAbsent(lockKey, token, lockLease));
+        } catch (RuntimeException e) {
+            log.warn("cache load lock unavailable, loading without it: key={}", lockKey, e);
+            return true;
+        }
+    }
+
+    private void unlock(String lockKey, String token) {
+        try {
+            lockTemplate.execute(RELEASE_LOCK_SCRIPT, Collections.singletonList(lockKey), token);
+        } catch (RuntimeException e) {
+            log.warn("cache load lock release failed, it expires after the lease: key={}", lockKey, e);
+        }
+    }
+
+    private Counter loadCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(LOAD_METRIC)
+                .description("cache loads per outcome (loaded, coalesced, timeout, peer)")
+                .tag("cache", cacheName)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
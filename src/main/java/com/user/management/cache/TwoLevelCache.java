@@ -0,0 +1,268 @@
+package com.user.management.cache;
+
+import com.user.management.datasource.PrimaryReads;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 인스턴스 내부의 Caffeine near cache 를 Redis 캐시 앞에 둔 2단계 캐시입니다.
+ * 조회는 near cache, Redis 순서로 수행하고, 저장과 제거는 두 계층 모두에 반영한 뒤
+ * 다른 인스턴스의 near cache 가 무효화되도록 메시지를 전파합니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+public class TwoLevelCache implements Cache {
+    private static final String TIER_METRIC = "cache.tier.gets";
+
+    private final String name;
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+    private final CacheInvalidationPublisher publisher;
+    @Nullable
+    private final RefreshAhead refreshAhead;
+    @Nullable
+    private final SingleFlight singleFlight;
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    /**
+     * Instantiates a new Two level cache.
+     *
+     * @param remote        Redis 캐시
+     * @param local         near cache
+     * @param publisher     무효화 메시지 전파
+     * @param meterRegistry 계층별 hit/miss 를 기록할 registry
+     */
+    public TwoLevelCache(Cache remote,
+                         com.github.benmanes.caffeine.cache.Cache<Object, Object> local,
+                         CacheInvalidationPublisher publisher,
+                         MeterRegistry meterRegistry) {
+        this(remote, local, publisher, meterRegistry, null);
+    }
+
+    /**
+     * Instantiates a new Two level cache with refresh-ahead.
+     *
+     * @param remote        Redis 캐시
+     * @param local         near cache
+     * @param publisher     무효화 메시지 전파
+     * @param meterRegistry 계층별 hit/miss 를 기록할 registry
+     * @param refreshAhead  만료 임박 엔트리의 백그라운드 재적재 정책, 사용하지 않으면 null
+     */
+    public TwoLevelCache(Cache remote,
+                         com.github.benmanes.caffeine.cache.Cache<Object, Object> local,
+                         CacheInvalidationPublisher publisher,
+                         MeterRegistry meterRegistry,
+                         @Nullable RefreshAhead refreshAhead) {
+        this(remote, local, publisher, meterRegistry, refreshAhead, null);
+    }
+
+    /**
+     * Instantiates a new Two level cache with refresh-ahead and single-flight loading.
+     *
+     * @param remote        Redis 캐시
+     * @param local         near cache
+     * @param publisher     무효화 메시지 전파
+     * @param meterRegistry 계층별 hit/miss 를 기록할 registry
+     * @param refreshAhead  만료 임박 엔트리의 백그라운드 재적재 정책, 사용하지 않으면 null
+     * @param singleFlight  키별 동시 적재를 하나로 묶는 single-flight, 사용하지 않으면 null
+     */
+    public TwoLevelCache(Cache remote,
+                         com.github.benmanes.caffeine.cache.Cache<Object, Object> local,
+                         CacheInvalidationPublisher publisher,
+                         MeterRegistry meterRegistry,
+                         @Nullable RefreshAhead refreshAhead,
+                         @Nullable SingleFlight singleFlight) {
+        this.name = remote.getName();
+        this.remote = remote;
+        this.local = local;
+        this.publisher = publisher;
+        this.refreshAhead = refreshAhead;
+        this.singleFlight = singleFlight;
+        this.localHits = tierCounter(meterRegistry, "local", "hit");
+        this.localMisses = tierCounter(meterRegistry, "local", "miss");
+        this.remoteHits = tierCounter(meterRegistry, "redis", "hit");
+        this.remoteMisses = tierCounter(meterRegistry, "redis", "miss");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(Object key) {
+        Object value = local.getIfPresent(key);
+        if (value != null) {
+            localHits.increment();
+            return new SimpleValueWrapper(value);
+        }
+        localMisses.increment();
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            remoteMisses.increment();
+            return wrapper;
+        }
+        remoteHits.increment();
+        local.put(key, wrapper.get());
+        return wrapper;
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, @Nullable Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value))
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+
+        return (T) value;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Redis 에서 읽은 엔트리의 만료가 임박했다면 기존 값을 반환하면서 백그라운드에서 다시 적재합니다.
+     * 두 계층 모두 미스인 경우 같은 키의 적재는 single-flight 로 하나만 실행됩니다.
+     * 적재는 {@link PrimaryReads} 안에서 실행하여, 제거 직후 아직 복제되지 않은 replica 의 값으로 캐시를 다시 채우지 않습니다.
+     */
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = local.getIfPresent(key);
+        if (value != null) {
+            localHits.increment();
+            return (T) value;
+        }
+        localMisses.increment();
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            remoteHits.increment();
+            local.put(key, wrapper.get());
+            if (refreshAhead != null && refreshAhead.isDue(name, key))
+                refreshAhead.refresh(key, () -> load(key, valueLoader));
+
+            return (T) wrapper.get();
+        }
+        remoteMisses.increment();
+
+        return load(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        remote.put(key, value);
+        if (value != null)
+            local.put(key, value);
+        else
+            local.invalidate(key);
+        publisher.publish(name, key);
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        local.invalidate(key);
+        publisher.publish(name, key);
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(key);
+        publisher.publish(name, key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remote.evictIfPresent(key);
+        local.invalidate(key);
+        publisher.publish(name, key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        publisher.publish(name, null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remote.invalidate();
+        local.invalidateAll();
+        publisher.publish(name, null);
+        return invalidated;
+    }
+
+    /**
+     * 다른 인스턴스에서 전파된 메시지로 near cache 의 키를 제거합니다.
+     *
+     * @param key 제거할 키
+     */
+    public void evictLocal(Object key) {
+        local.invalidate(key);
+    }
+
+    /**
+     * 다른 인스턴스에서 전파된 메시지로 near cache 를 비웁니다.
+     */
+    public void clearLocal() {
+        local.invalidateAll();
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private <T> T load(Object key, Callable<T> valueLoader) {
+        Callable<T> loadAndStore = () -> {
+            T value = PrimaryReads.call(valueLoader);
+            if (value != null)
+                put(key, value);
+            return value;
+        };
+
+        try {
+            if (singleFlight == null)
+                return loadAndStore.call();
+
+            return singleFlight.execute(key, loadAndStore, () -> {
+                ValueWrapper wrapper = remote.get(key);
+                return wrapper != null ? (T) wrapper.get() : null;
+            });
+        } catch (ValueRetrievalException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    private Counter tierCounter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder(TIER_METRIC)
+                .description("cache lookups per tier")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
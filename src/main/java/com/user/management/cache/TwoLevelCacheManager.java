@@ -0,0 +1,161 @@
+package com.user.management.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 캐시 매니저 앞에 인스턴스 내부 near cache 를 두는 2단계 캐시 매니저입니다.
+ * 저장/제거가 일어나면 Redis pub/sub 채널로 무효화 메시지를 보내고,
+ * 다른 인스턴스에서 온 메시지를 받으면 자신의 near cache 에서 해당 키를 제거합니다.
+ * 캐시 키는 문자열로 전파되므로, 이 애플리케이션처럼 문자열 키를 사용하는 캐시를 대상으로 합니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener, CacheInvalidationPublisher, DisposableBean {
+    private final CacheManager remoteCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final UserCacheProperties cacheProperties;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor refreshExecutor = new ThreadPoolExecutor(
+            1, 2, 60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(100),
+            new CustomizableThreadFactory("cache-refresh-"),
+            new ThreadPoolExecutor.AbortPolicy());
+
+    /**
+     * Instantiates a new Two level cache manager.
+     *
+     * @param remoteCacheManager Redis 캐시 매니저
+     * @param redisTemplate      무효화 메시지 발행, 남은 TTL 조회에 사용할 템플릿
+     * @param meterRegistry      계층별 hit/miss 를 기록할 registry
+     * @param cacheProperties    near cache, refresh-ahead, single-flight 설정
+     */
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                StringRedisTemplate redisTemplate,
+                                MeterRegistry meterRegistry,
+                                UserCacheProperties cacheProperties) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.cacheProperties = cacheProperties;
+    }
+
+    @Override
+    @Nullable
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null)
+            return cache;
+
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null)
+            return null;
+
+        return caches.computeIfAbsent(name, cacheName -> createCache(remote));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    @Override
+    public void publish(String cacheName, @Nullable Object key) {
+        CacheInvalidationMessage message =
+                new CacheInvalidationMessage(nodeId, cacheName, key == null ? null : key.toString());
+        try {
+            redisTemplate.convertAndSend(getChannel(), objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("cache invalidation publish failed: cache={}, key={}", cacheName, key, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, @Nullable byte[] pattern) {
+        CacheInvalidationMessage invalidation;
+        try {
+            invalidation = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), CacheInvalidationMessage.class);
+        } catch (JsonProcessingException e) {
+            log.warn("malformed cache invalidation message ignored", e);
+            return;
+        }
+        if (Objects.equals(nodeId, invalidation.getOrigin()))
+            return;
+
+        TwoLevelCache cache = caches.get(invalidation.getCacheName());
+        if (cache == null)
+            return;
+
+        if (invalidation.getKey() == null)
+            cache.clearLocal();
+        else
+            cache.evictLocal(invalidation.getKey());
+    }
+
+    /**
+     * 무효화 메시지 채널 이름을 반환합니다.
+     *
+     * @return 채널 이름
+     */
+    public String getChannel() {
+        return cacheProperties.getInvalidationChannel();
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdown();
+    }
+
+    private TwoLevelCache createCache(Cache remote) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> local = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getNear().getMaximumSize())
+                .expireAfterWrite(cacheProperties.getNear().getExpireAfterWrite())
+                .build();
+
+        Duration refreshAheadThreshold = cacheProperties.refreshAheadOf(remote.getName());
+        RefreshAhead refreshAhead = refreshAheadThreshold == null
+                ? null
+                : new RefreshAhead(redisTemplate, refreshExecutor, refreshAheadThreshold, cacheProperties::keyPrefixOf);
+
+        UserCacheProperties.SingleFlight singleFlightProperties = cacheProperties.getSingleFlight();
+        SingleFlight singleFlight = singleFlightProperties.isEnabled()
+                ? new SingleFlight(
+                remote.getName(),
+                singleFlightProperties.getWaitTimeout(),
+                singleFlightProperties.isDistributedLock() ? redisTemplate : null,
+                singleFlightProperties.getLockLease(),
+                meterRegistry)
+                : null;
+
+        return new TwoLevelCache(remote, local, this, meterRegistry, refreshAhead, singleFlight);
+    }
+}
@@ -0,0 +1,79 @@
+package com.user.management.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.redis.cache.BatchStrategy;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 캐시 전체 삭제 시 KEYS 대신 SCAN 으로 키를 조금씩 찾아 UNLINK 로 제거하는 {@link BatchStrategy} 입니다.
+ * 공유 Redis 를 오래 점유하지 않도록 batchSize 만큼씩 처리하며, 삭제 시간과 삭제된 키 수를 기록합니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+public class UnlinkScanBatchStrategy implements BatchStrategy {
+    private final int batchSize;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Instantiates a new Unlink scan batch strategy.
+     *
+     * @param batchSize     한 번에 SCAN/UNLINK 할 키 수
+     * @param meterRegistry 삭제 시간과 키 수를 기록할 registry
+     */
+    public UnlinkScanBatchStrategy(int batchSize, MeterRegistry meterRegistry) {
+        if (batchSize <= 0)
+            throw new IllegalArgumentException("batchSize must be positive");
+
+        this.batchSize = batchSize;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public long cleanCache(RedisConnection connection, String name, byte[] pattern) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long deleted = 0L;
+
+        ScanOptions options = ScanOptions.scanOptions()
+                .count(batchSize)
+                .match(pattern)
+                .build();
+        try (Cursor<byte[]> cursor = connection.scan(options)) {
+            List<byte[]> keys = new ArrayList<>(batchSize);
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() >= batchSize) {
+                    deleted += unlink(connection, keys);
+                    keys.clear();
+                }
+            }
+            if (!keys.isEmpty())
+                deleted += unlink(connection, keys);
+        } finally {
+            sample.stop(Timer.builder("cache.clear.duration")
+                    .description("time spent clearing a cache with SCAN/UNLINK")
+                    .tag("cache", name)
+                    .register(meterRegistry));
+            Counter.builder("cache.clear.deleted.keys")
+                    .description("keys removed while clearing a cache")
+                    .tag("cache", name)
+                    .register(meterRegistry)
+                    .increment(deleted);
+        }
+
+        return deleted;
+    }
+
+    private long unlink(RedisConnection connection, List<byte[]> keys) {
+        Long unlinked = connection.unlink(keys.toArray(new byte[0][]));
+
+        return unlinked == null ? 0L : unlinked;
+    }
+}
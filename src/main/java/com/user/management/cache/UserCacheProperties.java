@@ -0,0 +1,192 @@
+package com.user.management.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 캐시 관련 설정 값을 바인딩하는 클래스입니다. (app.cache)
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.cache")
+public class UserCacheProperties {
+    /**
+     * Redis 캐시 기본 TTL
+     */
+    private Duration defaultTtl = Duration.ofMinutes(1L);
+
+    /**
+     * 캐시별 설정이 없을 때 TTL 에 더해지는 최대 무작위 지연 시간
+     */
+    private Duration defaultJitter = Duration.ZERO;
+
+    /**
+     * 캐시 이름별 TTL, jitter, refresh-ahead 설정
+     */
+    private Map<String, CacheSpec> caches = new HashMap<>();
+
+    /**
+     * 캐시 전체 삭제 시 한 번에 SCAN/UNLINK 할 키 수
+     */
+    private int clearBatchSize = 1000;
+
+    /**
+     * Redis 캐시 값 직렬화 방식
+     */
+    private ValueCodec valueCodec = ValueCodec.COMPACT;
+
+    /**
+     * compact 직렬화에서 본문이 이 크기(byte) 이상이면 GZIP 으로 압축합니다.
+     */
+    private int compressionThreshold = 1024;
+
+    /**
+     * near cache 무효화 메시지를 주고받을 Redis 채널
+     */
+    private String invalidationChannel = "user-management:cache-invalidation";
+
+    private final Near near = new Near();
+
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    /**
+     * 캐시 값 직렬화 방식
+     * 방식마다 Redis 키 prefix 를 달리하여, 다른 방식으로 직렬화하는 인스턴스와 Redis 를 함께 써도 서로의 값을 읽지 않습니다.
+     */
+    public enum ValueCodec {
+        /**
+         * 타입 메타데이터를 포함하는 JSON ({@code GenericJackson2JsonRedisSerializer})
+         */
+        JSON(""),
+        /**
+         * 필드 순서 기반 바이너리 ({@link CompactCacheValueSerializer})
+         */
+        COMPACT("compact-v1::");
+
+        private final String keySegment;
+
+        ValueCodec(String keySegment) {
+            this.keySegment = keySegment;
+        }
+    }
+
+    /**
+     * 인스턴스 내부 near cache 설정
+     */
+    @Getter
+    @Setter
+    public static class Near {
+        /**
+         * 캐시별 최대 엔트리 수 (W-TinyLFU 방식으로 제거)
+         */
+        private long maximumSize = 10_000L;
+
+        /**
+         * 엔트리 유지 시간. 무효화 메시지를 놓치더라도 이 시간 이후에는 Redis 에서 다시 읽습니다.
+         */
+        private Duration expireAfterWrite = Duration.ofSeconds(30L);
+    }
+
+    /**
+     * 캐시 미스 시 키별 적재를 하나로 묶는 single-flight 설정
+     */
+    @Getter
+    @Setter
+    public static class SingleFlight {
+        /**
+         * single-flight 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 먼저 시작된 적재를 기다리는 최대 시간, 지나면 직접 적재합니다.
+         */
+        private Duration waitTimeout = Duration.ofSeconds(3L);
+
+        /**
+         * Redis 락으로 인스턴스 간에도 적재를 하나로 묶을지 여부
+         */
+        private boolean distributedLock = false;
+
+        /**
+         * Redis 락 유지 시간. 적재 중 인스턴스가 죽어도 이 시간이 지나면 락이 풀립니다.
+         */
+        private Duration lockLease = Duration.ofSeconds(5L);
+    }
+
+    /**
+     * 캐시 이름별 설정
+     */
+    @Getter
+    @Setter
+    public static class CacheSpec {
+        /**
+         * Redis 엔트리 TTL, 없으면 defaultTtl
+         */
+        private Duration ttl;
+
+        /**
+         * TTL 에 더해지는 최대 무작위 지연 시간, 없으면 defaultJitter
+         * 같은 시각에 저장된 키가 한꺼번에 만료되지 않도록 합니다.
+         */
+        private Duration jitter;
+
+        /**
+         * 남은 TTL 이 이 값보다 작아진 엔트리를 조회하면 기존 값을 반환하면서 백그라운드에서 다시 적재합니다.
+         * 없으면 refresh-ahead 를 사용하지 않습니다. (sync = true 로 조회되는 캐시에만 적용됩니다.)
+         */
+        private Duration refreshAhead;
+    }
+
+    /**
+     * 캐시의 TTL 을 반환합니다.
+     *
+     * @param cacheName 캐시 이름
+     * @return 캐시별 TTL, 없으면 defaultTtl
+     */
+    public Duration ttlOf(String cacheName) {
+        CacheSpec spec = caches.get(cacheName);
+        return spec != null && spec.getTtl() != null ? spec.getTtl() : defaultTtl;
+    }
+
+    /**
+     * 캐시의 TTL jitter 를 반환합니다.
+     *
+     * @param cacheName 캐시 이름
+     * @return 캐시별 jitter, 없으면 defaultJitter
+     */
+    public Duration jitterOf(String cacheName) {
+        CacheSpec spec = caches.get(cacheName);
+        return spec != null && spec.getJitter() != null ? spec.getJitter() : defaultJitter;
+    }
+
+    /**
+     * 캐시의 refresh-ahead 기준 시간을 반환합니다.
+     *
+     * @param cacheName 캐시 이름
+     * @return refresh-ahead 기준 시간, 사용하지 않으면 null
+     */
+    public Duration refreshAheadOf(String cacheName) {
+        CacheSpec spec = caches.get(cacheName);
+        return spec != null ? spec.getRefreshAhead() : null;
+    }
+
+    /**
+     * 캐시의 Redis 키 prefix 를 반환합니다.
+     * JSON 은 기존 키({@code 캐시이름::}) 를 그대로 사용하고, compact 는 직렬화 버전을 키에 포함합니다.
+     *
+     * @param cacheName 캐시 이름
+     * @return 키 앞에 붙는 prefix
+     */
+    public String keyPrefixOf(String cacheName) {
+        return cacheName + "::" + valueCodec.keySegment;
+    }
+}
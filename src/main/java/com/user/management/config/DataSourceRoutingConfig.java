@@ -0,0 +1,98 @@
+package com.user.management.config;
+
+import com.user.management.datasource.DataSourceHealthChecker;
+import com.user.management.datasource.DataSourceRoutingProperties;
+import com.user.management.datasource.PrimaryStickiness;
+import com.user.management.datasource.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션을 replica 로 보내는 DataSource 설정 class (app.datasource.routing.enabled=true 일 때만 사용)
+ * primary 는 spring.datasource 설정으로, replica 는 app.datasource.routing.replicas 설정으로 생성합니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+    /**
+     * primary 와 replica 커넥션 풀을 만들고 트랜잭션의 readOnly 여부에 따라 고르는 DataSource 를 반환합니다.
+     * replica 가 시작 시점에 내려가 있어도 애플리케이션은 시작되며, 복구될 때까지 primary 에서 읽습니다.
+     *
+     * @param dataSourceProperties primary 접속 정보 (spring.datasource)
+     * @param routingProperties    replica 접속 정보와 분리 설정
+     * @return the read write routing data source
+     */
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(DataSourceProperties dataSourceProperties,
+                                                       DataSourceRoutingProperties routingProperties) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName(ReadWriteRoutingDataSource.PRIMARY);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (DataSourceRoutingProperties.Replica replica : routingProperties.getReplicas()) {
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(dataSourceProperties.determineDriverClassName())
+                    .url(replica.getUrl())
+                    .username(replica.getUsername() != null ? replica.getUsername() : dataSourceProperties.determineUsername())
+                    .password(replica.getPassword() != null ? replica.getPassword() : dataSourceProperties.determinePassword())
+                    .build();
+            dataSource.setPoolName(replica.getName());
+            dataSource.setMaximumPoolSize(routingProperties.getReplicaPoolSize());
+            dataSource.setConnectionTimeout(Math.max(250L, routingProperties.getHealthCheckTimeout().toMillis()));
+            dataSource.setInitializationFailTimeout(-1L);
+            dataSource.setReadOnly(true);
+            replicas.put(replica.getName(), dataSource);
+        }
+
+        PrimaryStickiness stickiness = new PrimaryStickiness(
+                routingProperties.getStickyHeader(),
+                routingProperties.getStickyWindow(),
+                routingProperties.getStickyMaximumSize());
+        return new ReadWriteRoutingDataSource(primary, replicas, stickiness);
+    }
+
+    /**
+     * JPA, JdbcTemplate, Flyway 가 사용하는 DataSource 를 반환합니다.
+     * 트랜잭션 시작 시점이 아니라 첫 SQL 실행 시점에 실제 커넥션을 얻어야 readOnly 여부로 대상을 고를 수 있으므로
+     * routing DataSource 를 {@link LazyConnectionDataSourceProxy} 로 감쌉니다.
+     *
+     * @param routingDataSource the routing data source
+     * @return the data source
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * primary 와 replica 의 상태를 app.datasource.routing.health-check-interval-ms 마다 확인하는 빈을 반환합니다.
+     *
+     * @param routingDataSource the routing data source
+     * @param routingProperties 상태 확인 timeout 설정
+     * @return the data source health checker
+     */
+    @Bean
+    public DataSourceHealthChecker dataSourceHealthChecker(ReadWriteRoutingDataSource routingDataSource,
+                                                           DataSourceRoutingProperties routingProperties) {
+        return new DataSourceHealthChecker(routingDataSource, routingProperties.getHealthCheckTimeout());
+    }
+}
@@ -1,18 +1,28 @@
 package com.user.management.config;
 
-import org.springframework.cache.CacheManager;
+import com.user.management.cache.CacheGenerationManager;
+import com.user.management.cache.CompactCacheValueSerializer;
+import com.user.management.cache.JitterRedisCacheWriter;
+import com.user.management.cache.TwoLevelCacheManager;
+import com.user.management.cache.UnlinkScanBatchStrategy;
+import com.user.management.cache.UserCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
-import java.time.Duration;
-
 /**
  * Redis 캐싱 관련 설정을 위한 Config 클래스
  *
@@ -21,26 +31,76 @@ import java.time.Duration;
  */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(UserCacheProperties.class)
 public class RedisConfig {
     /**
      * 캐시 매니저를 반환하는 빈 메서드
+     * Redis 캐시 앞에 인스턴스 내부 near cache 를 둔 2단계 캐시 매니저를 반환합니다.
+     * 캐시 전체 삭제는 KEYS 대신 SCAN/UNLINK 로 나누어 수행합니다.
+     * TTL 은 app.cache.caches 에 캐시별로 지정할 수 있으며, 저장 시 캐시별 jitter 가 더해집니다.
+     * 값은 app.cache.value-codec 에 따라 compact 바이너리 또는 JSON 으로 직렬화하며, 키 prefix 도 방식에 따라 달라집니다.
      *
      * @param redisConnectionFactory the redis connection factory
+     * @param redisTemplate          near cache 무효화 메시지 발행에 사용할 템플릿
+     * @param meterRegistry          계층별 hit/miss 를 기록할 registry
+     * @param cacheProperties        캐시 설정
      * @return the cache manager
      */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                             StringRedisTemplate redisTemplate,
+                                             MeterRegistry meterRegistry,
+                                             UserCacheProperties cacheProperties) {
+        RedisCacheWriter cacheWriter = new JitterRedisCacheWriter(
+                RedisCacheWriter.nonLockingRedisCacheWriter(
+                        redisConnectionFactory,
+                        new UnlinkScanBatchStrategy(cacheProperties.getClearBatchSize(), meterRegistry)),
+                cacheProperties::jitterOf);
         RedisCacheManager.RedisCacheManagerBuilder builder =
-                RedisCacheManager.RedisCacheManagerBuilder.fromConnectionFactory(redisConnectionFactory);
+                RedisCacheManager.RedisCacheManagerBuilder.fromCacheWriter(cacheWriter);
 
         RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(cacheValueSerializer(cacheProperties)))
+                .computePrefixWith(cacheProperties::keyPrefixOf)
                 .disableCachingNullValues()
-                .entryTtl(Duration.ofMinutes(1L));
+                .entryTtl(cacheProperties.getDefaultTtl());
 
         builder.cacheDefaults(configuration);
+        cacheProperties.getCaches()
+                .keySet()
+                .forEach(cacheName -> builder.withCacheConfiguration(
+                        cacheName, configuration.entryTtl(cacheProperties.ttlOf(cacheName))));
+
+        RedisCacheManager redisCacheManager = builder.build();
+        redisCacheManager.initializeCaches();
+
+        return new TwoLevelCacheManager(redisCacheManager, redisTemplate, meterRegistry, cacheProperties);
+    }
+
+    /**
+     * 다른 인스턴스가 보낸 near cache 무효화 메시지와 캐시 세대 증가 알림을 수신하는 리스너 컨테이너를 반환합니다.
+     *
+     * @param redisConnectionFactory the redis connection factory
+     * @param cacheManager           메시지를 처리할 2단계 캐시 매니저
+     * @param cacheGeneration        세대 증가 알림을 반영할 세대 관리
+     * @return the redis message listener container
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                            TwoLevelCacheManager cacheManager,
+                                                                            CacheGenerationManager cacheGeneration) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(cacheManager.getChannel()));
+        container.addMessageListener(cacheGeneration, new ChannelTopic(cacheManager.getChannel()));
+        return container;
+    }
+
+    private RedisSerializer<Object> cacheValueSerializer(UserCacheProperties cacheProperties) {
+        if (cacheProperties.getValueCodec() == UserCacheProperties.ValueCodec.JSON)
+            return new GenericJackson2JsonRedisSerializer();
 
-        return builder.build();
+        return new CompactCacheValueSerializer(cacheProperties.getCompressionThreshold());
     }
 }
@@ -0,0 +1,145 @@
+package com.user.management.config;
+
+import com.user.management.shard.ShardRoutingAspect;
+import com.user.management.shard.ShardRoutingDataSource;
+import com.user.management.shard.ShardingProperties;
+import com.user.management.shard.UserShardRouter;
+import com.user.management.shard.UserShards;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 샤딩 설정 class
+ * shard router 와 scatter-gather helper 는 항상 등록하며, 샤딩을 끄면 shard 가 하나인 것처럼 동작합니다.
+ * app.sharding.enabled=true 이면 app.sharding.shards 순서대로 커넥션 풀을 만들어 사용자 ID 로 고르는 DataSource 를 사용합니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+    /**
+     * 사용자 ID 를 shard 번호로 대응시키는 router 를 반환합니다.
+     *
+     * @param shardingProperties 샤딩 설정
+     * @return the user shard router
+     */
+    @Bean
+    public UserShardRouter userShardRouter(ShardingProperties shardingProperties) {
+        return new UserShardRouter(shardingProperties);
+    }
+
+    /**
+     * 모든 shard 에 걸친 조회와 작업을 실행하는 helper 를 반환합니다.
+     *
+     * @param userShardRouter    the user shard router
+     * @param transactionManager shard 마다 읽기 전용 트랜잭션을 시작할 트랜잭션 매니저
+     * @return the user shards
+     */
+    @Bean
+    public UserShards userShards(UserShardRouter userShardRouter, PlatformTransactionManager transactionManager) {
+        return new UserShards(userShardRouter, transactionManager);
+    }
+
+    /**
+     * shard DataSource 설정 (app.sharding.enabled=true 일 때만 사용)
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "true")
+    static class ShardDataSourceConfig {
+        /**
+         * shard 마다 커넥션 풀을 만들고 {@code ShardContext} 의 shard 번호로 고르는 DataSource 를 반환합니다.
+         * 접속 정보가 없는 항목은 spring.datasource 설정을 사용합니다.
+         *
+         * @param dataSourceProperties 기본 접속 정보 (spring.datasource)
+         * @param shardingProperties   shard 접속 정보
+         * @param readReplicaRouting   replica 분리 사용 여부
+         * @return the shard routing data source
+         */
+        @Bean
+        public ShardRoutingDataSource shardRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                             ShardingProperties shardingProperties,
+                                                             @Value("${app.datasource.routing.enabled:false}") boolean readReplicaRouting) {
+            if (readReplicaRouting)
+                throw new IllegalStateException("app.sharding 과 app.datasource.routing 은 함께 사용할 수 없습니다.");
+            if (shardingProperties.getShards().isEmpty())
+                throw new IllegalStateException("app.sharding.shards 에 shard 가 하나 이상 필요합니다.");
+
+            List<DataSource> shards = new ArrayList<>();
+            for (ShardingProperties.Shard shard : shardingProperties.getShards()) {
+                HikariDataSource dataSource = DataSourceBuilder.create()
+                        .type(HikariDataSource.class)
+                        .driverClassName(dataSourceProperties.determineDriverClassName())
+                        .url(shard.getUrl())
+                        .username(shard.getUsername() != null ? shard.getUsername() : dataSourceProperties.determineUsername())
+                        .password(shard.getPassword() != null ? shard.getPassword() : dataSourceProperties.determinePassword())
+                        .build();
+                dataSource.setPoolName(shard.getName() != null ? shard.getName() : "shard-" + shards.size());
+                dataSource.setMaximumPoolSize(shardingProperties.getPoolSize());
+                shards.add(dataSource);
+            }
+            return new ShardRoutingDataSource(shards);
+        }
+
+        /**
+         * JPA, JdbcTemplate, Flyway 가 사용하는 DataSource 를 반환합니다.
+         * 실제 커넥션은 첫 SQL 실행 시점의 shard 에서 얻도록 {@link LazyConnectionDataSourceProxy} 로 감쌉니다.
+         *
+         * @param shardRoutingDataSource the shard routing data source
+         * @return the data source
+         */
+        @Bean
+        @Primary
+        public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+            return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+        }
+
+        /**
+         * 기본 Flyway 설정으로 모든 shard 의 schema 를 같은 버전으로 migrate 하는 전략을 반환합니다.
+         *
+         * @param shardRoutingDataSource the shard routing data source
+         * @param shardingProperties     shard 수를 제공하는 샤딩 설정
+         * @return the flyway migration strategy
+         */
+        @Bean
+        public FlywayMigrationStrategy shardFlywayMigrationStrategy(ShardRoutingDataSource shardRoutingDataSource,
+                                                                    ShardingProperties shardingProperties) {
+            return flyway -> {
+                for (int shard = 0; shard < shardingProperties.getShards().size(); shard++) {
+                    Flyway.configure()
+                            .configuration(flyway.getConfiguration())
+                            .dataSource(shardRoutingDataSource.getShard(shard))
+                            .load()
+                            .migrate();
+                }
+            };
+        }
+
+        /**
+         * {@code @ShardKey} 파라미터로 메서드를 실행할 shard 를 정하는 aspect 를 반환합니다.
+         *
+         * @param userShardRouter the user shard router
+         * @return the shard routing aspect
+         */
+        @Bean
+        public ShardRoutingAspect shardRoutingAspect(UserShardRouter userShardRouter) {
+            return new ShardRoutingAspect(userShardRouter);
+        }
+    }
+}
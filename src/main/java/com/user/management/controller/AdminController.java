@@ -1,22 +1,45 @@
 package com.user.management.controller;
 
 
+import com.user.management.bulk.BulkAdminExecutor;
+import com.user.management.bulk.BulkJobService;
+import com.user.management.bulk.UserExportService;
+import com.user.management.bulk.UserImportService;
+import com.user.management.data.ReferenceDataRegistry;
+import com.user.management.dto.BulkJobResponse;
+import com.user.management.dto.BulkUserResponse;
 import com.user.management.dto.DeleteUserRequest;
 import com.user.management.dto.PermitUserRequest;
 import com.user.management.dto.UserDataResponse;
+import com.user.management.dto.UserImportResponse;
+import com.user.management.dto.UserReadModelRebuildResponse;
+import com.user.management.dto.UserTransitionRequest;
+import com.user.management.dto.UserTransitionResponse;
+import com.user.management.page.CountStrategy;
+import com.user.management.page.CursorPage;
 import com.user.management.service.UserService;
+import com.user.management.service.impl.UserReadModelSynchronizer;
+import com.user.management.shard.UserResharder;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * 관리자 관련 API controller
@@ -24,27 +47,37 @@ import java.util.List;
  * @author parksangwon
  * @version 1.0.0
  */
+@Validated
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/user/admin")
 @Tag(name = "Admin Rest Controller", description = "관리자 관련 API")
 public class AdminController {
     private final UserService userService;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final BulkAdminExecutor bulkAdminExecutor;
+    private final BulkJobService bulkJobService;
+    private final UserImportService userImportService;
+    private final UserExportService userExportService;
+    private final UserReadModelSynchronizer userReadModelSynchronizer;
+    private final UserResharder userResharder;
 
     /**
      * 모든 사용자 정보를 조회하는 메서드입니다.
      *
      * @param page 페이징 정보 (어떤 페이지를 조회할지) 를 제공하는 매개변수입니다.
      * @param size 한 페이지에 얼마나 많은 항목을 보여줄지를 결정하는 매개변수입니다.
+     * @param count 전체 개수를 구하는 방식 (EXACT, CACHED, ESTIMATED)
      * @return 사용자 정보의 부분 리스트를 담은 ResponseEntity를 돌려줍니다.
      */
     @GetMapping("/userList")
     @Operation(summary = "모든 사용자를 조회")
     public ResponseEntity<Page<UserDataResponse>> findAllUsers(
             @RequestParam(value = "page", defaultValue = "0", required = false) int page,
-            @RequestParam(value = "size", defaultValue = "5", required = false) int size) {
+            @RequestParam(value = "size", defaultValue = "5", required = false) int size,
+            @RequestParam(value = "count", defaultValue = "EXACT", required = false) CountStrategy count) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<UserDataResponse> userPage = userService.getAllUsers(pageable);
+        Page<UserDataResponse> userPage = userService.getAllUsers(pageable, count);
 
         return ResponseEntity.status(HttpStatus.OK)
                 .body(userPage);
@@ -55,6 +88,7 @@ public class AdminController {
      *
      * @param page     반환할 페이지 번호.
      * @param size     한 페이지에 포함될 항목 수.
+     * @param count    전체 개수를 구하는 방식 (EXACT, CACHED, ESTIMATED)
      * @param statusId 검색할 사용자 상태 ID. // 1. 기본 , 2. 휴면, 3. 비활성화, 4. 승인대기
      * @return UserDataResponse 리스트를 래핑한 ResponseEntity를 반환합니다.
      */
@@ -63,9 +97,10 @@ public class AdminController {
     public ResponseEntity<Page<UserDataResponse>> findSortedUserByStatus(
             @RequestParam(value = "page", defaultValue = "0", required = false) int page,
             @RequestParam(value = "size", defaultValue = "5", required = false) int size,
+            @RequestParam(value = "count", defaultValue = "EXACT", required = false) CountStrategy count,
             @PathVariable Long statusId) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<UserDataResponse> userPage = userService.getFilteredUsersByStatus(statusId, pageable);
+        Page<UserDataResponse> userPage = userService.getFilteredUsersByStatus(statusId, pageable, count);
 
         return ResponseEntity.status(HttpStatus.OK)
                 .body(userPage);
@@ -76,6 +111,7 @@ public class AdminController {
      *
      * @param page   반환할 페이지 번호.
      * @param size   한 페이지에 포함될 항목 수.
+     * @param count  전체 개수를 구하는 방식 (EXACT, CACHED, ESTIMATED)
      * @param roleId 검색할 사용자 role ID. // 1. 어드민, 2. 유저
      * @return UserDataResponse 리스트를 래핑한 ResponseEntity를 반환합니다.
      */
@@ -84,45 +120,109 @@ public class AdminController {
     public ResponseEntity<Page<UserDataResponse>> findSortedUserByRole(
             @RequestParam(value = "page", defaultValue = "0", required = false) int page,
             @RequestParam(value = "size", defaultValue = "5", required = false) int size,
+            @RequestParam(value = "count", defaultValue = "EXACT", required = false) CountStrategy count,
             @PathVariable Long roleId) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<UserDataResponse> userPage = userService.getFilteredUsersByRole(roleId, pageable);
+        Page<UserDataResponse> userPage = userService.getFilteredUsersByRole(roleId, pageable, count);
 
         return ResponseEntity.status(HttpStatus.OK)
                 .body(userPage);
     }
 
+    /**
+     * 모든 사용자 정보를 커서 방식으로 조회합니다.
+     * 페이지가 깊어져도 조회 비용이 일정하며, withTotal 이 false 면 전체 개수를 세지 않습니다.
+     *
+     * @param cursor    이전 응답의 next 커서, 첫 페이지는 생략합니다.
+     * @param size      한 페이지에 포함될 항목 수. 1 이상 {@link CursorPage#MAX_SIZE} 이하
+     * @param withTotal 전체 사용자 수 포함 여부
+     * @return 사용자 정보와 다음 커서를 담은 ResponseEntity를 돌려줍니다.
+     */
+    @GetMapping("/userList/seek")
+    @Operation(summary = "모든 사용자를 커서 방식으로 조회")
+    public ResponseEntity<CursorPage<UserDataResponse>> seekAllUsers(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "5", required = false) @Min(1) @Max(CursorPage.MAX_SIZE) int size,
+            @RequestParam(value = "withTotal", defaultValue = "false", required = false) boolean withTotal) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(userService.getUsersAfter(cursor, size, withTotal));
+    }
+
+    /**
+     * 특정 status를 가진 사용자의 정보를 커서 방식으로 조회합니다.
+     *
+     * @param cursor    이전 응답의 next 커서, 첫 페이지는 생략합니다.
+     * @param size      한 페이지에 포함될 항목 수. 1 이상 {@link CursorPage#MAX_SIZE} 이하
+     * @param withTotal 전체 사용자 수 포함 여부
+     * @param statusId  검색할 사용자 상태 ID.
+     * @return 사용자 정보와 다음 커서를 담은 ResponseEntity를 돌려줍니다.
+     */
+    @GetMapping("/userList/sort/status/{statusId}/seek")
+    @Operation(summary = "특정 상태를 가진 사용자를 커서 방식으로 조회")
+    public ResponseEntity<CursorPage<UserDataResponse>> seekSortedUserByStatus(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "5", required = false) @Min(1) @Max(CursorPage.MAX_SIZE) int size,
+            @RequestParam(value = "withTotal", defaultValue = "false", required = false) boolean withTotal,
+            @PathVariable Long statusId) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(userService.getFilteredUsersByStatusAfter(statusId, cursor, size, withTotal));
+    }
+
+    /**
+     * 특정 role을 가진 사용자의 정보를 커서 방식으로 조회합니다.
+     *
+     * @param cursor    이전 응답의 next 커서, 첫 페이지는 생략합니다.
+     * @param size      한 페이지에 포함될 항목 수. 1 이상 {@link CursorPage#MAX_SIZE} 이하
+     * @param withTotal 전체 사용자 수 포함 여부
+     * @param roleId    검색할 사용자 role ID.
+     * @return 사용자 정보와 다음 커서를 담은 ResponseEntity를 돌려줍니다.
+     */
+    @GetMapping("/userList/sort/role/{roleId}/seek")
+    @Operation(summary = "특정 권한을 가진 사용자를 커서 방식으로 조회")
+    public ResponseEntity<CursorPage<UserDataResponse>> seekSortedUserByRole(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "5", required = false) @Min(1) @Max(CursorPage.MAX_SIZE) int size,
+            @RequestParam(value = "withTotal", defaultValue = "false", required = false) boolean withTotal,
+            @PathVariable Long roleId) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(userService.getFilteredUsersByRoleAfter(roleId, cursor, size, withTotal));
+    }
+
     /**
      * 일반 사용자를 관리자로 진급시킵니다.
+     * 요청 전체가 일괄 처리 전용 executor 에서 하나의 트랜잭션으로 처리됩니다.
      *
      * @param permitUserRequestList 관리자로 진급시킬 사용자의 정보를 포함하는 요청 본문.
-     * @return 상태 코드 204를 포함하는 응답 엔티티를 반환합니다.
+     * @return 사용자 ID 별 처리 결과(changed, unchanged, missing, failed)와 여러 shard 에 걸친 요청이면 shard 별 커밋 여부(shards)를 포함하는 응답 엔티티를 반환합니다.
      */
     @PostMapping("/promotion")
     @Operation(summary = "사용자의 권한을 관리자로 업데이트")
-    public ResponseEntity<Void> promoteUserToAdmin(
+    public ResponseEntity<BulkUserResponse> promoteUserToAdmin(
             @RequestBody @Valid List<PermitUserRequest> permitUserRequestList) {
-        permitUserRequestList.parallelStream()
-                .forEach(userService::promoteUser);
+        BulkUserResponse response = bulkAdminExecutor.execute("promote", permitUserRequestList.stream()
+                .map(PermitUserRequest::getId)
+                .collect(Collectors.toList()), userService::promoteUsers);
 
-        return ResponseEntity.status(HttpStatus.NO_CONTENT)
-                .build();
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(response);
     }
 
     /**
      * 승인 대기 중인 사용자에게 일반 권한을 부여합니다
+     * 요청 전체가 일괄 처리 전용 executor 에서 하나의 트랜잭션으로 처리됩니다.
      *
      * @param permitUserRequestList 권한을 부여할 사용자의 정보를 포함하는 요청 본문.
-     * @return 상태 코드 204를 포함하는 응답 엔티티를 반환합니다.
+     * @return 사용자 ID 별 처리 결과(changed, unchanged, missing, failed)와 여러 shard 에 걸친 요청이면 shard 별 커밋 여부(shards)를 포함하는 응답 엔티티를 반환합니다.
      */
     @PostMapping("/permit")
     @Operation(summary = "승인 대기 사용자를 일반 사용자로 업데이트")
-    public ResponseEntity<Void> permitUser(@RequestBody @Valid List<PermitUserRequest> permitUserRequestList) {
-        permitUserRequestList.parallelStream()
-                .forEach(userService::permitUser);
+    public ResponseEntity<BulkUserResponse> permitUser(@RequestBody @Valid List<PermitUserRequest> permitUserRequestList) {
+        BulkUserResponse response = bulkAdminExecutor.execute("permit", permitUserRequestList.stream()
+                .map(PermitUserRequest::getId)
+                .collect(Collectors.toList()), userService::permitUsers);
 
-        return ResponseEntity.status(HttpStatus.NO_CONTENT)
-                .build();
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(response);
     }
 
 
@@ -130,31 +230,257 @@ public class AdminController {
      * 비활성인 사용자를 활성으로 변경합니다.
      *
      * @param deleteUserRequestList 비활성 사용자 아이디 리스트
-     * @return 상태 코드 204를 포함하는 응답 엔티티를 반환합니다.
+     * @return 사용자 ID 별 처리 결과(changed, unchanged, missing, failed)와 여러 shard 에 걸친 요청이면 shard 별 커밋 여부(shards)를 포함하는 응답 엔티티를 반환합니다.
      */
     @PostMapping("/reject/delete")
     @Operation(summary = "비활성 사용자를 활성 상태로 업데이트")
-    public ResponseEntity<Void> rejectDeleteUser(@RequestBody @Valid List<DeleteUserRequest> deleteUserRequestList) {
-        deleteUserRequestList.stream()
-                .map(request -> new PermitUserRequest(request.getId()))
-                .forEach(userService::permitUser);
-        return ResponseEntity.status(HttpStatus.NO_CONTENT)
-                .build();
+    public ResponseEntity<BulkUserResponse> rejectDeleteUser(@RequestBody @Valid List<DeleteUserRequest> deleteUserRequestList) {
+        BulkUserResponse response = bulkAdminExecutor.execute("reject-delete", deleteUserRequestList.stream()
+                .map(DeleteUserRequest::getId)
+                .collect(Collectors.toList()), userService::permitUsers);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(response);
     }
 
     /**
      * 사용자 데이터를 완전히 삭제합니다.
+     * 요청 전체가 일괄 처리 전용 executor 에서 하나의 트랜잭션으로 처리됩니다.
      *
      * @param deleteUserRequestList 삭제할 사용자의 리스트 정보를 포함하는 요청 본문.
-     * @return 상태 코드 204를 포함하는 응답 엔티티를 반환합니다.
+     * @return 사용자 ID 별 처리 결과(changed, missing, failed)와 여러 shard 에 걸친 요청이면 shard 별 커밋 여부(shards)를 포함하는 응답 엔티티를 반환합니다.
      */
     @DeleteMapping("/delete")
     @Operation(summary = "사용자를 제거")
-    public ResponseEntity<Void> deleteUser(@RequestBody @Valid List<DeleteUserRequest> deleteUserRequestList) {
-        deleteUserRequestList.parallelStream()
-                .forEach(userService::deleteUser);
+    public ResponseEntity<BulkUserResponse> deleteUser(@RequestBody @Valid List<DeleteUserRequest> deleteUserRequestList) {
+        BulkUserResponse response = bulkAdminExecutor.execute("delete", deleteUserRequestList.stream()
+                .map(DeleteUserRequest::getId)
+                .collect(Collectors.toList()), userService::deleteUsers);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(response);
+    }
+
+    /**
+     * 조건(상태, 권한, Provider, 가입일 범위)에 맞는 사용자의 상태 또는 권한을 하나의 UPDATE 문으로 변경합니다.
+     * dryRun 이면 변경 대상 수만 반환하며, 변경 대상이 maxRows 를 넘으면 아무것도 변경하지 않습니다.
+     *
+     * @param userTransitionRequest 조건과 변경할 상태 또는 권한
+     * @return 변경 대상 수와 변경된 사용자 수를 포함하는 응답 엔티티를 반환합니다.
+     */
+    @PostMapping("/transition")
+    @Operation(summary = "조건에 맞는 사용자의 상태 또는 권한을 일괄 변경")
+    public ResponseEntity<UserTransitionResponse> transitionUsers(
+            @RequestBody @Valid UserTransitionRequest userTransitionRequest) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(userService.transitionUsers(userTransitionRequest));
+    }
+
+    /**
+     * 일반 사용자를 관리자로 진급시키는 작업을 등록합니다.
+     * 작업은 백그라운드에서 청크 단위로 처리되며, 청크마다 하나의 트랜잭션으로 처리됩니다.
+     *
+     * @param permitUserRequestList 관리자로 진급시킬 사용자의 정보를 포함하는 요청 본문.
+     * @return 상태 코드 202와 대기 중인 작업 정보를 포함하는 응답 엔티티를 반환합니다.
+     */
+    @PostMapping("/jobs/promotion")
+    @Operation(summary = "사용자의 권한을 관리자로 업데이트하는 작업 등록")
+    public ResponseEntity<BulkJobResponse> submitPromotionJob(
+            @RequestBody @Valid List<PermitUserRequest> permitUserRequestList) {
+        BulkJobResponse job = bulkJobService.submit("promote", permitUserRequestList.stream()
+                .map(PermitUserRequest::getId)
+                .collect(Collectors.toList()), userService::promoteUsers);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(job);
+    }
+
+    /**
+     * 승인 대기 중인 사용자에게 일반 권한을 부여하는 작업을 등록합니다.
+     * 작업은 백그라운드에서 청크 단위로 처리되며, 청크마다 하나의 트랜잭션으로 처리됩니다.
+     *
+     * @param permitUserRequestList 권한을 부여할 사용자의 정보를 포함하는 요청 본문.
+     * @return 상태 코드 202와 대기 중인 작업 정보를 포함하는 응답 엔티티를 반환합니다.
+     */
+    @PostMapping("/jobs/permit")
+    @Operation(summary = "승인 대기 사용자를 일반 사용자로 업데이트하는 작업 등록")
+    public ResponseEntity<BulkJobResponse> submitPermitJob(
+            @RequestBody @Valid List<PermitUserRequest> permitUserRequestList) {
+        BulkJobResponse job = bulkJobService.submit("permit", permitUserRequestList.stream()
+                .map(PermitUserRequest::getId)
+                .collect(Collectors.toList()), userService::permitUsers);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(job);
+    }
+
+    /**
+     * 비활성인 사용자를 활성으로 변경하는 작업을 등록합니다.
+     *
+     * @param deleteUserRequestList 비활성 사용자 아이디 리스트
+     * @return 상태 코드 202와 대기 중인 작업 정보를 포함하는 응답 엔티티를 반환합니다.
+     */
+    @PostMapping("/jobs/reject/delete")
+    @Operation(summary = "비활성 사용자를 활성 상태로 업데이트하는 작업 등록")
+    public ResponseEntity<BulkJobResponse> submitRejectDeleteJob(
+            @RequestBody @Valid List<DeleteUserRequest> deleteUserRequestList) {
+        BulkJobResponse job = bulkJobService.submit("reject-delete", deleteUserRequestList.stream()
+                .map(DeleteUserRequest::getId)
+                .collect(Collectors.toList()), userService::permitUsers);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(job);
+    }
+
+    /**
+     * 사용자 데이터를 완전히 삭제하는 작업을 등록합니다.
+     * 작업은 백그라운드에서 청크 단위로 처리되며, 청크마다 하나의 트랜잭션으로 처리됩니다.
+     *
+     * @param deleteUserRequestList 삭제할 사용자의 리스트 정보를 포함하는 요청 본문.
+     * @return 상태 코드 202와 대기 중인 작업 정보를 포함하는 응답 엔티티를 반환합니다.
+     */
+    @PostMapping("/jobs/delete")
+    @Operation(summary = "사용자를 제거하는 작업 등록")
+    public ResponseEntity<BulkJobResponse> submitDeleteJob(
+            @RequestBody @Valid List<DeleteUserRequest> deleteUserRequestList) {
+        BulkJobResponse job = bulkJobService.submit("delete", deleteUserRequestList.stream()
+                .map(DeleteUserRequest::getId)
+                .collect(Collectors.toList()), userService::deleteUsers);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(job);
+    }
+
+    /**
+     * 일괄 처리 작업의 진행 상태와 지금까지의 처리 결과를 조회합니다.
+     *
+     * @param jobId 작업 ID
+     * @return 작업 정보를 포함하는 응답 엔티티를 반환합니다.
+     */
+    @GetMapping("/jobs/{jobId}")
+    @Operation(summary = "일괄 처리 작업 상태 조회")
+    public ResponseEntity<BulkJobResponse> getJob(@PathVariable String jobId) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(bulkJobService.getJob(jobId));
+    }
+
+    /**
+     * 일괄 처리 작업의 취소를 요청합니다. 이미 처리된 청크는 되돌리지 않습니다.
+     *
+     * @param jobId 작업 ID
+     * @return 상태 코드 202와 작업 정보를 포함하는 응답 엔티티를 반환합니다.
+     */
+    @DeleteMapping("/jobs/{jobId}")
+    @Operation(summary = "일괄 처리 작업 취소")
+    public ResponseEntity<BulkJobResponse> cancelJob(@PathVariable String jobId) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(bulkJobService.cancel(jobId));
+    }
+
+    /**
+     * CSV 파일로 사용자를 한 번에 등록합니다.
+     * 첫 행은 id, name, email, password 열을 포함하는 헤더여야 하며, 파일은 한 행씩 읽어 batch 단위로 등록합니다.
+     *
+     * @param body CSV 요청 본문 (UTF-8)
+     * @return 등록 결과와 행 별 오류를 포함하는 응답 엔티티를 반환합니다.
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @Operation(summary = "CSV 파일로 사용자 일괄 등록")
+    public ResponseEntity<UserImportResponse> importUsersFromCsv(InputStream body) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(userImportService.importCsv(body));
+    }
+
+    /**
+     * NDJSON 파일로 사용자를 한 번에 등록합니다.
+     * 한 행에 하나의 사용자(id, name, email, password) JSON 객체를 담으며, 파일은 한 행씩 읽어 batch 단위로 등록합니다.
+     *
+     * @param body NDJSON 요청 본문 (UTF-8)
+     * @return 등록 결과와 행 별 오류를 포함하는 응답 엔티티를 반환합니다.
+     */
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    @Operation(summary = "NDJSON 파일로 사용자 일괄 등록")
+    public ResponseEntity<UserImportResponse> importUsersFromNdjson(InputStream body) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(userImportService.importNdjson(body));
+    }
+
+    /**
+     * 사용자 정보를 CSV 로 내보냅니다. 페이지 단위 조회 없이 한 행씩 읽어 응답 본문에 바로 씁니다.
+     *
+     * @param statusId 거를 status id, 지정하지 않으면 모든 상태
+     * @param roleId   거를 role id, 지정하지 않으면 모든 권한
+     * @param response CSV 를 쓸 응답
+     * @throws IOException 응답을 쓰는 중 연결이 끊긴 경우
+     */
+    @GetMapping(value = "/export", produces = "text/csv")
+    @Operation(summary = "사용자 정보를 CSV 로 내보내기")
+    public void exportUsersAsCsv(@RequestParam(value = "statusId", required = false) Long statusId,
+                                 @RequestParam(value = "roleId", required = false) Long roleId,
+                                 HttpServletResponse response) throws IOException {
+        response.setContentType("text/csv;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.csv\"");
+        userExportService.exportCsv(statusId, roleId, response.getOutputStream());
+    }
+
+    /**
+     * 사용자 정보를 NDJSON 으로 내보냅니다. 페이지 단위 조회 없이 한 행씩 읽어 응답 본문에 바로 씁니다.
+     *
+     * @param statusId 거를 status id, 지정하지 않으면 모든 상태
+     * @param roleId   거를 role id, 지정하지 않으면 모든 권한
+     * @param response NDJSON 을 쓸 응답
+     * @throws IOException 응답을 쓰는 중 연결이 끊긴 경우
+     */
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    @Operation(summary = "사용자 정보를 NDJSON 으로 내보내기")
+    public void exportUsersAsNdjson(@RequestParam(value = "statusId", required = false) Long statusId,
+                                    @RequestParam(value = "roleId", required = false) Long roleId,
+                                    HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.ndjson\"");
+        userExportService.exportNdjson(statusId, roleId, response.getOutputStream());
+    }
+
+    /**
+     * Status, Role, Provider 기준 데이터가 변경된 경우 메모리에 보관 중인 기준 데이터를 다시 적재합니다.
+     *
+     * @return 상태 코드 204를 포함하는 응답 엔티티를 반환합니다.
+     */
+    @PostMapping("/reference-data/refresh")
+    @Operation(summary = "기준 데이터(Status, Role, Provider) 재적재")
+    public ResponseEntity<Void> refreshReferenceData() {
+        referenceDataRegistry.refresh();
 
         return ResponseEntity.status(HttpStatus.NO_CONTENT)
                 .build();
     }
+
+    /**
+     * users 테이블 전체로 관리자 목록 조회용 읽기 모델을 다시 생성합니다.
+     * 읽기 모델이 users 와 어긋났을 때(직접 수정한 데이터, 배포 중 누락 등) 사용합니다.
+     *
+     * @return 복사한 사용자 수와 삭제한 행 수를 포함하는 응답 엔티티를 반환합니다.
+     */
+    @PostMapping("/read-model/rebuild")
+    @Operation(summary = "사용자 목록 읽기 모델 재생성")
+    public ResponseEntity<UserReadModelRebuildResponse> rebuildReadModel() {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(userReadModelSynchronizer.rebuild());
+    }
+
+    /**
+     * shard 를 늘린 뒤 위치가 바뀐 사용자를 새 shard 로 옮기는 작업을 등록합니다.
+     * app.sharding.previous-shard-count 로 이전 shard 수를 지정한 상태에서 실행하며, 실행 중에도 사용자 요청을 처리합니다.
+     * 사용자 수에 비례해 오래 걸리므로 일괄 처리 작업과 같이 백그라운드에서 실행하고, 진행 상태와 결과는 작업 조회로 확인합니다.
+     *
+     * @return 상태 코드 202와 대기 중인 작업 정보를 포함하는 응답 엔티티를 반환합니다. 끝난 작업의 result 에 재분배 결과가 담깁니다.
+     */
+    @PostMapping("/shards/reshard")
+    @Operation(summary = "사용자 shard 재분배 작업 등록")
+    public ResponseEntity<BulkJobResponse> reshard() {
+        BulkJobResponse job = bulkJobService.submitTask("reshard", userResharder::reshard);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(job);
+    }
 }
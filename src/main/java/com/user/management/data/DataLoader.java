@@ -8,16 +8,24 @@ import com.user.management.repository.ProviderRepository;
 import com.user.management.repository.RoleRepository;
 import com.user.management.repository.StatusRepository;
 import com.user.management.repository.UserRepository;
+import com.user.management.service.impl.UserReadModelSynchronizer;
+import com.user.management.shard.ShardContext;
+import com.user.management.shard.UserEmailIndex;
+import com.user.management.shard.UserShardRouter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 데이터 로더 클래스, 서버 시작 시 초기 데이터를 주입합니다.
  * {@link CommandLineRunner} 인터페이스를 구현하여 파라미터로 전달된 문자열 배열을 처리하는 run 메소드를 오버라이드합니다.
+ * 샤딩을 사용하면 기준 데이터는 0 번 shard 에 만든 뒤 나머지 shard 로 복사하고, 관리자 계정은 관리자 ID 의 shard 에 만듭니다.
+ * 관리자 email 도 다른 사용자와 같이 저장하기 전에 {@link UserEmailIndex} 에 등록합니다.
  *
  * @author parksangwon
  */
@@ -26,12 +34,22 @@ import java.time.LocalDateTime;
 public class DataLoader implements CommandLineRunner {
     private static final String ADMIN = "admin";
     private static final String PASSWORD = "admin";
+    private static final String ADMIN_EMAIL = "admin@example.com";
+    private static final String[][] REFERENCE_TABLES = {
+            {"user_status", "status_id", "status_name"},
+            {"user_role", "role_id", "role_name"},
+            {"user_provider", "provider_id", "provider_name"}
+    };
 
     private final StatusRepository statusRepository;
     private final RoleRepository roleRepository;
     private final UserRepository userRepository;
     private final ProviderRepository providerRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserReadModelSynchronizer userReadModelSynchronizer;
+    private final UserShardRouter userShardRouter;
+    private final UserEmailIndex userEmailIndex;
+    private final JdbcTemplate jdbcTemplate;
 
     /**
      * 사용자의 Status, Role 에 대한 초기 데이터를 설정하고, 관리자 계정을 생성합니다.
@@ -74,19 +92,55 @@ public class DataLoader implements CommandLineRunner {
             providerRepository.save(new Provider("Github", "dc25a9cfe0aed9657966"));
         }
 
-        if (!userRepository.existsById(ADMIN)) {
+        for (int shard = 0; shard < userShardRouter.getShardCount(); shard++) {
+            if (shard != ShardContext.DEFAULT_SHARD)
+                copyReferenceData(shard);
+        }
 
-            userRepository.save(User.builder()
-                    .id(ADMIN)
-                    .password(passwordEncoder.encode(PASSWORD))
-                    .name(ADMIN)
-                    .createdAt(LocalDateTime.now()) // 계정 생성 시각
-                    .latestLoginAt(null) //
-                    .email("admin@example.com") // 이메일
-                    .status(statusRepository.getActiveStatus()) // 상태는 'ACTIVE'(활성)
-                    .role(roleRepository.getAdminRole()) // 역할은 'ROLE_ADMIN'(관리자)
-                    .provider(providerRepository.getDefaultProvider())
-                    .build());
+        int adminShard = userShardRouter.shardOf(ADMIN);
+        int previousAdminShard = userShardRouter.previousShardOf(ADMIN);
+        boolean adminExists = ShardContext.callOn(adminShard, () -> userRepository.existsById(ADMIN))
+                || previousAdminShard != adminShard && ShardContext.callOn(previousAdminShard, () -> userRepository.existsById(ADMIN));
+        if (!adminExists) {
+            boolean claimed = userEmailIndex.claim(ADMIN_EMAIL, ADMIN);
+            try {
+                ShardContext.runOn(adminShard, this::createAdmin);
+            } catch (RuntimeException e) {
+                if (claimed)
+                    userEmailIndex.release(ADMIN_EMAIL, ADMIN);
+                throw e;
+            }
+        }
+    }
+
+    private void createAdmin() {
+        userRepository.save(User.builder()
+                .id(ADMIN)
+                .password(passwordEncoder.encode(PASSWORD))
+                .name(ADMIN)
+                .createdAt(LocalDateTime.now()) // 계정 생성 시각
+                .latestLoginAt(null) //
+                .email(ADMIN_EMAIL) // 이메일
+                .status(statusRepository.getActiveStatus()) // 상태는 'ACTIVE'(활성)
+                .role(roleRepository.getAdminRole()) // 역할은 'ROLE_ADMIN'(관리자)
+                .provider(providerRepository.getDefaultProvider())
+                .build());
+        userReadModelSynchronizer.sync(List.of(ADMIN));
+    }
+
+    /**
+     * 0 번 shard 의 기준 데이터를 다른 shard 에 없는 행만 복사합니다.
+     * 기준 엔티티는 2차 캐시에 있으므로 repository 로 저장하면 이미 존재한다고 판단하여 INSERT 되지 않기 때문에 JDBC 로 복사합니다.
+     *
+     * @param shard 복사할 shard 번호
+     */
+    private void copyReferenceData(int shard) {
+        for (String[] table : REFERENCE_TABLES) {
+            List<Object[]> rows = ShardContext.callOn(ShardContext.DEFAULT_SHARD, () -> jdbcTemplate.query(
+                    "SELECT " + table[1] + ", " + table[2] + " FROM " + table[0],
+                    (rs, rowNum) -> new Object[]{rs.getObject(1), rs.getString(2)}));
+            ShardContext.runOn(shard, () -> jdbcTemplate.batchUpdate(
+                    "INSERT IGNORE INTO " + table[0] + " (" + table[1] + ", " + table[2] + ") VALUES (?, ?)", rows));
         }
     }
 }
@@ -0,0 +1,209 @@
+package com.user.management.data;
+
+import com.user.management.entity.Provider;
+import com.user.management.entity.Role;
+import com.user.management.entity.Status;
+import com.user.management.repository.ProviderRepository;
+import com.user.management.repository.RoleRepository;
+import com.user.management.repository.StatusRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Status, Role, Provider 와 같이 거의 변경되지 않는 기준 데이터를 메모리에 보관하는 레지스트리입니다.
+ * {@link DataLoader} 가 초기 데이터를 주입한 뒤(ApplicationReadyEvent) 한 번 적재되며,
+ * 이후에는 DB 조회 없이 엔티티를 반환합니다. 기준 데이터가 변경되면 {@link #refresh()} 를 호출해야 합니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataRegistry {
+    private static final Long ACTIVE_STATUS_ID = 1L;
+    private static final Long INACTIVE_STATUS_ID = 2L;
+    private static final Long DEACTIVATED_STATUS_ID = 3L;
+    private static final Long PENDING_STATUS_ID = 4L;
+    private static final Long ADMIN_ROLE_ID = 1L;
+    private static final Long USER_ROLE_ID = 2L;
+    private static final String DEFAULT_PROVIDER_ID = "Default";
+
+    private final StatusRepository statusRepository;
+    private final RoleRepository roleRepository;
+    private final ProviderRepository providerRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 초기 데이터 주입이 끝난 뒤 기준 데이터를 적재합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    /**
+     * DB 에서 기준 데이터를 다시 읽어 레지스트리를 교체합니다.
+     */
+    public synchronized void refresh() {
+        Map<Long, Status> statuses = statusRepository.findAll().stream()
+                .collect(Collectors.toUnmodifiableMap(Status::getId, Function.identity()));
+        Map<Long, Role> roles = roleRepository.findAll().stream()
+                .collect(Collectors.toUnmodifiableMap(Role::getId, Function.identity()));
+        Map<String, Provider> providers = providerRepository.findAll().stream()
+                .collect(Collectors.toUnmodifiableMap(Provider::getId, Function.identity()));
+        Map<String, Provider> providersByName = providers.values().stream()
+                .collect(Collectors.toUnmodifiableMap(Provider::getName, Function.identity(), (first, second) -> first));
+
+        snapshot = new Snapshot(statuses, roles, providers, providersByName);
+    }
+
+    /**
+     * 일반 회원 상태 (ID = 1)
+     *
+     * @return 일반 회원 상태
+     */
+    public Status getActiveStatus() {
+        return getStatus(ACTIVE_STATUS_ID);
+    }
+
+    /**
+     * 휴면 회원 상태 (ID = 2)
+     *
+     * @return 휴면 회원 상태
+     */
+    public Status getInActiveStatus() {
+        return getStatus(INACTIVE_STATUS_ID);
+    }
+
+    /**
+     * 탈퇴 회원 상태 (ID = 3)
+     *
+     * @return 탈퇴 회원 상태
+     */
+    public Status getDeactivatedStatus() {
+        return getStatus(DEACTIVATED_STATUS_ID);
+    }
+
+    /**
+     * 승인대기 회원 상태 (ID = 4)
+     *
+     * @return 승인대기 회원 상태
+     */
+    public Status getPendingStatus() {
+        return getStatus(PENDING_STATUS_ID);
+    }
+
+    /**
+     * 관리자 역할 (ID = 1)
+     *
+     * @return 관리자 역할
+     */
+    public Role getAdminRole() {
+        return getRole(ADMIN_ROLE_ID);
+    }
+
+    /**
+     * 사용자 역할 (ID = 2)
+     *
+     * @return 사용자 역할
+     */
+    public Role getUserRole() {
+        return getRole(USER_ROLE_ID);
+    }
+
+    /**
+     * "Default" ID 를 가진 기본 Provider
+     *
+     * @return 기본 Provider
+     */
+    public Provider getDefaultProvider() {
+        return snapshot().providers.get(DEFAULT_PROVIDER_ID);
+    }
+
+    /**
+     * ID 에 해당하는 상태를 반환합니다.
+     *
+     * @param id status id
+     * @return 상태, 존재하지 않으면 null
+     */
+    public Status getStatus(Long id) {
+        return snapshot().statuses.get(id);
+    }
+
+    /**
+     * ID 에 해당하는 역할을 반환합니다.
+     *
+     * @param id role id
+     * @return 역할, 존재하지 않으면 null
+     */
+    public Role getRole(Long id) {
+        return snapshot().roles.get(id);
+    }
+
+    /**
+     * 이름이 일치하는 Provider 를 반환합니다.
+     *
+     * @param name Provider 이름
+     * @return 이름이 대응하는 Optional<Provider>
+     */
+    public Optional<Provider> findProviderByName(String name) {
+        return Optional.ofNullable(snapshot().providersByName.get(name));
+    }
+
+    /**
+     * status id 가 존재하는지 확인합니다.
+     *
+     * @param id status id
+     * @return 존재 여부
+     */
+    public boolean existsStatus(Long id) {
+        return id != null && snapshot().statuses.containsKey(id);
+    }
+
+    /**
+     * role id 가 존재하는지 확인합니다.
+     *
+     * @param id role id
+     * @return 존재 여부
+     */
+    public boolean existsRole(Long id) {
+        return id != null && snapshot().roles.containsKey(id);
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null)
+                    refresh();
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private static final class Snapshot {
+        private final Map<Long, Status> statuses;
+        private final Map<Long, Role> roles;
+        private final Map<String, Provider> providers;
+        private final Map<String, Provider> providersByName;
+
+        private Snapshot(Map<Long, Status> statuses,
+                         Map<Long, Role> roles,
+                         Map<String, Provider> providers,
+                         Map<String, Provider> providersByName) {
+            this.statuses = statuses;
+            this.roles = roles;
+            this.providers = providers;
+            this.providersByName = providersByName;
+        }
+    }
+}
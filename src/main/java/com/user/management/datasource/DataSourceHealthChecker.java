@@ -0,0 +1,35 @@
+package com.user.management.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+
+/**
+ * {@link ReadWriteRoutingDataSource} 의 primary 와 replica 상태를 주기적으로 확인합니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+public class DataSourceHealthChecker {
+    private final ReadWriteRoutingDataSource dataSource;
+    private final Duration timeout;
+
+    /**
+     * Instantiates a new Data source health checker.
+     *
+     * @param dataSource 상태를 확인할 routing DataSource
+     * @param timeout    커넥션 검증을 기다리는 최대 시간
+     */
+    public DataSourceHealthChecker(ReadWriteRoutingDataSource dataSource, Duration timeout) {
+        this.dataSource = dataSource;
+        this.timeout = timeout;
+    }
+
+    /**
+     * 각 DataSource 의 커넥션을 검증합니다. 실패한 replica 는 복구될 때까지 읽기 대상에서 제외됩니다.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.routing.health-check-interval-ms:5000}")
+    public void check() {
+        dataSource.checkHealth(timeout);
+    }
+}
@@ -0,0 +1,79 @@
+package com.user.management.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 분리 설정 값을 바인딩하는 클래스입니다. (app.datasource.routing)
+ * 접속 정보가 없는 replica 는 spring.datasource 의 username, password, driver 를 사용합니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class DataSourceRoutingProperties {
+    /**
+     * 분리 사용 여부, 끄면 spring.datasource 하나만 사용합니다.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 읽기 전용 트랜잭션을 보낼 replica 목록
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * replica 마다 유지할 최대 커넥션 수
+     */
+    private int replicaPoolSize = 10;
+
+    /**
+     * 각 DataSource 의 상태를 확인하는 간격(ms)
+     */
+    private long healthCheckIntervalMs = 5_000L;
+
+    /**
+     * 상태 확인과 replica 커넥션 획득을 기다리는 최대 시간, 넘으면 해당 replica 를 사용하지 않고 primary 로 보냅니다.
+     */
+    private Duration healthCheckTimeout = Duration.ofSeconds(1L);
+
+    /**
+     * 사용자가 쓰기 트랜잭션을 커밋한 뒤 그 사용자의 읽기를 primary 로 보내는 시간, 0 이면 사용하지 않습니다.
+     */
+    private Duration stickyWindow = Duration.ZERO;
+
+    /**
+     * sticky 읽기에서 사용자를 구분할 요청 header
+     */
+    private String stickyHeader = "X-USER-ID";
+
+    /**
+     * sticky 읽기를 기억할 최대 사용자 수
+     */
+    private long stickyMaximumSize = 100_000L;
+
+    /**
+     * replica 접속 정보
+     */
+    @Getter
+    @Setter
+    public static class Replica {
+        /**
+         * 로그와 커넥션 풀 이름에 사용할 이름
+         */
+        private String name;
+
+        private String url;
+
+        private String username;
+
+        private String password;
+    }
+}
@@ -0,0 +1,67 @@
+package com.user.management.datasource;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 읽기 전용 트랜잭션도 primary 에서 읽도록 표시합니다.
+ * 캐시를 제거한 쓰기가 아직 복제되지 않은 replica 에서 캐시를 다시 채우면 이전 값이 TTL 동안 남으므로,
+ * 캐시에 저장할 값은 이 표시 안에서 읽습니다. {@link ReadWriteRoutingDataSource} 는 실제 커넥션을 얻는 시점에 표시를 확인하므로,
+ * 이미 replica 커넥션을 가진 트랜잭션 안에서 표시해도 적용되지 않습니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+public final class PrimaryReads {
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    /**
+     * 현재 스레드가 primary 에서 읽도록 표시되어 있는지 확인합니다.
+     *
+     * @return primary 에서 읽어야 하면 true
+     */
+    public static boolean isActive() {
+        return Boolean.TRUE.equals(ACTIVE.get());
+    }
+
+    /**
+     * primary 에서 읽도록 표시한 채 작업을 실행하고, 끝나면 이전 표시로 되돌립니다.
+     *
+     * @param work 실행할 작업
+     * @param <T>  결과 타입
+     * @return 작업 결과
+     * @throws Exception 작업에서 발생한 예외
+     */
+    public static <T> T call(Callable<T> work) throws Exception {
+        Boolean previous = ACTIVE.get();
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return work.call();
+        } finally {
+            if (previous == null)
+                ACTIVE.remove();
+            else
+                ACTIVE.set(previous);
+        }
+    }
+
+    /**
+     * primary 에서 읽도록 표시한 채 작업을 실행합니다.
+     *
+     * @param work 실행할 작업
+     * @param <T>  결과 타입
+     * @return 작업 결과
+     */
+    public static <T> T get(Supplier<T> work) {
+        try {
+            return call(work::get);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
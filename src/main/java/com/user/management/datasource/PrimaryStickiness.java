@@ -0,0 +1,72 @@
+package com.user.management.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.lang.Nullable;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+/**
+ * 쓰기 직후의 읽기가 아직 복제되지 않은 replica 를 읽지 않도록,
+ * 쓰기 트랜잭션을 커밋한 사용자의 읽기를 일정 시간 동안 primary 로 보냅니다.
+ * 사용자는 요청 header(기본 X-USER-ID) 로 구분하며, 요청 밖(스케줄러, 비동기 작업)에서는 적용하지 않습니다.
+ * 기록은 인스턴스 메모리에만 보관합니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+public class PrimaryStickiness {
+    private final String header;
+    private final Cache<String, Boolean> recentWriters;
+
+    /**
+     * Instantiates a new Primary stickiness.
+     *
+     * @param header      사용자를 구분할 요청 header
+     * @param window      쓰기 이후 primary 에서 읽을 시간, 0 이면 사용하지 않습니다.
+     * @param maximumSize 기억할 최대 사용자 수
+     */
+    public PrimaryStickiness(String header, Duration window, long maximumSize) {
+        this.header = header;
+        this.recentWriters = window.isZero() || window.isNegative()
+                ? null
+                : Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * 현재 요청의 사용자가 쓰기를 커밋했음을 기록합니다.
+     */
+    public void recordWrite() {
+        String user = currentUser();
+        if (user != null)
+            recentWriters.put(user, Boolean.TRUE);
+    }
+
+    /**
+     * 현재 요청의 사용자가 최근에 쓰기를 커밋하여 primary 에서 읽어야 하는지 확인합니다.
+     *
+     * @return primary 에서 읽어야 하면 true
+     */
+    public boolean isSticky() {
+        String user = currentUser();
+        return user != null && recentWriters.getIfPresent(user) != null;
+    }
+
+    @Nullable
+    private String currentUser() {
+        if (recentWriters == null)
+            return null;
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes))
+            return null;
+
+        return ((ServletRequestAttributes) attributes).getRequest().getHeader(header);
+    }
+}
@@ -0,0 +1,189 @@
+package com.user.management.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 replica 로, 그 외의 커넥션은 primary 로 보내는 DataSource 입니다.
+ * <p>
+ * 트랜잭션의 readOnly 여부는 트랜잭션이 시작된 뒤에 정해지므로,
+ * 실제 커넥션을 첫 SQL 실행 시점에 얻도록 {@code LazyConnectionDataSourceProxy} 로 감싸서 사용해야 합니다.
+ * replica 는 순서대로 돌아가며 사용하고, 상태 확인에 실패했거나 커넥션을 얻지 못한 replica 는
+ * 다음 상태 확인에서 복구될 때까지 건너뜁니다. 사용할 수 있는 replica 가 없으면 primary 에서 읽습니다.
+ * {@link PrimaryStickiness} 가 최근에 쓰기를 커밋한 사용자로 판단하거나, 캐시에 저장할 값을 읽는 중({@link PrimaryReads})이면
+ * 읽기도 primary 로 보냅니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+    /**
+     * primary DataSource 의 lookup key
+     */
+    public static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final List<String> replicaNames;
+    private final PrimaryStickiness stickiness;
+    private final Set<String> downTargets = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    /**
+     * Instantiates a new Read write routing data source.
+     *
+     * @param primary    쓰기와 읽기 전용이 아닌 커넥션에 사용할 DataSource
+     * @param replicas   이름별 replica DataSource
+     * @param stickiness 쓰기 이후 primary 에서 읽을 사용자 판단
+     */
+    public ReadWriteRoutingDataSource(DataSource primary,
+                                      Map<String, DataSource> replicas,
+                                      PrimaryStickiness stickiness) {
+        if (replicas.containsKey(PRIMARY))
+            throw new IllegalArgumentException("replica 이름으로 " + PRIMARY + " 를 사용할 수 없습니다.");
+
+        this.primary = primary;
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.replicaNames = new ArrayList<>(replicas.keySet());
+        this.stickiness = stickiness;
+
+        Map<Object, Object> targets = new HashMap<>(this.replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * 현재 트랜잭션이 사용할 DataSource 의 key 를 정합니다.
+     * 읽기 전용이 아닌 트랜잭션이면 커밋 이후 sticky 읽기를 기록하도록 등록합니다.
+     *
+     * @return {@link #PRIMARY} 또는 replica 이름
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteAfterCommit();
+            return PRIMARY;
+        }
+        if (PrimaryReads.isActive() || stickiness.isSticky())
+            return PRIMARY;
+
+        int size = replicaNames.size();
+        for (int i = 0; i < size; i++) {
+            String name = replicaNames.get(Math.floorMod(nextReplica.getAndIncrement(), size));
+            if (!downTargets.contains(name))
+                return name;
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * primary 와 각 replica 의 커넥션을 검증하여 사용 가능 여부를 갱신합니다.
+     *
+     * @param timeout 커넥션 검증을 기다리는 최대 시간
+     */
+    public void checkHealth(Duration timeout) {
+        int timeoutSeconds = (int) Math.max(1L, timeout.getSeconds());
+        check(PRIMARY, primary, timeoutSeconds);
+        replicas.forEach((name, dataSource) -> check(name, dataSource, timeoutSeconds));
+    }
+
+    /**
+     * 마지막 상태 확인 기준으로 DataSource 를 사용할 수 있는지 확인합니다.
+     *
+     * @param name {@link #PRIMARY} 또는 replica 이름
+     * @return 사용할 수 있으면 true
+     */
+    public boolean isUp(String name) {
+        return !downTargets.contains(name);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource replica : replicas.values())
+            close(replica);
+        close(primary);
+    }
+
+    private Connection connect(ConnectionOpener opener) throws SQLException {
+        String key = (String) determineCurrentLookupKey();
+        if (PRIMARY.equals(key))
+            return opener.open(primary);
+
+        try {
+            return opener.open(replicas.get(key));
+        } catch (SQLException e) {
+            if (downTargets.add(key))
+                log.warn("replica {} is unavailable, reading from primary until it recovers", key, e);
+            return opener.open(primary);
+        }
+    }
+
+    private void recordWriteAfterCommit() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive())
+            return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stickiness.recordWrite();
+            }
+        });
+    }
+
+    private void check(String name, DataSource dataSource, int timeoutSeconds) {
+        boolean healthy;
+        try (Connection connection = dataSource.getConnection()) {
+            healthy = connection.isValid(timeoutSeconds);
+        } catch (SQLException e) {
+            log.debug("datasource {} health check failed", name, e);
+            healthy = false;
+        }
+
+        if (healthy) {
+            if (downTargets.remove(name))
+                log.info("datasource {} is available again", name);
+        } else if (downTargets.add(name)) {
+            log.warn("datasource {} failed its health check", name);
+        }
+    }
+
+    private void close(DataSource dataSource) throws Exception {
+        if (dataSource instanceof AutoCloseable)
+            ((AutoCloseable) dataSource).close();
+    }
+
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+}
@@ -0,0 +1,41 @@
+package com.user.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 관리자 일괄 처리에서 사용자 한 명의 처리 상태
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkItemResult {
+    private String id;
+    private Status status;
+
+    /**
+     * 처리 상태
+     */
+    public enum Status {
+        /**
+         * 변경됨
+         */
+        CHANGED,
+        /**
+         * 이미 요청한 상태여서 변경되지 않음
+         */
+        UNCHANGED,
+        /**
+         * 존재하지 않는 사용자
+         */
+        NOT_FOUND,
+        /**
+         * 처리 중 오류가 발생하여 반영되지 않음
+         */
+        FAILED
+    }
+}
@@ -0,0 +1,83 @@
+package com.user.management.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 관리자 일괄 처리 작업(job)의 진행 상태
+ * 작업을 실행하는 노드가 청크를 처리할 때마다 Redis 에 기록하므로 어느 노드에서든 같은 상태를 조회할 수 있습니다.
+ * changed, unchanged, missing, failed 에는 지금까지 처리한 청크의 결과가 누적되며, 조회할 때 채워집니다.
+ * 청크로 나누지 않는 작업(재분배 등)은 끝난 뒤 작업의 결과를 result 에 담습니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkJobResponse {
+    private String jobId;
+    private String operation;
+    private JobStatus status;
+    private int total;
+    private int processed;
+    private boolean cancelRequested;
+    private List<String> changed = new ArrayList<>();
+    private List<String> unchanged = new ArrayList<>();
+    private List<String> missing = new ArrayList<>();
+    private List<String> failed = new ArrayList<>();
+    private String failureMessage;
+    private Object result;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    /**
+     * 대기 중인 작업을 생성합니다.
+     *
+     * @param jobId     작업 ID
+     * @param operation 작업 종류 (promote, permit, reject-delete, delete, reshard)
+     * @param total     처리할 사용자 수, 청크로 나누지 않는 작업은 1
+     * @return 대기 상태의 작업
+     */
+    public static BulkJobResponse queued(String jobId, String operation, int total) {
+        BulkJobResponse job = new BulkJobResponse();
+        job.setJobId(jobId);
+        job.setOperation(operation);
+        job.setStatus(JobStatus.QUEUED);
+        job.setTotal(total);
+        job.setCreatedAt(LocalDateTime.now());
+        job.setUpdatedAt(job.getCreatedAt());
+        return job;
+    }
+
+    /**
+     * 작업 상태
+     */
+    public enum JobStatus {
+        /**
+         * 실행을 기다리는 중
+         */
+        QUEUED,
+        /**
+         * 청크를 처리하는 중
+         */
+        RUNNING,
+        /**
+         * 모든 청크를 처리함, 실패한 청크가 있으면 failed 에 표시됨
+         */
+        COMPLETED,
+        /**
+         * 취소 요청으로 남은 청크를 처리하지 않고 종료함
+         */
+        CANCELLED,
+        /**
+         * 청크 처리 밖에서 예상하지 못한 오류가 발생하여 중단됨
+         */
+        FAILED
+    }
+}
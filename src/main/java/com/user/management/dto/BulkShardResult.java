@@ -0,0 +1,24 @@
+package com.user.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여러 shard 에 걸친 관리자 일괄 처리에서 shard 하나의 처리 결과
+ * shard 마다 별도의 트랜잭션으로 처리되므로, 한 shard 가 롤백되어도 다른 shard 의 변경은 커밋된 채로 남습니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkShardResult {
+    private int shard;
+    private boolean committed;
+    private List<String> userIds;
+    private String failureMessage;
+}
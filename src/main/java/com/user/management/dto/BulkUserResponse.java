@@ -0,0 +1,84 @@
+package com.user.management.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 관리자 일괄 처리 결과
+ * 요청한 사용자 ID 를 변경됨, 이미 요청한 상태여서 변경되지 않음, 존재하지 않음, 실패로 나누어 반환하며,
+ * items 에는 사용자 ID 마다 처리 상태를 담습니다.
+ * 요청한 사용자가 여러 shard 에 나뉘어 있으면 shard 마다 별도의 트랜잭션으로 처리되어 요청 전체가 하나로 커밋되지 않으므로,
+ * shards 에 shard 별 사용자 ID 와 커밋 여부를 담습니다. 하나의 트랜잭션으로 처리된 요청이면 shards 는 null 입니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(value = "items", allowGetters = true)
+public class BulkUserResponse {
+    private List<String> changed = List.of();
+    private List<String> unchanged = List.of();
+    private List<String> missing = List.of();
+    private List<String> failed = List.of();
+    private String failureMessage;
+    private List<BulkShardResult> shards;
+
+    /**
+     * 처리 결과를 생성합니다.
+     *
+     * @param changed        변경된 사용자 ID
+     * @param unchanged      변경되지 않은 사용자 ID
+     * @param missing        존재하지 않는 사용자 ID
+     * @param failed         실패한 사용자 ID
+     * @param failureMessage 실패 사유
+     */
+    public BulkUserResponse(List<String> changed, List<String> unchanged, List<String> missing,
+                            List<String> failed, String failureMessage) {
+        this(changed, unchanged, missing, failed, failureMessage, null);
+    }
+
+    /**
+     * 실패 없이 처리된 결과를 생성합니다.
+     *
+     * @param changed   변경된 사용자 ID
+     * @param unchanged 변경되지 않은 사용자 ID
+     * @param missing   존재하지 않는 사용자 ID
+     */
+    public BulkUserResponse(List<String> changed, List<String> unchanged, List<String> missing) {
+        this(changed, unchanged, missing, List.of(), null, null);
+    }
+
+    /**
+     * 일괄 처리 전체가 실패(롤백)한 결과를 생성합니다.
+     *
+     * @param userIds        요청한 사용자 ID
+     * @param failureMessage 실패 사유
+     * @return 모든 사용자가 실패로 표시된 결과
+     */
+    public static BulkUserResponse failed(List<String> userIds, String failureMessage) {
+        return new BulkUserResponse(List.of(), List.of(), List.of(), userIds, failureMessage);
+    }
+
+    /**
+     * 사용자 ID 별 처리 상태를 반환합니다.
+     *
+     * @return 사용자 ID 별 처리 상태
+     */
+    public List<BulkItemResult> getItems() {
+        List<BulkItemResult> items = new ArrayList<>();
+        changed.forEach(id -> items.add(new BulkItemResult(id, BulkItemResult.Status.CHANGED)));
+        unchanged.forEach(id -> items.add(new BulkItemResult(id, BulkItemResult.Status.UNCHANGED)));
+        missing.forEach(id -> items.add(new BulkItemResult(id, BulkItemResult.Status.NOT_FOUND)));
+        failed.forEach(id -> items.add(new BulkItemResult(id, BulkItemResult.Status.FAILED)));
+        return items;
+    }
+}
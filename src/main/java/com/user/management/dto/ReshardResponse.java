@@ -0,0 +1,24 @@
+package com.user.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 재분배 결과
+ * conflicts 는 새 위치에 생성 시각이 다른 같은 ID 또는 같은 email 의 사용자가 있어 옮기지 못한 수이며,
+ * failed 는 오류로 옮기지 못해 다음 실행에서 다시 시도해야 하는 수입니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReshardResponse {
+    private int passes;
+    private long scanned;
+    private long moved;
+    private long conflicts;
+    private long failed;
+}
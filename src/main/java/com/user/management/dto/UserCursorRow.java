@@ -0,0 +1,29 @@
+package com.user.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * keyset 페이지네이션 조회 결과 한 행입니다.
+ * 응답 정보와 함께 다음 커서를 만들기 위한 생성 시각을 담습니다. 읽기 모델에는 비밀번호가 없으므로 담지 않습니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Getter
+@AllArgsConstructor
+public class UserCursorRow {
+    private String id;
+    private String name;
+    private String email;
+    private String roleName;
+    private String statusName;
+    private String provider;
+    private LocalDateTime createdAt;
+
+    public UserDataResponse toResponse() {
+        return new UserDataResponse(id, name, email, roleName, statusName, provider);
+    }
+}
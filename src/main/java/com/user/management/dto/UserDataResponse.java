@@ -23,4 +23,18 @@ public class UserDataResponse {
     private String statusName;
     private String password;
     private String provider;
+
+    /**
+     * 비밀번호 없이 생성합니다. 비밀번호를 보관하지 않는 읽기 모델 조회에서 사용합니다.
+     *
+     * @param id         사용자 ID
+     * @param name       이름
+     * @param email      이메일
+     * @param roleName   권한 이름
+     * @param statusName 상태 이름
+     * @param provider   provider ID
+     */
+    public UserDataResponse(String id, String name, String email, String roleName, String statusName, String provider) {
+        this(id, name, email, roleName, statusName, null, provider);
+    }
 }
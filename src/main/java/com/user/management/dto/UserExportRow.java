@@ -0,0 +1,22 @@
+package com.user.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 내보내기 조회 결과 한 행입니다.
+ * 내보내는 열만 조회하며 비밀번호는 포함하지 않습니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Getter
+@AllArgsConstructor
+public class UserExportRow {
+    private String id;
+    private String name;
+    private String email;
+    private String roleName;
+    private String statusName;
+    private String provider;
+}
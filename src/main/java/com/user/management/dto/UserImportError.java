@@ -0,0 +1,20 @@
+package com.user.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 가져오기에서 반영되지 않은 행의 정보
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportError {
+    private long line; // 파일에서의 행 번호 (CSV 헤더 포함, 1부터 시작)
+    private String id;
+    private String reason;
+}
@@ -0,0 +1,25 @@
+package com.user.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사용자 가져오기 결과
+ * errors 는 최대 개수까지만 담고, 넘는 경우 errorsTruncated 가 true 가 됩니다. failed 는 전체 실패 행 수입니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportResponse {
+    private long total;
+    private long imported;
+    private long failed;
+    private List<UserImportError> errors;
+    private boolean errorsTruncated;
+}
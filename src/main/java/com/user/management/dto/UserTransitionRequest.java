@@ -0,0 +1,42 @@
+package com.user.management.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.Positive;
+import java.time.LocalDateTime;
+
+/**
+ * 조건에 맞는 사용자의 상태 또는 권한을 한 번에 변경하는 요청
+ * 조건(statusId, roleId, providerId, createdFrom ~ createdTo)은 지정한 것만 AND 로 적용되고 하나 이상 지정해야 하며,
+ * 변경할 상태(targetStatusId)와 권한(targetRoleId) 중 하나만 지정해야 합니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserTransitionRequest {
+    private Long statusId;
+    private Long roleId;
+    private String providerId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime createdFrom; // 포함
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime createdTo; // 미포함
+
+    private Long targetStatusId;
+    private Long targetRoleId;
+
+    private boolean dryRun;
+
+    @Positive
+    private Integer maxRows;
+}
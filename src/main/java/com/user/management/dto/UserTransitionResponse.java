@@ -0,0 +1,21 @@
+package com.user.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 조건 기반 일괄 변경 결과
+ * dryRun 이면 matched 에 변경 대상 수만 담고 아무것도 변경하지 않습니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserTransitionResponse {
+    private boolean dryRun;
+    private long matched;
+    private int updated;
+}
@@ -4,16 +4,21 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 
 /**
  * user status entity class
+ * 실행 중에 변경되지 않으므로 읽기 전용 2차 캐시에 보관합니다.
  *
  * @author parksangwon
  * @version 1.0.0
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "reference.status")
 @Getter
 @Table(name = "user_status")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -2,23 +2,39 @@ package com.user.management.entity;
 
 import com.user.management.dto.UserDataResponse;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
 
 /**
  * user entity class
+ * id 를 직접 할당하므로 {@link Persistable} 로 새 엔티티 여부를 알려 save 시 merge 를 위한 SELECT 없이 INSERT 합니다.
+ * 변경은 영속 상태의 엔티티에 변경 메서드를 호출하여 dirty checking 으로 반영하며, UPDATE 문에는 변경된 컬럼만 포함됩니다.
+ * 연관 관계는 모두 지연 로딩이며, 필요한 연관은 {@code UserRepository} 의 entity graph 조회 메서드로 함께 가져옵니다.
  *
  * @author parksangwon
  * @version 1.0.0
  */
 @Entity
 @Getter
-@Builder(toBuilder = true)
-@AllArgsConstructor
+@DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "users")
-public class User {
+@Table(name = "users",
+        uniqueConstraints = @UniqueConstraint(name = User.EMAIL_UNIQUE_KEY, columnNames = "user_email"),
+        indexes = {
+                @Index(name = "idx_users_created_at_user_id", columnList = "created_at, user_id"),
+                @Index(name = "idx_users_status_created_at", columnList = "status_id, created_at, user_id"),
+                @Index(name = "idx_users_role_created_at", columnList = "role_id, created_at, user_id"),
+                @Index(name = "idx_users_latest_login_at", columnList = "latest_login_at")
+        })
+public class User implements Persistable<String> {
+    /**
+     * email unique 제약 이름, 제약 위반을 {@code AlreadyExistEmailException} 으로 변환할 때 사용합니다.
+     */
+    public static final String EMAIL_UNIQUE_KEY = "uk_users_email";
+
     @Id
     @Column(name = "user_id")
     private String id;
@@ -32,15 +48,15 @@ public class User {
     @Column(name = "user_email")
     private String email; // 이메일
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "role_id")
     private Role role;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "status_id")
     private Status status;
 
-    @OneToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "provider_id")
     private Provider provider;
 
@@ -50,6 +66,79 @@ public class User {
     @Column(name = "latest_login_at")
     private LocalDateTime latestLoginAt; // 마지막 접속일
 
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted; // DB 에서 읽었거나 저장된 엔티티인지 여부
+
+    /**
+     * Instantiates a new User.
+     *
+     * @param id            the id
+     * @param name          the name
+     * @param password      the password
+     * @param email         the email
+     * @param role          the role
+     * @param status        the status
+     * @param provider      the provider
+     * @param createdAt     the created at
+     * @param latestLoginAt the latest login at
+     */
+    @Builder(toBuilder = true)
+    public User(String id, String name, String password, String email, Role role, Status status,
+                Provider provider, LocalDateTime createdAt, LocalDateTime latestLoginAt) {
+        this.id = id;
+        this.name = name;
+        this.password = password;
+        this.email = email;
+        this.role = role;
+        this.status = status;
+        this.provider = provider;
+        this.createdAt = createdAt;
+        this.latestLoginAt = latestLoginAt;
+    }
+
+    /**
+     * 상태를 변경합니다.
+     *
+     * @param status 변경할 상태
+     */
+    public void changeStatus(Status status) {
+        this.status = status;
+    }
+
+    /**
+     * 권한을 변경합니다.
+     *
+     * @param role 변경할 권한
+     */
+    public void changeRole(Role role) {
+        this.role = role;
+    }
+
+    /**
+     * 사용자가 수정할 수 있는 정보를 변경합니다.
+     *
+     * @param name            이름
+     * @param email           이메일
+     * @param encodedPassword 해싱된 비밀번호
+     */
+    public void updateProfile(String name, String email, String encodedPassword) {
+        this.name = name;
+        this.email = email;
+        this.password = encodedPassword;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+
     public UserDataResponse toEntity() {
         return UserDataResponse.builder()
                 .id(id)
@@ -60,4 +149,4 @@ public class User {
                 .password(password)
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,60 @@
+package com.user.management.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 목록 조회용 사용자 읽기 모델
+ * 권한, 상태 이름을 함께 보관하므로 목록 조회에 join 이 필요하지 않습니다. 비밀번호는 보관하지 않습니다.
+ * 엔티티로는 읽기만 하며, 행은 {@code UserReadModelSynchronizer} 가 users 테이블에서 복사하여 갱신합니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Entity
+@Getter
+@Immutable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "user_read_model", indexes = {
+        @Index(name = "idx_user_read_model_created_at", columnList = "created_at, user_id"),
+        @Index(name = "idx_user_read_model_status", columnList = "status_id, created_at, user_id"),
+        @Index(name = "idx_user_read_model_role", columnList = "role_id, created_at, user_id")
+})
+public class UserReadModel {
+    @Id
+    @Column(name = "user_id")
+    private String id;
+
+    @Column(name = "user_name")
+    private String name;
+
+    @Column(name = "user_email")
+    private String email;
+
+    @Column(name = "role_id")
+    private Long roleId;
+
+    @Column(name = "role_name")
+    private String roleName;
+
+    @Column(name = "status_id")
+    private Long statusId;
+
+    @Column(name = "status_name")
+    private String statusName;
+
+    @Column(name = "provider_id")
+    private String providerId;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+}
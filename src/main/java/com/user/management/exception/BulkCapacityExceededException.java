@@ -0,0 +1,16 @@
+package com.user.management.exception;
+
+/**
+ * 관리자 일괄 처리 executor 의 대기열이 가득 차 요청을 받을 수 없을 때 발생하는 예외 클래스
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+public class BulkCapacityExceededException extends RuntimeException {
+    /**
+     * 예외 기본 생성자
+     */
+    public BulkCapacityExceededException() {
+        super("일괄 처리 요청이 많아 지금은 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+    }
+}
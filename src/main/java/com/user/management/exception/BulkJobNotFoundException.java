@@ -0,0 +1,18 @@
+package com.user.management.exception;
+
+/**
+ * 존재하지 않거나 보관 기간이 지난 일괄 처리 작업을 조회할 때 발생하는 예외 클래스
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+public class BulkJobNotFoundException extends RuntimeException {
+    /**
+     * 예외 생성자
+     *
+     * @param jobId 작업 ID
+     */
+    public BulkJobNotFoundException(String jobId) {
+        super(jobId + "는 존재하지 않는 작업 ID 입니다.");
+    }
+}
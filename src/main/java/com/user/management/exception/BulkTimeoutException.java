@@ -0,0 +1,17 @@
+package com.user.management.exception;
+
+/**
+ * 관리자 일괄 처리가 제한 시간 안에 끝나지 않았을 때 발생하는 예외 클래스
+ * 처리는 백그라운드에서 계속되어 커밋될 수 있으므로, 결과는 사용자 목록에서 다시 확인해야 합니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+public class BulkTimeoutException extends RuntimeException {
+    /**
+     * 예외 기본 생성자
+     */
+    public BulkTimeoutException() {
+        super("일괄 처리가 제한 시간 안에 끝나지 않았습니다. 처리가 계속 진행될 수 있으니 잠시 후 결과를 확인해 주세요.");
+    }
+}
@@ -0,0 +1,25 @@
+package com.user.management.exception;
+
+/**
+ * 페이지 커서를 해석할 수 없을 때 발생하는 예외 클래스
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+public class InvalidCursorException extends RuntimeException {
+    /**
+     * 예외 기본 생성자
+     */
+    public InvalidCursorException() {
+        super();
+    }
+
+    /**
+     * 메시지를 가지는 예외 생성자
+     *
+     * @param message 예외 메시지
+     */
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,25 @@
+package com.user.management.exception;
+
+/**
+ * 조건 기반 일괄 변경 요청이 올바르지 않거나 변경 대상이 최대 행 수를 넘을 때 발생하는 예외 클래스
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+public class InvalidUserTransitionException extends RuntimeException {
+    /**
+     * 예외 기본 생성자
+     */
+    public InvalidUserTransitionException() {
+        super();
+    }
+
+    /**
+     * 메시지를 가지는 예외 생성자
+     *
+     * @param message 예외 메시지
+     */
+    public InvalidUserTransitionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,22 @@
+package com.user.management.page;
+
+/**
+ * 페이지 조회 시 전체 개수(totalElements)를 구하는 방식입니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+public enum CountStrategy {
+    /**
+     * 매 요청마다 count 쿼리로 정확한 개수를 구합니다.
+     */
+    EXACT,
+    /**
+     * 필터별로 캐싱한 개수를 사용합니다. 사용자 추가, 삭제, 상태/권한 변경 시 무효화됩니다.
+     */
+    CACHED,
+    /**
+     * 테이블 통계(information_schema, EXPLAIN)로 추정한 개수를 사용합니다.
+     */
+    ESTIMATED
+}
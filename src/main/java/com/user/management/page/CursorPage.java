@@ -0,0 +1,33 @@
+package com.user.management.page;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * keyset 페이지네이션 응답 클래스
+ * 다음 페이지는 next 커서로 요청하며, 전체 개수는 요청한 경우에만 포함됩니다.
+ *
+ * @param <T> page 내부 content에 담을 클래스
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPage<T> {
+    /**
+     * 한 번에 요청할 수 있는 최대 항목 수
+     */
+    public static final int MAX_SIZE = 100;
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String next;
+    private Long totalElements;
+}
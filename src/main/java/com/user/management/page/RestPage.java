@@ -18,6 +18,8 @@ import java.util.List;
  */
 @JsonIgnoreProperties(ignoreUnknown = true, value = {"pageable"})
 public class RestPage<T> extends PageImpl<T> {
+    private final CountStrategy countStrategy;
+
     /**
      * Instantiates a new Rest page.
      *
@@ -26,12 +28,27 @@ public class RestPage<T> extends PageImpl<T> {
      * @param size    the size
      * @param total   the total
      */
+    public RestPage(List<T> content, int page, int size, long total) {
+        this(content, page, size, total, null);
+    }
+
+    /**
+     * Instantiates a new Rest page.
+     *
+     * @param content       the content
+     * @param page          the page
+     * @param size          the size
+     * @param total         the total
+     * @param countStrategy total 을 구한 방식
+     */
     @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
     public RestPage(@JsonProperty("content") List<T> content,
                     @JsonProperty("number") int page,
                     @JsonProperty("size") int size,
-                    @JsonProperty("totalElements") long total) {
+                    @JsonProperty("totalElements") long total,
+                    @JsonProperty("countStrategy") CountStrategy countStrategy) {
         super(content, PageRequest.of(page, size), total);
+        this.countStrategy = countStrategy;
     }
 
     /**
@@ -40,6 +57,26 @@ public class RestPage<T> extends PageImpl<T> {
      * @param page the page
      */
     public RestPage(Page<T> page) {
+        this(page, null);
+    }
+
+    /**
+     * Instantiates a new Rest page.
+     *
+     * @param page          the page
+     * @param countStrategy total 을 구한 방식
+     */
+    public RestPage(Page<T> page, CountStrategy countStrategy) {
         super(page.getContent(), page.getPageable(), page.getTotalElements());
+        this.countStrategy = countStrategy;
+    }
+
+    /**
+     * total 을 구한 방식을 반환합니다.
+     *
+     * @return count strategy, 알 수 없으면 null
+     */
+    public CountStrategy getCountStrategy() {
+        return countStrategy;
     }
 }
@@ -0,0 +1,77 @@
+package com.user.management.page;
+
+import com.user.management.exception.InvalidCursorException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 사용자 목록 keyset 페이지네이션의 위치 (created_at, user_id) 입니다.
+ * 클라이언트에는 Base64(URL safe) 로 인코딩된 불투명한 문자열로 전달됩니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserCursor {
+    /**
+     * 첫 페이지 위치. 모든 created_at 보다 앞선 값입니다.
+     */
+    public static final UserCursor FIRST = new UserCursor(LocalDateTime.of(1970, 1, 1, 0, 0), "");
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final String id;
+
+    /**
+     * 마지막으로 반환한 사용자 위치로 커서를 생성합니다.
+     *
+     * @param createdAt 사용자 생성 시각
+     * @param id        사용자 ID
+     * @return 커서
+     */
+    public static UserCursor of(LocalDateTime createdAt, String id) {
+        return new UserCursor(createdAt, id);
+    }
+
+    /**
+     * 문자열 커서를 해석합니다. 비어 있으면 첫 페이지 위치를 반환합니다.
+     *
+     * @param cursor 인코딩된 커서
+     * @return 커서
+     * @throws InvalidCursorException 커서 형식이 올바르지 않은 경우
+     */
+    public static UserCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank())
+            return FIRST;
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0)
+                throw new InvalidCursorException("올바르지 않은 커서입니다.");
+
+            return new UserCursor(LocalDateTime.parse(decoded.substring(0, separator)), decoded.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("올바르지 않은 커서입니다.");
+        }
+    }
+
+    /**
+     * 커서를 문자열로 인코딩합니다.
+     *
+     * @return 인코딩된 커서
+     */
+    public String encode() {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((createdAt + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,9 +2,13 @@ package com.user.management.repository;
 
 import com.user.management.entity.Provider;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 /**
  * Provider 엔티티 인스턴스를 관리하기 위한 레포지토리입니다.
  *
@@ -15,10 +19,12 @@ public interface ProviderRepository extends JpaRepository<Provider, String> {
 
     /**
      * 제공된 이름과 일치하는 Provider를 검색합니다.
+     * 결과는 Hibernate 쿼리 캐시에 보관되며, user_provider 테이블이 변경되면 무효화됩니다.
      *
      * @param name 검색하고자 하는 Provider의 이름.
      * @return 이름이 대응하는 Optional<Provider>.
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<Provider> findByName(String name);
 
     /**
@@ -0,0 +1,184 @@
+package com.user.management.repository;
+
+import com.user.management.dto.UserCursorRow;
+import com.user.management.dto.UserDataResponse;
+import com.user.management.dto.UserExportRow;
+import com.user.management.entity.UserReadModel;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+/**
+ * 관리자 목록 조회용 사용자 읽기 모델(user_read_model)의 레포지터리입니다.
+ * 목록 조회, 개수, 내보내기는 user_read_model 한 테이블만 읽습니다. 갱신은 {@code UserReadModelSynchronizer} 가 담당합니다.
+ * 재분배 중 새 shard 에 복사만 된 사용자는 읽기 모델 행이 없으므로, 모든 shard 를 합쳐도 사용자마다 한 행만 읽습니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+public interface UserReadModelRepository extends JpaRepository<UserReadModel, String> {
+
+    /**
+     * 모든 사용자 정보를 count 쿼리 없이 페이지 범위만큼 조회합니다.
+     *
+     * @param pageable 페이징 정보
+     * @return 사용자 정보 리스트
+     */
+    @Query("SELECT new com.user.management.dto.UserDataResponse(m.id, m.name, m.email, m.roleName, m.statusName, m.providerId) FROM UserReadModel m")
+    List<UserDataResponse> getAllUserDataList(Pageable pageable);
+
+    /**
+     * 상태가 일치하는 사용자 정보를 count 쿼리 없이 페이지 범위만큼 조회합니다.
+     *
+     * @param pageable 페이징 정보
+     * @param id       status id
+     * @return 사용자 정보 리스트
+     */
+    @Query("SELECT new com.user.management.dto.UserDataResponse(m.id, m.name, m.email, m.roleName, m.statusName, m.providerId) FROM UserReadModel m WHERE m.statusId = :id")
+    List<UserDataResponse> getUsersFilteredByStatusIdList(Pageable pageable, @Param("id") Long id);
+
+    /**
+     * 권한이 일치하는 사용자 정보를 count 쿼리 없이 페이지 범위만큼 조회합니다.
+     *
+     * @param pageable 페이징 정보
+     * @param id       role id
+     * @return 사용자 정보 리스트
+     */
+    @Query("SELECT new com.user.management.dto.UserDataResponse(m.id, m.name, m.email, m.roleName, m.statusName, m.providerId) FROM UserReadModel m WHERE m.roleId = :id")
+    List<UserDataResponse> getUsersFilteredByRoleIdList(Pageable pageable, @Param("id") Long id);
+
+    /**
+     * (createdAt, id) 위치 이후의 사용자 정보를 생성 순서대로 조회합니다. (keyset 방식)
+     *
+     * @param createdAt 이전 페이지 마지막 사용자의 생성 시각
+     * @param id        이전 페이지 마지막 사용자 ID
+     * @param pageable  조회할 개수
+     * @return 사용자 정보 리스트
+     */
+    @Query("SELECT new com.user.management.dto.UserCursorRow(m.id, m.name, m.email, m.roleName, m.statusName, m.providerId, m.createdAt) FROM UserReadModel m WHERE (m.createdAt > :createdAt OR (m.createdAt = :createdAt AND m.id > :id)) ORDER BY m.createdAt, m.id")
+    List<UserCursorRow> getUserDataAfter(@Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") String id,
+                                         Pageable pageable);
+
+    /**
+     * 상태가 일치하는 사용자 중 (createdAt, id) 위치 이후의 사용자 정보를 생성 순서대로 조회합니다. (keyset 방식)
+     *
+     * @param statusId  status id
+     * @param createdAt 이전 페이지 마지막 사용자의 생성 시각
+     * @param id        이전 페이지 마지막 사용자 ID
+     * @param pageable  조회할 개수
+     * @return 사용자 정보 리스트
+     */
+    @Query("SELECT new com.user.management.dto.UserCursorRow(m.id, m.name, m.email, m.roleName, m.statusName, m.providerId, m.createdAt) FROM UserReadModel m WHERE m.statusId = :statusId AND (m.createdAt > :createdAt OR (m.createdAt = :createdAt AND m.id > :id)) ORDER BY m.createdAt, m.id")
+    List<UserCursorRow> getUserDataByStatusIdAfter(@Param("statusId") Long statusId,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") String id,
+                                                   Pageable pageable);
+
+    /**
+     * 권한이 일치하는 사용자 중 (createdAt, id) 위치 이후의 사용자 정보를 생성 순서대로 조회합니다. (keyset 방식)
+     *
+     * @param roleId    role id
+     * @param createdAt 이전 페이지 마지막 사용자의 생성 시각
+     * @param id        이전 페이지 마지막 사용자 ID
+     * @param pageable  조회할 개수
+     * @return 사용자 정보 리스트
+     */
+    @Query("SELECT new com.user.management.dto.UserCursorRow(m.id, m.name, m.email, m.roleName, m.statusName, m.providerId, m.createdAt) FROM UserReadModel m WHERE m.roleId = :roleId AND (m.createdAt > :createdAt OR (m.createdAt = :createdAt AND m.id > :id)) ORDER BY m.createdAt, m.id")
+    List<UserCursorRow> getUserDataByRoleIdAfter(@Param("roleId") Long roleId,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") String id,
+                                                 Pageable pageable);
+
+    /**
+     * 모든 사용자의 내보낼 정보를 가입 시각, user_id 순서로 한 행씩 읽는 stream 을 반환합니다. (내보내기용)
+     * idx_user_read_model_created_at 순서대로 읽으므로 정렬 없이 첫 행부터 바로 전달됩니다.
+     * MySQL 드라이버가 결과를 한 번에 적재하지 않도록 fetch size 를 Integer.MIN_VALUE 로 지정하며,
+     * 호출하는 쪽의 읽기 전용 트랜잭션 안에서 사용하고 다 읽은 뒤 닫아야 합니다.
+     * 선택적인 조건을 하나의 쿼리에 넣으면 인덱스를 고를 수 없으므로 조건 조합마다 쿼리를 나눕니다.
+     *
+     * @return 사용자 정보 stream
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HINT_READONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new com.user.management.dto.UserExportRow(m.id, m.name, m.email, m.roleName, m.statusName, m.providerId) FROM UserReadModel m ORDER BY m.createdAt, m.id")
+    Stream<UserExportRow> streamUserData();
+
+    /**
+     * 상태가 일치하는 사용자의 내보낼 정보를 가입 시각, user_id 순서로 한 행씩 읽는 stream 을 반환합니다. (내보내기용)
+     * idx_user_read_model_status 을 사용합니다.
+     *
+     * @param statusId status id
+     * @return 사용자 정보 stream
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HINT_READONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new com.user.management.dto.UserExportRow(m.id, m.name, m.email, m.roleName, m.statusName, m.providerId) FROM UserReadModel m WHERE m.statusId = :statusId ORDER BY m.createdAt, m.id")
+    Stream<UserExportRow> streamUserDataByStatusId(@Param("statusId") Long statusId);
+
+    /**
+     * 권한이 일치하는 사용자의 내보낼 정보를 가입 시각, user_id 순서로 한 행씩 읽는 stream 을 반환합니다. (내보내기용)
+     * idx_user_read_model_role 을 사용합니다.
+     *
+     * @param roleId role id
+     * @return 사용자 정보 stream
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HINT_READONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new com.user.management.dto.UserExportRow(m.id, m.name, m.email, m.roleName, m.statusName, m.providerId) FROM UserReadModel m WHERE m.roleId = :roleId ORDER BY m.createdAt, m.id")
+    Stream<UserExportRow> streamUserDataByRoleId(@Param("roleId") Long roleId);
+
+    /**
+     * 상태와 권한이 모두 일치하는 사용자의 내보낼 정보를 가입 시각, user_id 순서로 한 행씩 읽는 stream 을 반환합니다. (내보내기용)
+     * idx_user_read_model_status 으로 읽고 권한은 행마다 거릅니다.
+     *
+     * @param statusId status id
+     * @param roleId   role id
+     * @return 사용자 정보 stream
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HINT_READONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new com.user.management.dto.UserExportRow(m.id, m.name, m.email, m.roleName, m.statusName, m.providerId) FROM UserReadModel m WHERE m.statusId = :statusId AND m.roleId = :roleId ORDER BY m.createdAt, m.id")
+    Stream<UserExportRow> streamUserDataByStatusIdAndRoleId(@Param("statusId") Long statusId, @Param("roleId") Long roleId);
+
+    /**
+     * 상태가 일치하는 사용자 수를 반환합니다.
+     *
+     * @param statusId status id
+     * @return 사용자 수
+     */
+    @Query("SELECT count(m) FROM UserReadModel m WHERE m.statusId = :statusId")
+    long countByStatusId(@Param("statusId") Long statusId);
+
+    /**
+     * 권한이 일치하는 사용자 수를 반환합니다.
+     *
+     * @param roleId role id
+     * @return 사용자 수
+     */
+    @Query("SELECT count(m) FROM UserReadModel m WHERE m.roleId = :roleId")
+    long countByRoleId(@Param("roleId") Long roleId);
+}
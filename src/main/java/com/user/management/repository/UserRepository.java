@@ -2,13 +2,22 @@ package com.user.management.repository;
 
 import com.user.management.dto.UserDataResponse;
 import com.user.management.entity.Role;
+import com.user.management.entity.Status;
 import com.user.management.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -17,7 +26,34 @@ import java.util.Optional;
  * @author jjunho50
  * @version 1.0.0
  */
-public interface UserRepository extends JpaRepository<User, String> {
+public interface UserRepository extends JpaRepository<User, String>, UserTransitionRepository {
+
+    /**
+     * 사용자를 권한, 상태와 함께 조회합니다. (로그인)
+     *
+     * @param id 사용자 ID
+     * @return 사용자
+     */
+    @EntityGraph(attributePaths = {"role", "status"})
+    Optional<User> findWithRoleAndStatusById(String id);
+
+    /**
+     * 사용자를 권한과 함께 조회합니다. 상태만 변경하는 경우에 사용합니다.
+     *
+     * @param id 사용자 ID
+     * @return 사용자
+     */
+    @EntityGraph(attributePaths = "role")
+    Optional<User> findWithRoleById(String id);
+
+    /**
+     * 사용자를 상태와 함께 조회합니다. 권한만 변경하는 경우에 사용합니다.
+     *
+     * @param id 사용자 ID
+     * @return 사용자
+     */
+    @EntityGraph(attributePaths = "status")
+    Optional<User> findWithStatusById(String id);
 
     /**
      * 주어진 ID에 해당하는 사용자의 Role 을 조회합니다.
@@ -71,4 +107,123 @@ public interface UserRepository extends JpaRepository<User, String> {
      */
     @Query("SELECT u FROM User u WHERE u.email = :email")
     Optional<User> getByEmail(@Param("email") String email);
-}
\ No newline at end of file
+
+    /**
+     * 휴면 전환 대상 사용자의 ID를 user_id 순서로 lastId 이후부터 조회합니다. (keyset 방식)
+     * 재분배 중 다른 shard 에서 복사해 온 행은 읽기 모델 행이 없으므로 제외합니다.
+     *
+     * @param threshold      마지막 로그인 기준 시간
+     * @param adminRoleId    제외할 관리자 role id
+     * @param activeStatusId 대상이 되는 활성 status id
+     * @param lastId         이전 chunk 의 마지막 사용자 ID
+     * @param pageable       chunk 크기
+     * @return 사용자 ID 리스트
+     */
+    @Query("SELECT u.id FROM User u WHERE u.latestLoginAt < :threshold AND u.role.id <> :adminRoleId AND u.status.id = :activeStatusId AND u.id > :lastId "
+            + "AND EXISTS (SELECT m.id FROM UserReadModel m WHERE m.id = u.id) ORDER BY u.id")
+    List<String> findInactivityCandidateIds(@Param("threshold") LocalDateTime threshold,
+                                            @Param("adminRoleId") Long adminRoleId,
+                                            @Param("activeStatusId") Long activeStatusId,
+                                            @Param("lastId") String lastId,
+                                            Pageable pageable);
+
+    /**
+     * 주어진 사용자 중 여전히 휴면 전환 조건을 만족하는 사용자의 상태를 한 번에 변경합니다.
+     * 호출마다 별도의 트랜잭션으로 커밋됩니다.
+     *
+     * @param ids            대상 사용자 ID
+     * @param inActiveStatus 변경할 휴면 상태
+     * @param threshold      마지막 로그인 기준 시간
+     * @param adminRoleId    제외할 관리자 role id
+     * @param activeStatusId 대상이 되는 활성 status id
+     * @return 변경된 사용자 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.status = :inActiveStatus WHERE u.id IN :ids AND u.latestLoginAt < :threshold AND u.role.id <> :adminRoleId AND u.status.id = :activeStatusId")
+    int updateStatusToInactive(@Param("ids") Collection<String> ids,
+                               @Param("inActiveStatus") Status inActiveStatus,
+                               @Param("threshold") LocalDateTime threshold,
+                               @Param("adminRoleId") Long adminRoleId,
+                               @Param("activeStatusId") Long activeStatusId);
+
+    /**
+     * 주어진 ID 중 존재하는 사용자 ID를 조회합니다.
+     *
+     * @param ids 사용자 ID
+     * @return 존재하는 사용자 ID
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
+
+    /**
+     * 주어진 email 중 이미 사용 중인 email 을 조회합니다.
+     *
+     * @param emails email
+     * @return 사용 중인 email
+     */
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * 주어진 ID 중 존재하는 사용자 ID를 쓰기 잠금을 걸고 조회합니다.
+     *
+     * @param ids 사용자 ID
+     * @return 잠금을 건 사용자 ID
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids ORDER BY u.id")
+    List<String> lockIds(@Param("ids") Collection<String> ids);
+
+    /**
+     * 주어진 ID 중 상태가 다른 사용자 ID를 조회합니다. {@link #lockIds} 로 잠근 사용자에 대해 호출합니다.
+     *
+     * @param ids      사용자 ID
+     * @param statusId 변경하려는 status id
+     * @return 상태 변경 대상 사용자 ID
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids AND u.status.id <> :statusId ORDER BY u.id")
+    List<String> findIdsWithStatusOtherThan(@Param("ids") Collection<String> ids, @Param("statusId") Long statusId);
+
+    /**
+     * 주어진 ID 중 권한이 다른 사용자 ID를 조회합니다. {@link #lockIds} 로 잠근 사용자에 대해 호출합니다.
+     *
+     * @param ids    사용자 ID
+     * @param roleId 변경하려는 role id
+     * @return 권한 변경 대상 사용자 ID
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids AND u.role.id <> :roleId ORDER BY u.id")
+    List<String> findIdsWithRoleOtherThan(@Param("ids") Collection<String> ids, @Param("roleId") Long roleId);
+
+    /**
+     * 주어진 사용자의 상태를 한 번에 변경합니다. 호출하는 쪽의 트랜잭션에 참여합니다.
+     *
+     * @param ids    사용자 ID
+     * @param status 변경할 상태
+     * @return 변경된 사용자 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.status = :status WHERE u.id IN :ids")
+    int updateStatusByIds(@Param("ids") Collection<String> ids, @Param("status") Status status);
+
+    /**
+     * 주어진 사용자의 권한을 한 번에 변경합니다. 호출하는 쪽의 트랜잭션에 참여합니다.
+     *
+     * @param ids  사용자 ID
+     * @param role 변경할 권한
+     * @return 변경된 사용자 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.role = :role WHERE u.id IN :ids")
+    int updateRoleByIds(@Param("ids") Collection<String> ids, @Param("role") Role role);
+
+    /**
+     * 주어진 사용자를 한 번에 삭제합니다. 호출하는 쪽의 트랜잭션에 참여합니다.
+     *
+     * @param ids 사용자 ID
+     * @return 삭제된 사용자 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM User u WHERE u.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<String> ids);
+}
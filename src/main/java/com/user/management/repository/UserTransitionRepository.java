@@ -0,0 +1,47 @@
+package com.user.management.repository;
+
+import com.user.management.dto.UserTransitionRequest;
+import com.user.management.entity.Role;
+import com.user.management.entity.Status;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 조건 기반 일괄 변경을 위한 사용자 레포지터리 확장 인터페이스입니다.
+ * 조건이 선택적이므로 Criteria API 로 구현합니다.
+ * 조회 메서드는 요청의 조건과 함께 "이미 변경할 상태(권한)가 아닌 사용자" 조건을 적용하고,
+ * 변경은 잠금을 건 사용자 ID 에만 적용하여 잠근 뒤 바뀐 조건이 UPDATE 대상에 영향을 주지 않도록 합니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+public interface UserTransitionRepository {
+    /**
+     * 변경 대상 사용자 수를 반환합니다.
+     *
+     * @param request 조건과 변경 대상
+     * @return 변경 대상 사용자 수
+     */
+    long countTransitionTargets(UserTransitionRequest request);
+
+    /**
+     * 변경 대상 사용자 ID 를 쓰기 잠금을 걸고 user_id 순서로 조회합니다.
+     *
+     * @param request 조건과 변경 대상
+     * @param limit   조회할 최대 개수
+     * @return 변경 대상 사용자 ID
+     */
+    List<String> lockTransitionTargetIds(UserTransitionRequest request, int limit);
+
+    /**
+     * {@link #lockTransitionTargetIds} 로 잠근 사용자의 상태 또는 권한을 하나의 UPDATE 문으로 변경합니다.
+     * 호출하는 쪽의 트랜잭션에 참여합니다.
+     *
+     * @param userIds      잠금을 건 변경 대상 사용자 ID
+     * @param targetStatus 변경할 상태, 권한을 변경하면 null
+     * @param targetRole   변경할 권한, 상태를 변경하면 null
+     * @return 변경된 사용자 수
+     */
+    int applyTransition(Collection<String> userIds, Status targetStatus, Role targetRole);
+}
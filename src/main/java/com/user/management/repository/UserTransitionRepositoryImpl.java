@@ -0,0 +1,109 @@
+package com.user.management.repository;
+
+import com.user.management.dto.UserTransitionRequest;
+import com.user.management.entity.Role;
+import com.user.management.entity.Status;
+import com.user.management.entity.User;
+import com.user.management.entity.UserReadModel;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.AbstractQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.CriteriaUpdate;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link UserTransitionRepository} 의 Criteria API 구현체입니다.
+ * 대상은 읽기 모델 행이 있는 사용자로 한정하여, 재분배 중 새 shard 에 복사만 된 행은 세거나 변경하지 않습니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+public class UserTransitionRepositoryImpl implements UserTransitionRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public long countTransitionTargets(UserTransitionRequest request) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<User> user = query.from(User.class);
+        query.select(cb.count(user))
+                .where(predicates(cb, query, user, request));
+
+        return entityManager.createQuery(query)
+                .getSingleResult();
+    }
+
+    @Override
+    public List<String> lockTransitionTargetIds(UserTransitionRequest request, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<String> query = cb.createQuery(String.class);
+        Root<User> user = query.from(User.class);
+        query.select(user.<String>get("id"))
+                .where(predicates(cb, query, user, request))
+                .orderBy(cb.asc(user.get("id")));
+
+        return entityManager.createQuery(query)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public int applyTransition(Collection<String> userIds, Status targetStatus, Role targetRole) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<User> update = cb.createCriteriaUpdate(User.class);
+        Root<User> user = update.from(User.class);
+        if (targetStatus != null)
+            update.set(user.<Status>get("status"), targetStatus);
+        if (targetRole != null)
+            update.set(user.<Role>get("role"), targetRole);
+        update.where(user.get("id").in(userIds));
+
+        int updated = entityManager.createQuery(update)
+                .executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+
+    private Predicate[] predicates(CriteriaBuilder cb, AbstractQuery<?> query, Root<User> user, UserTransitionRequest request) {
+        List<Predicate> predicates = new ArrayList<>();
+        Path<Long> statusId = user.get("status").<Long>get("id");
+        Path<Long> roleId = user.get("role").<Long>get("id");
+
+        if (request.getStatusId() != null)
+            predicates.add(cb.equal(statusId, request.getStatusId()));
+        if (request.getRoleId() != null)
+            predicates.add(cb.equal(roleId, request.getRoleId()));
+        if (request.getProviderId() != null)
+            predicates.add(cb.equal(user.get("provider").get("id"), request.getProviderId()));
+        if (request.getCreatedFrom() != null)
+            predicates.add(cb.greaterThanOrEqualTo(user.<LocalDateTime>get("createdAt"), request.getCreatedFrom()));
+        if (request.getCreatedTo() != null)
+            predicates.add(cb.lessThan(user.<LocalDateTime>get("createdAt"), request.getCreatedTo()));
+
+        if (request.getTargetStatusId() != null)
+            predicates.add(cb.notEqual(statusId, request.getTargetStatusId()));
+        if (request.getTargetRoleId() != null)
+            predicates.add(cb.notEqual(roleId, request.getTargetRoleId()));
+
+        Subquery<String> readModel = query.subquery(String.class);
+        Root<UserReadModel> row = readModel.from(UserReadModel.class);
+        readModel.select(row.<String>get("id"))
+                .where(cb.equal(row.get("id"), user.get("id")));
+        predicates.add(cb.exists(readModel));
+
+        return predicates.toArray(new Predicate[0]);
+    }
+}
@@ -1,9 +1,13 @@
 package com.user.management.service;
 
 import com.user.management.dto.*;
+import com.user.management.page.CountStrategy;
+import com.user.management.page.CursorPage;
 import com.user.management.page.RestPage;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+
 /**
  * 사용자 관련 처리를 수행하는 서비스 인터페이스
  *
@@ -14,28 +18,63 @@ public interface UserService {
     /**
      * 모든 사용자를 조회하는 메서드
      *
-     * @param pageable the pageable
+     * @param pageable      the pageable
+     * @param countStrategy 전체 개수를 구하는 방식
      * @return the all users
      */
-    RestPage<UserDataResponse> getAllUsers(Pageable pageable);
+    RestPage<UserDataResponse> getAllUsers(Pageable pageable, CountStrategy countStrategy);
 
     /**
      * 상태가 일치하는 사용자를 조회하는 메서드
      *
-     * @param statusId the status id
-     * @param pageable the pageable
+     * @param statusId      the status id
+     * @param pageable      the pageable
+     * @param countStrategy 전체 개수를 구하는 방식
      * @return the filtered users by status
      */
-    RestPage<UserDataResponse> getFilteredUsersByStatus(Long statusId, Pageable pageable);
+    RestPage<UserDataResponse> getFilteredUsersByStatus(Long statusId, Pageable pageable, CountStrategy countStrategy);
 
     /**
      * 권한이 일치하는 사용자를 조회하는 메서드
      *
-     * @param roleId   the role id
-     * @param pageable the pageable
+     * @param roleId        the role id
+     * @param pageable      the pageable
+     * @param countStrategy 전체 개수를 구하는 방식
      * @return the filtered users by role
      */
-    RestPage<UserDataResponse> getFilteredUsersByRole(Long roleId, Pageable pageable);
+    RestPage<UserDataResponse> getFilteredUsersByRole(Long roleId, Pageable pageable, CountStrategy countStrategy);
+
+    /**
+     * 커서 이후의 사용자를 생성 순서대로 조회하는 메서드 (keyset 페이지네이션)
+     *
+     * @param cursor    이전 페이지의 next 커서, 첫 페이지는 null
+     * @param size      조회할 개수
+     * @param withTotal 전체 사용자 수 포함 여부
+     * @return the users after cursor
+     */
+    CursorPage<UserDataResponse> getUsersAfter(String cursor, int size, boolean withTotal);
+
+    /**
+     * 상태가 일치하는 사용자를 커서 이후부터 조회하는 메서드 (keyset 페이지네이션)
+     *
+     * @param statusId  the status id
+     * @param cursor    이전 페이지의 next 커서, 첫 페이지는 null
+     * @param size      조회할 개수
+     * @param withTotal 전체 사용자 수 포함 여부
+     * @return the filtered users by status after cursor
+     */
+    CursorPage<UserDataResponse> getFilteredUsersByStatusAfter(Long statusId, String cursor, int size, boolean withTotal);
+
+    /**
+     * 권한이 일치하는 사용자를 커서 이후부터 조회하는 메서드 (keyset 페이지네이션)
+     *
+     * @param roleId    the role id
+     * @param cursor    이전 페이지의 next 커서, 첫 페이지는 null
+     * @param size      조회할 개수
+     * @param withTotal 전체 사용자 수 포함 여부
+     * @return the filtered users by role after cursor
+     */
+    CursorPage<UserDataResponse> getFilteredUsersByRoleAfter(Long roleId, String cursor, int size, boolean withTotal);
 
     /**
      * 아이디가 일치하는 사용자르 조회하는 메서드
@@ -67,6 +106,22 @@ public interface UserService {
      */
     UserDataResponse promoteUser(PermitUserRequest permitUserRequest);
 
+    /**
+     * 여러 사용자의 상태를 한 번에 활성으로 수정하는 메서드
+     *
+     * @param userIds 사용자 ID
+     * @return 사용자 ID 별 처리 결과
+     */
+    BulkUserResponse permitUsers(Collection<String> userIds);
+
+    /**
+     * 여러 사용자의 권한을 한 번에 관리자로 수정하는 메서드
+     *
+     * @param userIds 사용자 ID
+     * @return 사용자 ID 별 처리 결과
+     */
+    BulkUserResponse promoteUsers(Collection<String> userIds);
+
     /**
      * 사용자를 추가하는 메서드
      *
@@ -96,6 +151,22 @@ public interface UserService {
      */
     void deleteUser(DeleteUserRequest deleteUserRequest);
 
+    /**
+     * 여러 사용자를 한 번에 제거하는 메서드
+     *
+     * @param userIds 사용자 ID
+     * @return 사용자 ID 별 처리 결과
+     */
+    BulkUserResponse deleteUsers(Collection<String> userIds);
+
+    /**
+     * 조건에 맞는 사용자의 상태 또는 권한을 한 번에 수정하는 메서드
+     *
+     * @param request 조건과 변경할 상태 또는 권한
+     * @return 변경 대상 수와 변경된 사용자 수
+     */
+    UserTransitionResponse transitionUsers(UserTransitionRequest request);
+
     /**
      * userId로 Role 반환
      *
@@ -1,22 +1,29 @@
 package com.user.management.service.impl;
 
+import com.user.management.buffer.LatestLoginAtBuffer;
+import com.user.management.cache.CacheGenerationManager;
+import com.user.management.data.ReferenceDataRegistry;
 import com.user.management.entity.Provider;
 import com.user.management.entity.User;
-import com.user.management.repository.ProviderRepository;
-import com.user.management.repository.RoleRepository;
-import com.user.management.repository.StatusRepository;
+import com.user.management.exception.AlreadyExistEmailException;
 import com.user.management.repository.UserRepository;
+import com.user.management.shard.ShardContext;
+import com.user.management.shard.UserEmailIndex;
+import com.user.management.shard.UserShardRouter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.nio.file.ProviderNotFoundException;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -28,28 +35,37 @@ import java.util.Objects;
 @Service
 @RequiredArgsConstructor
 public class OAuth2UserService extends DefaultOAuth2UserService {
+    private static final String EMAIL_ALREADY_IN_USE = "email_already_in_use";
+
     private final PasswordEncoder encoder;
-    private final RoleRepository roleRepository;
-    private final StatusRepository statusRepository;
     private final UserRepository userRepository;
-    private final ProviderRepository providerRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final LatestLoginAtBuffer latestLoginAtBuffer;
+    private final CacheGenerationManager cacheGeneration;
+    private final UserCountProvider userCountProvider;
+    private final UserReadModelSynchronizer userReadModelSynchronizer;
+    private final UserShardRouter userShardRouter;
+    private final UserEmailIndex userEmailIndex;
+    private final TransactionOperations transactionOperations;
 
 
     /**
      * OAuth2 인증 플로우 후에 사용자 정보를 로드하는 메소드입니다.
      * <p>
      * 새로운 사용자의 요청인 경우 User 인스턴스를 새로 생성하고,
-     * 기존 사용자의 경우 마지막 로그인 시간만 업데이트합니다.
+     * 기존 사용자의 경우 마지막 로그인 시간만 {@link LatestLoginAtBuffer}에 기록합니다.
+     * 공급자 호출은 트랜잭션 밖에서 수행하고, 사용자 저장은 사용자 ID 로 정한 shard 의 트랜잭션에서 수행합니다.
+     * 새 사용자의 email 은 저장하기 전에 {@link UserEmailIndex} 에 등록하며, 다른 사용자가 사용 중이면 가입하지 않고
+     * email_already_in_use 오류 코드의 {@link OAuth2AuthenticationException} 으로 로그인을 실패시킵니다.
      * <p>
      * OAuth2User 객체를 반환하므로, 이후 처리는 Spring Security에 의해 수행됩니다.
      *
      * @param userRequest OAuth2 인증 플로우 중에 생성된 사용자 정보가 담긴 요청 객체.
      * @return 인증된 사용자를 나타내는 OAuth2User 객체.
      * @throws OAuth2AuthenticationException 인증 중에 오류가 발생하거나,
-     *                                       유효하지 않은 OAuth2 요청이 수신된 경우 던져집니다.
+     *                                       유효하지 않은 OAuth2 요청이 수신된 경우, 새 사용자의 email 을 다른 사용자가 사용 중인 경우 던져집니다.
      */
     @Override
-    @Transactional
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
         OAuth2User oAuth2User = super.loadUser(userRequest);
         String providerId = oAuth2User.getAttribute("sub"); // GoogleId
@@ -60,25 +76,65 @@ public class OAuth2UserService extends DefaultOAuth2UserService {
         if (email == null) email = oAuth2User.getAttribute("login") + "@example.com"; // GithubId
 
         String nameKey = userRequest.getClientRegistration().getClientId();
-        Provider provider = providerRepository.findByName(nameKey).orElseThrow(ProviderNotFoundException::new);
+        Provider provider = referenceDataRegistry.findProviderByName(nameKey).orElseThrow(ProviderNotFoundException::new);
         String username = provider.getId() + "_" + providerId; //중복이 발생하지 않도록 provider와 providerId를 조합
 
-        User existedUser = userRepository.findById(username).orElse(null);
-        if (existedUser == null) {
-            User user = User.builder()
-                    .id(username)
-                    .name(username)
-                    .email(email)
-                    .password(encoder.encode(username))
-                    .role(roleRepository.getUserRole())
-                    .status(statusRepository.getPendingStatus())
-                    .createdAt(LocalDateTime.now())
-                    .latestLoginAt(LocalDateTime.now())
-                    .provider(provider).build();
-            userRepository.save(user);
-        } else {
-            userRepository.save(existedUser.toBuilder().latestLoginAt(LocalDateTime.now()).build());
+        if (exists(username)) {
+            latestLoginAtBuffer.record(username, LocalDateTime.now());
+            return oAuth2User;
+        }
+
+        User user = User.builder()
+                .id(username)
+                .name(username)
+                .email(email)
+                .password(encoder.encode(username))
+                .role(referenceDataRegistry.getUserRole())
+                .status(referenceDataRegistry.getPendingStatus())
+                .createdAt(LocalDateTime.now())
+                .latestLoginAt(LocalDateTime.now())
+                .provider(provider).build();
+        try {
+            register(user);
+        } catch (AlreadyExistEmailException e) {
+            throw emailAlreadyInUse(email);
+        } catch (DataIntegrityViolationException e) {
+            if (!exists(username))
+                throw emailAlreadyInUse(email);
+            // 같은 사용자의 다른 로그인 요청이 먼저 저장한 경우
+            latestLoginAtBuffer.record(username, LocalDateTime.now());
         }
         return oAuth2User;
     }
+
+    private void register(User user) {
+        String username = user.getId();
+        boolean claimed = userEmailIndex.claim(user.getEmail(), username);
+        try {
+            ShardContext.runOn(userShardRouter.shardOf(username), () -> transactionOperations.executeWithoutResult(status -> {
+                userRepository.save(user);
+                userReadModelSynchronizer.sync(List.of(username));
+            }));
+        } catch (RuntimeException e) {
+            if (claimed)
+                userEmailIndex.release(user.getEmail(), username);
+            throw e;
+        }
+        cacheGeneration.advance("getUsers");
+        userCountProvider.invalidate();
+    }
+
+    private static OAuth2AuthenticationException emailAlreadyInUse(String email) {
+        return new OAuth2AuthenticationException(new OAuth2Error(EMAIL_ALREADY_IN_USE),
+                "이미 다른 사용자가 사용 중인 email 입니다: " + email);
+    }
+
+    private boolean exists(String username) {
+        int shard = userShardRouter.shardOf(username);
+        if (ShardContext.callOn(shard, () -> userRepository.existsById(username)))
+            return true;
+
+        int previousShard = userShardRouter.previousShardOf(username);
+        return previousShard != shard && ShardContext.callOn(previousShard, () -> userRepository.existsById(username));
+    }
 }
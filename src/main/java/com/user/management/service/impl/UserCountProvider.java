@@ -0,0 +1,201 @@
+package com.user.management.service.impl;
+
+import com.user.management.cache.CacheGenerationManager;
+import com.user.management.datasource.PrimaryReads;
+import com.user.management.page.CountStrategy;
+import com.user.management.repository.UserReadModelRepository;
+import com.user.management.shard.UserShards;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 목록 페이지의 전체 개수를 {@link CountStrategy} 에 따라 구합니다.
+ * 기본적으로 count 는 호출한 스레드에서 내용 조회와 같은 커넥션으로 실행합니다.
+ * 병렬 모드에서는 count 를 별도 스레드(별도 커넥션)에서 실행하여 내용 조회와 동시에 수행합니다.
+ * 요청 스레드가 트랜잭션 커넥션을 쥔 채 두 번째 커넥션을 기다리므로, 병렬 스레드 수는 커넥션 풀보다 충분히 작게 두고
+ * 모든 스레드가 사용 중이면 대기열에 쌓지 않고 호출한 스레드에서 실행합니다.
+ * 캐시에 저장할 페이지를 만드는 중이면 병렬 스레드도 호출한 스레드처럼 primary 에서 읽습니다. ({@link PrimaryReads})
+ * 개수는 목록과 같은 읽기 모델(user_read_model)에서 세므로, 재분배 중 복사만 된 사용자를 두 번 세지 않습니다.
+ * 샤딩을 사용하면 정확한 개수와 추정 개수 모두 shard 마다 구해 더합니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class UserCountProvider implements DisposableBean {
+    /**
+     * 필터별 개수를 캐싱하는 캐시 이름이자 세대 이름
+     */
+    public static final String COUNT_CACHE = "userCount";
+
+    private static final String ESTIMATE_TABLE_ROWS =
+            "SELECT table_rows FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'user_read_model'";
+    private static final String EXPLAIN_BY_STATUS = "EXPLAIN SELECT 1 FROM user_read_model WHERE status_id = ?";
+    private static final String EXPLAIN_BY_ROLE = "EXPLAIN SELECT 1 FROM user_read_model WHERE role_id = ?";
+
+    private final UserReadModelRepository userReadModelRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheManager cacheManager;
+    private final CacheGenerationManager cacheGeneration;
+    private final UserShards userShards;
+    private final boolean parallel;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Instantiates a new User count provider.
+     *
+     * @param userReadModelRepository 목록과 같은 읽기 모델에서 개수를 세는 레포지터리
+     * @param jdbcTemplate            통계 조회에 사용할 템플릿
+     * @param cacheManager            개수 캐시를 제공하는 캐시 매니저
+     * @param cacheGeneration         개수 캐시 세대 관리
+     * @param userShards              shard 별 개수를 더하는 helper
+     * @param parallel                count 를 내용 조회와 동시에 실행할지 여부
+     * @param poolSize                병렬 count 스레드 수, 동시에 추가로 점유하는 커넥션의 상한
+     */
+    public UserCountProvider(UserReadModelRepository userReadModelRepository,
+                             JdbcTemplate jdbcTemplate,
+                             CacheManager cacheManager,
+                             CacheGenerationManager cacheGeneration,
+                             UserShards userShards,
+                             @Value("${app.page-count.parallel:false}") boolean parallel,
+                             @Value("${app.page-count.pool-size:2}") int poolSize) {
+        this.userReadModelRepository = userReadModelRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheManager = cacheManager;
+        this.cacheGeneration = cacheGeneration;
+        this.userShards = userShards;
+        this.parallel = parallel;
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                new CustomizableThreadFactory("page-count-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 전체 사용자 수를 구합니다.
+     *
+     * @param strategy count 방식
+     * @return 사용자 수
+     */
+    public CompletableFuture<Long> countAll(CountStrategy strategy) {
+        return count("all", strategy, userReadModelRepository::count, () -> queryEstimate(ESTIMATE_TABLE_ROWS));
+    }
+
+    /**
+     * 상태가 일치하는 사용자 수를 구합니다.
+     *
+     * @param statusId status id
+     * @param strategy count 방식
+     * @return 사용자 수
+     */
+    public CompletableFuture<Long> countByStatus(Long statusId, CountStrategy strategy) {
+        return count("status" + statusId, strategy,
+                () -> userReadModelRepository.countByStatusId(statusId),
+                () -> explainEstimate(EXPLAIN_BY_STATUS, statusId));
+    }
+
+    /**
+     * 권한이 일치하는 사용자 수를 구합니다.
+     *
+     * @param roleId   role id
+     * @param strategy count 방식
+     * @return 사용자 수
+     */
+    public CompletableFuture<Long> countByRole(Long roleId, CountStrategy strategy) {
+        return count("role" + roleId, strategy,
+                () -> userReadModelRepository.countByRoleId(roleId),
+                () -> explainEstimate(EXPLAIN_BY_ROLE, roleId));
+    }
+
+    /**
+     * 캐싱된 개수를 무효화합니다. 사용자 추가, 삭제, 상태/권한 변경 시 호출합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영됩니다.
+     */
+    public void invalidate() {
+        cacheGeneration.advance(COUNT_CACHE);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private CompletableFuture<Long> count(String filter,
+                                          CountStrategy strategy,
+                                          Supplier<Long> shardExact,
+                                          Supplier<Long> shardEstimate) {
+        Supplier<Long> exact = () -> userShards.sum(shardExact);
+        Supplier<Long> estimate = () -> userShards.sum(shardEstimate);
+        Supplier<Long> counter;
+        switch (strategy) {
+            case CACHED:
+                counter = () -> cached(filter, exact);
+                break;
+            case ESTIMATED:
+                counter = () -> {
+                    Long estimated = estimate.get();
+                    return estimated != null ? estimated : exact.get();
+                };
+                break;
+            default:
+                counter = exact;
+        }
+
+        if (!parallel)
+            return CompletableFuture.completedFuture(counter.get());
+
+        if (PrimaryReads.isActive())
+            return CompletableFuture.supplyAsync(() -> PrimaryReads.get(counter), executor);
+        return CompletableFuture.supplyAsync(counter, executor);
+    }
+
+    private Long cached(String filter, Supplier<Long> exact) {
+        Cache cache = cacheManager.getCache(COUNT_CACHE);
+        if (cache == null)
+            return exact.get();
+
+        String key = "g" + cacheGeneration.current(COUNT_CACHE) + "-" + filter;
+        Number count = cache.get(key, exact::get);
+        return count == null ? exact.get() : count.longValue();
+    }
+
+    private Long queryEstimate(String sql) {
+        try {
+            return jdbcTemplate.queryForObject(sql, Long.class);
+        } catch (DataAccessException e) {
+            log.debug("table statistics unavailable, falling back to exact count", e);
+            return null;
+        }
+    }
+
+    private Long explainEstimate(String sql, Long id) {
+        try {
+            List<Map<String, Object>> plan = jdbcTemplate.queryForList(sql, id);
+            if (plan.isEmpty() || !(plan.get(0).get("rows") instanceof Number))
+                return null;
+
+            return ((Number) plan.get(0).get("rows")).longValue();
+        } catch (DataAccessException e) {
+            log.debug("query plan estimate unavailable, falling back to exact count", e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.user.management.service.impl;
+
+import com.user.management.cache.CacheGenerationManager;
+import com.user.management.dto.UserReadModelRebuildResponse;
+import com.user.management.shard.ShardContext;
+import com.user.management.shard.UserShardRouter;
+import com.user.management.shard.UserShards;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * users 테이블의 변경을 관리자 목록 조회용 읽기 모델(user_read_model)에 반영합니다.
+ * 사용자를 변경하는 서비스 메서드가 같은 트랜잭션 안에서 {@link #sync(Collection)} 를 호출하므로,
+ * 읽기 모델은 users 와 함께 커밋되거나 롤백됩니다.
+ * 복사는 JDBC 로 실행하여 Hibernate 2차 캐시 영역을 무효화하지 않습니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class UserReadModelSynchronizer {
+    static final int CHUNK_SIZE = 1_000;
+
+    private static final String UPSERT_FROM_USERS =
+            "INSERT INTO user_read_model (user_id, user_name, user_email, role_id, role_name, status_id, status_name, provider_id, created_at) "
+                    + "SELECT u.user_id, u.user_name, u.user_email, u.role_id, r.role_name, u.status_id, s.status_name, u.provider_id, u.created_at "
+                    + "FROM users u LEFT JOIN user_role r ON r.role_id = u.role_id LEFT JOIN user_status s ON s.status_id = u.status_id "
+                    + "WHERE u.user_id IN (:ids) "
+                    + "ON DUPLICATE KEY UPDATE user_name = u.user_name, user_email = u.user_email, "
+                    + "role_id = u.role_id, role_name = r.role_name, status_id = u.status_id, status_name = s.status_name, "
+                    + "provider_id = u.provider_id, created_at = u.created_at";
+    private static final String DELETE_MISSING_FROM_USERS =
+            "DELETE FROM user_read_model WHERE user_id IN (:ids) "
+                    + "AND user_id NOT IN (SELECT u.user_id FROM users u WHERE u.user_id IN (:ids))";
+    private static final String DELETE_ALL_MISSING_FROM_USERS =
+            "DELETE m FROM user_read_model m LEFT JOIN users u ON u.user_id = m.user_id WHERE u.user_id IS NULL";
+    private static final String SELECT_USER_IDS_AFTER =
+            "SELECT user_id FROM users WHERE user_id > ? ORDER BY user_id LIMIT ?";
+    private static final String SELECT_EXISTING_IDS =
+            "SELECT user_id FROM users WHERE user_id IN (:ids)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final CacheGenerationManager cacheGeneration;
+    private final UserShards userShards;
+    private final UserShardRouter userShardRouter;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Instantiates a new User read model synchronizer.
+     *
+     * @param jdbcTemplate               the jdbc template
+     * @param namedParameterJdbcTemplate IN 절을 사용하는 복사 쿼리용 템플릿
+     * @param transactionOperations      재생성 chunk 마다 사용할 트랜잭션
+     * @param cacheGeneration            재생성 후 목록 캐시 세대를 올리기 위한 세대 관리
+     * @param userShards                 재생성 시 모든 shard 를 차례로 처리하기 위한 helper
+     * @param userShardRouter            재분배 중 이전 shard 에 남아 있는 사용자를 찾기 위한 router
+     */
+    public UserReadModelSynchronizer(JdbcTemplate jdbcTemplate,
+                                     NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                     TransactionOperations transactionOperations,
+                                     CacheGenerationManager cacheGeneration,
+                                     UserShards userShards,
+                                     UserShardRouter userShardRouter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.cacheGeneration = cacheGeneration;
+        this.userShards = userShards;
+        this.userShardRouter = userShardRouter;
+    }
+
+    /**
+     * 주어진 사용자의 읽기 모델 행을 users 테이블과 같게 맞춥니다.
+     * users 에 있는 사용자는 추가 또는 갱신하고, 없는 사용자는 삭제합니다.
+     * 호출하는 쪽의 트랜잭션에 참여하며, 영속성 컨텍스트의 변경 사항을 먼저 반영합니다.
+     *
+     * @param userIds 변경된 사용자 ID
+     */
+    @Transactional
+    public void sync(Collection<String> userIds) {
+        List<String> ids = userIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        if (ids.isEmpty())
+            return;
+
+        entityManager.flush();
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            Map<String, List<String>> params = Map.of("ids", ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size())));
+            namedParameterJdbcTemplate.update(UPSERT_FROM_USERS, params);
+            namedParameterJdbcTemplate.update(DELETE_MISSING_FROM_USERS, params);
+        }
+    }
+
+    /**
+     * users 테이블 전체로 읽기 모델을 다시 생성합니다.
+     * user_id 순서의 chunk 마다 별도의 트랜잭션으로 복사한 뒤, users 에 없는 행을 삭제합니다.
+     * 샤딩을 사용하면 shard 마다 차례로 다시 생성합니다.
+     * 재분배 중에는 이전 shard 에 아직 남아 있는 사용자를 새 shard 의 복사본으로 보고 읽기 모델을 만들지 않습니다.
+     *
+     * @return 복사한 사용자 수와 삭제한 행 수
+     */
+    public UserReadModelRebuildResponse rebuild() {
+        UserReadModelRebuildResponse total = new UserReadModelRebuildResponse(0, 0);
+        userShards.forEachShard(shard -> {
+            UserReadModelRebuildResponse rebuilt = rebuildShard(shard);
+            total.setSynced(total.getSynced() + rebuilt.getSynced());
+            total.setRemoved(total.getRemoved() + rebuilt.getRemoved());
+        });
+        cacheGeneration.advance(UserServiceImpl.USERS_CACHE);
+        return total;
+    }
+
+    private UserReadModelRebuildResponse rebuildShard(int shard) {
+        String lastId = "";
+        long synced = 0;
+        List<String> ids;
+        do {
+            ids = jdbcTemplate.queryForList(SELECT_USER_IDS_AFTER, String.class, lastId, CHUNK_SIZE);
+            if (ids.isEmpty())
+                break;
+
+            lastId = ids.get(ids.size() - 1);
+            List<String> owned = userShardRouter.isResharding() ? withoutCopies(shard, ids) : ids;
+            if (owned.isEmpty())
+                continue;
+
+            Map<String, List<String>> params = Map.of("ids", owned);
+            transactionOperations.executeWithoutResult(status -> namedParameterJdbcTemplate.update(UPSERT_FROM_USERS, params));
+            synced += owned.size();
+        } while (ids.size() == CHUNK_SIZE);
+
+        Integer removed = transactionOperations.execute(status -> jdbcTemplate.update(DELETE_ALL_MISSING_FROM_USERS));
+
+        log.info("user read model rebuilt on shard {}: synced={}, removed={}", shard, synced, removed);
+        return new UserReadModelRebuildResponse(synced, removed == null ? 0 : removed);
+    }
+
+    // 이 shard 로 옮겨 오는 중이고 이전 shard 에 아직 원본이 남아 있는 사용자를 뺀다
+    private List<String> withoutCopies(int shard, List<String> ids) {
+        Map<Integer, List<String>> byPreviousShard = userShardRouter.partitionByPreviousShard(ids);
+        Set<String> copies = new HashSet<>();
+        byPreviousShard.forEach((previousShard, chunk) -> {
+            if (previousShard != shard)
+                copies.addAll(ShardContext.callOn(previousShard, () -> transactionOperations.execute(status ->
+                        namedParameterJdbcTemplate.queryForList(SELECT_EXISTING_IDS, Map.of("ids", chunk), String.class))));
+        });
+        if (copies.isEmpty())
+            return ids;
+
+        return ids.stream()
+                .filter(id -> !copies.contains(id))
+                .collect(Collectors.toList());
+    }
+}
@@ -1,74 +1,136 @@
 package com.user.management.service.impl;
 
+import com.user.management.buffer.LatestLoginAtBuffer;
+import com.user.management.cache.CacheGenerationManager;
+import com.user.management.data.ReferenceDataRegistry;
 import com.user.management.dto.*;
 import com.user.management.entity.Role;
 import com.user.management.entity.Status;
 import com.user.management.entity.User;
 import com.user.management.exception.*;
+import com.user.management.page.CountStrategy;
+import com.user.management.page.CursorPage;
 import com.user.management.page.RestPage;
-import com.user.management.repository.ProviderRepository;
-import com.user.management.repository.RoleRepository;
-import com.user.management.repository.StatusRepository;
+import com.user.management.page.UserCursor;
+import com.user.management.repository.UserReadModelRepository;
 import com.user.management.repository.UserRepository;
 import com.user.management.service.UserService;
+import com.user.management.shard.ShardContext;
+import com.user.management.shard.ShardKey;
+import com.user.management.shard.UserEmailIndex;
+import com.user.management.shard.UserShardRouter;
+import com.user.management.shard.UserShards;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import javax.persistence.EntityExistsException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 사용자 관련 서비스를 구현한 클래스입니다.
  * UserService 인터페이스로 구현되었습니다.
+ * 사용자 한 명을 다루는 메서드는 {@link ShardKey} 로 사용자가 저장된 shard 에서 실행되고,
+ * 목록과 개수는 {@link UserShards} 로 모든 shard 에서 조회하여 합칩니다.
  *
  * @author jjunho50
  * @version 1.0.0
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
+    private static final int INACTIVITY_SWEEP_CHUNK_SIZE = 500;
+    private static final int BULK_CHUNK_SIZE = 500;
+    private static final int TRANSITION_MAX_ROWS = 10_000;
+    static final String USERS_CACHE = "getUsers";
+    private static final String USER_CACHE = "getUser";
+    private static final String ROLE_CACHE = "getRole";
+    private static final Sort SHARD_PAGE_SORT = Sort.by("id");
+    private static final Comparator<UserDataResponse> BY_ID = Comparator.comparing(UserDataResponse::getId);
+    private static final Comparator<UserCursorRow> BY_CREATED_AT_AND_ID =
+            Comparator.comparing(UserCursorRow::getCreatedAt).thenComparing(UserCursorRow::getId);
+
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
-    private final StatusRepository statusRepository;
-    private final ProviderRepository providerRepository;
+    private final UserReadModelRepository userReadModelRepository;
+    private final UserReadModelSynchronizer userReadModelSynchronizer;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final LatestLoginAtBuffer latestLoginAtBuffer;
+    private final CacheManager cacheManager;
+    private final CacheGenerationManager cacheGeneration;
+    private final UserCountProvider userCountProvider;
+    private final TransactionOperations transactionOperations;
+    private final UserShards userShards;
+    private final UserShardRouter userShardRouter;
+    private final UserEmailIndex userEmailIndex;
 
     /**
      * 모든 사용자 정보를 가져옵니다. (관리자만 요청 가능)
+     * 전체 개수는 countStrategy 에 따라 구하며, 내용 조회와 동시에 실행됩니다.
+     * 샤딩을 사용하면 사용자 ID 순서로 정렬하여 모든 shard 의 결과를 병합합니다.
      *
-     * @param pageable 페이징 정보
+     * @param pageable      페이징 정보
+     * @param countStrategy 전체 개수를 구하는 방식
      * @return 사용자 정보를 포함하는 Page<UserDataResponse> 객체
      */
     @Override
     @Transactional(readOnly = true)
     @Cacheable(
             value = "getUsers",
-            key = "#pageable.pageSize.toString().concat('-').concat(#pageable.pageNumber)",
-            unless = "#result == null"
+            key = "'g'.concat(@cacheGeneration.current('getUsers').toString()).concat('-').concat(#pageable.pageSize.toString()).concat('-').concat(#pageable.pageNumber).concat('-').concat(#countStrategy.name())",
+            sync = true
     )
-    public RestPage<UserDataResponse> getAllUsers(Pageable pageable) {
-        Page<UserDataResponse> allUserData = userRepository.getAllUserData(pageable);
-        if (Objects.isNull(allUserData) || allUserData.getContent().isEmpty()) {
+    public RestPage<UserDataResponse> getAllUsers(Pageable pageable, CountStrategy countStrategy) {
+        CompletableFuture<Long> total = userCountProvider.countAll(countStrategy);
+        List<UserDataResponse> allUserData = userShards.gatherPage(
+                pageable, userReadModelRepository::getAllUserDataList, SHARD_PAGE_SORT, BY_ID);
+        if (Objects.isNull(allUserData) || allUserData.isEmpty()) {
             throw new UserNotFoundException("user list empty");
         }
 
-        return new RestPage<>(allUserData);
+        return new RestPage<>(new PageImpl<>(allUserData, pageable, join(total)), countStrategy);
     }
 
     /**
      * 특정 statusId에 해당하는 사용자들의 정보를 페이징 처리하여 반환합니다. (관리자만 요청 가능)
      *
-     * @param statusId 검색하려는 사용자 상태 ID.
-     * @param pageable 페이징 정보.
+     * @param statusId      검색하려는 사용자 상태 ID.
+     * @param pageable      페이징 정보.
+     * @param countStrategy 전체 개수를 구하는 방식
      * @return UserDataResponse 객체의 페이지.
      * @throws RuntimeException 해당 statusId가 존재하지 않을 경우 발생.
      */
@@ -76,21 +138,26 @@ public class UserServiceImpl implements UserService {
     @Transactional(readOnly = true)
     @Cacheable(
             value = "getUsers",
-            key = "'status'.concat(#statusId).concat('-').concat(#pageable.pageSize.toString()).concat('-').concat(#pageable.pageNumber)",
-            unless = "#result == null"
+            key = "'g'.concat(@cacheGeneration.current('getUsers').toString()).concat('-status').concat(#statusId).concat('-').concat(#pageable.pageSize.toString()).concat('-').concat(#pageable.pageNumber).concat('-').concat(#countStrategy.name())",
+            sync = true
     )
-    public RestPage<UserDataResponse> getFilteredUsersByStatus(Long statusId, Pageable pageable) {
-        if (!statusRepository.existsById(statusId))
+    public RestPage<UserDataResponse> getFilteredUsersByStatus(Long statusId, Pageable pageable, CountStrategy countStrategy) {
+        if (!referenceDataRegistry.existsStatus(statusId))
             throw new StatusNotFoundException("존재하지 않는 Status Id 입니다.");
 
-        return new RestPage<>(userRepository.getUsersFilteredByStatusId(pageable, statusId));
+        CompletableFuture<Long> total = userCountProvider.countByStatus(statusId, countStrategy);
+        List<UserDataResponse> content = userShards.gatherPage(
+                pageable, page -> userReadModelRepository.getUsersFilteredByStatusIdList(page, statusId), SHARD_PAGE_SORT, BY_ID);
+
+        return new RestPage<>(new PageImpl<>(content, pageable, join(total)), countStrategy);
     }
 
     /**
      * 특정 roleId에 해당하는 사용자들의 정보를 페이징 처리하여 반환합니다. (관리자만 요청 가능)
      *
-     * @param roleId   검색하려는 사용자 role ID.
-     * @param pageable 페이징 정보.
+     * @param roleId        검색하려는 사용자 role ID.
+     * @param pageable      페이징 정보.
+     * @param countStrategy 전체 개수를 구하는 방식
      * @return UserDataResponse 객체의 페이지.
      * @throws RuntimeException 해당 roleId가 존재하지 않을 경우 발생.
      */
@@ -98,13 +165,87 @@ public class UserServiceImpl implements UserService {
     @Transactional(readOnly = true)
     @Cacheable(
             value = "getUsers",
-            key = "'role'.concat(#roleId).concat('-').concat(#pageable.pageSize.toString()).concat('-').concat(#pageable.pageNumber)",
-            unless = "#result == null"
+            key = "'g'.concat(@cacheGeneration.current('getUsers').toString()).concat('-role').concat(#roleId).concat('-').concat(#pageable.pageSize.toString()).concat('-').concat(#pageable.pageNumber).concat('-').concat(#countStrategy.name())",
+            sync = true
     )
-    public RestPage<UserDataResponse> getFilteredUsersByRole(Long roleId, Pageable pageable) {
-        if (!statusRepository.existsById(roleId))
+    public RestPage<UserDataResponse> getFilteredUsersByRole(Long roleId, Pageable pageable, CountStrategy countStrategy) {
+        if (!referenceDataRegistry.existsRole(roleId))
             throw new RoleNotFoundException("존재하지 않는 Role Id 입니다.");
-        return new RestPage<>(userRepository.getUsersFilteredByRoleId(pageable, roleId));
+
+        CompletableFuture<Long> total = userCountProvider.countByRole(roleId, countStrategy);
+        List<UserDataResponse> content = userShards.gatherPage(
+                pageable, page -> userReadModelRepository.getUsersFilteredByRoleIdList(page, roleId), SHARD_PAGE_SORT, BY_ID);
+
+        return new RestPage<>(new PageImpl<>(content, pageable, join(total)), countStrategy);
+    }
+
+    /**
+     * 커서 이후의 사용자를 (created_at, user_id) 순서로 조회합니다. (관리자만 요청 가능)
+     * OFFSET 과 count 쿼리 없이 인덱스 위치에서 바로 읽으므로 페이지가 깊어져도 비용이 일정합니다.
+     * 샤딩을 사용하면 shard 마다 같은 커서 이후를 읽어 (created_at, user_id) 순서로 병합합니다.
+     *
+     * @param cursor    이전 페이지의 next 커서, 첫 페이지는 null
+     * @param size      조회할 개수
+     * @param withTotal 전체 사용자 수 포함 여부
+     * @return 사용자 정보 커서 페이지
+     * @throws InvalidCursorException 커서 형식이 올바르지 않은 경우
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<UserDataResponse> getUsersAfter(String cursor, int size, boolean withTotal) {
+        UserCursor position = UserCursor.decode(cursor);
+        List<UserCursorRow> rows = userShards.gather(() -> userReadModelRepository.getUserDataAfter(
+                position.getCreatedAt(), position.getId(), PageRequest.of(0, size + 1)), BY_CREATED_AT_AND_ID, size + 1);
+
+        return toCursorPage(rows, size, withTotal ? userShards.sum(userReadModelRepository::count) : null);
+    }
+
+    /**
+     * 특정 statusId에 해당하는 사용자를 커서 이후부터 조회합니다. (관리자만 요청 가능)
+     *
+     * @param statusId  검색하려는 사용자 상태 ID.
+     * @param cursor    이전 페이지의 next 커서, 첫 페이지는 null
+     * @param size      조회할 개수
+     * @param withTotal 전체 사용자 수 포함 여부
+     * @return 사용자 정보 커서 페이지
+     * @throws StatusNotFoundException 해당 statusId가 존재하지 않을 경우 발생.
+     * @throws InvalidCursorException  커서 형식이 올바르지 않은 경우
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<UserDataResponse> getFilteredUsersByStatusAfter(Long statusId, String cursor, int size, boolean withTotal) {
+        if (!referenceDataRegistry.existsStatus(statusId))
+            throw new StatusNotFoundException("존재하지 않는 Status Id 입니다.");
+
+        UserCursor position = UserCursor.decode(cursor);
+        List<UserCursorRow> rows = userShards.gather(() -> userReadModelRepository.getUserDataByStatusIdAfter(
+                statusId, position.getCreatedAt(), position.getId(), PageRequest.of(0, size + 1)), BY_CREATED_AT_AND_ID, size + 1);
+
+        return toCursorPage(rows, size, withTotal ? userShards.sum(() -> userReadModelRepository.countByStatusId(statusId)) : null);
+    }
+
+    /**
+     * 특정 roleId에 해당하는 사용자를 커서 이후부터 조회합니다. (관리자만 요청 가능)
+     *
+     * @param roleId    검색하려는 사용자 role ID.
+     * @param cursor    이전 페이지의 next 커서, 첫 페이지는 null
+     * @param size      조회할 개수
+     * @param withTotal 전체 사용자 수 포함 여부
+     * @return 사용자 정보 커서 페이지
+     * @throws RoleNotFoundException  해당 roleId가 존재하지 않을 경우 발생.
+     * @throws InvalidCursorException 커서 형식이 올바르지 않은 경우
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<UserDataResponse> getFilteredUsersByRoleAfter(Long roleId, String cursor, int size, boolean withTotal) {
+        if (!referenceDataRegistry.existsRole(roleId))
+            throw new RoleNotFoundException("존재하지 않는 Role Id 입니다.");
+
+        UserCursor position = UserCursor.decode(cursor);
+        List<UserCursorRow> rows = userShards.gather(() -> userReadModelRepository.getUserDataByRoleIdAfter(
+                roleId, position.getCreatedAt(), position.getId(), PageRequest.of(0, size + 1)), BY_CREATED_AT_AND_ID, size + 1);
+
+        return toCursorPage(rows, size, withTotal ? userShards.sum(() -> userReadModelRepository.countByRoleId(roleId)) : null);
     }
 
 
@@ -121,9 +262,9 @@ public class UserServiceImpl implements UserService {
     @Cacheable(
             value = "getUser",
             key = "#id",
-            unless = "#result == null"
+            sync = true
     )
-    public UserDataResponse getUserById(String id) {
+    public UserDataResponse getUserById(@ShardKey String id) {
         if (id == null)
             throw new UserHeaderNotFoundException();
 
@@ -136,16 +277,19 @@ public class UserServiceImpl implements UserService {
      *
      * @param id userId
      * @return RoleResponse
+     * @throws UserNotFoundException 사용자를 찾을 수 없을 때 발생하는 예외
      */
     @Override
     @Transactional(readOnly = true)
     @Cacheable(
             value = "getRole",
             key = "#id",
-            unless = "#result == null"
+            sync = true
     )
-    public RoleResponse getRoleByUserId(String id) {
+    public RoleResponse getRoleByUserId(@ShardKey String id) {
         Role role = userRepository.getRoleByUserId(id);
+        if (role == null)
+            throw new UserNotFoundException(id);
 
         return new RoleResponse(role.getId(), role.getName());
     }
@@ -153,6 +297,8 @@ public class UserServiceImpl implements UserService {
     /**
      * 사용자 로그인을 처리하는 메소드입니다.
      * 사용자 ID와 비밀번호를 통해 로그인을 하게 됩니다.
+     * 비밀번호 검증(BCrypt)이 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행되며,
+     * 조회는 레포지토리의 짧은 트랜잭션으로 처리되고, 마지막 로그인 시간은 {@link LatestLoginAtBuffer}를 통해 지연 반영됩니다.
      *
      * @param userLoginRequest 사용자 로그인 요청 정보 (id, password)
      * @return 로그인된 User 정보
@@ -161,9 +307,8 @@ public class UserServiceImpl implements UserService {
      * @throws AdminMustUpdatePasswordException 어드민은 첫 로그인 시, 초기 세팅 된 비밀번호를 반드시 변경해야 합니다.
      */
     @Override
-    @Transactional
-    public UserDataResponse getUserLogin(UserLoginRequest userLoginRequest) {
-        User user = userRepository.findById(userLoginRequest.getId())
+    public UserDataResponse getUserLogin(@ShardKey UserLoginRequest userLoginRequest) {
+        User user = userRepository.findWithRoleAndStatusById(userLoginRequest.getId())
                 .orElseThrow(() -> new UserNotFoundException(userLoginRequest.getId()));
 
         if (user.getRole().getId() == 1L && user.getLatestLoginAt() == null)
@@ -174,7 +319,12 @@ public class UserServiceImpl implements UserService {
         }
 
 
-        return userRepository.save(user.toBuilder().latestLoginAt(LocalDateTime.now()).build())
+        LocalDateTime loginAt = LocalDateTime.now();
+        latestLoginAtBuffer.record(user.getId(), loginAt);
+
+        return user.toBuilder()
+                .latestLoginAt(loginAt)
+                .build()
                 .toEntity();
     }
 
@@ -182,45 +332,56 @@ public class UserServiceImpl implements UserService {
     /**
      * 새로운 사용자를 등록하는 메소드입니다.
      * 회원가입 날짜, 마지막 로그인 날짜 자동으로 LocalDateTime.now()로 등록
+     * 비밀번호 해싱은 커넥션을 점유하기 전에 먼저 수행합니다.
+     * ID 중복은 미리 조회하지 않고 INSERT 시 primary key 제약 위반으로 판단합니다.
+     * 재분배 중에는 아직 옮겨지지 않은 같은 ID 의 사용자가 이전 위치에 있을 수 있으므로, 이전 위치가 다르면 그곳만 먼저 조회합니다.
+     * email 은 저장하기 전에 모든 shard 에 걸친 {@link UserEmailIndex} 에 등록하므로, 동시에 같은 email 로 가입하더라도
+     * 사용자가 어느 shard 에 저장되든 하나만 저장되며, 저장에 실패하면 등록을 취소합니다.
      *
      * @param userCreateRequest 사용자 생성 요청 정보 (id, name, password, email)
      * @throws UserAlreadyExistException  사용자가 이미 존재할 때 발생하는 예외
      * @throws AlreadyExistEmailException 이미 등록된 email 일 경우 발생하는 예외
      */
     @Override
-    @Transactional
-    @Caching(
-            evict = {
-                    @CacheEvict(
-                            value = "getUsers",
-                            allEntries = true
-                    )
-            }
-    )
-    public UserDataResponse createUser(UserCreateRequest userCreateRequest) {
+    public UserDataResponse createUser(@ShardKey(creates = true) UserCreateRequest userCreateRequest) {
         String userId = userCreateRequest.getId();
         String userEmail = userCreateRequest.getEmail();
-
-        if (userRepository.existsById(userId))
+        if (existsOnPreviousShard(userId))
             throw new UserAlreadyExistException(userId);
-
-        if (userRepository.getByEmail(userEmail).isPresent())
-            throw new AlreadyExistEmailException(userEmail);
+        String encodedPassword = passwordEncoder.encode(userCreateRequest.getPassword());
 
         User user = User.builder()
                 .id(userCreateRequest.getId())
                 .name(userCreateRequest.getName())
                 .email(userEmail)
-                .password(passwordEncoder.encode(userCreateRequest.getPassword()))
-                .role(roleRepository.getUserRole())
-                .status(statusRepository.getPendingStatus())
+                .password(encodedPassword)
+                .role(referenceDataRegistry.getUserRole())
+                .status(referenceDataRegistry.getPendingStatus())
                 .createdAt(LocalDateTime.now())
                 .latestLoginAt(LocalDateTime.now())
-                .provider(providerRepository.getDefaultProvider())
+                .provider(referenceDataRegistry.getDefaultProvider())
                 .build();
 
-        return userRepository.save(user)
-                .toEntity();
+        boolean claimed = userEmailIndex.claim(userEmail, userId);
+        UserDataResponse createdUser;
+        try {
+            createdUser = transactionOperations.execute(status -> {
+                UserDataResponse saved = userRepository.saveAndFlush(user)
+                        .toEntity();
+                userReadModelSynchronizer.sync(List.of(userId));
+                return saved;
+            });
+        } catch (RuntimeException e) {
+            if (claimed)
+                userEmailIndex.release(userEmail, userId);
+            throw e instanceof DataIntegrityViolationException
+                    ? translateDuplicate((DataIntegrityViolationException) e, userId, userEmail)
+                    : e;
+        }
+        cacheGeneration.advance(USERS_CACHE);
+        userCountProvider.invalidate();
+
+        return createdUser;
     }
 
     /**
@@ -232,13 +393,6 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     @Caching(
-            evict = {
-                    @CacheEvict(
-                            value = "getUsers",
-                            allEntries = true,
-                            cacheManager = "cacheManager"
-                    ),
-            },
             put = {
                     @CachePut(
                             value = "getUser",
@@ -247,16 +401,17 @@ public class UserServiceImpl implements UserService {
                     )
             }
     )
-    public UserDataResponse permitUser(PermitUserRequest permitUserRequest) {
+    public UserDataResponse permitUser(@ShardKey PermitUserRequest permitUserRequest) {
         String userId = permitUserRequest.getId();
-        User pendingUser = userRepository.findById(userId)
+        User user = userRepository.findWithRoleById(userId)
                 .orElseThrow(() -> new UserNotFoundException(userId));
-        User activeUser = pendingUser.toBuilder()
-                .status(statusRepository.getActiveStatus())
-                .build();
+        user.changeStatus(referenceDataRegistry.getActiveStatus());
+        userReadModelSynchronizer.sync(List.of(userId));
 
-        return userRepository.save(activeUser)
-                .toEntity();
+        cacheGeneration.advance(USERS_CACHE);
+        userCountProvider.invalidate();
+
+        return user.toEntity();
     }
 
     /**
@@ -269,10 +424,6 @@ public class UserServiceImpl implements UserService {
     @Transactional
     @Caching(
             evict = {
-                    @CacheEvict(
-                            value = "getUsers",
-                            allEntries = true
-                    ),
                     @CacheEvict(
                             value = "getRole",
                             key = "#permitUserRequest.getId()"
@@ -286,21 +437,65 @@ public class UserServiceImpl implements UserService {
                     )
             }
     )
-    public UserDataResponse promoteUser(PermitUserRequest permitUserRequest) {
+    public UserDataResponse promoteUser(@ShardKey PermitUserRequest permitUserRequest) {
         String userId = permitUserRequest.getId();
-        User user = userRepository.findById(userId)
+        User user = userRepository.findWithStatusById(userId)
                 .orElseThrow(() -> new UserNotFoundException(userId));
-        User adminUser = user.toBuilder()
-                .role(roleRepository.getAdminRole())
-                .build();
+        user.changeRole(referenceDataRegistry.getAdminRole());
+        userReadModelSynchronizer.sync(List.of(userId));
 
-        return userRepository.save(adminUser)
-                .toEntity();
+        cacheGeneration.advance(USERS_CACHE);
+        userCountProvider.invalidate();
+
+        return user.toEntity();
+    }
+
+    /**
+     * 여러 사용자의 상태를 한 번에 'Active'로 변경합니다. (관리자만 요청 가능)
+     * ID 를 중복 제거, 정렬한 뒤 chunk 마다 하나의 UPDATE 문으로 변경하며, 전체가 하나의 트랜잭션으로 처리됩니다.
+     * chunk 의 사용자를 먼저 쓰기 잠금으로 조회하고, 존재 여부와 변경 대상은 잠근 사용자만으로 판단합니다.
+     * 캐시는 커밋 이후 변경된 사용자만 제거하고, 목록 캐시 세대는 요청당 한 번만 증가시킵니다.
+     *
+     * @param userIds 변경 대상 사용자 ID
+     * @return 변경됨, 변경되지 않음(이미 활성), 존재하지 않음으로 나눈 결과
+     */
+    @Override
+    @Transactional
+    public BulkUserResponse permitUsers(@ShardKey Collection<String> userIds) {
+        Status activeStatus = referenceDataRegistry.getActiveStatus();
+        BulkUserResponse response = applyInChunks(userIds,
+                locked -> userRepository.findIdsWithStatusOtherThan(locked, activeStatus.getId()),
+                targets -> userRepository.updateStatusByIds(targets, activeStatus));
+
+        afterBulkChange(response, USER_CACHE);
+        return response;
+    }
+
+    /**
+     * 여러 사용자의 Role 을 한 번에 'Admin'으로 변경합니다. (관리자만 요청 가능)
+     * ID 를 중복 제거, 정렬한 뒤 chunk 마다 하나의 UPDATE 문으로 변경하며, 전체가 하나의 트랜잭션으로 처리됩니다.
+     *
+     * @param userIds 변경 대상 사용자 ID
+     * @return 변경됨, 변경되지 않음(이미 관리자), 존재하지 않음으로 나눈 결과
+     */
+    @Override
+    @Transactional
+    public BulkUserResponse promoteUsers(@ShardKey Collection<String> userIds) {
+        Role adminRole = referenceDataRegistry.getAdminRole();
+        BulkUserResponse response = applyInChunks(userIds,
+                locked -> userRepository.findIdsWithRoleOtherThan(locked, adminRole.getId()),
+                targets -> userRepository.updateRoleByIds(targets, adminRole));
+
+        afterBulkChange(response, USER_CACHE, ROLE_CACHE);
+        return response;
     }
 
     /**
      * 사용자 정보를 업데이트하는 메소드입니다.
      * userId는 primary key 값으로 변경할 수 없습니다. Front Server 에서 UserCreateRequest.userId는 사용자가 아닌 서버가 등록할 수 있게 해주세요.
+     * 비밀번호 해싱은 커넥션을 점유하기 전에 먼저 수행하고, 조회와 변경은 그 뒤에 시작한 하나의 트랜잭션에서 dirty checking 으로 반영합니다.
+     * 바꿀 email 은 변경하기 전에 모든 shard 에 걸친 {@link UserEmailIndex} 에 등록하고, 변경에 실패하면 등록을 취소합니다.
+     * 변경한 뒤에는 이전 email 의 등록을 해제합니다.
      *
      * @param userUpdateRequest 사용자 업데이트 요청 정보 (id, name, password, email)
      * @param userId            업데이트하려는 사용자의 ID
@@ -309,14 +504,7 @@ public class UserServiceImpl implements UserService {
      * @throws AlreadyExistEmailException  이미 등록된 email 일 경우 발생하는 예외
      */
     @Override
-    @Transactional
     @Caching(
-            evict = {
-                    @CacheEvict(
-                            value = "getUsers",
-                            allEntries = true
-                    )
-            },
             put = {
                     @CachePut(
                             value = "getUser",
@@ -325,28 +513,41 @@ public class UserServiceImpl implements UserService {
                     )
             }
     )
-    public UserDataResponse updateUser(UserUpdateRequest userUpdateRequest, String userId) {
+    public UserDataResponse updateUser(UserUpdateRequest userUpdateRequest, @ShardKey String userId) {
         if (userId == null)
             throw new UserHeaderNotFoundException();
 
+        String encodedPassword = passwordEncoder.encode(userUpdateRequest.getPassword());
         String userEmail = userUpdateRequest.getEmail();
-        User existedUser = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(userId));
-        boolean emailExists = userRepository.getByEmail(userEmail)
-                .isPresent();
-
-        if (!existedUser.getEmail().equals(userEmail) && emailExists)
-            throw new AlreadyExistEmailException(userEmail);
 
-        User user = existedUser.toBuilder()
-                .name(userUpdateRequest.getName())
-                .email(userEmail)
-                .password(passwordEncoder.encode(userUpdateRequest.getPassword()))
-                .status(statusRepository.getActiveStatus())
-                .build();
+        boolean claimed = userEmailIndex.claim(userEmail, userId);
+        AtomicReference<String> previousEmail = new AtomicReference<>();
+        UserDataResponse updatedUser;
+        try {
+            updatedUser = transactionOperations.execute(status -> {
+                User user = userRepository.findWithRoleById(userId)
+                        .orElseThrow(() -> new UserNotFoundException(userId));
+
+                previousEmail.set(user.getEmail());
+                user.updateProfile(userUpdateRequest.getName(), userEmail, encodedPassword);
+                user.changeStatus(referenceDataRegistry.getActiveStatus());
+                userRepository.flush();
+                userReadModelSynchronizer.sync(List.of(userId));
+                return user.toEntity();
+            });
+        } catch (RuntimeException e) {
+            if (claimed)
+                userEmailIndex.release(userEmail, userId);
+            throw e instanceof DataIntegrityViolationException
+                    ? translateDuplicate((DataIntegrityViolationException) e, userId, userEmail)
+                    : e;
+        }
+        if (previousEmail.get() != null && !previousEmail.get().equals(userEmail))
+            userEmailIndex.release(previousEmail.get(), userId);
+        cacheGeneration.advance(USERS_CACHE);
+        userCountProvider.invalidate();
 
-        return userRepository.save(user)
-                .toEntity();
+        return updatedUser;
     }
 
     /**
@@ -360,12 +561,6 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     @Caching(
-            evict = {
-                    @CacheEvict(
-                            value = "getUsers",
-                            allEntries = true
-                    )
-            },
             put = {
                     @CachePut(
                             value = "getUser",
@@ -374,18 +569,19 @@ public class UserServiceImpl implements UserService {
                     )
             }
     )
-    public UserDataResponse deactivateUser(String userId) {
+    public UserDataResponse deactivateUser(@ShardKey String userId) {
         if (userId == null)
             throw new UserHeaderNotFoundException();
 
-        User existedUser = userRepository.findById(userId)
+        User user = userRepository.findWithRoleById(userId)
                 .orElseThrow(() -> new UserNotFoundException(userId));
-        User user = existedUser.toBuilder()
-                .status(statusRepository.getDeactivatedStatus())
-                .build();
+        user.changeStatus(referenceDataRegistry.getDeactivatedStatus());
+        userReadModelSynchronizer.sync(List.of(userId));
 
-        return userRepository.save(user)
-                .toEntity();
+        cacheGeneration.advance(USERS_CACHE);
+        userCountProvider.invalidate();
+
+        return user.toEntity();
     }
 
 
@@ -399,10 +595,6 @@ public class UserServiceImpl implements UserService {
     @Transactional
     @Caching(
             evict = {
-                    @CacheEvict(
-                            value = "getUsers",
-                            allEntries = true
-                    ),
                     @CacheEvict(
                             value = "getUser",
                             key = "#deleteUserRequest.getId()"
@@ -413,57 +605,288 @@ public class UserServiceImpl implements UserService {
                     )
             }
     )
-    public void deleteUser(DeleteUserRequest deleteUserRequest) {
+    public void deleteUser(@ShardKey DeleteUserRequest deleteUserRequest) {
         String userId = deleteUserRequest.getId();
-        if (!userRepository.existsById(userId))
-            throw new UserNotFoundException("존재하지 않는 유저입니다.");
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException("존재하지 않는 유저입니다."));
 
-        userRepository.deleteById(userId);
+        userRepository.delete(user);
+        userReadModelSynchronizer.sync(List.of(userId));
+        cacheGeneration.advance(USERS_CACHE);
+        userCountProvider.invalidate();
     }
 
     /**
-     * 매일 0시에 따라 사용자의 최종 로그인 시간을 확인하고,
-     * 마지막 로그인 시간이 한달 이상 전이면 사용자의 상태를 '휴면' 상태로 변경하는 스케줄러입니다.
+     * 여러 사용자의 정보를 한 번에 삭제합니다. (관리자만 요청 가능)
+     * ID 를 중복 제거, 정렬한 뒤 chunk 마다 하나의 DELETE 문으로 삭제하며, 전체가 하나의 트랜잭션으로 처리됩니다.
+     *
+     * @param userIds 삭제 대상 사용자 ID
+     * @return 삭제됨(changed), 존재하지 않음으로 나눈 결과
      */
+    @Override
     @Transactional
-    @Scheduled(cron = "0 0 0 * * ?")
-    @Caching(
-            evict = {
-                    @CacheEvict(
-                            value = "getUsers",
-                            allEntries = true
-                    ),
-                    @CacheEvict(
-                            value = "getUser",
-                            allEntries = true
-                    )
-            }
-    )
-    public void updateUserInactivityStatus() {
-        userRepository.findAll()
-                .forEach(this::checkAndUpdateInactivity);
+    public BulkUserResponse deleteUsers(@ShardKey Collection<String> userIds) {
+        BulkUserResponse response = applyInChunks(userIds,
+                locked -> locked,
+                userRepository::deleteByIds);
+
+        afterBulkChange(response, USER_CACHE, ROLE_CACHE);
+        return response;
     }
 
     /**
-     * 주어진 사용자의 'latestLoginAt' 필드(마지막 로그인 시간)를 확인하고,
-     * 이 시간이 현재 시간으로부터 한 달 이상 이전인 경우, 사용자의 상태를 '휴면'으로 변경합니다.
+     * 조건에 맞는 사용자의 상태 또는 권한을 하나의 UPDATE 문으로 변경합니다. (관리자만 요청 가능)
+     * dryRun 이면 변경 대상 수만 반환합니다.
+     * 변경 대상을 쓰기 잠금으로 먼저 조회하여 최대 행 수(요청의 maxRows, 최대 10,000)를 넘으면 아무것도 변경하지 않으며,
+     * 커밋 이후 조회한 사용자의 캐시만 제거합니다.
+     * 샤딩을 사용하면 shard 마다 트랜잭션을 열어 잠금을 유지한 채 차례로 변경하며, 최대 행 수는 모든 shard 의 합으로 확인하고
+     * 넘으면 모든 shard 를 롤백합니다. dryRun 의 개수는 모든 shard 의 합입니다.
      *
-     * @param existedUser 휴면 상태를 확인할 사용자
+     * @param request 조건과 변경할 상태 또는 권한
+     * @return 변경 대상 수와 변경된 사용자 수
+     * @throws InvalidUserTransitionException 조건을 하나도 지정하지 않은 경우, 변경할 상태와 권한을 모두 지정했거나 모두 지정하지 않은 경우,
+     *                                        변경 대상이 최대 행 수를 넘는 경우
+     * @throws StatusNotFoundException        변경할 상태가 존재하지 않는 경우
+     * @throws RoleNotFoundException          변경할 권한이 존재하지 않는 경우
      */
-    protected void checkAndUpdateInactivity(User existedUser) {
-        if ("ROLE_ADMIN".equals(existedUser.getRole().getName()))
-            return;
+    @Override
+    @Transactional
+    public UserTransitionResponse transitionUsers(UserTransitionRequest request) {
+        if (!hasTransitionFilter(request))
+            throw new InvalidUserTransitionException("statusId, roleId, providerId, createdFrom, createdTo 중 하나 이상의 조건을 지정해야 합니다.");
+        if ((request.getTargetStatusId() == null) == (request.getTargetRoleId() == null))
+            throw new InvalidUserTransitionException("targetStatusId 와 targetRoleId 중 하나만 지정해야 합니다.");
+
+        Status targetStatus = null;
+        Role targetRole = null;
+        if (request.getTargetStatusId() != null) {
+            targetStatus = referenceDataRegistry.getStatus(request.getTargetStatusId());
+            if (targetStatus == null)
+                throw new StatusNotFoundException();
+        } else {
+            targetRole = referenceDataRegistry.getRole(request.getTargetRoleId());
+            if (targetRole == null)
+                throw new RoleNotFoundException();
+        }
+
+        if (request.isDryRun())
+            return new UserTransitionResponse(true, userShards.sum(() -> userRepository.countTransitionTargets(request)), 0);
+
+        int maxRows = request.getMaxRows() == null ? TRANSITION_MAX_ROWS : Math.min(request.getMaxRows(), TRANSITION_MAX_ROWS);
+        AtomicInteger remaining = new AtomicInteger(maxRows);
+        Status status = targetStatus;
+        Role role = targetRole;
+        List<UserTransitionResponse> responses = userShards.inEveryShardTransaction(shard -> {
+            List<String> targetIds = userRepository.lockTransitionTargetIds(request, remaining.get() + 1);
+            if (targetIds.size() > remaining.get())
+                throw new InvalidUserTransitionException("변경 대상이 최대 " + maxRows + "명을 넘습니다. 조건을 좁혀 주세요.");
+            if (targetIds.isEmpty())
+                return new UserTransitionResponse(false, 0, 0);
+
+            remaining.addAndGet(-targetIds.size());
+            int updated = userRepository.applyTransition(targetIds, status, role);
+            BulkUserResponse changed = new BulkUserResponse(targetIds, List.of(), List.of());
+            if (role != null)
+                afterBulkChange(changed, USER_CACHE, ROLE_CACHE);
+            else
+                afterBulkChange(changed, USER_CACHE);
+            return new UserTransitionResponse(false, targetIds.size(), updated);
+        });
+
+        long matched = responses.stream().mapToLong(UserTransitionResponse::getMatched).sum();
+        int updated = responses.stream().mapToInt(UserTransitionResponse::getUpdated).sum();
+        if (matched > 0)
+            log.info("user transition applied: matched={}, updated={}", matched, updated);
+        return new UserTransitionResponse(false, matched, updated);
+    }
+
+    private static boolean hasTransitionFilter(UserTransitionRequest request) {
+        return request.getStatusId() != null
+                || request.getRoleId() != null
+                || request.getProviderId() != null
+                || request.getCreatedFrom() != null
+                || request.getCreatedTo() != null;
+    }
+
+    /**
+     * 매일 0시에 따라 사용자의 최종 로그인 시간을 확인하고,
+     * 마지막 로그인 시간이 한달 이상 전이면 사용자의 상태를 '휴면' 상태로 변경하는 스케줄러입니다.
+     * 버퍼에 남아 있는 마지막 로그인 시간을 먼저 반영한 뒤 확인합니다.
+     * 대상 사용자를 user_id 순서의 chunk 단위로 나누어 chunk 마다 하나의 UPDATE 문으로 변경하고 커밋하며,
+     * 변경 대상이 된 사용자의 getUser 캐시만 제거합니다. 샤딩을 사용하면 shard 마다 차례로 실행합니다.
+     */
+    @Scheduled(cron = "0 0 0 * * ?")
+    public void updateUserInactivityStatus() {
+        latestLoginAtBuffer.flush();
 
         LocalDateTime oneMonthAgo = LocalDateTime.now()
                 .minusMonths(1);
-        if (existedUser.getLatestLoginAt().isBefore(oneMonthAgo)) {
-            Status inActiveStatus = statusRepository.getInActiveStatus();
-            User user = existedUser.toBuilder()
-                    .status(inActiveStatus)
-                    .build();
+        Long adminRoleId = referenceDataRegistry.getAdminRole().getId();
+        Long activeStatusId = referenceDataRegistry.getActiveStatus().getId();
+        Status inActiveStatus = referenceDataRegistry.getInActiveStatus();
+        Cache userCache = cacheManager.getCache("getUser");
+
+        AtomicInteger updatedCount = new AtomicInteger();
+        userShards.forEachShard(shard -> updatedCount.addAndGet(
+                sweepInactiveUsers(shard, oneMonthAgo, adminRoleId, activeStatusId, inActiveStatus, userCache)));
+
+        if (updatedCount.get() > 0) {
+            cacheGeneration.advance(USERS_CACHE);
+            userCountProvider.invalidate();
+        }
+    }
 
-            userRepository.save(user);
+    private int sweepInactiveUsers(int shard,
+                                   LocalDateTime oneMonthAgo,
+                                   Long adminRoleId,
+                                   Long activeStatusId,
+                                   Status inActiveStatus,
+                                   Cache userCache) {
+        String lastId = "";
+        int chunkCount = 0;
+        int scannedCount = 0;
+        int updatedCount = 0;
+        List<String> candidateIds;
+        do {
+            candidateIds = userRepository.findInactivityCandidateIds(
+                    oneMonthAgo, adminRoleId, activeStatusId, lastId, PageRequest.of(0, INACTIVITY_SWEEP_CHUNK_SIZE));
+            if (candidateIds.isEmpty())
+                break;
+
+            List<String> chunk = candidateIds;
+            Integer updated = transactionOperations.execute(status -> {
+                int count = userRepository.updateStatusToInactive(
+                        chunk, inActiveStatus, oneMonthAgo, adminRoleId, activeStatusId);
+                userReadModelSynchronizer.sync(chunk);
+                return count;
+            });
+            if (userCache != null)
+                candidateIds.forEach(userCache::evict);
+
+            chunkCount++;
+            scannedCount += candidateIds.size();
+            updatedCount += updated == null ? 0 : updated;
+            lastId = candidateIds.get(candidateIds.size() - 1);
+            log.info("inactivity sweep shard {} chunk {} done: scanned={}, updated={}, lastId={}", shard, chunkCount, scannedCount, updatedCount, lastId);
+        } while (candidateIds.size() == INACTIVITY_SWEEP_CHUNK_SIZE);
+
+        log.info("inactivity sweep shard {} finished: chunks={}, scanned={}, updated={}", shard, chunkCount, scannedCount, updatedCount);
+        return updatedCount;
+    }
+
+    private BulkUserResponse applyInChunks(Collection<String> userIds,
+                                           Function<List<String>, List<String>> findTargets,
+                                           Consumer<List<String>> apply) {
+        List<String> ids = userIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+
+        List<String> changed = new ArrayList<>();
+        List<String> unchanged = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size()));
+            List<String> locked = userRepository.lockIds(chunk);
+            Set<String> existing = new HashSet<>(locked);
+            List<String> targets = locked.isEmpty() ? List.of() : findTargets.apply(locked);
+            if (!targets.isEmpty())
+                apply.accept(targets);
+
+            Set<String> targetSet = new HashSet<>(targets);
+            for (String id : chunk) {
+                if (!existing.contains(id))
+                    missing.add(id);
+                else if (targetSet.contains(id))
+                    changed.add(id);
+                else
+                    unchanged.add(id);
+            }
         }
+
+        return new BulkUserResponse(changed, unchanged, missing);
+    }
+
+    private void afterBulkChange(BulkUserResponse response, String... cacheNames) {
+        if (response.getChanged().isEmpty())
+            return;
+
+        userReadModelSynchronizer.sync(response.getChanged());
+        cacheGeneration.advance(USERS_CACHE);
+        userCountProvider.invalidate();
+
+        List<String> changed = response.getChanged();
+        Runnable evict = () -> {
+            for (String cacheName : cacheNames) {
+                Cache cache = cacheManager.getCache(cacheName);
+                if (cache != null)
+                    changed.forEach(cache::evict);
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict.run();
+            }
+        });
     }
-}
 
+    private boolean existsOnPreviousShard(String userId) {
+        if (!userShardRouter.isResharding())
+            return false;
+
+        int previousShard = userShardRouter.previousShardOf(userId);
+        return previousShard != userShardRouter.shardOf(userId)
+                && ShardContext.callOn(previousShard, () -> userRepository.existsById(userId));
+    }
+
+    private RuntimeException translateDuplicate(DataIntegrityViolationException e, String userId, String email) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof EntityExistsException)
+                return new UserAlreadyExistException(userId);
+            if (!(cause instanceof ConstraintViolationException))
+                continue;
+
+            String constraint = Objects.toString(((ConstraintViolationException) cause).getConstraintName(), "")
+                    .toLowerCase(Locale.ROOT);
+            if (constraint.endsWith(User.EMAIL_UNIQUE_KEY))
+                return new AlreadyExistEmailException(email);
+            if (constraint.endsWith("primary"))
+                return new UserAlreadyExistException(userId);
+        }
+        return e;
+    }
+
+    private long join(CompletableFuture<Long> total) {
+        try {
+            return total.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+
+    private CursorPage<UserDataResponse> toCursorPage(List<UserCursorRow> rows, int size, Long totalElements) {
+        boolean hasNext = rows.size() > size;
+        List<UserCursorRow> content = hasNext ? rows.subList(0, size) : rows;
+
+        String next = null;
+        if (hasNext) {
+            UserCursorRow last = content.get(content.size() - 1);
+            next = UserCursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new CursorPage<>(
+                content.stream().map(UserCursorRow::toResponse).collect(Collectors.toList()),
+                size,
+                hasNext,
+                next,
+                totalElements);
+    }
+}
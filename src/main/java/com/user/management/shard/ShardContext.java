@@ -0,0 +1,87 @@
+package com.user.management.shard;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드가 사용할 shard 번호를 보관합니다.
+ * {@link ShardRoutingDataSource} 는 실제 커넥션을 얻는 시점의 shard 번호로 대상을 고르므로,
+ * 트랜잭션은 반드시 shard 를 지정한 뒤에 시작해야 합니다. 이미 커넥션을 가진 트랜잭션 안에서 shard 를 바꾸어도 적용되지 않습니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+public final class ShardContext {
+    /**
+     * shard 를 지정하지 않았을 때 사용하는 shard 번호
+     */
+    public static final int DEFAULT_SHARD = 0;
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * 현재 스레드의 shard 번호를 반환합니다.
+     *
+     * @return shard 번호, 지정하지 않았으면 {@link #DEFAULT_SHARD}
+     */
+    public static int current() {
+        Integer shard = CURRENT.get();
+        return shard == null ? DEFAULT_SHARD : shard;
+    }
+
+    /**
+     * 지정한 shard 에서 작업을 실행하고, 끝나면 이전 shard 번호로 되돌립니다.
+     *
+     * @param shard shard 번호
+     * @param work  실행할 작업
+     * @param <T>   결과 타입
+     * @return 작업 결과
+     */
+    public static <T> T callOn(int shard, Supplier<T> work) {
+        Integer previous = swap(shard);
+        try {
+            return work.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * 지정한 shard 에서 작업을 실행합니다.
+     *
+     * @param shard shard 번호
+     * @param work  실행할 작업
+     */
+    public static void runOn(int shard, Runnable work) {
+        callOn(shard, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * 현재 스레드의 shard 번호를 바꾸고 이전 값을 반환합니다. 반드시 {@link #restore(Integer)} 와 함께 사용합니다.
+     *
+     * @param shard shard 번호
+     * @return 이전 shard 번호, 지정하지 않았으면 null
+     */
+    static Integer swap(int shard) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        return previous;
+    }
+
+    /**
+     * {@link #swap(int)} 이전의 shard 번호로 되돌립니다.
+     *
+     * @param previous 이전 shard 번호
+     */
+    static void restore(Integer previous) {
+        if (previous == null)
+            CURRENT.remove();
+        else
+            CURRENT.set(previous);
+    }
+}
@@ -0,0 +1,29 @@
+package com.user.management.shard;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드를 실행할 shard 를 정하는 사용자 ID 파라미터를 표시합니다.
+ * 파라미터는 사용자 ID 문자열, id 속성을 가진 요청 객체, 또는 사용자 ID 컬렉션일 수 있습니다.
+ * 컬렉션이면 shard 별로 나누어 각각 실행하며, 이 경우 메서드는 {@code BulkUserResponse} 를 반환해야 합니다.
+ * 재분배 중에는 이전 위치에서 먼저 실행하고, 새 사용자를 저장하는 메서드는 {@link #creates()} 로 표시하여 새 위치에서만 실행합니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ * @see ShardRoutingAspect
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardKey {
+    /**
+     * 새 사용자를 저장하는 메서드인지 여부, true 이면 재분배 중에도 이전 위치를 사용하지 않습니다.
+     *
+     * @return 새 사용자를 저장하면 true
+     */
+    boolean creates() default false;
+}
@@ -0,0 +1,233 @@
+package com.user.management.shard;
+
+import com.user.management.dto.BulkShardResult;
+import com.user.management.dto.BulkUserResponse;
+import com.user.management.exception.UserNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@link ShardKey} 파라미터의 사용자 ID 로 shard 를 정한 뒤 메서드를 실행합니다.
+ * 트랜잭션과 캐시 advice 보다 먼저 실행되어야 트랜잭션이 정해진 shard 의 커넥션을 사용하므로 가장 높은 우선순위를 가집니다.
+ * 재분배 중에는 이전 위치에서 먼저 실행하고, 이전 위치에 없는 사용자만 새 위치에서 한 번 더 찾습니다.
+ * 재분배 도구는 사용자를 새 위치에 복사한 뒤 이전 위치에서 삭제하므로, 삭제가 커밋될 때까지는 이전 위치의 행이 원본입니다.
+ * 새 사용자를 저장하는 메서드({@link ShardKey#creates()})는 재분배 중에도 새 위치에서만 실행합니다.
+ * 사용자 ID 컬렉션을 받는 일괄 처리는 shard 별로 나누어 shard 마다 별도의 트랜잭션으로 실행하므로 요청 전체가 원자적이지 않습니다.
+ * 둘 이상의 shard 에 걸치면 shard 별 커밋 여부를 {@link BulkShardResult} 로 결과에 담아 부분 실패를 드러냅니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Slf4j
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ShardRoutingAspect {
+    private final UserShardRouter router;
+    private final Map<Method, KeyParameter> keyParameters = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new Shard routing aspect.
+     *
+     * @param router 사용자 ID 의 shard 를 정하는 router
+     */
+    public ShardRoutingAspect(UserShardRouter router) {
+        this.router = router;
+    }
+
+    /**
+     * 첫 번째 또는 두 번째 파라미터에 {@link ShardKey} 가 붙은 메서드를 해당 shard 에서 실행합니다.
+     *
+     * @param joinPoint the join point
+     * @return 메서드 실행 결과
+     * @throws Throwable 메서드에서 발생한 예외
+     */
+    @Around("within(com.user.management..*) && ("
+            + "execution(* *(@com.user.management.shard.ShardKey (*), ..)) || "
+            + "execution(* *(*, @com.user.management.shard.ShardKey (*), ..)))")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!router.isSharded())
+            return joinPoint.proceed();
+
+        Object[] args = joinPoint.getArgs();
+        KeyParameter keyParameter = keyParameterOf(joinPoint);
+        int index = keyParameter.index;
+        boolean previousFirst = router.isResharding() && !keyParameter.creates;
+        Object key = args[index];
+        if (key instanceof Collection)
+            return routeEach(joinPoint, args, index, (Collection<?>) key, previousFirst);
+
+        String userId = userIdOf(key);
+        if (userId == null)
+            return joinPoint.proceed();
+
+        int shard = router.shardOf(userId);
+        int previous = router.previousShardOf(userId);
+        if (!previousFirst || previous == shard)
+            return proceedOn(shard, joinPoint, args);
+        try {
+            return proceedOn(previous, joinPoint, args);
+        } catch (UserNotFoundException e) {
+            return proceedOn(shard, joinPoint, args);
+        }
+    }
+
+    private BulkUserResponse routeEach(ProceedingJoinPoint joinPoint, Object[] args, int index, Collection<?> keys,
+                                       boolean previousFirst) throws Throwable {
+        if (!BulkUserResponse.class.equals(((MethodSignature) joinPoint.getSignature()).getReturnType()))
+            throw new IllegalStateException("사용자 ID 컬렉션으로 shard 를 나누는 메서드는 BulkUserResponse 를 반환해야 합니다: " + joinPoint.getSignature());
+
+        List<String> userIds = keys.stream()
+                .filter(Objects::nonNull)
+                .map(String::valueOf)
+                .collect(Collectors.toList());
+        if (!previousFirst)
+            return proceedPerShard(joinPoint, args, index, router.partition(userIds));
+
+        Map<Integer, List<String>> previousPartitions = router.partitionByPreviousShard(userIds);
+        BulkUserResponse response = proceedPerShard(joinPoint, args, index, previousPartitions);
+        List<String> moved = response.getMissing().stream()
+                .filter(userId -> router.previousShardOf(userId) != router.shardOf(userId))
+                .collect(Collectors.toList());
+        if (moved.isEmpty())
+            return response;
+
+        Set<String> retried = Set.copyOf(moved);
+        BulkUserResponse stillMissing = new BulkUserResponse(
+                response.getChanged(),
+                response.getUnchanged(),
+                response.getMissing().stream().filter(userId -> !retried.contains(userId)).collect(Collectors.toList()),
+                response.getFailed(),
+                response.getFailureMessage(),
+                committedShards(response, previousPartitions));
+        Map<Integer, List<String>> partitions = router.partition(moved);
+        BulkUserResponse retry = proceedPerShard(joinPoint, args, index, partitions);
+        retry.setShards(committedShards(retry, partitions));
+        return merge(List.of(stillMissing, retry));
+    }
+
+    private BulkUserResponse proceedPerShard(ProceedingJoinPoint joinPoint, Object[] args, int index,
+                                             Map<Integer, List<String>> partitions) throws Throwable {
+        if (partitions.size() == 1) {
+            Map.Entry<Integer, List<String>> only = partitions.entrySet().iterator().next();
+            return (BulkUserResponse) proceedOn(only.getKey(), joinPoint, withKey(args, index, only.getValue()));
+        }
+
+        List<BulkUserResponse> responses = new ArrayList<>();
+        for (Map.Entry<Integer, List<String>> partition : partitions.entrySet()) {
+            BulkUserResponse response;
+            BulkShardResult shardResult;
+            try {
+                response = (BulkUserResponse) proceedOn(partition.getKey(), joinPoint, withKey(args, index, partition.getValue()));
+                shardResult = new BulkShardResult(partition.getKey(), true, partition.getValue(), null);
+            } catch (RuntimeException e) {
+                log.warn("shard {} bulk operation failed and was rolled back: {}", partition.getKey(), e.getMessage());
+                response = BulkUserResponse.failed(partition.getValue(), e.getMessage());
+                shardResult = new BulkShardResult(partition.getKey(), false, partition.getValue(), e.getMessage());
+            }
+            response.setShards(List.of(shardResult));
+            responses.add(response);
+        }
+        return merge(responses);
+    }
+
+    private static List<BulkShardResult> committedShards(BulkUserResponse response, Map<Integer, List<String>> partitions) {
+        if (response.getShards() != null)
+            return response.getShards();
+
+        Map.Entry<Integer, List<String>> only = partitions.entrySet().iterator().next();
+        return List.of(new BulkShardResult(only.getKey(), true, only.getValue(), null));
+    }
+
+    private Object proceedOn(int shard, ProceedingJoinPoint joinPoint, Object[] args) throws Throwable {
+        Integer previous = ShardContext.swap(shard);
+        try {
+            return joinPoint.proceed(args);
+        } finally {
+            ShardContext.restore(previous);
+        }
+    }
+
+    private KeyParameter keyParameterOf(ProceedingJoinPoint joinPoint) {
+        Method method = AopUtils.getMostSpecificMethod(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), joinPoint.getTarget().getClass());
+        return keyParameters.computeIfAbsent(method, ShardRoutingAspect::findKeyParameter);
+    }
+
+    private static KeyParameter findKeyParameter(Method method) {
+        Annotation[][] annotations = method.getParameterAnnotations();
+        for (int i = 0; i < annotations.length; i++) {
+            for (Annotation annotation : annotations[i]) {
+                if (annotation instanceof ShardKey)
+                    return new KeyParameter(i, ((ShardKey) annotation).creates());
+            }
+        }
+        throw new IllegalStateException("@ShardKey 파라미터가 없습니다: " + method);
+    }
+
+    private static String userIdOf(Object key) {
+        if (key == null || key instanceof String)
+            return (String) key;
+
+        Object id = PropertyAccessorFactory.forBeanPropertyAccess(key).getPropertyValue("id");
+        return id == null ? null : String.valueOf(id);
+    }
+
+    private static Object[] withKey(Object[] args, int index, List<String> userIds) {
+        Object[] copy = args.clone();
+        copy[index] = userIds;
+        return copy;
+    }
+
+    private static BulkUserResponse merge(List<BulkUserResponse> responses) {
+        String failureMessage = responses.stream()
+                .map(BulkUserResponse::getFailureMessage)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.joining("; "));
+        List<BulkShardResult> shards = responses.stream()
+                .map(BulkUserResponse::getShards)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+        return new BulkUserResponse(
+                concat(responses.stream().map(BulkUserResponse::getChanged)),
+                concat(responses.stream().map(BulkUserResponse::getUnchanged)),
+                concat(responses.stream().map(BulkUserResponse::getMissing)),
+                concat(responses.stream().map(BulkUserResponse::getFailed)),
+                failureMessage.isEmpty() ? null : failureMessage,
+                shards.isEmpty() ? null : shards);
+    }
+
+    private static List<String> concat(Stream<List<String>> lists) {
+        return lists.flatMap(List::stream).collect(Collectors.toList());
+    }
+
+    private static class KeyParameter {
+        private final int index;
+        private final boolean creates;
+
+        private KeyParameter(int index, boolean creates) {
+            this.index = index;
+            this.creates = creates;
+        }
+    }
+}
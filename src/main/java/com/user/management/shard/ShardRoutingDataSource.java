@@ -0,0 +1,66 @@
+package com.user.management.shard;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ShardContext} 의 shard 번호로 커넥션을 얻을 DataSource 를 고릅니다.
+ * 트랜잭션 시작 이후에 지정한 shard 도 적용되도록 {@code LazyConnectionDataSourceProxy} 로 감싸서 사용합니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+    private final List<DataSource> shards;
+
+    /**
+     * Instantiates a new Shard routing data source.
+     *
+     * @param shards shard 번호 순서의 DataSource
+     */
+    public ShardRoutingDataSource(List<DataSource> shards) {
+        if (shards.isEmpty())
+            throw new IllegalArgumentException("shard 가 하나 이상 필요합니다.");
+
+        this.shards = new ArrayList<>(shards);
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++)
+            targets.put(i, shards.get(i));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(shards.get(ShardContext.DEFAULT_SHARD));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    /**
+     * 지정한 shard 의 DataSource 를 반환합니다. 재분배처럼 여러 shard 를 직접 다룰 때 사용합니다.
+     *
+     * @param shard shard 번호
+     * @return the data source
+     */
+    public DataSource getShard(int shard) {
+        return shards.get(shard);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        int shard = ShardContext.current();
+        if (shard < 0 || shard >= shards.size())
+            throw new IllegalStateException("존재하지 않는 shard 입니다: " + shard);
+        return shard;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource shard : shards) {
+            if (shard instanceof AutoCloseable)
+                ((AutoCloseable) shard).close();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.user.management.shard;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 샤딩 설정 값을 바인딩하는 클래스입니다. (app.sharding)
+ * shards 의 순서가 shard 번호이며, 사용자 ID 의 hash 로 shard 를 정하므로 순서를 바꾸면 안 됩니다.
+ * 접속 정보가 없는 shard 는 spring.datasource 의 username, password, driver 를 사용합니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.sharding")
+public class ShardingProperties {
+    /**
+     * 샤딩 사용 여부, 끄면 spring.datasource 하나만 사용합니다.
+     */
+    private boolean enabled = false;
+
+    /**
+     * shard 접속 정보, 0 번 shard 가 기준 데이터(Status, Role, Provider) 의 원본입니다.
+     */
+    private List<Shard> shards = new ArrayList<>();
+
+    /**
+     * 재분배 중일 때 이전 shard 수. 지정하면 사용자를 이전 위치에서 먼저 찾고, 없으면 새 위치에서 찾습니다.
+     */
+    private Integer previousShardCount;
+
+    /**
+     * shard 마다 유지할 최대 커넥션 수
+     */
+    private int poolSize = 10;
+
+    /**
+     * 재분배 시 한 번에 옮길 사용자 수
+     */
+    private int reshardBatchSize = 500;
+
+    /**
+     * 재분배 시 변경된 사용자를 다시 옮기는 최대 반복 횟수
+     */
+    private int reshardMaxPasses = 3;
+
+    /**
+     * email 색인에 등록한 뒤 사용자가 저장되기를 기다리는 시간. 지나도록 등록한 사용자가 그 email 을 갖지 않으면 다른 사용자가 가져갈 수 있습니다.
+     */
+    private Duration emailClaimTimeout = Duration.ofMinutes(1L);
+
+    /**
+     * shard 접속 정보
+     */
+    @Getter
+    @Setter
+    public static class Shard {
+        /**
+         * 로그와 커넥션 풀 이름에 사용할 이름
+         */
+        private String name;
+
+        private String url;
+
+        private String username;
+
+        private String password;
+    }
+}
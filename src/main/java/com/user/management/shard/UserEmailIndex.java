@@ -0,0 +1,205 @@
+package com.user.management.shard;
+
+import com.user.management.exception.AlreadyExistEmailException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 모든 shard 에 걸쳐 email 이 한 사용자에게만 쓰이도록 하는 email 색인입니다.
+ * users 의 email unique 제약은 shard 안에서만 적용되므로, 사용자를 저장하거나 email 을 바꾸기 전에
+ * 0 번 shard 의 user_email_index 에 email 과 사용자 ID 를 등록(claim)하고, 이미 다른 사용자가 등록했으면
+ * {@link AlreadyExistEmailException} 을 던집니다.
+ * <p>
+ * 색인과 사용자는 서로 다른 shard 에 있어 하나의 트랜잭션으로 묶을 수 없으므로, 사용자 저장에 실패하면 등록을 취소하고,
+ * 취소하지 못한 등록은 app.sharding.email-claim-timeout 이 지난 뒤 등록한 사용자가 그 email 을 갖고 있지 않으면 다른 사용자가 가져갑니다.
+ * 삭제된 사용자나 email 을 바꾼 사용자의 이전 email 도 같은 방식으로 다시 사용할 수 있습니다.
+ * 샤딩을 사용하지 않아도 같은 방식으로 등록하여, 이후 shard 를 늘려도 기존 사용자의 email 이 색인에 남아 있도록 합니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class UserEmailIndex {
+    static final int INDEX_SHARD = ShardContext.DEFAULT_SHARD;
+    private static final String INSERT_CLAIM =
+            "INSERT INTO user_email_index (user_email, user_id, claimed_at) VALUES (?, ?, ?)";
+    private static final String SELECT_CLAIM =
+            "SELECT user_id, claimed_at FROM user_email_index WHERE user_email = ?";
+    private static final String SELECT_CLAIMED_EMAILS =
+            "SELECT user_email FROM user_email_index WHERE user_email IN (:emails)";
+    private static final String TAKE_OVER_CLAIM =
+            "UPDATE user_email_index SET user_id = ?, claimed_at = ? WHERE user_email = ? AND user_id = ?";
+    private static final String DELETE_CLAIM =
+            "DELETE FROM user_email_index WHERE user_email = ? AND user_id = ?";
+    private static final String COUNT_OWNER =
+            "SELECT COUNT(*) FROM users WHERE user_id = ? AND user_email = ?";
+    private static final RowMapper<Claim> CLAIM_ROW = (rs, rowNum) ->
+            new Claim(rs.getString("user_id"), rs.getTimestamp("claimed_at"));
+
+    private final UserShardRouter router;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate shardTransaction;
+    private final Duration claimTimeout;
+
+    /**
+     * Instantiates a new User email index.
+     *
+     * @param router                     등록한 사용자가 저장된 shard 를 찾을 router
+     * @param jdbcTemplate               the jdbc template
+     * @param namedParameterJdbcTemplate IN 절을 사용하는 쿼리용 템플릿
+     * @param transactionManager         호출한 트랜잭션과 별개로 색인을 변경할 트랜잭션 매니저
+     * @param shardingProperties         등록한 사용자가 저장되기를 기다리는 시간
+     */
+    public UserEmailIndex(UserShardRouter router,
+                          JdbcTemplate jdbcTemplate,
+                          NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          ShardingProperties shardingProperties) {
+        this.router = router;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.shardTransaction = new TransactionTemplate(transactionManager);
+        this.shardTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.claimTimeout = shardingProperties.getEmailClaimTimeout();
+    }
+
+    /**
+     * email 을 사용자에게 등록합니다.
+     *
+     * @param email  등록할 email
+     * @param userId email 을 사용할 사용자 ID
+     * @return 새로 등록했으면 true, 이미 같은 사용자에게 등록되어 있었으면 false
+     * @throws AlreadyExistEmailException 다른 사용자에게 등록된 email 일 경우 발생하는 예외
+     */
+    public boolean claim(String email, String userId) {
+        ClaimResult result = tryClaim(email, userId);
+        if (result == ClaimResult.TAKEN)
+            throw new AlreadyExistEmailException(email);
+        return result == ClaimResult.CLAIMED;
+    }
+
+    /**
+     * 여러 email 을 한 번에 등록합니다. 등록되지 않은 email 은 하나의 batch INSERT 로 등록하고,
+     * 이미 등록된 email 과 batch 가 충돌한 경우에만 email 마다 다시 확인합니다.
+     *
+     * @param userIdsByEmail email 과 그 email 을 사용할 사용자 ID
+     * @return 다른 사용자에게 등록되어 있어 등록하지 못한 email
+     */
+    public Set<String> claimAll(Map<String, String> userIdsByEmail) {
+        if (userIdsByEmail.isEmpty())
+            return Set.of();
+
+        Set<String> claimed = new HashSet<>(onIndexShard(() -> namedParameterJdbcTemplate.queryForList(
+                SELECT_CLAIMED_EMAILS, Map.of("emails", userIdsByEmail.keySet()), String.class)));
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(userIdsByEmail.size());
+        userIdsByEmail.forEach((email, userId) -> {
+            if (!claimed.contains(email))
+                batchArgs.add(new Object[]{email, userId, now});
+        });
+
+        Set<String> recheck = claimed;
+        try {
+            if (!batchArgs.isEmpty())
+                onIndexShard(() -> jdbcTemplate.batchUpdate(INSERT_CLAIM, batchArgs));
+        } catch (DuplicateKeyException e) {
+            log.info("email claim batch conflicted, claiming one by one: size={}", batchArgs.size());
+            recheck = userIdsByEmail.keySet();
+        }
+
+        Set<String> rejected = new HashSet<>();
+        for (String email : recheck) {
+            if (tryClaim(email, userIdsByEmail.get(email)) == ClaimResult.TAKEN)
+                rejected.add(email);
+        }
+        return rejected;
+    }
+
+    /**
+     * 사용자에게 등록된 email 을 해제합니다. 다른 사용자에게 등록된 email 은 그대로 둡니다.
+     *
+     * @param email  해제할 email
+     * @param userId email 을 등록한 사용자 ID
+     */
+    public void release(String email, String userId) {
+        onIndexShard(() -> jdbcTemplate.update(DELETE_CLAIM, email, userId));
+    }
+
+    private ClaimResult tryClaim(String email, String userId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            onIndexShard(() -> jdbcTemplate.update(INSERT_CLAIM, email, userId, now));
+            return ClaimResult.CLAIMED;
+        } catch (DuplicateKeyException e) {
+            log.debug("email already claimed: {}", email);
+        }
+
+        Claim claim = onIndexShard(() -> jdbcTemplate.query(SELECT_CLAIM, CLAIM_ROW, email)).stream()
+                .findFirst()
+                .orElse(null);
+        if (claim == null)
+            return ClaimResult.TAKEN;
+        if (claim.userId.equals(userId))
+            return ClaimResult.OWNED;
+        if (claim.claimedAt.toLocalDateTime().plus(claimTimeout).isAfter(now.toLocalDateTime()) || owns(claim.userId, email))
+            return ClaimResult.TAKEN;
+
+        int updated = onIndexShard(() -> jdbcTemplate.update(TAKE_OVER_CLAIM, userId, now, email, claim.userId));
+        if (updated == 0)
+            return ClaimResult.TAKEN;
+        log.info("stale email claim taken over: email={}, from={}, to={}", email, claim.userId, userId);
+        return ClaimResult.CLAIMED;
+    }
+
+    private boolean owns(String userId, String email) {
+        int shard = router.shardOf(userId);
+        if (countOwner(shard, userId, email) > 0)
+            return true;
+
+        int previousShard = router.previousShardOf(userId);
+        return previousShard != shard && countOwner(previousShard, userId, email) > 0;
+    }
+
+    private int countOwner(int shard, String userId, String email) {
+        Integer count = ShardContext.callOn(shard, () -> shardTransaction.execute(status ->
+                jdbcTemplate.queryForObject(COUNT_OWNER, Integer.class, userId, email)));
+        return count == null ? 0 : count;
+    }
+
+    private <T> T onIndexShard(Supplier<T> work) {
+        return ShardContext.callOn(INDEX_SHARD, () -> shardTransaction.execute(status -> work.get()));
+    }
+
+    private enum ClaimResult {
+        CLAIMED, OWNED, TAKEN
+    }
+
+    private static class Claim {
+        private final String userId;
+        private final Timestamp claimedAt;
+
+        private Claim(String userId, Timestamp claimedAt) {
+            this.userId = userId;
+            this.claimedAt = claimedAt;
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.user.management.shard;
+
+import com.user.management.cache.CacheGenerationManager;
+import com.user.management.dto.ReshardResponse;
+import com.user.management.service.impl.UserReadModelSynchronizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * shard 수를 늘린 뒤 사용자를 새 위치의 shard 로 옮기는 온라인 재분배 도구입니다.
+ * 각 shard 의 사용자를 user_id 순서의 chunk 로 읽어, 위치가 바뀐 사용자마다 다음 순서로 옮깁니다.
+ * <ol>
+ *     <li>이전 shard 에서 대상 행을 잠금 없이 조회</li>
+ *     <li>새 shard 의 트랜잭션에서 행만 복사하고 커밋, 생성 시각이 같은 행이 이미 있으면 앞서 복사한 행으로 보고 조회한 값으로 갱신</li>
+ *     <li>이전 shard 의 트랜잭션에서 행을 쓰기 잠금으로 다시 조회하여, 조회한 값과 같은 행만 삭제하고 읽기 모델에서도 지운 뒤 커밋</li>
+ *     <li>새 shard 의 트랜잭션에서 삭제한 사용자의 읽기 모델을 만들고 커밋</li>
+ * </ol>
+ * 이전 shard 의 잠금은 3 단계에서만 잡으므로 새 shard 가 커밋하는 동안 이전 shard 의 사용자를 막지 않습니다.
+ * 삭제가 커밋될 때까지는 {@link ShardRoutingAspect} 가 이전 위치에서 먼저 읽고 쓰므로 이전 shard 의 행이 원본이며,
+ * 새 shard 의 복사본은 사용되지 않습니다. 읽기 모델 행은 원본이 있는 shard 에만 있으므로, 읽기 모델을 읽는 목록, 개수, 내보내기와
+ * 읽기 모델이 있는 행만 고르는 조건부 변경은 복사 중인 사용자를 한 번만 봅니다. 3 단계와 4 단계 사이에는 잠시 목록에서 빠집니다.
+ * 복사 후 삭제 전에 실패하거나 그 사이에 행이 바뀌면 이전 shard 에 남은 행을 다음 반복에서 다시 복사하여 복사본을 갱신한 뒤 삭제합니다.
+ * 그 사이에 이전 shard 에서 삭제된 사용자는 복사본도 삭제합니다. 4 단계에 실패한 사용자는 다음 반복에서 다시 읽기 모델을 만듭니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class UserResharder {
+    private static final String USERS_CACHE = "getUsers";
+    private static final String SELECT_USER_IDS_AFTER =
+            "SELECT user_id FROM users WHERE user_id > ? ORDER BY user_id LIMIT ?";
+    private static final String SELECT_USERS =
+            "SELECT user_id, user_name, user_password, user_email, role_id, status_id, provider_id, created_at, latest_login_at "
+                    + "FROM users WHERE user_id IN (:ids)";
+    private static final String LOCK_USERS = SELECT_USERS + " FOR UPDATE";
+    private static final String SELECT_CREATED_AT =
+            "SELECT user_id, created_at FROM users WHERE user_id IN (:ids)";
+    private static final String INSERT_USER =
+            "INSERT INTO users (user_id, user_name, user_password, user_email, role_id, status_id, provider_id, created_at, latest_login_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String REFRESH_USER =
+            "UPDATE users SET user_name = ?, user_password = ?, user_email = ?, role_id = ?, status_id = ?, provider_id = ?, "
+                    + "latest_login_at = ? WHERE user_id = ? AND created_at = ?";
+    private static final String DELETE_USERS =
+            "DELETE FROM users WHERE user_id IN (:ids)";
+    private static final String DELETE_COPIES =
+            "DELETE FROM users WHERE user_id = ? AND created_at = ?";
+    private static final RowMapper<Object[]> USER_ROW = (rs, rowNum) -> new Object[]{
+            rs.getString("user_id"),
+            rs.getString("user_name"),
+            rs.getString("user_password"),
+            rs.getString("user_email"),
+            rs.getObject("role_id", Long.class),
+            rs.getObject("status_id", Long.class),
+            rs.getString("provider_id"),
+            rs.getTimestamp("created_at"),
+            rs.getTimestamp("latest_login_at")
+    };
+    private static final int USER_ID = 0;
+    private static final int CREATED_AT = 7;
+    private static final int LATEST_LOGIN_AT = 8;
+
+    private final UserShardRouter router;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate shardTransaction;
+    private final UserReadModelSynchronizer userReadModelSynchronizer;
+    private final CacheGenerationManager cacheGeneration;
+    private final int batchSize;
+    private final int maxPasses;
+
+    /**
+     * Instantiates a new User resharder.
+     *
+     * @param router                     사용자의 새 위치를 정하는 router
+     * @param jdbcTemplate               the jdbc template
+     * @param namedParameterJdbcTemplate IN 절을 사용하는 쿼리용 템플릿
+     * @param transactionManager         shard 마다 트랜잭션을 시작할 트랜잭션 매니저
+     * @param userReadModelSynchronizer  옮긴 사용자의 읽기 모델을 이전 shard 에서 지우고 새 shard 에 만듦
+     * @param cacheGeneration            옮긴 뒤 목록 캐시 세대를 올리기 위한 세대 관리
+     * @param shardingProperties         한 번에 옮길 사용자 수와 최대 반복 횟수
+     */
+    public UserResharder(UserShardRouter router,
+                         JdbcTemplate jdbcTemplate,
+                         NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                         PlatformTransactionManager transactionManager,
+                         UserReadModelSynchronizer userReadModelSynchronizer,
+                         CacheGenerationManager cacheGeneration,
+                         ShardingProperties shardingProperties) {
+        this.router = router;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.shardTransaction = new TransactionTemplate(transactionManager);
+        this.shardTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.userReadModelSynchronizer = userReadModelSynchronizer;
+        this.cacheGeneration = cacheGeneration;
+        this.batchSize = shardingProperties.getReshardBatchSize();
+        this.maxPasses = shardingProperties.getReshardMaxPasses();
+    }
+
+    /**
+     * 모든 shard 를 확인하여 위치가 바뀐 사용자를 옮깁니다.
+     * 실패한 사용자가 없을 때까지 최대 app.sharding.reshard-max-passes 번 반복하며, 동시에 하나만 실행됩니다.
+     *
+     * @return 반복 횟수, 확인한 사용자 수, 옮긴 사용자 수, 충돌과 실패 수 (충돌과 실패는 마지막 반복 기준)
+     */
+    public synchronized ReshardResponse reshard() {
+        ReshardResponse total = new ReshardResponse();
+        if (!router.isSharded())
+            return total;
+
+        Map<Integer, Set<String>> unsynced = new TreeMap<>();
+        for (int pass = 1; pass <= maxPasses; pass++) {
+            ReshardResponse result = runPass(unsynced);
+            total.setPasses(pass);
+            total.setScanned(total.getScanned() + result.getScanned());
+            total.setMoved(total.getMoved() + result.getMoved());
+            total.setConflicts(result.getConflicts());
+            total.setFailed(result.getFailed());
+            log.info("reshard pass {} done: scanned={}, moved={}, conflicts={}, failed={}",
+                    pass, result.getScanned(), result.getMoved(), result.getConflicts(), result.getFailed());
+            if (result.getFailed() == 0)
+                break;
+        }
+        if (!unsynced.isEmpty())
+            log.warn("reshard left {} moved users without a read model row, rebuild the read model",
+                    unsynced.values().stream().mapToInt(Set::size).sum());
+
+        if (total.getMoved() > 0)
+            cacheGeneration.advance(USERS_CACHE);
+        return total;
+    }
+
+    private ReshardResponse runPass(Map<Integer, Set<String>> unsynced) {
+        ReshardResponse result = new ReshardResponse();
+        // 앞선 반복에서 읽기 모델을 만들지 못한 사용자부터 다시 만든다
+        Map<Integer, Set<String>> retry = new TreeMap<>(unsynced);
+        unsynced.clear();
+        retry.forEach((target, ids) -> syncTarget(target, ids, unsynced, result));
+
+        for (int shard = 0; shard < router.getShardCount(); shard++) {
+            int source = shard;
+            String lastId = "";
+            List<String> ids;
+            do {
+                String after = lastId;
+                ids = ShardContext.callOn(source, () -> jdbcTemplate.queryForList(SELECT_USER_IDS_AFTER, String.class, after, batchSize));
+                if (ids.isEmpty())
+                    break;
+
+                result.setScanned(result.getScanned() + ids.size());
+                router.partition(ids).forEach((target, chunk) -> {
+                    if (target != source)
+                        move(source, target, chunk, unsynced, result);
+                });
+                lastId = ids.get(ids.size() - 1);
+            } while (ids.size() == batchSize);
+        }
+        return result;
+    }
+
+    private void move(int source, int target, List<String> ids, Map<Integer, Set<String>> unsynced, ReshardResponse result) {
+        try {
+            List<Object[]> rows = ShardContext.callOn(source, () ->
+                    namedParameterJdbcTemplate.query(SELECT_USERS, Map.of("ids", ids), USER_ROW));
+            if (rows.isEmpty())
+                return;
+
+            List<Object[]> copied = ShardContext.callOn(target, () -> shardTransaction.execute(status -> copy(rows)));
+            if (copied == null || copied.isEmpty()) {
+                result.setConflicts(result.getConflicts() + rows.size());
+                return;
+            }
+
+            List<Object[]> vanished = new ArrayList<>();
+            List<String> deleted = ShardContext.callOn(source, () -> shardTransaction.execute(status -> deleteUnchanged(copied, vanished)));
+            if (!vanished.isEmpty())
+                ShardContext.runOn(target, () -> shardTransaction.executeWithoutResult(status -> removeCopies(vanished)));
+
+            int moved = deleted == null ? 0 : deleted.size();
+            result.setMoved(result.getMoved() + moved);
+            result.setConflicts(result.getConflicts() + rows.size() - copied.size());
+            result.setFailed(result.getFailed() + copied.size() - moved - vanished.size());
+            if (moved > 0)
+                syncTarget(target, deleted, unsynced, result);
+        } catch (DataAccessException e) {
+            result.setFailed(result.getFailed() + ids.size());
+            log.warn("reshard chunk failed: source={}, target={}, users={}", source, target, ids.size(), e);
+        }
+    }
+
+    private void syncTarget(int target, Collection<String> ids, Map<Integer, Set<String>> unsynced, ReshardResponse result) {
+        try {
+            ShardContext.runOn(target, () -> shardTransaction.executeWithoutResult(status -> userReadModelSynchronizer.sync(ids)));
+        } catch (DataAccessException e) {
+            unsynced.computeIfAbsent(target, shard -> new TreeSet<>()).addAll(ids);
+            result.setFailed(result.getFailed() + ids.size());
+            log.warn("reshard read model sync failed: target={}, users={}", target, ids.size(), e);
+        }
+    }
+
+    private List<String> deleteUnchanged(List<Object[]> copied, List<Object[]> vanished) {
+        List<String> ids = new ArrayList<>(copied.size());
+        copied.forEach(row -> ids.add((String) row[USER_ID]));
+        Map<String, Object[]> current = new HashMap<>();
+        namedParameterJdbcTemplate.query(LOCK_USERS, Map.of("ids", ids), USER_ROW)
+                .forEach(row -> current.put((String) row[USER_ID], row));
+
+        List<String> unchanged = new ArrayList<>(copied.size());
+        for (Object[] row : copied) {
+            Object[] now = current.get((String) row[USER_ID]);
+            if (now == null)
+                vanished.add(row);
+            else if (Arrays.equals(now, row))
+                unchanged.add((String) row[USER_ID]);
+            else
+                log.info("reshard retry, user {} changed while being copied", row[USER_ID]);
+        }
+
+        if (!unchanged.isEmpty()) {
+            namedParameterJdbcTemplate.update(DELETE_USERS, Map.of("ids", unchanged));
+            userReadModelSynchronizer.sync(unchanged);
+        }
+        return unchanged;
+    }
+
+    private void removeCopies(List<Object[]> vanished) {
+        List<String> ids = new ArrayList<>(vanished.size());
+        for (Object[] row : vanished) {
+            jdbcTemplate.update(DELETE_COPIES, row[USER_ID], row[CREATED_AT]);
+            ids.add((String) row[USER_ID]);
+        }
+        userReadModelSynchronizer.sync(ids);
+        log.info("reshard removed copies of {} users deleted while being copied", ids.size());
+    }
+
+    private List<Object[]> copy(List<Object[]> rows) {
+        List<String> ids = new ArrayList<>(rows.size());
+        rows.forEach(row -> ids.add((String) row[USER_ID]));
+        Map<String, Timestamp> existing = new HashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_CREATED_AT, Map.of("ids", ids), rs -> {
+            existing.put(rs.getString("user_id"), rs.getTimestamp("created_at"));
+        });
+
+        List<Object[]> copied = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            String userId = (String) row[USER_ID];
+            if (existing.containsKey(userId) && !Objects.equals(existing.get(userId), row[CREATED_AT])) {
+                log.warn("reshard conflict, a different user with the same id exists on the target shard: {}", userId);
+                continue;
+            }
+
+            try {
+                if (existing.containsKey(userId))
+                    jdbcTemplate.update(REFRESH_USER, row[1], row[2], row[3], row[4], row[5], row[6], row[LATEST_LOGIN_AT],
+                            userId, row[CREATED_AT]);
+                else
+                    jdbcTemplate.update(INSERT_USER, row);
+                copied.add(row);
+            } catch (DuplicateKeyException e) {
+                log.warn("reshard conflict, the email of user {} is already used on the target shard", userId);
+            }
+        }
+        return copied;
+    }
+}
@@ -0,0 +1,124 @@
+package com.user.management.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.ToIntFunction;
+import java.util.zip.CRC32;
+
+/**
+ * 사용자 ID 를 CRC32 hash 로 shard 번호에 대응시킵니다.
+ * 같은 ID 는 shard 수가 같으면 항상 같은 shard 에 대응되며, 샤딩을 사용하지 않으면 모든 ID 가 0 번 shard 입니다.
+ * 재분배는 shard 를 늘리는 경우만 지원하므로 이전 위치는 항상 현재 shard 목록 안에 있습니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+public class UserShardRouter {
+    private final int shardCount;
+    private final int previousShardCount;
+
+    /**
+     * Instantiates a new User shard router.
+     *
+     * @param properties 샤딩 설정
+     */
+    public UserShardRouter(ShardingProperties properties) {
+        this.shardCount = properties.isEnabled() ? Math.max(1, properties.getShards().size()) : 1;
+        this.previousShardCount = properties.isEnabled() && properties.getPreviousShardCount() != null
+                ? properties.getPreviousShardCount()
+                : shardCount;
+        if (previousShardCount < 1)
+            throw new IllegalArgumentException("app.sharding.previous-shard-count 는 1 이상이어야 합니다.");
+        if (previousShardCount > shardCount)
+            throw new IllegalArgumentException("shard 수를 줄이는 재분배는 지원하지 않습니다.");
+    }
+
+    /**
+     * 사용자가 저장되어야 할 shard 번호를 반환합니다.
+     *
+     * @param userId 사용자 ID
+     * @return shard 번호
+     */
+    public int shardOf(String userId) {
+        return shardOf(userId, shardCount);
+    }
+
+    /**
+     * 재분배 전 shard 수 기준으로 사용자가 있던 shard 번호를 반환합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 이전 shard 번호
+     */
+    public int previousShardOf(String userId) {
+        return shardOf(userId, previousShardCount);
+    }
+
+    /**
+     * 사용자 ID 를 저장되어야 할 shard 별로 나눕니다.
+     *
+     * @param userIds 사용자 ID
+     * @return shard 번호 순서의 shard 별 사용자 ID
+     */
+    public Map<Integer, List<String>> partition(Collection<String> userIds) {
+        return partition(userIds, this::shardOf);
+    }
+
+    /**
+     * 사용자 ID 를 재분배 전에 있던 shard 별로 나눕니다.
+     *
+     * @param userIds 사용자 ID
+     * @return 이전 shard 번호 순서의 shard 별 사용자 ID
+     */
+    public Map<Integer, List<String>> partitionByPreviousShard(Collection<String> userIds) {
+        return partition(userIds, this::previousShardOf);
+    }
+
+    /**
+     * shard 수를 반환합니다.
+     *
+     * @return shard 수, 샤딩을 사용하지 않으면 1
+     */
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * 둘 이상의 shard 를 사용하는지 확인합니다.
+     *
+     * @return 둘 이상이면 true
+     */
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
+
+    /**
+     * 이전 shard 수와 현재 shard 수가 달라 재분배 중인지 확인합니다.
+     *
+     * @return 재분배 중이면 true
+     */
+    public boolean isResharding() {
+        return previousShardCount != shardCount;
+    }
+
+    private static Map<Integer, List<String>> partition(Collection<String> userIds, ToIntFunction<String> shardOf) {
+        Map<Integer, List<String>> partitions = new TreeMap<>();
+        userIds.stream()
+                .filter(Objects::nonNull)
+                .forEach(userId -> partitions.computeIfAbsent(shardOf.applyAsInt(userId), shard -> new ArrayList<>()).add(userId));
+        return partitions;
+    }
+
+    private int shardOf(String userId, int count) {
+        if (count == 1)
+            return 0;
+
+        CRC32 crc32 = new CRC32();
+        crc32.update(userId.getBytes(StandardCharsets.UTF_8));
+        return (int) (crc32.getValue() % count);
+    }
+}
@@ -0,0 +1,242 @@
+package com.user.management.shard;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 여러 shard 에 걸친 사용자 조회와 작업을 실행합니다.
+ * 조회는 shard 마다 별도 스레드의 읽기 전용 트랜잭션에서 동시에 실행한 뒤(scatter),
+ * shard 별로 정렬된 결과를 k-way 병합 정렬로 합칩니다(gather).
+ * 샤딩을 사용하지 않으면 호출한 스레드와 트랜잭션에서 한 번만 실행하므로 기존 동작과 같습니다.
+ *
+ * @author parksangwon
+ * @version 1.0.0
+ */
+public class UserShards implements DisposableBean {
+    private final UserShardRouter router;
+    private final TransactionTemplate shardReadTransaction;
+    private final TransactionTemplate shardWriteTransaction;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Instantiates a new User shards.
+     *
+     * @param router             shard 수를 제공하는 router
+     * @param transactionManager shard 마다 트랜잭션을 시작할 트랜잭션 매니저
+     */
+    public UserShards(UserShardRouter router, PlatformTransactionManager transactionManager) {
+        this.router = router;
+        this.shardReadTransaction = new TransactionTemplate(transactionManager);
+        this.shardReadTransaction.setReadOnly(true);
+        this.shardReadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.shardWriteTransaction = new TransactionTemplate(transactionManager);
+        this.shardWriteTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        int shardCount = router.getShardCount();
+        if (shardCount > 1) {
+            this.executor = new ThreadPoolExecutor(
+                    shardCount, shardCount, 60L, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(shardCount * 16),
+                    new CustomizableThreadFactory("shard-gather-"),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+            this.executor.allowCoreThreadTimeOut(true);
+        } else {
+            this.executor = null;
+        }
+    }
+
+    /**
+     * 둘 이상의 shard 를 사용하는지 확인합니다.
+     *
+     * @return 둘 이상이면 true
+     */
+    public boolean isSharded() {
+        return router.isSharded();
+    }
+
+    /**
+     * 모든 shard 에서 차례로 작업을 실행합니다. 작업 안에서 시작한 트랜잭션은 해당 shard 를 사용합니다.
+     *
+     * @param work shard 번호를 받는 작업
+     */
+    public void forEachShard(IntConsumer work) {
+        if (!isSharded()) {
+            work.accept(ShardContext.DEFAULT_SHARD);
+            return;
+        }
+        for (int shard = 0; shard < router.getShardCount(); shard++) {
+            int current = shard;
+            ShardContext.runOn(current, () -> work.accept(current));
+        }
+    }
+
+    /**
+     * 모든 shard 에서 차례로 쓰기 트랜잭션을 열어 작업을 실행하고, 모든 shard 의 작업이 끝난 뒤에 커밋합니다.
+     * 앞 shard 의 트랜잭션과 잠금을 유지한 채 다음 shard 의 트랜잭션을 열므로, 어느 shard 에서든 예외가 발생하면
+     * 모든 shard 가 롤백됩니다. 여러 shard 에 걸친 제한(최대 행 수 등)을 지켜야 하는 작업에 사용합니다.
+     * 커밋은 마지막 shard 부터 차례로 하므로, 커밋 도중 실패하면 이미 커밋한 shard 는 되돌리지 않습니다.
+     * 샤딩을 사용하지 않으면 호출한 스레드의 트랜잭션에서 한 번만 실행합니다.
+     *
+     * @param work shard 번호를 받아 해당 shard 의 트랜잭션에서 실행할 작업
+     * @param <R>  결과 타입
+     * @return shard 번호 순서의 작업 결과
+     */
+    public <R> List<R> inEveryShardTransaction(IntFunction<R> work) {
+        if (!isSharded())
+            return List.of(work.apply(ShardContext.DEFAULT_SHARD));
+
+        List<R> results = new ArrayList<>(router.getShardCount());
+        runNested(0, work, results);
+        return results;
+    }
+
+    /**
+     * 모든 shard 에서 정렬된 목록을 조회하여 같은 순서로 병합하고 앞에서부터 limit 개를 반환합니다.
+     *
+     * @param query shard 하나에서 order 순서로 최대 limit 개를 조회하는 쿼리
+     * @param order 각 shard 결과의 정렬 순서
+     * @param limit 반환할 최대 개수
+     * @param <T>   결과 타입
+     * @return 병합된 목록
+     */
+    public <T> List<T> gather(Supplier<List<T>> query, Comparator<? super T> order, int limit) {
+        if (!isSharded())
+            return query.get();
+
+        return merge(scatter(query), order, limit);
+    }
+
+    /**
+     * offset 방식 페이지를 모든 shard 에서 조회합니다.
+     * 샤딩을 사용하면 shard 마다 sort 순서로 offset + size 개를 읽어 병합한 뒤 offset 만큼 건너뛰므로,
+     * 뒤쪽 페이지일수록 비용이 커집니다. 깊은 페이지는 keyset 방식 조회를 사용해야 합니다.
+     *
+     * @param pageable 페이지 정보
+     * @param query    페이지 정보로 shard 하나를 조회하는 쿼리
+     * @param sort     샤딩 시 shard 마다 적용할 정렬
+     * @param order    sort 와 같은 순서의 비교자
+     * @param <T>      결과 타입
+     * @return 페이지 내용
+     */
+    public <T> List<T> gatherPage(Pageable pageable,
+                                  Function<Pageable, List<T>> query,
+                                  Sort sort,
+                                  Comparator<? super T> order) {
+        if (!isSharded())
+            return query.apply(pageable);
+
+        int window = (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize());
+        Pageable shardPage = PageRequest.of(0, window, sort);
+        List<T> merged = gather(() -> query.apply(shardPage), order, window);
+        int from = (int) Math.min(pageable.getOffset(), merged.size());
+        return new ArrayList<>(merged.subList(from, merged.size()));
+    }
+
+    /**
+     * 모든 shard 에서 개수를 구해 더합니다.
+     *
+     * @param count shard 하나의 개수를 구하는 쿼리, 구할 수 없으면 null
+     * @return 합계, 하나라도 구할 수 없으면 null
+     */
+    public Long sum(Supplier<Long> count) {
+        if (!isSharded())
+            return count.get();
+
+        List<Long> counts = scatter(count);
+        if (counts.stream().anyMatch(Objects::isNull))
+            return null;
+        return counts.stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null)
+            executor.shutdown();
+    }
+
+    private <R> void runNested(int shard, IntFunction<R> work, List<R> results) {
+        ShardContext.runOn(shard, () -> shardWriteTransaction.executeWithoutResult(status -> {
+            results.add(work.apply(shard));
+            if (shard + 1 < router.getShardCount())
+                runNested(shard + 1, work, results);
+        }));
+    }
+
+    private <R> List<R> scatter(Supplier<R> query) {
+        List<CompletableFuture<R>> futures = IntStream.range(0, router.getShardCount())
+                .mapToObj(shard -> CompletableFuture.supplyAsync(
+                        () -> ShardContext.callOn(shard, () -> shardReadTransaction.execute(status -> query.get())),
+                        executor))
+                .collect(Collectors.toList());
+        try {
+            return futures.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+
+    private static <T> List<T> merge(List<List<T>> sortedLists, Comparator<? super T> order, int limit) {
+        PriorityQueue<Head<T>> heads = new PriorityQueue<>((left, right) -> order.compare(left.peek(), right.peek()));
+        for (List<T> list : sortedLists) {
+            if (list != null && !list.isEmpty())
+                heads.add(new Head<>(list));
+        }
+
+        List<T> merged = new ArrayList<>(Math.min(limit, sortedLists.stream().mapToInt(list -> list == null ? 0 : list.size()).sum()));
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Head<T> head = heads.poll();
+            merged.add(head.next());
+            if (head.hasNext())
+                heads.add(head);
+        }
+        return merged;
+    }
+
+    private static class Head<T> {
+        private final List<T> list;
+        private int index;
+
+        private Head(List<T> list) {
+            this.list = list;
+        }
+
+        private T peek() {
+            return list.get(index);
+        }
+
+        private T next() {
+            return list.get(index++);
+        }
+
+        private boolean hasNext() {
+            return index < list.size();
+        }
+    }
+}
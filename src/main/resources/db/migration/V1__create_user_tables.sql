@@ -0,0 +1,39 @@
+-- ddl-auto: update 로 생성되던 기존 스키마
+-- 이미 테이블이 있는 데이터베이스는 baseline-on-migrate 로 이 버전을 건너뜁니다.
+CREATE TABLE user_role
+(
+    role_id   BIGINT NOT NULL AUTO_INCREMENT,
+    role_name VARCHAR(255),
+    PRIMARY KEY (role_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE user_status
+(
+    status_id   BIGINT NOT NULL AUTO_INCREMENT,
+    status_name VARCHAR(255),
+    PRIMARY KEY (status_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE user_provider
+(
+    provider_id   VARCHAR(255) NOT NULL,
+    provider_name VARCHAR(255),
+    PRIMARY KEY (provider_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE users
+(
+    user_id         VARCHAR(255) NOT NULL,
+    user_name       VARCHAR(255),
+    user_password   VARCHAR(255),
+    user_email      VARCHAR(255),
+    role_id         BIGINT,
+    status_id       BIGINT,
+    provider_id     VARCHAR(255),
+    created_at      DATETIME(6),
+    latest_login_at DATETIME(6),
+    PRIMARY KEY (user_id),
+    CONSTRAINT fk_users_role FOREIGN KEY (role_id) REFERENCES user_role (role_id),
+    CONSTRAINT fk_users_status FOREIGN KEY (status_id) REFERENCES user_status (status_id),
+    CONSTRAINT fk_users_provider FOREIGN KEY (provider_id) REFERENCES user_provider (provider_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,18 @@
+-- UserRepository 의 조회 조건에 맞춘 인덱스
+-- 중복된 email 이 남아 있으면 unique 인덱스 생성이 실패하므로, 적용 전에 정리해야 합니다.
+--   SELECT user_email, count(*) FROM users GROUP BY user_email HAVING count(*) > 1;
+
+-- getByEmail, 가입/수정 시 email 중복 판단
+CREATE UNIQUE INDEX uk_users_email ON users (user_email);
+
+-- 전체 목록(keyset 포함), 내보내기
+CREATE INDEX idx_users_created_at_user_id ON users (created_at, user_id);
+
+-- 상태 필터 목록(keyset 포함), countByStatusId, 휴면 전환 대상 조회
+CREATE INDEX idx_users_status_created_at ON users (status_id, created_at, user_id);
+
+-- 권한 필터 목록(keyset 포함), countByRoleId
+CREATE INDEX idx_users_role_created_at ON users (role_id, created_at, user_id);
+
+-- 휴면 전환 대상 조회의 마지막 로그인 범위 조건
+CREATE INDEX idx_users_latest_login_at ON users (latest_login_at);
@@ -0,0 +1,35 @@
+-- 관리자 목록 조회용 읽기 모델
+-- 권한, 상태 이름을 함께 보관하여 목록 조회가 join 없이 이 테이블만 읽도록 합니다.
+-- users 를 변경하는 서비스 트랜잭션에서 함께 갱신되며, 관리자 API 로 users 에서 다시 생성할 수 있습니다.
+-- 비밀번호는 목록에 필요하지 않으므로 복사하지 않습니다.
+CREATE TABLE user_read_model
+(
+    user_id       VARCHAR(255) NOT NULL,
+    user_name     VARCHAR(255),
+    user_email    VARCHAR(255),
+    role_id       BIGINT,
+    role_name     VARCHAR(255),
+    status_id     BIGINT,
+    status_name   VARCHAR(255),
+    provider_id   VARCHAR(255),
+    created_at    DATETIME(6),
+    PRIMARY KEY (user_id),
+    INDEX idx_user_read_model_created_at (created_at, user_id),
+    INDEX idx_user_read_model_status (status_id, created_at, user_id),
+    INDEX idx_user_read_model_role (role_id, created_at, user_id)
+) ENGINE = InnoDB;
+
+INSERT INTO user_read_model (user_id, user_name, user_email, role_id, role_name,
+                             status_id, status_name, provider_id, created_at)
+SELECT u.user_id,
+       u.user_name,
+       u.user_email,
+       u.role_id,
+       r.role_name,
+       u.status_id,
+       s.status_name,
+       u.provider_id,
+       u.created_at
+FROM users u
+         LEFT JOIN user_role r ON r.role_id = u.role_id
+         LEFT JOIN user_status s ON s.status_id = u.status_id;
@@ -0,0 +1,19 @@
+-- 모든 shard 에 걸친 email 중복을 막기 위한 email 색인
+-- 샤딩을 사용하면 users 의 email unique 제약은 shard 안에서만 적용되므로, 사용자를 저장하기 전에
+-- 0 번 shard 의 이 테이블에 email 을 먼저 등록(claim)하고, primary key 위반이면 이미 사용 중인 email 로 판단합니다.
+-- 다른 shard 에도 같은 테이블이 만들어지지만 사용하지 않습니다.
+CREATE TABLE user_email_index
+(
+    user_email VARCHAR(255) NOT NULL,
+    user_id    VARCHAR(255) NOT NULL,
+    claimed_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (user_email)
+) ENGINE = InnoDB;
+
+-- 샤딩 전의 단일 데이터베이스(이후 0 번 shard)에서 실행되면 기존 사용자의 email 이 모두 등록됩니다.
+INSERT INTO user_email_index (user_email, user_id, claimed_at)
+SELECT u.user_email,
+       u.user_id,
+       COALESCE(u.created_at, NOW(6))
+FROM users u
+WHERE u.user_email IS NOT NULL;
@@ -0,0 +1,96 @@
+package com.user.management.buffer;
+
+import com.user.management.shard.UserShardRouter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class LatestLoginAtBufferTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private UserShardRouter userShardRouter;
+
+    @InjectMocks
+    private LatestLoginAtBuffer latestLoginAtBuffer;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_KeepsLatestLoginPerUser() {
+        LocalDateTime older = LocalDateTime.of(2024, 5, 1, 10, 0);
+        LocalDateTime newer = older.plusMinutes(5);
+
+        latestLoginAtBuffer.record("user", newer);
+        latestLoginAtBuffer.record("user", older);
+        latestLoginAtBuffer.record("other", older);
+        latestLoginAtBuffer.flush();
+
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), captor.capture());
+        List<Object[]> batchArgs = captor.getValue();
+        Object[] userArgs = batchArgs.stream()
+                .filter(args -> "user".equals(args[1]))
+                .findFirst()
+                .orElseThrow();
+
+        assertAll(
+                () -> assertEquals(2, batchArgs.size()),
+                () -> assertEquals(Timestamp.valueOf(newer), userArgs[0]),
+                () -> assertEquals(0, latestLoginAtBuffer.size())
+        );
+    }
+
+    @Test
+    void flush_EmptyBufferSkipsDatabase() {
+        latestLoginAtBuffer.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void flush_RequeuesOnFailure() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        latestLoginAtBuffer.record("user", LocalDateTime.now());
+        latestLoginAtBuffer.flush();
+
+        assertEquals(1, latestLoginAtBuffer.size());
+    }
+
+    @Test
+    void flush_SplitsBatchByShard() {
+        when(userShardRouter.shardOf("first")).thenReturn(0);
+        when(userShardRouter.previousShardOf("first")).thenReturn(0);
+        when(userShardRouter.shardOf("second")).thenReturn(1);
+        when(userShardRouter.previousShardOf("second")).thenReturn(1);
+
+        latestLoginAtBuffer.record("first", LocalDateTime.now());
+        latestLoginAtBuffer.record("second", LocalDateTime.now());
+        latestLoginAtBuffer.flush();
+
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+        assertEquals(0, latestLoginAtBuffer.size());
+    }
+}
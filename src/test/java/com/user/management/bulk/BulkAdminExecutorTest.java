@@ -0,0 +1,144 @@
+package com.user.management.bulk;
+
+import com.user.management.dto.BulkItemResult;
+import com.user.management.dto.BulkUserResponse;
+import com.user.management.exception.BulkCapacityExceededException;
+import com.user.management.exception.BulkTimeoutException;
+import com.user.management.exception.UserNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkAdminExecutorTest {
+    private MeterRegistry meterRegistry;
+    private BulkAdminExecutor bulkAdminExecutor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bulkAdminExecutor = new BulkAdminExecutor(meterRegistry, 1, 1, Duration.ofSeconds(5L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkAdminExecutor.destroy();
+    }
+
+    @Test
+    void execute_RunsOnBulkThreadAndReportsEachItem() {
+        BulkUserResponse response = bulkAdminExecutor.execute("permit", List.of("a", "b", "c"), ids -> {
+            assertTrue(Thread.currentThread().getName().startsWith("bulk-admin-"));
+            return new BulkUserResponse(List.of("a"), List.of("b"), List.of("c"));
+        });
+
+        assertAll(
+                () -> assertEquals(List.of(
+                        new BulkItemResult("a", BulkItemResult.Status.CHANGED),
+                        new BulkItemResult("b", BulkItemResult.Status.UNCHANGED),
+                        new BulkItemResult("c", BulkItemResult.Status.NOT_FOUND)), response.getItems()),
+                () -> assertEquals(1.0, items("permit", BulkItemResult.Status.CHANGED)),
+                () -> assertEquals(1L, meterRegistry.get("bulk.admin.duration")
+                        .tag("operation", "permit")
+                        .tag("outcome", "success")
+                        .timer()
+                        .count())
+        );
+    }
+
+    @Test
+    void execute_RethrowsFailureOfWork() {
+        UserNotFoundException thrown = assertThrows(UserNotFoundException.class,
+                () -> bulkAdminExecutor.execute("delete", List.of("b", "a", "b"), ids -> {
+                    throw new UserNotFoundException("a");
+                }));
+
+        assertAll(
+                () -> assertEquals("a는 존재하지 않는 userId 입니다.", thrown.getMessage()),
+                () -> assertEquals(1L, meterRegistry.get("bulk.admin.duration")
+                        .tag("operation", "delete")
+                        .tag("outcome", "failure")
+                        .timer()
+                        .count())
+        );
+    }
+
+    @Test
+    void execute_StopsWaitingAfterTimeout() {
+        CountDownLatch release = new CountDownLatch(1);
+        BulkAdminExecutor impatient = new BulkAdminExecutor(meterRegistry, 1, 1, Duration.ofMillis(50L));
+        try {
+            assertThrows(BulkTimeoutException.class, () -> impatient.execute("promote", List.of("a"), ids -> {
+                awaitQuietly(release);
+                return new BulkUserResponse(List.of("a"), List.of(), List.of());
+            }));
+        } finally {
+            release.countDown();
+            impatient.destroy();
+        }
+
+        assertEquals(1L, meterRegistry.get("bulk.admin.duration")
+                .tag("operation", "promote")
+                .tag("outcome", "timeout")
+                .timer()
+                .count());
+    }
+
+    @Test
+    void execute_RejectsWhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<BulkUserResponse> running = callers.submit(() -> bulkAdminExecutor.execute("promote", List.of("a"), ids -> {
+                started.countDown();
+                awaitQuietly(release);
+                return new BulkUserResponse(List.of("a"), List.of(), List.of());
+            }));
+            assertTrue(started.await(5L, TimeUnit.SECONDS));
+            Future<BulkUserResponse> queued = callers.submit(() -> bulkAdminExecutor.execute("promote", List.of("b"),
+                    ids -> new BulkUserResponse(List.of("b"), List.of(), List.of())));
+            while (meterRegistry.get("executor.queued").tag("name", "bulk.admin").gauge().value() < 1.0)
+                Thread.sleep(10L);
+
+            assertThrows(BulkCapacityExceededException.class, () -> bulkAdminExecutor.execute("promote", List.of("c"),
+                    ids -> new BulkUserResponse(List.of("c"), List.of(), List.of())));
+
+            release.countDown();
+            assertAll(
+                    () -> assertEquals(List.of("a"), running.get(5L, TimeUnit.SECONDS).getChanged()),
+                    () -> assertEquals(List.of("b"), queued.get(5L, TimeUnit.SECONDS).getChanged())
+            );
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    private double items(String operation, BulkItemResult.Status status) {
+        return meterRegistry.get("bulk.admin.items")
+                .tag("operation", operation)
+                .tag("status", status.name())
+                .counter()
+                .count();
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5L, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
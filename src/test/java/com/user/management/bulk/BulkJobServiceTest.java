@@ -0,0 +1,145 @@
+package com.user.management.bulk;
+
+import com.user.management.dto.BulkJobResponse;
+import com.user.management.dto.BulkUserResponse;
+import com.user.management.dto.ReshardResponse;
+import com.user.management.exception.BulkJobNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class BulkJobServiceTest {
+    @Mock
+    private BulkJobStore jobStore;
+
+    private BulkJobService bulkJobService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        bulkJobService = new BulkJobService(jobStore, new SimpleMeterRegistry(), 2, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkJobService.destroy();
+    }
+
+    @Test
+    void submit_ProcessesChunksAndReportsFailedChunk() {
+        List<Collection<String>> chunks = new CopyOnWriteArrayList<>();
+
+        BulkJobResponse queued = bulkJobService.submit("permit", List.of("e", "d", "c", "b", "a", "a"), ids -> {
+            chunks.add(new ArrayList<>(ids));
+            if (ids.contains("c"))
+                throw new IllegalStateException("deadlock");
+            return new BulkUserResponse(new ArrayList<>(ids), List.of(), List.of());
+        });
+
+        BulkJobResponse job = awaitFinished(BulkJobResponse.JobStatus.COMPLETED);
+        ArgumentCaptor<BulkUserResponse> results = ArgumentCaptor.forClass(BulkUserResponse.class);
+        verify(jobStore, times(3)).recordChunk(eq(queued.getJobId()), anyInt(), results.capture());
+        assertAll(
+                () -> assertNotNull(queued.getJobId()),
+                () -> assertEquals(5, job.getTotal()),
+                () -> assertEquals(BulkJobResponse.JobStatus.COMPLETED, job.getStatus()),
+                () -> assertEquals(List.of(List.of("a", "b"), List.of("c", "d"), List.of("e")), chunks),
+                () -> assertEquals(List.of("a", "b"), results.getAllValues().get(0).getChanged()),
+                () -> assertEquals(List.of("c", "d"), results.getAllValues().get(1).getFailed()),
+                () -> assertEquals("deadlock", results.getAllValues().get(1).getFailureMessage()),
+                () -> assertEquals(List.of("e"), results.getAllValues().get(2).getChanged())
+        );
+    }
+
+    @Test
+    void submit_StopsBeforeNextChunkWhenCancelled() {
+        given(jobStore.isCancelRequested(any()))
+                .willReturn(false, true);
+
+        BulkJobResponse queued = bulkJobService.submit("delete", List.of("a", "b", "c"),
+                ids -> new BulkUserResponse(new ArrayList<>(ids), List.of(), List.of()));
+
+        BulkJobResponse job = awaitFinished(BulkJobResponse.JobStatus.CANCELLED);
+        assertEquals(BulkJobResponse.JobStatus.CANCELLED, job.getStatus());
+        verify(jobStore).recordChunk(eq(queued.getJobId()), eq(2),
+                argThat(result -> result.getChanged().equals(List.of("a", "b"))));
+    }
+
+    @Test
+    void submit_MarksJobFailedWhenErrorEscapes() {
+        bulkJobService.submit("promote", List.of("a"), ids -> {
+            throw new OutOfMemoryError("heap");
+        });
+
+        BulkJobResponse job = awaitFinished(BulkJobResponse.JobStatus.FAILED);
+        assertAll(
+                () -> assertEquals(BulkJobResponse.JobStatus.FAILED, job.getStatus()),
+                () -> assertEquals("java.lang.OutOfMemoryError: heap", job.getFailureMessage())
+        );
+    }
+
+    @Test
+    void submitTask_RecordsResultWhenFinished() {
+        BulkJobResponse queued = bulkJobService.submitTask("reshard", () -> new ReshardResponse(1, 300L, 95L, 1L, 0L));
+
+        BulkJobResponse job = awaitFinished(BulkJobResponse.JobStatus.COMPLETED);
+        assertAll(
+                () -> assertNotNull(queued.getJobId()),
+                () -> assertEquals(1, job.getTotal()),
+                () -> assertEquals(1, job.getProcessed()),
+                () -> assertEquals(new ReshardResponse(1, 300L, 95L, 1L, 0L), job.getResult())
+        );
+    }
+
+    @Test
+    void submitTask_SkipsWorkWhenCancelledBeforeStart() {
+        given(jobStore.isCancelRequested(any()))
+                .willReturn(true);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        bulkJobService.submitTask("reshard", () -> ran.getAndSet(true));
+
+        BulkJobResponse job = awaitFinished(BulkJobResponse.JobStatus.CANCELLED);
+        assertAll(
+                () -> assertFalse(ran.get()),
+                () -> assertNull(job.getResult())
+        );
+    }
+
+    @Test
+    void getJob_ThrowsWhenJobExpired() {
+        given(jobStore.find("unknown"))
+                .willReturn(Optional.empty());
+
+        assertThrows(BulkJobNotFoundException.class, () -> bulkJobService.getJob("unknown"));
+    }
+
+    private BulkJobResponse awaitFinished(BulkJobResponse.JobStatus status) {
+        ArgumentCaptor<BulkJobResponse> captor = ArgumentCaptor.forClass(BulkJobResponse.class);
+        verify(jobStore, timeout(5_000L).atLeastOnce()).save(argThat(job -> job.getStatus() == status));
+        verify(jobStore, atLeastOnce()).save(captor.capture());
+        return captor.getValue();
+    }
+}
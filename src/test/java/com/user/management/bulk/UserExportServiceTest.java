@@ -0,0 +1,119 @@
+package com.user.management.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.management.dto.UserExportRow;
+import com.user.management.repository.UserReadModelRepository;
+import com.user.management.shard.ShardContext;
+import com.user.management.shard.ShardingProperties;
+import com.user.management.shard.UserShardRouter;
+import com.user.management.shard.UserShards;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+class UserExportServiceTest {
+    @Mock
+    private UserReadModelRepository userReadModelRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserExportService userExportService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        userExportService = exportService(new ShardingProperties());
+    }
+
+    @Test
+    void exportCsv_EscapesValuesAndClosesStream() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        given(userReadModelRepository.streamUserDataByStatusId(4L))
+                .willReturn(Stream.of(user("a", "Kim, \"A\""), user("b", "B"))
+                        .onClose(() -> closed.set(true)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long count = userExportService.exportCsv(4L, null, output);
+
+        assertAll(
+                () -> assertEquals(2L, count),
+                () -> assertTrue(closed.get()),
+                () -> assertEquals("id,name,email,roleName,statusName,provider\n"
+                                + "a,\"Kim, \"\"A\"\"\",a@test.com,ROLE_USER,PENDING,COMMON\n"
+                                + "b,B,b@test.com,ROLE_USER,PENDING,COMMON\n",
+                        output.toString(StandardCharsets.UTF_8))
+        );
+    }
+
+    @Test
+    void exportNdjson_WritesOneObjectPerLineWithoutPassword() throws Exception {
+        given(userReadModelRepository.streamUserDataByRoleId(2L))
+                .willReturn(Stream.of(user("a", "A"), user("b", "사용자")));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long count = userExportService.exportNdjson(null, 2L, output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertAll(
+                () -> assertEquals(2L, count),
+                () -> assertEquals(2, lines.length),
+                () -> assertEquals("{\"id\":\"a\",\"name\":\"A\",\"email\":\"a@test.com\",\"roleName\":\"ROLE_USER\",\"statusName\":\"PENDING\",\"provider\":\"COMMON\"}", lines[0]),
+                () -> assertTrue(lines[1].contains("\"name\":\"사용자\"")),
+                () -> assertFalse(output.toString(StandardCharsets.UTF_8).contains("password"))
+        );
+    }
+
+    @Test
+    void exportCsv_ReadsEveryShardInOrder() throws Exception {
+        ShardingProperties properties = new ShardingProperties();
+        properties.setEnabled(true);
+        properties.setShards(List.of(new ShardingProperties.Shard(), new ShardingProperties.Shard()));
+        given(userReadModelRepository.streamUserData())
+                .willAnswer(invocation -> Stream.of(user("shard-" + ShardContext.current(), "S")));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long count = exportService(properties).exportCsv(null, null, output);
+
+        assertAll(
+                () -> assertEquals(2L, count),
+                () -> assertEquals("id,name,email,roleName,statusName,provider\n"
+                                + "shard-0,S,shard-0@test.com,ROLE_USER,PENDING,COMMON\n"
+                                + "shard-1,S,shard-1@test.com,ROLE_USER,PENDING,COMMON\n",
+                        output.toString(StandardCharsets.UTF_8))
+        );
+    }
+
+    @Test
+    void exportCsv_UsesQueryOfGivenFilters() throws Exception {
+        given(userReadModelRepository.streamUserDataByStatusIdAndRoleId(4L, 2L))
+                .willReturn(Stream.of(user("a", "A")));
+        given(userReadModelRepository.streamUserData())
+                .willReturn(Stream.of(user("a", "A"), user("b", "B")));
+
+        assertAll(
+                () -> assertEquals(1L, userExportService.exportCsv(4L, 2L, new ByteArrayOutputStream())),
+                () -> assertEquals(2L, userExportService.exportCsv(null, null, new ByteArrayOutputStream()))
+        );
+    }
+
+    private UserExportService exportService(ShardingProperties properties) {
+        UserShards userShards = new UserShards(new UserShardRouter(properties), transactionManager);
+        return new UserExportService(userReadModelRepository, new ObjectMapper(), userShards, transactionManager);
+    }
+
+    private UserExportRow user(String id, String name) {
+        return new UserExportRow(id, name, id + "@test.com", "ROLE_USER", "PENDING", "COMMON");
+    }
+}
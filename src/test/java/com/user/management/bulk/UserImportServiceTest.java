@@ -0,0 +1,267 @@
+package com.user.management.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.management.cache.CacheGenerationManager;
+import com.user.management.data.ReferenceDataRegistry;
+import com.user.management.dto.UserImportError;
+import com.user.management.dto.UserImportResponse;
+import com.user.management.entity.Provider;
+import com.user.management.entity.Role;
+import com.user.management.entity.Status;
+import com.user.management.exception.InvalidImportFileException;
+import com.user.management.repository.UserRepository;
+import com.user.management.service.impl.UserCountProvider;
+import com.user.management.service.impl.UserReadModelSynchronizer;
+import com.user.management.shard.ShardContext;
+import com.user.management.shard.ShardingProperties;
+import com.user.management.shard.UserEmailIndex;
+import com.user.management.shard.UserShardRouter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class UserImportServiceTest {
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private ReferenceDataRegistry referenceDataRegistry;
+
+    @Mock
+    private CacheGenerationManager cacheGeneration;
+
+    @Mock
+    private UserCountProvider userCountProvider;
+
+    @Mock
+    private UserReadModelSynchronizer userReadModelSynchronizer;
+
+    @Mock
+    private UserEmailIndex userEmailIndex;
+
+    private UserImportService userImportService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        userImportService = new UserImportService(userRepository, jdbcTemplate, transactionManager, passwordEncoder,
+                referenceDataRegistry, cacheGeneration, userCountProvider, userReadModelSynchronizer, new UserShardRouter(new ShardingProperties()),
+                userEmailIndex, Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), 2, 2);
+
+        given(referenceDataRegistry.getUserRole()).willReturn(new Role(2L, "ROLE_USER"));
+        given(referenceDataRegistry.getActiveStatus()).willReturn(new Status(1L, "ACTIVE"));
+        given(referenceDataRegistry.getDefaultProvider()).willReturn(new Provider("COMMON", "COMMON"));
+        given(passwordEncoder.encode(anyString())).willAnswer(invocation -> "hashed-" + invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userImportService.destroy();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importCsv_BatchesRowsAndReportsRowErrors() {
+        given(userRepository.findExistingIds(any())).willReturn(List.of("taken"));
+        given(userRepository.findExistingEmails(any())).willReturn(List.of());
+
+        UserImportResponse response = userImportService.importCsv(input(
+                "email,id,password,name\n"
+                        + "a@test.com,a,pw-a,\"Kim, A\"\n"
+                        + "b@test.com,b,pw-b,B\n"
+                        + "\n"
+                        + "t@test.com,taken,pw-t,T\n"
+                        + "c@test.com,c,,C\n"
+                        + "d@test.com,d,pw-d,D\n"));
+
+        ArgumentCaptor<List<Object[]>> batches = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), batches.capture());
+        assertAll(
+                () -> assertEquals(5, response.getTotal()),
+                () -> assertEquals(3, response.getImported()),
+                () -> assertEquals(2, response.getFailed()),
+                () -> assertEquals(List.of(6L, 5L), response.getErrors().stream().map(UserImportError::getLine).collect(Collectors.toList())),
+                () -> assertEquals("Kim, A", batches.getAllValues().get(0).get(0)[1]),
+                () -> assertEquals("hashed-pw-a", batches.getAllValues().get(0).get(0)[2]),
+                () -> assertEquals(2, batches.getAllValues().get(0).size()),
+                () -> assertEquals(1, batches.getAllValues().get(1).size())
+        );
+        verify(userReadModelSynchronizer).sync(List.of("a", "b"));
+        verify(userReadModelSynchronizer).sync(List.of("d"));
+        verify(cacheGeneration, times(1)).advance("getUsers");
+        verify(userCountProvider, times(1)).invalidate();
+    }
+
+    @Test
+    void importNdjson_RetriesRowByRowWhenBatchConflicts() {
+        given(userRepository.findExistingIds(any())).willReturn(List.of());
+        given(userRepository.findExistingEmails(any())).willReturn(List.of());
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willThrow(new DuplicateKeyException("duplicate"));
+        given(jdbcTemplate.update(anyString(), eq("a"), any(), any(), any(), any(), any(), any(), any(), any()))
+                .willReturn(1);
+        given(jdbcTemplate.update(anyString(), eq("b"), any(), any(), any(), any(), any(), any(), any(), any()))
+                .willThrow(new DuplicateKeyException("duplicate"));
+
+        UserImportResponse response = userImportService.importNdjson(input(
+                "{\"id\":\"a\",\"name\":\"A\",\"email\":\"a@test.com\",\"password\":\"pw\"}\n"
+                        + "{\"id\":\"b\",\"name\":\"B\",\"email\":\"b@test.com\",\"password\":\"pw\"}\n"
+                        + "{not json}\n"));
+
+        assertAll(
+                () -> assertEquals(3, response.getTotal()),
+                () -> assertEquals(1, response.getImported()),
+                () -> assertEquals(2, response.getFailed()),
+                () -> assertEquals("b", response.getErrors().get(0).getId()),
+                () -> assertEquals(3L, response.getErrors().get(1).getLine())
+        );
+        verify(userReadModelSynchronizer).sync(List.of("a"));
+        verify(userReadModelSynchronizer, never()).sync(List.of("b"));
+        verify(userEmailIndex).release("b@test.com", "b");
+        verify(userEmailIndex, never()).release("a@test.com", "a");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importCsv_RejectsEmailClaimedOnAnotherShard() {
+        given(userRepository.findExistingIds(any())).willReturn(List.of());
+        given(userRepository.findExistingEmails(any())).willReturn(List.of());
+        given(userEmailIndex.claimAll(Map.of("a@test.com", "a", "b@test.com", "b"))).willReturn(Set.of("b@test.com"));
+
+        UserImportResponse response = userImportService.importCsv(input("id,name,email,password\n"
+                + "a,A,a@test.com,pw\n"
+                + "b,B,b@test.com,pw\n"));
+
+        ArgumentCaptor<List<Object[]>> batches = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batches.capture());
+        assertAll(
+                () -> assertEquals(1, response.getImported()),
+                () -> assertEquals("b", response.getErrors().get(0).getId()),
+                () -> assertEquals(List.of("a"), batches.getValue().stream().map(args -> args[0]).collect(Collectors.toList()))
+        );
+    }
+
+    @Test
+    void importCsv_ChecksAndInsertsEachShardOnItsOwnShard() {
+        ShardingProperties properties = new ShardingProperties();
+        properties.setEnabled(true);
+        properties.setShards(List.of(new ShardingProperties.Shard(), new ShardingProperties.Shard()));
+        UserShardRouter router = new UserShardRouter(properties);
+        UserImportService shardedImport = new UserImportService(userRepository, jdbcTemplate, transactionManager, passwordEncoder,
+                referenceDataRegistry, cacheGeneration, userCountProvider, userReadModelSynchronizer, router,
+                userEmailIndex, Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), 10, 2);
+        List<String> misrouted = new ArrayList<>();
+        given(userRepository.findExistingIds(any())).willAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(0);
+            ids.stream().filter(id -> router.shardOf(id) != ShardContext.current()).forEach(misrouted::add);
+            return List.of();
+        });
+        given(userRepository.findExistingEmails(any())).willReturn(List.of());
+
+        try {
+            UserImportResponse response = shardedImport.importCsv(input("id,name,email,password\n"
+                    + "user-0,A,a@test.com,pw\n"
+                    + "user-1,B,b@test.com,pw\n"
+                    + "user-2,C,c@test.com,pw\n"
+                    + "user-3,D,d@test.com,pw\n"));
+
+            assertAll(
+                    () -> assertEquals(4, response.getImported()),
+                    () -> assertEquals(List.of(), misrouted)
+            );
+            verify(userRepository, times(router.partition(List.of("user-0", "user-1", "user-2", "user-3")).size()))
+                    .findExistingIds(any());
+        } finally {
+            shardedImport.destroy();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importCsv_RejectsIdStillOnPreviousShardWhileResharding() {
+        ShardingProperties properties = new ShardingProperties();
+        properties.setEnabled(true);
+        properties.setShards(List.of(new ShardingProperties.Shard(), new ShardingProperties.Shard(), new ShardingProperties.Shard()));
+        properties.setPreviousShardCount(2);
+        UserShardRouter router = new UserShardRouter(properties);
+        List<String> ids = List.of("user-0", "user-1", "user-2", "user-3", "user-4", "user-5");
+        String notMovedYet = ids.stream()
+                .filter(id -> router.shardOf(id) != router.previousShardOf(id))
+                .findFirst()
+                .orElseThrow();
+        UserImportService reshardingImport = new UserImportService(userRepository, jdbcTemplate, transactionManager, passwordEncoder,
+                referenceDataRegistry, cacheGeneration, userCountProvider, userReadModelSynchronizer, router,
+                userEmailIndex, Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), 10, 2);
+        given(userRepository.findExistingIds(any())).willAnswer(invocation -> {
+            Collection<String> candidates = invocation.getArgument(0);
+            return candidates.contains(notMovedYet) && ShardContext.current() == router.previousShardOf(notMovedYet)
+                    ? List.of(notMovedYet)
+                    : List.of();
+        });
+        given(userRepository.findExistingEmails(any())).willReturn(List.of());
+
+        try {
+            StringBuilder csv = new StringBuilder("id,name,email,password\n");
+            ids.forEach(id -> csv.append(id).append(",N,").append(id).append("@test.com,pw\n"));
+            UserImportResponse response = reshardingImport.importCsv(input(csv.toString()));
+
+            ArgumentCaptor<Map<String, String>> claims = ArgumentCaptor.forClass(Map.class);
+            verify(userEmailIndex, atLeastOnce()).claimAll(claims.capture());
+            assertAll(
+                    () -> assertEquals(ids.size() - 1, response.getImported()),
+                    () -> assertEquals(List.of(notMovedYet),
+                            response.getErrors().stream().map(UserImportError::getId).collect(Collectors.toList())),
+                    () -> assertTrue(claims.getAllValues().stream().noneMatch(claim -> claim.containsValue(notMovedYet)))
+            );
+        } finally {
+            reshardingImport.destroy();
+        }
+    }
+
+    @Test
+    void importCsv_RejectsHeaderWithoutRequiredColumn() {
+        assertThrows(InvalidImportFileException.class, () -> userImportService.importCsv(input("id,name,email\n")));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    private InputStream input(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
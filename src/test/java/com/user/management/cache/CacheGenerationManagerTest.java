@@ -0,0 +1,118 @@
+package com.user.management.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+class CacheGenerationManagerTest {
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private CacheGenerationManager cacheGenerationManager;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        cacheGenerationManager = new CacheGenerationManager(redisTemplate, new UserCacheProperties());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void current() {
+        when(valueOperations.get("cache-generation::getUsers")).thenReturn("7");
+
+        assertEquals(7L, cacheGenerationManager.current("getUsers"));
+    }
+
+    @Test
+    void current_DefaultsToZero() {
+        assertEquals(0L, cacheGenerationManager.current("getUsers"));
+    }
+
+    @Test
+    void current_ReadsRedisOnce() {
+        when(valueOperations.get("cache-generation::getUsers")).thenReturn("7");
+
+        cacheGenerationManager.current("getUsers");
+        cacheGenerationManager.current("getUsers");
+
+        verify(valueOperations, times(1)).get("cache-generation::getUsers");
+    }
+
+    @Test
+    void advance_WithoutTransactionIncrementsImmediately() {
+        cacheGenerationManager.advance("getUsers");
+
+        verify(valueOperations, times(1)).increment("cache-generation::getUsers");
+    }
+
+    @Test
+    void advance_KeepsNewGenerationAndPublishesIt() {
+        when(valueOperations.get("cache-generation::getUsers")).thenReturn("7");
+        when(valueOperations.increment("cache-generation::getUsers")).thenReturn(8L);
+        cacheGenerationManager.current("getUsers");
+
+        cacheGenerationManager.advance("getUsers");
+
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq("user-management:cache-invalidation"), published.capture());
+        assertEquals(8L, cacheGenerationManager.current("getUsers"));
+        assertTrue(published.getValue().contains("\"generation\":8"));
+        verify(valueOperations, times(1)).get("cache-generation::getUsers");
+    }
+
+    @Test
+    void onMessage_AppliesOnlyNewerGeneration() {
+        when(valueOperations.get("cache-generation::getUsers")).thenReturn("7");
+        cacheGenerationManager.current("getUsers");
+
+        cacheGenerationManager.onMessage(generationMessage(9L), null);
+        long afterNewer = cacheGenerationManager.current("getUsers");
+        cacheGenerationManager.onMessage(generationMessage(8L), null);
+
+        assertEquals(9L, afterNewer);
+        assertEquals(9L, cacheGenerationManager.current("getUsers"));
+        verify(valueOperations, times(1)).get("cache-generation::getUsers");
+    }
+
+    @Test
+    void advance_InTransactionIncrementsAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        cacheGenerationManager.advance("getUsers");
+        verify(valueOperations, never()).increment(anyString());
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+        verify(valueOperations, times(1)).increment("cache-generation::getUsers");
+    }
+
+    private static DefaultMessage generationMessage(long generation) {
+        String body = "{\"origin\":\"other\",\"cacheName\":\"getUsers\",\"key\":null,\"generation\":" + generation + "}";
+        return new DefaultMessage("user-management:cache-invalidation".getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
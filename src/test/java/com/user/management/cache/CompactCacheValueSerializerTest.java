@@ -0,0 +1,77 @@
+package com.user.management.cache;
+
+import com.user.management.dto.RoleResponse;
+import com.user.management.dto.UserDataResponse;
+import com.user.management.page.CountStrategy;
+import com.user.management.page.RestPage;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactCacheValueSerializerTest {
+    private final CompactCacheValueSerializer serializer = new CompactCacheValueSerializer(1024);
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+
+    @Test
+    void roundTrip_UserDataAndRole() {
+        UserDataResponse user = user(1);
+        RoleResponse role = new RoleResponse(2L, "ROLE_USER");
+
+        assertAll(
+                () -> assertEquals(user, serializer.deserialize(serializer.serialize(user))),
+                () -> assertEquals(role, serializer.deserialize(serializer.serialize(role))),
+                () -> assertEquals(42L, serializer.deserialize(serializer.serialize(42L))),
+                () -> assertEquals(new RoleResponse(null, null),
+                        serializer.deserialize(serializer.serialize(new RoleResponse(null, null))))
+        );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void roundTrip_CompressedPageIsSmallerThanJson() {
+        List<UserDataResponse> content = new ArrayList<>();
+        for (int i = 0; i < 50; i++)
+            content.add(user(i));
+        RestPage<UserDataResponse> page = new RestPage<>(content, 2, 50, 1_000L, CountStrategy.CACHED);
+
+        byte[] compact = serializer.serialize(page);
+        RestPage<UserDataResponse> restored = (RestPage<UserDataResponse>) serializer.deserialize(compact);
+
+        assertAll(
+                () -> assertEquals(CompactCacheValueSerializer.VERSION, compact[0]),
+                () -> assertEquals(1, compact[1]),
+                () -> assertTrue(compact.length < jsonSerializer.serialize(page).length / 4),
+                () -> assertEquals(content, restored.getContent()),
+                () -> assertEquals(2, restored.getNumber()),
+                () -> assertEquals(50, restored.getSize()),
+                () -> assertEquals(1_000L, restored.getTotalElements()),
+                () -> assertEquals(CountStrategy.CACHED, restored.getCountStrategy())
+        );
+    }
+
+    @Test
+    void deserialize_ReadsLegacyJsonAndSkipsUnknownVersion() {
+        UserDataResponse user = user(1);
+
+        assertAll(
+                () -> assertEquals(user, serializer.deserialize(jsonSerializer.serialize(user))),
+                () -> assertNull(serializer.deserialize(new byte[]{99, 0, 1}))
+        );
+    }
+
+    private UserDataResponse user(int index) {
+        return UserDataResponse.builder()
+                .id("user" + index)
+                .name("사용자" + index)
+                .email("user" + index + "@nhnacademy.com")
+                .roleName("ROLE_USER")
+                .statusName("ACTIVE")
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z5S0gJ8MFxE1EhXxYbF7lKSe")
+                .provider("COMMON")
+                .build();
+    }
+}
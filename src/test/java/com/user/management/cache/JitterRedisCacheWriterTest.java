@@ -0,0 +1,40 @@
+package com.user.management.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class JitterRedisCacheWriterTest {
+    private final JitterRedisCacheWriter writer = new JitterRedisCacheWriter(
+            mock(RedisCacheWriter.class),
+            Map.of("getUser", Duration.ofSeconds(10L), "getUsers", Duration.ZERO)::get);
+
+    @Test
+    void withJitter_AddsBoundedRandomDelay() {
+        Duration ttl = Duration.ofMinutes(10L);
+
+        for (int i = 0; i < 100; i++) {
+            Duration jittered = writer.withJitter("getUser", ttl);
+
+            assertTrue(jittered.compareTo(ttl) >= 0);
+            assertTrue(jittered.compareTo(ttl.plusSeconds(10L)) <= 0);
+        }
+    }
+
+    @Test
+    void withJitter_KeepsTtlWithoutJitterOrExpiry() {
+        Duration ttl = Duration.ofMinutes(1L);
+
+        assertAll(
+                () -> assertEquals(ttl, writer.withJitter("getUsers", ttl)),
+                () -> assertEquals(ttl, writer.withJitter("unknown", ttl)),
+                () -> assertNull(writer.withJitter("getUser", null)),
+                () -> assertEquals(Duration.ZERO, writer.withJitter("getUser", Duration.ZERO))
+        );
+    }
+}
@@ -0,0 +1,54 @@
+package com.user.management.cache;
+
+import com.user.management.shard.ShardContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class RefreshAheadTest {
+
+    @Test
+    void refresh_ReleasesKeyWhenExecutorRejects() {
+        AtomicInteger submissions = new AtomicInteger();
+        Executor fullOnce = task -> {
+            if (submissions.incrementAndGet() == 1)
+                throw new RejectedExecutionException("queue full");
+            task.run();
+        };
+        RefreshAhead refreshAhead = new RefreshAhead(mock(StringRedisTemplate.class), fullOnce, Duration.ofSeconds(1L),
+                new UserCacheProperties()::keyPrefixOf);
+        AtomicInteger reloads = new AtomicInteger();
+
+        refreshAhead.refresh("user", reloads::incrementAndGet);
+        refreshAhead.refresh("user", reloads::incrementAndGet);
+
+        assertEquals(1, reloads.get());
+    }
+
+    @Test
+    void refresh_ReloadsOnCallerShard() {
+        Executor otherThread = task -> {
+            Thread thread = new Thread(task);
+            thread.start();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        RefreshAhead refreshAhead = new RefreshAhead(mock(StringRedisTemplate.class), otherThread, Duration.ofSeconds(1L),
+                new UserCacheProperties()::keyPrefixOf);
+        AtomicInteger reloadedOn = new AtomicInteger(-1);
+
+        ShardContext.runOn(2, () -> refreshAhead.refresh("user", () -> reloadedOn.set(ShardContext.current())));
+
+        assertEquals(2, reloadedOn.get());
+    }
+}
@@ -0,0 +1,101 @@
+package com.user.management.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+    private MeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newFixedThreadPool(5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_CoalescesConcurrentLoadsForSameKey() throws Exception {
+        SingleFlight singleFlight = new SingleFlight("getRole", Duration.ofSeconds(5L), null, Duration.ZERO, meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("user", () -> {
+                loads.incrementAndGet();
+                release.await();
+                return "ROLE_USER";
+            }, () -> null)));
+        }
+        while (count("coalesced") < 4.0)
+            Thread.sleep(10L);
+        release.countDown();
+
+        for (Future<String> result : results)
+            assertEquals("ROLE_USER", result.get(5L, TimeUnit.SECONDS));
+        assertAll(
+                () -> assertEquals(1, loads.get()),
+                () -> assertEquals(1.0, count("loaded")),
+                () -> assertEquals(4.0, count("coalesced"))
+        );
+    }
+
+    @Test
+    void execute_LoadsDirectlyAfterWaitTimeout() throws Exception {
+        SingleFlight singleFlight = new SingleFlight("getRole", Duration.ofMillis(50L), null, Duration.ZERO, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("user", () -> {
+            release.await();
+            return "slow";
+        }, () -> null));
+        while (count("loaded") < 1.0)
+            Thread.sleep(10L);
+
+        assertEquals("fast", singleFlight.execute("user", () -> "fast", () -> null));
+        release.countDown();
+
+        assertAll(
+                () -> assertEquals("slow", leader.get(5L, TimeUnit.SECONDS)),
+                () -> assertEquals(1.0, count("timeout"))
+        );
+    }
+
+    @Test
+    void execute_PropagatesLoaderFailureAndAllowsRetry() throws Exception {
+        SingleFlight singleFlight = new SingleFlight("getRole", Duration.ofSeconds(1L), null, Duration.ZERO, meterRegistry);
+
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("user", () -> {
+            throw new IllegalStateException("db down");
+        }, () -> null));
+        assertEquals("ROLE_USER", singleFlight.execute("user", () -> "ROLE_USER", () -> null));
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("cache.loads")
+                .tag("cache", "getRole")
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,106 @@
+package com.user.management.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TwoLevelCacheTest {
+    private ConcurrentMapCache remote;
+    private MeterRegistry meterRegistry;
+    private List<String> published;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCache("getUser", false);
+        meterRegistry = new SimpleMeterRegistry();
+        published = new ArrayList<>();
+        cache = new TwoLevelCache(remote,
+                Caffeine.newBuilder().maximumSize(100).build(),
+                (cacheName, key) -> published.add(cacheName + ":" + key),
+                meterRegistry);
+    }
+
+    @Test
+    void get_ReadsThroughRemoteThenServesLocally() {
+        remote.put("user", "value");
+
+        assertEquals("value", cache.get("user", String.class));
+        remote.evict("user");
+        assertEquals("value", cache.get("user", String.class));
+
+        assertAll(
+                () -> assertEquals(1.0, count("local", "hit")),
+                () -> assertEquals(1.0, count("local", "miss")),
+                () -> assertEquals(1.0, count("redis", "hit")),
+                () -> assertEquals(0.0, count("redis", "miss"))
+        );
+    }
+
+    @Test
+    void putAndEvict_BroadcastInvalidation() {
+        cache.put("user", "value");
+        cache.evict("user");
+        cache.clear();
+
+        assertAll(
+                () -> assertNull(cache.get("user")),
+                () -> assertNull(remote.get("user")),
+                () -> assertEquals(List.of("getUser:user", "getUser:user", "getUser:null"), published)
+        );
+    }
+
+    @Test
+    void evictLocal_FallsBackToRemote() {
+        cache.put("user", "value");
+        remote.put("user", "updated");
+
+        cache.evictLocal("user");
+
+        assertEquals("updated", cache.get("user", String.class));
+    }
+
+    @Test
+    void get_LoadsAndStoresOnMiss() {
+        assertEquals("loaded", cache.get("user", () -> "loaded"));
+        assertEquals("loaded", remote.get("user", String.class));
+    }
+
+    @Test
+    void get_RefreshesAheadWhenRemoteEntryIsAboutToExpire() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.getExpire("getUser::compact-v1::user", TimeUnit.MILLISECONDS)).thenReturn(100L);
+        TwoLevelCache refreshing = new TwoLevelCache(remote,
+                Caffeine.newBuilder().maximumSize(100).build(),
+                (cacheName, key) -> published.add(cacheName + ":" + key),
+                meterRegistry,
+                new RefreshAhead(redisTemplate, Runnable::run, Duration.ofSeconds(1L),
+                        new UserCacheProperties()::keyPrefixOf));
+        remote.put("user", "old");
+
+        assertEquals("old", refreshing.get("user", () -> "new"));
+        assertEquals("new", remote.get("user", String.class));
+    }
+
+    private double count(String tier, String result) {
+        return meterRegistry.get("cache.tier.gets")
+                .tag("cache", "getUser")
+                .tag("tier", tier)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
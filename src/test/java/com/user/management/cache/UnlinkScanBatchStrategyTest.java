@@ -0,0 +1,44 @@
+package com.user.management.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class UnlinkScanBatchStrategyTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void cleanCache_UnlinksInBatches() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RedisConnection connection = mock(RedisConnection.class);
+        Cursor<byte[]> cursor = mock(Cursor.class);
+        byte[] key = "getUsers::key".getBytes(StandardCharsets.UTF_8);
+
+        when(connection.scan(any(ScanOptions.class))).thenReturn(cursor);
+        when(cursor.hasNext()).thenReturn(true, true, true, false);
+        when(cursor.next()).thenReturn(key);
+        when(connection.unlink(any())).thenReturn(2L, 1L);
+
+        long deleted = new UnlinkScanBatchStrategy(2, meterRegistry)
+                .cleanCache(connection, "getUsers", "getUsers::*".getBytes(StandardCharsets.UTF_8));
+
+        assertAll(
+                () -> assertEquals(3L, deleted),
+                () -> assertEquals(3.0, meterRegistry.get("cache.clear.deleted.keys").tag("cache", "getUsers").counter().count()),
+                () -> assertEquals(1L, meterRegistry.get("cache.clear.duration").tag("cache", "getUsers").timer().count())
+        );
+        verify(connection, times(2)).unlink(any());
+        verify(connection, never()).keys(any());
+        verify(cursor, times(1)).close();
+    }
+}
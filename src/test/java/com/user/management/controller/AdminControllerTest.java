@@ -1,14 +1,28 @@
 package com.user.management.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.management.bulk.BulkJobService;
+import com.user.management.bulk.UserImportService;
+import com.user.management.dto.BulkJobResponse;
+import com.user.management.dto.BulkUserResponse;
 import com.user.management.dto.DeleteUserRequest;
 import com.user.management.dto.PermitUserRequest;
+import com.user.management.dto.ReshardResponse;
 import com.user.management.dto.UserDataResponse;
+import com.user.management.dto.UserImportError;
+import com.user.management.dto.UserImportResponse;
+import com.user.management.dto.UserReadModelRebuildResponse;
+import com.user.management.exception.BulkJobNotFoundException;
+import com.user.management.exception.InvalidCursorException;
 import com.user.management.exception.RoleNotFoundException;
 import com.user.management.exception.StatusNotFoundException;
 import com.user.management.exception.UserNotFoundException;
+import com.user.management.page.CountStrategy;
+import com.user.management.page.CursorPage;
 import com.user.management.page.RestPage;
 import com.user.management.service.UserService;
+import com.user.management.service.impl.UserReadModelSynchronizer;
+import com.user.management.shard.UserResharder;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -22,8 +36,12 @@ import java.util.List;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -38,6 +56,14 @@ class AdminControllerTest {
     private MockMvc mockMvc;
     @MockBean
     private UserService userService;
+    @MockBean
+    private BulkJobService bulkJobService;
+    @MockBean
+    private UserImportService userImportService;
+    @MockBean
+    private UserReadModelSynchronizer userReadModelSynchronizer;
+    @MockBean
+    private UserResharder userResharder;
 
     @Test
     void findAllUsers() throws Exception {
@@ -58,7 +84,7 @@ class AdminControllerTest {
                 .password(password)
                 .build();
 
-        given(userService.getAllUsers(any()))
+        given(userService.getAllUsers(any(), any()))
                 .willReturn(new RestPage<>(new PageImpl<>(List.of(userDataResponse))));
 
         mockMvc.perform(get("/api/user/admin/userList")
@@ -74,12 +100,28 @@ class AdminControllerTest {
                 .andExpect(jsonPath("$.content[0].password", equalTo(password)));
     }
 
+    @Test
+    void findAllUsersWithCountStrategy() throws Exception {
+        UserDataResponse userDataResponse = UserDataResponse.builder()
+                .id("test user")
+                .build();
+
+        given(userService.getAllUsers(any(), eq(CountStrategy.ESTIMATED)))
+                .willReturn(new RestPage<>(new PageImpl<>(List.of(userDataResponse)), CountStrategy.ESTIMATED));
+
+        mockMvc.perform(get("/api/user/admin/userList")
+                        .param("count", "ESTIMATED"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.countStrategy", equalTo("ESTIMATED")));
+    }
+
     @Test
     void findAllUsersUserNotFoundException() throws Exception {
         int page = 0;
         int size = 10;
 
-        given(userService.getAllUsers(any()))
+        given(userService.getAllUsers(any(), any()))
                 .willThrow(new UserNotFoundException("test"));
 
         mockMvc.perform(get("/api/user/admin/userList")
@@ -90,6 +132,51 @@ class AdminControllerTest {
                 .andExpect(jsonPath("$.message", equalTo("test는 존재하지 않는 userId 입니다.")));
     }
 
+    @Test
+    void seekAllUsers() throws Exception {
+        String userId = "test user";
+        UserDataResponse userDataResponse = UserDataResponse.builder()
+                .id(userId)
+                .build();
+
+        given(userService.getUsersAfter("cursor", 10, false))
+                .willReturn(new CursorPage<>(List.of(userDataResponse), 10, true, "next", null));
+
+        mockMvc.perform(get("/api/user/admin/userList/seek")
+                        .param("cursor", "cursor")
+                        .param("size", "10"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id", equalTo(userId)))
+                .andExpect(jsonPath("$.hasNext", equalTo(true)))
+                .andExpect(jsonPath("$.next", equalTo("next")))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    void seekAllUsersInvalidCursorException() throws Exception {
+        given(userService.getUsersAfter(any(), anyInt(), anyBoolean()))
+                .willThrow(new InvalidCursorException("올바르지 않은 커서입니다."));
+
+        mockMvc.perform(get("/api/user/admin/userList/seek")
+                        .param("cursor", "broken"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", equalTo("올바르지 않은 커서입니다.")));
+    }
+
+    @Test
+    void seekAllUsersInvalidSize() throws Exception {
+        for (String size : List.of("0", "-1", String.valueOf(CursorPage.MAX_SIZE + 1))) {
+            mockMvc.perform(get("/api/user/admin/userList/seek")
+                            .param("size", size))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
+        }
+
+        verify(userService, never()).getUsersAfter(any(), anyInt(), anyBoolean());
+    }
+
     @Test
     void findSortedUserByStatusId() throws Exception {
         String userId = "test user";
@@ -110,7 +197,7 @@ class AdminControllerTest {
                 .password(password)
                 .build();
 
-        given(userService.getFilteredUsersByStatus(anyLong(), any()))
+        given(userService.getFilteredUsersByStatus(anyLong(), any(), any()))
                 .willReturn(new RestPage<>(new PageImpl<>(List.of(userDataResponse))));
 
         mockMvc.perform(get("/api/user/admin/userList/sort/status/" + statusId)
@@ -134,7 +221,7 @@ class AdminControllerTest {
         int size = 10;
         long statusId = 1L;
 
-        given(userService.getFilteredUsersByStatus(anyLong(), any()))
+        given(userService.getFilteredUsersByStatus(anyLong(), any(), any()))
                 .willThrow(new StatusNotFoundException("not found status"));
 
         mockMvc.perform(get("/api/user/admin/userList/sort/status/" + statusId)
@@ -167,7 +254,7 @@ class AdminControllerTest {
                 .password(password)
                 .build();
 
-        given(userService.getFilteredUsersByRole(anyLong(), any()))
+        given(userService.getFilteredUsersByRole(anyLong(), any(), any()))
                 .willReturn(new RestPage<>(new PageImpl<>(List.of(userDataResponse))));
 
         mockMvc.perform(get("/api/user/admin/userList/sort/role/" + roleId)
@@ -191,7 +278,7 @@ class AdminControllerTest {
         int size = 10;
         long statusId = 1L;
 
-        given(userService.getFilteredUsersByRole(anyLong(), any()))
+        given(userService.getFilteredUsersByRole(anyLong(), any(), any()))
                 .willThrow(new RoleNotFoundException("not found role"));
 
         mockMvc.perform(get("/api/user/admin/userList/sort/role/" + statusId)
@@ -206,122 +293,91 @@ class AdminControllerTest {
     @Test
     void promoteUserToAdmin() throws Exception {
         String userId = "test user";
-        String name = "test name";
-        String email = "test email";
-        String roleName = "test role";
-        String statusName = "test status";
-        String password = "test password";
         PermitUserRequest permitUserRequest = new PermitUserRequest(userId);
         ObjectMapper objectMapper = new ObjectMapper();
-        UserDataResponse userDataResponse = UserDataResponse.builder()
-                .id(userId)
-                .name(name)
-                .email(email)
-                .roleName(roleName)
-                .statusName(statusName)
-                .password(password)
-                .build();
 
-        given(userService.permitUser(any()))
-                .willReturn(userDataResponse);
+        given(userService.promoteUsers(List.of(userId)))
+                .willReturn(new BulkUserResponse(List.of(userId), List.of(), List.of()));
 
         mockMvc.perform(post("/api/user/admin/promotion")
                         .content(objectMapper.writeValueAsString(List.of(permitUserRequest)))
                         .contentType(MediaType.APPLICATION_JSON))
                 .andDo(print())
-                .andExpect(status().isNoContent());
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed[0]", equalTo(userId)));
     }
 
     @Test
-    void promoteUserToAdminUserNotFoundException() throws Exception {
+    void promoteUserToAdminReportsMissingUser() throws Exception {
         String userId = "test user";
         PermitUserRequest promotionUserRequest = new PermitUserRequest(userId);
         ObjectMapper objectMapper = new ObjectMapper();
 
-        given(userService.promoteUser(any()))
-                .willThrow(new UserNotFoundException(userId));
+        given(userService.promoteUsers(any()))
+                .willReturn(new BulkUserResponse(List.of(), List.of(), List.of(userId)));
 
         mockMvc.perform(post("/api/user/admin/promotion")
                         .content(objectMapper.writeValueAsString(List.of(promotionUserRequest)))
                         .contentType(MediaType.APPLICATION_JSON))
                 .andDo(print())
-                .andExpect(status().isBadRequest())
-                .andExpect(jsonPath("$.message", equalTo("test user는 존재하지 않는 userId 입니다.")));
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.missing[0]", equalTo(userId)));
     }
 
     @Test
     void permitUser() throws Exception {
         String userId = "test user";
-        String name = "test name";
-        String email = "test email";
-        String roleName = "test role";
-        String statusName = "test status";
-        String password = "test password";
-        PermitUserRequest permitUserRequest = new PermitUserRequest(userId);
+        String otherUserId = "other user";
         ObjectMapper objectMapper = new ObjectMapper();
-        UserDataResponse userDataResponse = UserDataResponse.builder()
-                .id(userId)
-                .name(name)
-                .email(email)
-                .roleName(roleName)
-                .statusName(statusName)
-                .password(password)
-                .build();
 
-        given(userService.permitUser(any()))
-                .willReturn(userDataResponse);
+        given(userService.permitUsers(List.of(userId, otherUserId)))
+                .willReturn(new BulkUserResponse(List.of(otherUserId), List.of(userId), List.of()));
 
         mockMvc.perform(post("/api/user/admin/permit")
-                        .content(objectMapper.writeValueAsString(List.of(permitUserRequest)))
+                        .content(objectMapper.writeValueAsString(
+                                List.of(new PermitUserRequest(userId), new PermitUserRequest(otherUserId))))
                         .contentType(MediaType.APPLICATION_JSON))
                 .andDo(print())
-                .andExpect(status().isNoContent());
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed[0]", equalTo(otherUserId)))
+                .andExpect(jsonPath("$.unchanged[0]", equalTo(userId)))
+                .andExpect(jsonPath("$.items[0].id", equalTo(otherUserId)))
+                .andExpect(jsonPath("$.items[0].status", equalTo("CHANGED")))
+                .andExpect(jsonPath("$.items[1].status", equalTo("UNCHANGED")));
     }
 
     @Test
-    void permitUserUserNotFoundException() throws Exception {
+    void permitUserReportsMissingUser() throws Exception {
         String userId = "test user";
         PermitUserRequest permitUserRequest = new PermitUserRequest(userId);
         ObjectMapper objectMapper = new ObjectMapper();
 
-        given(userService.permitUser(any()))
-                .willThrow(new UserNotFoundException(userId));
+        given(userService.permitUsers(any()))
+                .willReturn(new BulkUserResponse(List.of(), List.of(), List.of(userId)));
 
         mockMvc.perform(post("/api/user/admin/permit")
                         .content(objectMapper.writeValueAsString(List.of(permitUserRequest)))
                         .contentType(MediaType.APPLICATION_JSON))
                 .andDo(print())
-                .andExpect(status().isBadRequest())
-                .andExpect(jsonPath("$.message", equalTo("test user는 존재하지 않는 userId 입니다.")));
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.missing[0]", equalTo(userId)));
     }
 
     @Test
     void rejectDeleteUser() throws Exception {
         String userId = "test user";
-        String name = "test name";
-        String email = "test email";
-        String roleName = "test role";
-        String statusName = "test status";
-        String password = "test password";
         DeleteUserRequest deleteUserRequest = new DeleteUserRequest(userId);
         ObjectMapper objectMapper = new ObjectMapper();
-        UserDataResponse userDataResponse = UserDataResponse.builder()
-                .id(userId)
-                .name(name)
-                .email(email)
-                .roleName(roleName)
-                .statusName(statusName)
-                .password(password)
-                .build();
 
-        given(userService.permitUser(any()))
-                .willReturn(userDataResponse);
+        given(userService.permitUsers(List.of(userId)))
+                .willReturn(new BulkUserResponse(List.of(userId), List.of(), List.of()));
 
         mockMvc.perform(post("/api/user/admin/reject/delete")
                         .content(objectMapper.writeValueAsString(List.of(deleteUserRequest)))
                         .contentType(MediaType.APPLICATION_JSON))
                 .andDo(print())
-                .andExpect(status().isNoContent());
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed[0]", equalTo(userId)));
     }
 
     @Test
@@ -330,7 +386,7 @@ class AdminControllerTest {
         DeleteUserRequest deleteUserRequest = new DeleteUserRequest(userId);
         ObjectMapper objectMapper = new ObjectMapper();
 
-        given(userService.permitUser(any()))
+        given(userService.permitUsers(any()))
                 .willThrow(new UserNotFoundException(userId));
 
         mockMvc.perform(post("/api/user/admin/reject/delete")
@@ -347,10 +403,122 @@ class AdminControllerTest {
         DeleteUserRequest deleteUserRequest = new DeleteUserRequest(userId);
         ObjectMapper objectMapper = new ObjectMapper();
 
+        given(userService.deleteUsers(List.of(userId)))
+                .willReturn(new BulkUserResponse(List.of(userId), List.of(), List.of()));
+
         mockMvc.perform(delete("/api/user/admin/delete")
-                        .content(objectMapper.writeValueAsString(List.of(objectMapper.writeValueAsString(deleteUserRequest))))
+                        .content(objectMapper.writeValueAsString(List.of(deleteUserRequest)))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed[0]", equalTo(userId)));
+    }
+
+    @Test
+    void submitDeleteJob() throws Exception {
+        String userId = "test user";
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        given(bulkJobService.submit(eq("delete"), eq(List.of(userId)), any()))
+                .willReturn(BulkJobResponse.queued("job-1", "delete", 1));
+
+        mockMvc.perform(post("/api/user/admin/jobs/delete")
+                        .content(objectMapper.writeValueAsString(List.of(new DeleteUserRequest(userId))))
                         .contentType(MediaType.APPLICATION_JSON))
                 .andDo(print())
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.jobId", equalTo("job-1")))
+                .andExpect(jsonPath("$.status", equalTo("QUEUED")))
+                .andExpect(jsonPath("$.total", equalTo(1)));
+    }
+
+    @Test
+    void getJob() throws Exception {
+        BulkJobResponse job = BulkJobResponse.queued("job-1", "permit", 3);
+        job.setStatus(BulkJobResponse.JobStatus.RUNNING);
+        job.setProcessed(2);
+        job.setChanged(List.of("a"));
+        job.setUnchanged(List.of("b"));
+
+        given(bulkJobService.getJob("job-1"))
+                .willReturn(job);
+
+        mockMvc.perform(get("/api/user/admin/jobs/job-1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", equalTo("RUNNING")))
+                .andExpect(jsonPath("$.processed", equalTo(2)))
+                .andExpect(jsonPath("$.changed[0]", equalTo("a")));
+    }
+
+    @Test
+    void cancelJobNotFound() throws Exception {
+        given(bulkJobService.cancel("unknown"))
+                .willThrow(new BulkJobNotFoundException("unknown"));
+
+        mockMvc.perform(delete("/api/user/admin/jobs/unknown"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", equalTo("unknown는 존재하지 않는 작업 ID 입니다.")));
+    }
+
+    @Test
+    void importUsersFromCsv() throws Exception {
+        given(userImportService.importCsv(any()))
+                .willReturn(new UserImportResponse(2, 1, 1,
+                        List.of(new UserImportError(3, "taken", "taken는 이미 존재하는 사용자입니다.")), false));
+
+        mockMvc.perform(post("/api/user/admin/import")
+                        .content("id,name,email,password\nnew,New,new@test.com,pw\ntaken,T,t@test.com,pw\n")
+                        .contentType("text/csv"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", equalTo(1)))
+                .andExpect(jsonPath("$.errors[0].line", equalTo(3)))
+                .andExpect(jsonPath("$.errors[0].id", equalTo("taken")));
+    }
+
+    @Test
+    void rebuildReadModel() throws Exception {
+        given(userReadModelSynchronizer.rebuild())
+                .willReturn(new UserReadModelRebuildResponse(120L, 2));
+
+        mockMvc.perform(post("/api/user/admin/read-model/rebuild"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.synced", equalTo(120)))
+                .andExpect(jsonPath("$.removed", equalTo(2)));
+    }
+
+    @Test
+    void reshard() throws Exception {
+        given(bulkJobService.submitTask(eq("reshard"), any()))
+                .willReturn(BulkJobResponse.queued("job-1", "reshard", 1));
+
+        mockMvc.perform(post("/api/user/admin/shards/reshard"))
+                .andDo(print())
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.jobId", equalTo("job-1")))
+                .andExpect(jsonPath("$.operation", equalTo("reshard")))
+                .andExpect(jsonPath("$.status", equalTo("QUEUED")));
+    }
+
+    @Test
+    void getReshardJob() throws Exception {
+        BulkJobResponse job = BulkJobResponse.queued("job-1", "reshard", 1);
+        job.setStatus(BulkJobResponse.JobStatus.COMPLETED);
+        job.setProcessed(1);
+        job.setResult(new ReshardResponse(1, 300L, 95L, 1L, 0L));
+
+        given(bulkJobService.getJob("job-1"))
+                .willReturn(job);
+
+        mockMvc.perform(get("/api/user/admin/jobs/job-1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", equalTo("COMPLETED")))
+                .andExpect(jsonPath("$.result.scanned", equalTo(300)))
+                .andExpect(jsonPath("$.result.moved", equalTo(95)))
+                .andExpect(jsonPath("$.result.conflicts", equalTo(1)));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+package com.user.management.data;
+
+import com.user.management.entity.Provider;
+import com.user.management.entity.Role;
+import com.user.management.entity.Status;
+import com.user.management.repository.ProviderRepository;
+import com.user.management.repository.RoleRepository;
+import com.user.management.repository.StatusRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class ReferenceDataRegistryTest {
+    @Mock
+    private StatusRepository statusRepository;
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private ProviderRepository providerRepository;
+
+    @InjectMocks
+    private ReferenceDataRegistry referenceDataRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        when(statusRepository.findAll()).thenReturn(List.of(
+                new Status(1L, "ACTIVE"),
+                new Status(2L, "INACTIVE"),
+                new Status(3L, "DEACTIVATE"),
+                new Status(4L, "PENDING")));
+        when(roleRepository.findAll()).thenReturn(List.of(
+                new Role(1L, "ROLE_ADMIN"),
+                new Role(2L, "ROLE_USER")));
+        when(providerRepository.findAll()).thenReturn(List.of(
+                new Provider("Default", "contxt.co.kr"),
+                new Provider("Github", "github-client")));
+    }
+
+    @Test
+    void getReferenceDataWithoutDatabaseRoundTrip() {
+        referenceDataRegistry.refresh();
+
+        assertAll(
+                () -> assertEquals("ACTIVE", referenceDataRegistry.getActiveStatus().getName()),
+                () -> assertEquals("INACTIVE", referenceDataRegistry.getInActiveStatus().getName()),
+                () -> assertEquals("DEACTIVATE", referenceDataRegistry.getDeactivatedStatus().getName()),
+                () -> assertEquals("PENDING", referenceDataRegistry.getPendingStatus().getName()),
+                () -> assertEquals("ROLE_ADMIN", referenceDataRegistry.getAdminRole().getName()),
+                () -> assertEquals("ROLE_USER", referenceDataRegistry.getUserRole().getName()),
+                () -> assertEquals("Default", referenceDataRegistry.getDefaultProvider().getId()),
+                () -> assertEquals("Github", referenceDataRegistry.findProviderByName("github-client").orElseThrow().getId()),
+                () -> assertTrue(referenceDataRegistry.existsStatus(4L)),
+                () -> assertFalse(referenceDataRegistry.existsStatus(5L)),
+                () -> assertTrue(referenceDataRegistry.existsRole(2L)),
+                () -> assertFalse(referenceDataRegistry.existsRole(null))
+        );
+
+        verify(statusRepository, times(1)).findAll();
+        verify(statusRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void loadsLazilyBeforeApplicationReady() {
+        assertNotNull(referenceDataRegistry.getUserRole());
+
+        verify(roleRepository, times(1)).findAll();
+    }
+
+    @Test
+    void refreshReplacesSnapshot() {
+        referenceDataRegistry.refresh();
+        when(roleRepository.findAll()).thenReturn(List.of(new Role(1L, "ROLE_ADMIN")));
+
+        referenceDataRegistry.refresh();
+
+        assertNull(referenceDataRegistry.getUserRole());
+    }
+}
@@ -0,0 +1,190 @@
+package com.user.management.datasource;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.user.management.cache.TwoLevelCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 두 개의 내장 H2 데이터베이스를 primary, replica 로 사용하여 트랜잭션별 라우팅을 확인합니다.
+ */
+class ReadWriteRoutingDataSourceTest {
+    private static final String REPLICA = "replica";
+    private static final String SELECT_TARGET = "SELECT name FROM target";
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = database(ReadWriteRoutingDataSource.PRIMARY);
+        replica = database(REPLICA);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void readOnlyTransaction_IsRoutedToReplica() {
+        Routing routing = new Routing(replica, Duration.ZERO);
+
+        assertAll(
+                () -> assertEquals(REPLICA, routing.read()),
+                () -> assertEquals(ReadWriteRoutingDataSource.PRIMARY, routing.write()),
+                () -> assertEquals(ReadWriteRoutingDataSource.PRIMARY, routing.jdbcTemplate.queryForObject(SELECT_TARGET, String.class))
+        );
+    }
+
+    @Test
+    void unavailableReplica_FallsBackToPrimary() throws SQLException {
+        DataSource brokenReplica = mock(DataSource.class);
+        given(brokenReplica.getConnection()).willThrow(new SQLException("connection refused"));
+        Routing routing = new Routing(brokenReplica, Duration.ZERO);
+
+        assertAll(
+                () -> assertEquals(ReadWriteRoutingDataSource.PRIMARY, routing.read()),
+                () -> assertFalse(routing.dataSource.isUp(REPLICA))
+        );
+    }
+
+    @Test
+    void checkHealth_RemovesAndRestoresReplica() throws SQLException {
+        DataSource flakyReplica = mock(DataSource.class);
+        Routing routing = new Routing(flakyReplica, Duration.ZERO);
+
+        given(flakyReplica.getConnection()).willThrow(new SQLException("connection refused"));
+        routing.dataSource.checkHealth(Duration.ofSeconds(1L));
+        boolean upWhileDown = routing.dataSource.isUp(REPLICA);
+        String readWhileDown = routing.read();
+
+        willAnswer(invocation -> replica.getConnection()).given(flakyReplica).getConnection();
+        routing.dataSource.checkHealth(Duration.ofSeconds(1L));
+
+        assertAll(
+                () -> assertFalse(upWhileDown),
+                () -> assertEquals(ReadWriteRoutingDataSource.PRIMARY, readWhileDown),
+                () -> assertTrue(routing.dataSource.isUp(REPLICA)),
+                () -> assertTrue(routing.dataSource.isUp(ReadWriteRoutingDataSource.PRIMARY)),
+                () -> assertEquals(REPLICA, routing.read())
+        );
+    }
+
+    @Test
+    void stickyWindow_ReadsOwnWritesFromPrimary() {
+        Routing routing = new Routing(replica, Duration.ofMinutes(1L));
+
+        asUser("writer");
+        routing.write();
+        String writerRead = routing.read();
+
+        asUser("other");
+        String otherRead = routing.read();
+
+        assertAll(
+                () -> assertEquals(ReadWriteRoutingDataSource.PRIMARY, writerRead),
+                () -> assertEquals(REPLICA, otherRead)
+        );
+    }
+
+    @Test
+    void cacheLoad_ReadsFromPrimaryWhileReplicaLagsBehindEviction() {
+        Routing routing = new Routing(replica, Duration.ZERO);
+        TwoLevelCache cache = new TwoLevelCache(new ConcurrentMapCache("getUser", false),
+                Caffeine.newBuilder().maximumSize(100).build(),
+                (cacheName, key) -> {
+                },
+                new SimpleMeterRegistry());
+        cache.put("user", REPLICA);
+
+        routing.jdbcTemplate.update("UPDATE target SET name = ?", "updated");
+        cache.evict("user");
+
+        assertAll(
+                () -> assertEquals(REPLICA, routing.read()),
+                () -> assertEquals("updated", cache.get("user", routing::read)),
+                () -> assertFalse(PrimaryReads.isActive())
+        );
+    }
+
+    @Test
+    void replicaNamedPrimary_IsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ReadWriteRoutingDataSource(
+                primary, Map.of(ReadWriteRoutingDataSource.PRIMARY, replica), new PrimaryStickiness("X-USER-ID", Duration.ZERO, 10L)));
+    }
+
+    private void asUser(String userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-USER-ID", userId);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE target (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO target (name) VALUES (?)", name);
+        return database;
+    }
+
+    /**
+     * 애플리케이션 설정과 같이 routing DataSource 를 LazyConnectionDataSourceProxy 로 감싸서 사용합니다.
+     */
+    private class Routing {
+        private final ReadWriteRoutingDataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate readOnly;
+        private final TransactionTemplate readWrite;
+
+        private Routing(DataSource replicaDataSource, Duration stickyWindow) {
+            dataSource = new ReadWriteRoutingDataSource(primary, Map.of(REPLICA, replicaDataSource),
+                    new PrimaryStickiness("X-USER-ID", stickyWindow, 10L));
+            DataSource proxy = new LazyConnectionDataSourceProxy(dataSource);
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(proxy);
+            jdbcTemplate = new JdbcTemplate(proxy);
+            readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            readWrite = new TransactionTemplate(transactionManager);
+        }
+
+        private String read() {
+            return readOnly.execute(status -> jdbcTemplate.queryForObject(SELECT_TARGET, String.class));
+        }
+
+        private String write() {
+            return readWrite.execute(status -> {
+                jdbcTemplate.update("UPDATE target SET name = name");
+                return jdbcTemplate.queryForObject(SELECT_TARGET, String.class);
+            });
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.user.management.repository;
+
+import com.user.management.config.JasyptConfig;
+import com.user.management.entity.Provider;
+import com.user.management.entity.Role;
+import com.user.management.entity.Status;
+import com.user.management.entity.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Role, Status, Provider 가 읽기 전용 2차 캐시에서 조회되는지 확인합니다.
+ */
+@DataJpaTest
+@Import(JasyptConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ReferenceDataCacheTest {
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private RoleRepository roleRepository;
+    @Autowired
+    private StatusRepository statusRepository;
+    @Autowired
+    private ProviderRepository providerRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Test
+    void findById_SecondLoadIsServedFromCache() {
+        Role role = entityManager.persist(Role.builder().name("cache role").build());
+        Status status = entityManager.persist(Status.builder().name("cache status").build());
+        Provider provider = entityManager.persist(new Provider("cache provider", "cache"));
+        entityManager.flush();
+
+        load(role, status, provider);
+        long roleHits = region("reference.role").getHitCount();
+        long statusHits = region("reference.status").getHitCount();
+        long providerHits = region("reference.provider").getHitCount();
+        long statements = statistics.getPrepareStatementCount();
+
+        load(role, status, provider);
+
+        assertAll(
+                () -> assertEquals(roleHits + 1, region("reference.role").getHitCount()),
+                () -> assertEquals(statusHits + 1, region("reference.status").getHitCount()),
+                () -> assertEquals(providerHits + 1, region("reference.provider").getHitCount()),
+                () -> assertEquals(statements, statistics.getPrepareStatementCount())
+        );
+    }
+
+    @Test
+    void lazyAssociation_IsInitializedFromCache() {
+        Role role = entityManager.persist(Role.builder().name("cache role").build());
+        Status status = entityManager.persist(Status.builder().name("cache status").build());
+        entityManager.persist(User.builder().id("cache user").role(role).status(status).build());
+        entityManager.flush();
+        entityManager.clear();
+        roleRepository.findById(role.getId());
+        statusRepository.findById(status.getId());
+        entityManager.clear();
+
+        User user = userRepository.findById("cache user").orElseThrow();
+        long statements = statistics.getPrepareStatementCount();
+
+        assertAll(
+                () -> assertEquals("cache role", user.getRole().getName()),
+                () -> assertEquals("cache status", user.getStatus().getName()),
+                () -> assertEquals(statements, statistics.getPrepareStatementCount())
+        );
+    }
+
+    private void load(Role role, Status status, Provider provider) {
+        entityManager.clear();
+        roleRepository.findById(role.getId()).orElseThrow();
+        statusRepository.findById(status.getId()).orElseThrow();
+        providerRepository.findById(provider.getId()).orElseThrow();
+    }
+
+    private CacheRegionStatistics region(String regionName) {
+        return statistics.getDomainDataRegionStatistics(regionName);
+    }
+}
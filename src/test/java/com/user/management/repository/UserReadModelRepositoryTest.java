@@ -0,0 +1,77 @@
+package com.user.management.repository;
+
+import com.user.management.config.JasyptConfig;
+import com.user.management.dto.UserExportRow;
+import com.user.management.entity.Role;
+import com.user.management.entity.Status;
+import com.user.management.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(JasyptConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UserReadModelRepositoryTest {
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private UserReadModelRepository userReadModelRepository;
+
+    @Test
+    void streamUserData() {
+        LocalDateTime now = LocalDateTime.now();
+        Role role = entityManager.persist(Role.builder().name("test role").build());
+        Status pending = entityManager.persist(Status.builder().name("test pending").build());
+        Status active = entityManager.persist(Status.builder().name("test active").build());
+        entityManager.persist(User.builder().id("test user 2").role(role).status(pending).createdAt(now.minusDays(1)).build());
+        entityManager.persist(User.builder().id("test user 1").role(role).status(pending).createdAt(now).build());
+        entityManager.persist(User.builder().id("test user 3").role(role).status(active).createdAt(now).build());
+        entityManager.flush();
+        syncReadModel("test user 1", "test user 2", "test user 3");
+
+        List<String> ids;
+        try (Stream<UserExportRow> users = userReadModelRepository.streamUserDataByStatusIdAndRoleId(pending.getId(), role.getId())) {
+            ids = users.map(UserExportRow::getId)
+                    .collect(Collectors.toList());
+        }
+
+        assertEquals(List.of("test user 2", "test user 1"), ids);
+    }
+
+    @Test
+    void countByStatusId_SkipsUsersWithoutReadModelRow() {
+        Role role = entityManager.persist(Role.builder().name("test role").build());
+        Status pending = entityManager.persist(Status.builder().name("test pending").build());
+        entityManager.persist(User.builder().id("test user 1").role(role).status(pending).createdAt(LocalDateTime.now()).build());
+        entityManager.persist(User.builder().id("test user 2").role(role).status(pending).createdAt(LocalDateTime.now()).build());
+        entityManager.flush();
+        syncReadModel("test user 1");
+
+        assertAll(
+                () -> assertEquals(1L, userReadModelRepository.countByStatusId(pending.getId())),
+                () -> assertEquals(1L, userReadModelRepository.countByRoleId(role.getId()))
+        );
+    }
+
+    // 재분배 중 복사만 된 행은 읽기 모델 행이 없으므로, 서비스처럼 주어진 사용자만 읽기 모델에 복사한다
+    private void syncReadModel(String... ids) {
+        entityManager.getEntityManager()
+                .createNativeQuery("INSERT INTO user_read_model (user_id, user_name, user_email, role_id, role_name, status_id, status_name, created_at) "
+                        + "SELECT u.user_id, u.user_name, u.user_email, u.role_id, r.role_name, u.status_id, s.status_name, u.created_at "
+                        + "FROM users u JOIN user_role r ON r.role_id = u.role_id JOIN user_status s ON s.status_id = u.status_id "
+                        + "WHERE u.user_id IN (:ids)")
+                .setParameter("ids", List.of(ids))
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,130 @@
+package com.user.management.repository;
+
+import com.user.management.config.JasyptConfig;
+import com.user.management.entity.Role;
+import com.user.management.entity.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link UserRepository}, {@link UserReadModelRepository} 의 자주 쓰이는 조회가 테이블을 전체 스캔하지 않는지 실행 계획으로 확인합니다.
+ * 각 SQL 은 해당 레포지토리 메서드가 생성하는 쿼리와 같은 조건으로 작성되어 있으므로, 쿼리를 바꾸면 함께 수정해야 합니다.
+ */
+@DataJpaTest
+@Import(JasyptConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UserRepositoryExplainTest {
+    private static final String USER_DATA_FROM = "SELECT m.user_id, m.user_name, m.user_email, m.role_name, m.status_name, m.provider_id "
+            + "FROM user_read_model m ";
+    private static final int USER_COUNT = 200;
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Role role;
+    private Role adminRole;
+    private Status status;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        role = entityManager.persist(Role.builder().name("explain role").build());
+        adminRole = entityManager.persist(Role.builder().name("explain admin role").build());
+        status = entityManager.persist(Status.builder().name("explain status").build());
+        Status otherStatus = entityManager.persist(Status.builder().name("explain other status").build());
+        entityManager.flush();
+
+        now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            rows.add(new Object[]{
+                    String.format("explain user %03d", i),
+                    "user" + i,
+                    "explain" + i + "@test.com",
+                    (i % 4 == 1 ? adminRole : role).getId(),
+                    (i % 4 == 0 ? status : otherStatus).getId(),
+                    Timestamp.valueOf(now.minusMinutes(i)),
+                    Timestamp.valueOf(now.minusDays(i))
+            });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (user_id, user_name, user_email, role_id, status_id, created_at, latest_login_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+        jdbcTemplate.update("INSERT INTO user_read_model (user_id, user_name, user_email, role_id, status_id, created_at) "
+                + "SELECT user_id, user_name, user_email, role_id, status_id, created_at FROM users WHERE user_id LIKE 'explain user %'");
+    }
+
+    @Test
+    void getByEmail_UsesEmailIndex() {
+        assertNoFullScan("u", "SELECT u.user_id FROM users u WHERE u.user_email = ?", "explain1@test.com");
+    }
+
+    @Test
+    void statusFilter_UsesStatusIndex() {
+        Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(USER_COUNT / 2));
+
+        assertAll(
+                // getUsersFilteredByStatusIdList
+                () -> assertNoFullScan("m", USER_DATA_FROM + "WHERE m.status_id = ? LIMIT 0, 20", status.getId()),
+                // getUserDataByStatusIdAfter
+                () -> assertNoFullScan("m", USER_DATA_FROM + "WHERE m.status_id = ? "
+                                + "AND (m.created_at > ? OR (m.created_at = ? AND m.user_id > ?)) ORDER BY m.created_at, m.user_id LIMIT 21",
+                        status.getId(), createdAt, createdAt, "explain user 100"),
+                // countByStatusId
+                () -> assertNoFullScan("m", "SELECT count(m.user_id) FROM user_read_model m WHERE m.status_id = ?", status.getId())
+        );
+    }
+
+    @Test
+    void roleFilter_UsesRoleIndex() {
+        Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(USER_COUNT / 2));
+
+        assertAll(
+                // getUsersFilteredByRoleIdList
+                () -> assertNoFullScan("m", USER_DATA_FROM + "WHERE m.role_id = ? LIMIT 0, 20", adminRole.getId()),
+                // getUserDataByRoleIdAfter
+                () -> assertNoFullScan("m", USER_DATA_FROM + "WHERE m.role_id = ? "
+                                + "AND (m.created_at > ? OR (m.created_at = ? AND m.user_id > ?)) ORDER BY m.created_at, m.user_id LIMIT 21",
+                        adminRole.getId(), createdAt, createdAt, "explain user 100"),
+                // countByRoleId
+                () -> assertNoFullScan("m", "SELECT count(m.user_id) FROM user_read_model m WHERE m.role_id = ?", adminRole.getId())
+        );
+    }
+
+    @Test
+    void findInactivityCandidateIds_UsesIndex() {
+        assertNoFullScan("u", "SELECT u.user_id FROM users u WHERE u.latest_login_at < ? AND u.role_id <> ? "
+                        + "AND u.status_id = ? AND u.user_id > ? "
+                        + "AND EXISTS (SELECT m.user_id FROM user_read_model m WHERE m.user_id = u.user_id) ORDER BY u.user_id LIMIT 500",
+                Timestamp.valueOf(now.minusDays(180)), adminRole.getId(), status.getId(), "");
+    }
+
+    private void assertNoFullScan(String alias, String sql, Object... args) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, args);
+        Map<String, Object> table = plan.stream()
+                .filter(row -> alias.equals(row.get("table")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError(alias + " is missing from the plan: " + plan));
+
+        assertAll(
+                () -> assertNotEquals("ALL", table.get("type"), () -> sql + " -> " + plan),
+                () -> assertNotEquals("index", table.get("type"), () -> sql + " -> " + plan),
+                () -> assertNotNull(table.get("key"), () -> sql + " -> " + plan)
+        );
+    }
+}
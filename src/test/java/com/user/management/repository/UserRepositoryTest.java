@@ -2,6 +2,7 @@ package com.user.management.repository;
 
 import com.user.management.config.JasyptConfig;
 import com.user.management.dto.UserDataResponse;
+import com.user.management.dto.UserTransitionRequest;
 import com.user.management.entity.Role;
 import com.user.management.entity.Status;
 import com.user.management.entity.User;
@@ -15,6 +16,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -214,4 +217,60 @@ class UserRepositoryTest {
                 () -> assertEquals(password, resultUser.getPassword())
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void applyTransition() {
+        LocalDateTime now = LocalDateTime.now();
+        Role role = Role.builder()
+                .name("test role")
+                .build();
+        Status pending = Status.builder()
+                .name("test pending")
+                .build();
+        Status active = Status.builder()
+                .name("test active")
+                .build();
+        entityManager.persist(role);
+        entityManager.persist(pending);
+        entityManager.persist(active);
+        entityManager.persist(User.builder().id("test user 1").role(role).status(pending).createdAt(now.minusDays(2)).build());
+        entityManager.persist(User.builder().id("test user 2").role(role).status(pending).createdAt(now).build());
+        entityManager.persist(User.builder().id("test user 3").role(role).status(active).createdAt(now.minusDays(2)).build());
+        entityManager.persist(User.builder().id("test user 5").role(role).status(pending).createdAt(now.minusDays(2)).build());
+        entityManager.flush();
+        syncReadModel("test user 1", "test user 2", "test user 3");
+
+        UserTransitionRequest request = UserTransitionRequest.builder()
+                .statusId(pending.getId())
+                .createdTo(now.minusDays(1))
+                .targetStatusId(active.getId())
+                .build();
+
+        long matched = userRepository.countTransitionTargets(request);
+        List<String> targetIds = userRepository.lockTransitionTargetIds(request, 10);
+        entityManager.persist(User.builder().id("test user 4").role(role).status(pending).createdAt(now.minusDays(2)).build());
+        entityManager.flush();
+        syncReadModel("test user 4");
+        int updated = userRepository.applyTransition(targetIds, active, null);
+
+        assertAll(
+                () -> assertEquals(1L, matched),
+                () -> assertEquals(List.of("test user 1"), targetIds),
+                () -> assertEquals(1, updated),
+                () -> assertEquals(active.getId(), entityManager.find(User.class, "test user 1").getStatus().getId()),
+                () -> assertEquals(pending.getId(), entityManager.find(User.class, "test user 2").getStatus().getId()),
+                () -> assertEquals(pending.getId(), entityManager.find(User.class, "test user 4").getStatus().getId()),
+                () -> assertEquals(pending.getId(), entityManager.find(User.class, "test user 5").getStatus().getId()),
+                () -> assertEquals(1L, userRepository.countTransitionTargets(request))
+        );
+    }
+
+    // 재분배 중 복사만 된 행(test user 5)과 구분하도록 서비스처럼 읽기 모델 행을 만든다
+    private void syncReadModel(String... ids) {
+        entityManager.getEntityManager()
+                .createNativeQuery("INSERT INTO user_read_model (user_id, user_name, user_email, role_id, status_id, created_at) "
+                        + "SELECT user_id, user_name, user_email, role_id, status_id, created_at FROM users WHERE user_id IN (:ids)")
+                .setParameter("ids", List.of(ids))
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,130 @@
+package com.user.management.service.impl;
+
+import com.user.management.buffer.LatestLoginAtBuffer;
+import com.user.management.cache.CacheGenerationManager;
+import com.user.management.data.ReferenceDataRegistry;
+import com.user.management.entity.Provider;
+import com.user.management.entity.Role;
+import com.user.management.entity.Status;
+import com.user.management.exception.AlreadyExistEmailException;
+import com.user.management.repository.UserRepository;
+import com.user.management.shard.ShardingProperties;
+import com.user.management.shard.UserEmailIndex;
+import com.user.management.shard.UserShardRouter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.web.client.RestOperations;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 처음 로그인한 OAuth2 사용자의 email 을 다른 사용자가 사용 중일 때 서버 오류 대신 로그인 실패로 처리하는지 확인합니다.
+ */
+class OAuth2UserServiceTest {
+    private static final String CLIENT_ID = "github-client";
+    private static final String USERNAME = "GITHUB_42";
+    private static final String EMAIL = "octocat@example.com";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final ReferenceDataRegistry referenceDataRegistry = mock(ReferenceDataRegistry.class);
+    private final LatestLoginAtBuffer latestLoginAtBuffer = mock(LatestLoginAtBuffer.class);
+    private final UserEmailIndex userEmailIndex = mock(UserEmailIndex.class);
+    private final RestOperations restOperations = mock(RestOperations.class);
+
+    private OAuth2UserService oAuth2UserService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        oAuth2UserService = new OAuth2UserService(
+                mock(PasswordEncoder.class),
+                userRepository,
+                referenceDataRegistry,
+                latestLoginAtBuffer,
+                mock(CacheGenerationManager.class),
+                mock(UserCountProvider.class),
+                mock(UserReadModelSynchronizer.class),
+                new UserShardRouter(new ShardingProperties()),
+                userEmailIndex,
+                TransactionOperations.withoutTransaction());
+        oAuth2UserService.setRestOperations(restOperations);
+
+        when(restOperations.exchange(any(RequestEntity.class), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(Map.of("id", 42, "login", "octocat")));
+        when(referenceDataRegistry.findProviderByName(CLIENT_ID)).thenReturn(Optional.of(new Provider("GITHUB", CLIENT_ID)));
+        when(referenceDataRegistry.getUserRole()).thenReturn(new Role(2L, "ROLE_USER"));
+        when(referenceDataRegistry.getPendingStatus()).thenReturn(new Status(4L, "가입 대기"));
+    }
+
+    @Test
+    void loadUser_FailsLoginWhenEmailIsClaimedByAnotherUser() {
+        when(userEmailIndex.claim(EMAIL, USERNAME)).thenThrow(new AlreadyExistEmailException(EMAIL));
+
+        OAuth2AuthenticationException e = assertThrows(OAuth2AuthenticationException.class,
+                () -> oAuth2UserService.loadUser(userRequest()));
+
+        assertEquals("email_already_in_use", e.getError().getErrorCode());
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void loadUser_FailsLoginWhenEmailConstraintRejectsNewUser() {
+        when(userEmailIndex.claim(EMAIL, USERNAME)).thenReturn(true);
+        when(userRepository.save(any())).thenThrow(new DataIntegrityViolationException("uk_users_email"));
+
+        OAuth2AuthenticationException e = assertThrows(OAuth2AuthenticationException.class,
+                () -> oAuth2UserService.loadUser(userRequest()));
+
+        assertEquals("email_already_in_use", e.getError().getErrorCode());
+        verify(userEmailIndex).release(EMAIL, USERNAME);
+    }
+
+    @Test
+    void loadUser_RecordsLoginWhenSameUserWasSavedConcurrently() {
+        when(userEmailIndex.claim(EMAIL, USERNAME)).thenReturn(false);
+        when(userRepository.save(any())).thenThrow(new DataIntegrityViolationException("PRIMARY"));
+        when(userRepository.existsById(USERNAME)).thenReturn(false, true);
+
+        assertEquals("42", oAuth2UserService.loadUser(userRequest()).getName());
+
+        verify(latestLoginAtBuffer).record(eq(USERNAME), any());
+        verify(userEmailIndex, never()).release(any(), any());
+    }
+
+    private static OAuth2UserRequest userRequest() {
+        ClientRegistration registration = ClientRegistration.withRegistrationId("github")
+                .clientId(CLIENT_ID)
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("{baseUrl}/login/oauth2/code/{registrationId}")
+                .authorizationUri("https://github.com/login/oauth/authorize")
+                .tokenUri("https://github.com/login/oauth/access_token")
+                .userInfoUri("https://api.github.com/user")
+                .userNameAttributeName("id")
+                .build();
+        OAuth2AccessToken accessToken = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "token",
+                Instant.now(), Instant.now().plusSeconds(60L));
+        return new OAuth2UserRequest(registration, accessToken);
+    }
+}
@@ -0,0 +1,116 @@
+package com.user.management.service.impl;
+
+import com.user.management.cache.CacheGenerationManager;
+import com.user.management.page.CountStrategy;
+import com.user.management.repository.UserReadModelRepository;
+import com.user.management.shard.ShardingProperties;
+import com.user.management.shard.UserShardRouter;
+import com.user.management.shard.UserShards;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserCountProviderTest {
+    private UserReadModelRepository userReadModelRepository;
+    private JdbcTemplate jdbcTemplate;
+    private CacheGenerationManager cacheGeneration;
+    private UserCountProvider userCountProvider;
+
+    @BeforeEach
+    void setUp() {
+        userReadModelRepository = mock(UserReadModelRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        cacheGeneration = mock(CacheGenerationManager.class);
+        UserShards userShards = new UserShards(
+                new UserShardRouter(new ShardingProperties()), mock(PlatformTransactionManager.class));
+        userCountProvider = new UserCountProvider(
+                userReadModelRepository, jdbcTemplate, new ConcurrentMapCacheManager(), cacheGeneration, userShards, true, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userCountProvider.destroy();
+    }
+
+    @Test
+    void countByStatus_CachedCountsOncePerGeneration() {
+        when(userReadModelRepository.countByStatusId(1L)).thenReturn(42L);
+        when(cacheGeneration.current(UserCountProvider.COUNT_CACHE)).thenReturn(0L, 0L, 1L);
+
+        assertEquals(42L, userCountProvider.countByStatus(1L, CountStrategy.CACHED).join());
+        assertEquals(42L, userCountProvider.countByStatus(1L, CountStrategy.CACHED).join());
+        assertEquals(42L, userCountProvider.countByStatus(1L, CountStrategy.CACHED).join());
+
+        verify(userReadModelRepository, times(2)).countByStatusId(1L);
+    }
+
+    @Test
+    void countAll_EstimatedUsesTableStatistics() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(1_000L);
+
+        assertEquals(1_000L, userCountProvider.countAll(CountStrategy.ESTIMATED).join());
+        verify(userReadModelRepository, times(0)).count();
+    }
+
+    @Test
+    void countByRole_EstimatedFallsBackToExactWithoutStatistics() {
+        when(jdbcTemplate.queryForList(anyString(), eq(2L)))
+                .thenThrow(new DataAccessResourceFailureException("no plan"));
+        when(userReadModelRepository.countByRoleId(2L)).thenReturn(7L);
+
+        assertEquals(7L, userCountProvider.countByRole(2L, CountStrategy.ESTIMATED).join());
+    }
+
+    @Test
+    void countByRole_EstimatedReadsExplainRows() {
+        when(jdbcTemplate.queryForList(anyString(), eq(2L))).thenReturn(List.of(Map.of("rows", 123L)));
+
+        assertEquals(123L, userCountProvider.countByRole(2L, CountStrategy.ESTIMATED).join());
+    }
+
+    @Test
+    void countAll_RunsOnCallerWhenCountThreadsAreBusy() {
+        UserShards userShards = new UserShards(
+                new UserShardRouter(new ShardingProperties()), mock(PlatformTransactionManager.class));
+        UserCountProvider singleThread = new UserCountProvider(
+                userReadModelRepository, jdbcTemplate, new ConcurrentMapCacheManager(), cacheGeneration, userShards, true, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userReadModelRepository.count()).thenAnswer(invocation -> {
+            if (Thread.currentThread().getName().startsWith("page-count-"))
+                release.await(5L, TimeUnit.SECONDS);
+            return 7L;
+        });
+
+        try {
+            CompletableFuture<Long> busy = singleThread.countAll(CountStrategy.EXACT);
+            CompletableFuture<Long> inline = singleThread.countAll(CountStrategy.EXACT);
+
+            assertTrue(inline.isDone());
+            assertEquals(7L, inline.join());
+            release.countDown();
+            assertEquals(7L, busy.join());
+        } finally {
+            release.countDown();
+            singleThread.destroy();
+        }
+    }
+}
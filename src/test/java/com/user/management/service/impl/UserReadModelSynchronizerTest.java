@@ -0,0 +1,125 @@
+package com.user.management.service.impl;
+
+import com.user.management.cache.CacheGenerationManager;
+import com.user.management.config.JasyptConfig;
+import com.user.management.config.ShardingConfig;
+import com.user.management.dto.UserDataResponse;
+import com.user.management.dto.UserReadModelRebuildResponse;
+import com.user.management.entity.Role;
+import com.user.management.entity.Status;
+import com.user.management.entity.User;
+import com.user.management.entity.UserReadModel;
+import com.user.management.repository.UserReadModelRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@Import({JasyptConfig.class, ShardingConfig.class, UserReadModelSynchronizer.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UserReadModelSynchronizerTest {
+    private static final String USER_ID = "read model test user";
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private UserReadModelSynchronizer synchronizer;
+    @Autowired
+    private UserReadModelRepository userReadModelRepository;
+    @MockBean
+    private CacheGenerationManager cacheGeneration;
+
+    private Role role;
+    private Status activeStatus;
+    private Status inActiveStatus;
+
+    @BeforeEach
+    void setUp() {
+        role = entityManager.persist(Role.builder().name("read model role").build());
+        activeStatus = entityManager.persist(Status.builder().name("read model active").build());
+        inActiveStatus = entityManager.persist(Status.builder().name("read model inactive").build());
+        entityManager.persist(User.builder()
+                .id(USER_ID)
+                .name("reader")
+                .email("reader@test.com")
+                .role(role)
+                .status(activeStatus)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Test
+    void sync_CopiesUserWithRoleAndStatusNames() {
+        synchronizer.sync(List.of(USER_ID));
+        entityManager.clear();
+
+        List<UserDataResponse> users = userReadModelRepository.getUsersFilteredByRoleIdList(PageRequest.of(0, 10), role.getId());
+
+        assertAll(
+                () -> assertEquals(1, users.size()),
+                () -> assertEquals(USER_ID, users.get(0).getId()),
+                () -> assertEquals("read model role", users.get(0).getRoleName()),
+                () -> assertEquals("read model active", users.get(0).getStatusName())
+        );
+    }
+
+    @Test
+    void sync_FlushesPendingChangesBeforeCopying() {
+        synchronizer.sync(List.of(USER_ID));
+        entityManager.find(User.class, USER_ID).changeStatus(inActiveStatus);
+
+        synchronizer.sync(List.of(USER_ID));
+        entityManager.clear();
+
+        UserReadModel user = userReadModelRepository.findById(USER_ID).orElseThrow();
+        assertAll(
+                () -> assertEquals(inActiveStatus.getId(), user.getStatusId()),
+                () -> assertEquals("read model inactive", user.getStatusName())
+        );
+    }
+
+    @Test
+    void sync_RemovesDeletedUser() {
+        synchronizer.sync(List.of(USER_ID));
+        entityManager.remove(entityManager.find(User.class, USER_ID));
+
+        synchronizer.sync(List.of(USER_ID));
+        entityManager.clear();
+
+        assertTrue(userReadModelRepository.findById(USER_ID).isEmpty());
+    }
+
+    @Test
+    void rebuild_CopiesMissingRowsAndRemovesOrphans() {
+        entityManager.flush();
+        jdbcTemplate.update("INSERT INTO user_read_model (user_id, user_name, created_at) VALUES (?, ?, ?)",
+                "read model orphan", "orphan", Timestamp.valueOf(LocalDateTime.now()));
+
+        UserReadModelRebuildResponse response = synchronizer.rebuild();
+        entityManager.clear();
+
+        assertAll(
+                () -> assertTrue(response.getSynced() >= 1),
+                () -> assertTrue(response.getRemoved() >= 1),
+                () -> assertEquals("read model role", userReadModelRepository.findById(USER_ID).orElseThrow().getRoleName()),
+                () -> assertTrue(userReadModelRepository.findById("read model orphan").isEmpty())
+        );
+        verify(cacheGeneration).advance("getUsers");
+    }
+}
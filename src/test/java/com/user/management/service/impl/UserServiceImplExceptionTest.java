@@ -1,5 +1,8 @@
 package com.user.management.service.impl;
 
+import com.user.management.buffer.LatestLoginAtBuffer;
+import com.user.management.cache.CacheGenerationManager;
+import com.user.management.data.ReferenceDataRegistry;
 import com.user.management.dto.UserCreateRequest;
 import com.user.management.dto.UserLoginRequest;
 import com.user.management.entity.Role;
@@ -8,25 +11,41 @@ import com.user.management.exception.AlreadyExistEmailException;
 import com.user.management.exception.InvalidPasswordException;
 import com.user.management.exception.UserAlreadyExistException;
 import com.user.management.exception.UserNotFoundException;
-import com.user.management.repository.ProviderRepository;
-import com.user.management.repository.RoleRepository;
-import com.user.management.repository.StatusRepository;
+import com.user.management.page.CountStrategy;
+import com.user.management.repository.UserReadModelRepository;
 import com.user.management.repository.UserRepository;
+import com.user.management.shard.ShardContext;
+import com.user.management.shard.ShardingProperties;
+import com.user.management.shard.UserEmailIndex;
+import com.user.management.shard.UserShardRouter;
+import com.user.management.shard.UserShards;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.data.domain.PageImpl;
+import org.mockito.Spy;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class UserServiceImplExceptionTest {
@@ -35,16 +54,41 @@ class UserServiceImplExceptionTest {
 
 
     @Mock
-    private StatusRepository statusRepository;
+    private ReferenceDataRegistry referenceDataRegistry;
 
     @Mock
-    private RoleRepository roleRepository;
+    private PasswordEncoder passwordEncoder;
 
     @Mock
-    private ProviderRepository providerRepository;
+    private LatestLoginAtBuffer latestLoginAtBuffer;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private CacheManager cacheManager;
+
+    @Mock
+    private CacheGenerationManager cacheGeneration;
+
+    @Mock
+    private UserCountProvider userCountProvider;
+
+    @Mock
+    private UserReadModelRepository userReadModelRepository;
+
+    @Mock
+    private UserReadModelSynchronizer userReadModelSynchronizer;
+
+    @Mock
+    private TransactionOperations transactionOperations;
+
+    @Mock
+    private UserEmailIndex userEmailIndex;
+
+    @Mock
+    private UserShardRouter userShardRouter;
+
+    @Spy
+    private UserShards userShards = new UserShards(
+            new UserShardRouter(new ShardingProperties()), mock(PlatformTransactionManager.class));
 
     @InjectMocks
     private UserServiceImpl userService;
@@ -52,6 +96,8 @@ class UserServiceImplExceptionTest {
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(transactionOperations.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
     }
 
 
@@ -59,8 +105,9 @@ class UserServiceImplExceptionTest {
     void getAllUsers_UserNotFoundTest() {
         Pageable pageable = PageRequest.of(0, 10);
 
-        when(userRepository.getAllUserData(pageable)).thenReturn(new PageImpl<>(Collections.emptyList()));
-        assertThrows(UserNotFoundException.class, () -> userService.getAllUsers(pageable));
+        when(userReadModelRepository.getAllUserDataList(pageable)).thenReturn(Collections.emptyList());
+        when(userCountProvider.countAll(CountStrategy.EXACT)).thenReturn(CompletableFuture.completedFuture(0L));
+        assertThrows(UserNotFoundException.class, () -> userService.getAllUsers(pageable, CountStrategy.EXACT));
     }
 
     @Test
@@ -86,16 +133,30 @@ class UserServiceImplExceptionTest {
                 .role(new Role(2L, "ROLE_USER"))
                 .build();
 
-        when(userRepository.findById(userLoginRequest.getId())).thenReturn(Optional.of(user));
+        when(userRepository.findWithRoleAndStatusById(userLoginRequest.getId())).thenReturn(Optional.of(user));
         assertThrows(InvalidPasswordException.class, () -> userService.getUserLogin(userLoginRequest));
     }
 
+    @Test
+    void createUser_UserAlreadyExistExceptionWhenIdIsStillOnPreviousShard() {
+        UserCreateRequest userCreateRequest =
+                new UserCreateRequest("testId", "testName", "testPassword", "test@gmail.com");
+        when(userShardRouter.isResharding()).thenReturn(true);
+        when(userShardRouter.shardOf("testId")).thenReturn(0);
+        when(userShardRouter.previousShardOf("testId")).thenReturn(1);
+        when(userRepository.existsById("testId")).thenAnswer(invocation -> ShardContext.current() == 1);
+
+        assertThrows(UserAlreadyExistException.class, () -> userService.createUser(userCreateRequest));
+        verify(userEmailIndex, never()).claim(any(), any());
+        verify(userRepository, never()).saveAndFlush(any());
+    }
+
     @Test
     void createUser_UserAlreadyExistException() {
         UserCreateRequest userCreateRequest =
                 new UserCreateRequest("testId", "testName", "testPassword", "test@gmail.com");
 
-        when(userRepository.existsById(userCreateRequest.getId())).thenReturn(true);
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(duplicate("users.PRIMARY"));
 
         assertThrows(UserAlreadyExistException.class, () -> {
             userService.createUser(userCreateRequest);
@@ -107,20 +168,45 @@ class UserServiceImplExceptionTest {
         UserCreateRequest userCreateRequest =
                 new UserCreateRequest("testId", "testName", "testPassword", "test@gmail.com");
 
-        User expectedUser = User.builder()
-                .id(userCreateRequest.getId())
-                .name(userCreateRequest.getName())
-                .email(userCreateRequest.getEmail())
-                .password(userCreateRequest.getPassword())
-                .latestLoginAt(LocalDateTime.now())
-                .build();
-
-        when(userRepository.existsById(userCreateRequest.getId())).thenReturn(false);
-        when(userRepository.getByEmail(userCreateRequest.getEmail())).thenReturn(Optional.of(expectedUser));
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(duplicate("users." + User.EMAIL_UNIQUE_KEY));
         assertThrows(AlreadyExistEmailException.class, () -> {
             userService.createUser(userCreateRequest);
         });
     }
 
+    @Test
+    void createUser_AlreadyExistEmailExceptionWhenClaimedOnAnotherShard() {
+        UserCreateRequest userCreateRequest =
+                new UserCreateRequest("testId", "testName", "testPassword", "test@gmail.com");
 
+        when(userEmailIndex.claim("test@gmail.com", "testId")).thenThrow(new AlreadyExistEmailException("test@gmail.com"));
+        assertThrows(AlreadyExistEmailException.class, () -> userService.createUser(userCreateRequest));
+        verify(userRepository, never()).saveAndFlush(any(User.class));
+    }
+
+    @Test
+    void createUser_ReleasesEmailClaimWhenSaveFails() {
+        UserCreateRequest userCreateRequest =
+                new UserCreateRequest("testId", "testName", "testPassword", "test@gmail.com");
+
+        when(userEmailIndex.claim("test@gmail.com", "testId")).thenReturn(true);
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(duplicate("users.PRIMARY"));
+        assertThrows(UserAlreadyExistException.class, () -> userService.createUser(userCreateRequest));
+        verify(userEmailIndex).release("test@gmail.com", "testId");
+    }
+
+    @Test
+    void createUser_OtherIntegrityViolationIsNotTranslated() {
+        UserCreateRequest userCreateRequest =
+                new UserCreateRequest("testId", "testName", "testPassword", "test@gmail.com");
+
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(duplicate("fk_users_role"));
+        assertThrows(DataIntegrityViolationException.class, () -> userService.createUser(userCreateRequest));
+    }
+
+    private DataIntegrityViolationException duplicate(String constraintName) {
+        SQLException sqlException = new SQLException("Duplicate entry", "23000", 1062);
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sqlException, constraintName));
+    }
 }
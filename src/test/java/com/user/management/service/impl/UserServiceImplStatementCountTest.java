@@ -0,0 +1,235 @@
+package com.user.management.service.impl;
+
+import com.user.management.buffer.LatestLoginAtBuffer;
+import com.user.management.cache.CacheGenerationManager;
+import com.user.management.config.JasyptConfig;
+import com.user.management.config.ShardingConfig;
+import com.user.management.data.ReferenceDataRegistry;
+import com.user.management.dto.DeleteUserRequest;
+import com.user.management.dto.PermitUserRequest;
+import com.user.management.dto.UserCreateRequest;
+import com.user.management.dto.UserLoginRequest;
+import com.user.management.dto.UserUpdateRequest;
+import com.user.management.entity.Provider;
+import com.user.management.entity.Role;
+import com.user.management.entity.Status;
+import com.user.management.entity.User;
+import com.user.management.shard.UserEmailIndex;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 사용자 변경 메서드가 실행하는 SQL 문 수를 확인합니다.
+ * 새 사용자 저장 시 merge 를 위한 SELECT 가 없고, 변경 시 변경된 컬럼만 UPDATE 하는지 검증합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.user.management.service.impl.UserServiceImplStatementCountTest$RecordingStatementInspector")
+@Import({JasyptConfig.class, ShardingConfig.class, UserServiceImpl.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UserServiceImplStatementCountTest {
+    private static final String USER_ID = "statement test user";
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private UserServiceImpl userService;
+    @MockBean
+    private ReferenceDataRegistry referenceDataRegistry;
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+    @MockBean
+    private LatestLoginAtBuffer latestLoginAtBuffer;
+    @MockBean
+    private CacheManager cacheManager;
+    @MockBean
+    private CacheGenerationManager cacheGeneration;
+    @MockBean
+    private UserCountProvider userCountProvider;
+    @MockBean
+    private UserReadModelSynchronizer userReadModelSynchronizer;
+    @MockBean
+    private UserEmailIndex userEmailIndex;
+
+    private Role adminRole;
+    private Role userRole;
+    private Status activeStatus;
+    private Status pendingStatus;
+    private Status deactivatedStatus;
+    private Provider provider;
+
+    @BeforeEach
+    void setUp() {
+        adminRole = entityManager.persist(Role.builder().name("test admin").build());
+        userRole = entityManager.persist(Role.builder().name("test user").build());
+        activeStatus = entityManager.persist(Status.builder().name("test active").build());
+        pendingStatus = entityManager.persist(Status.builder().name("test pending").build());
+        deactivatedStatus = entityManager.persist(Status.builder().name("test deactivated").build());
+        provider = entityManager.persist(new Provider("test provider", "test"));
+        entityManager.persist(User.builder()
+                .id(USER_ID)
+                .name("before")
+                .email("before@test.com")
+                .password("before")
+                .role(userRole)
+                .status(pendingStatus)
+                .provider(provider)
+                .createdAt(LocalDateTime.now())
+                .latestLoginAt(LocalDateTime.now())
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        given(referenceDataRegistry.getAdminRole()).willReturn(adminRole);
+        given(referenceDataRegistry.getUserRole()).willReturn(userRole);
+        given(referenceDataRegistry.getActiveStatus()).willReturn(activeStatus);
+        given(referenceDataRegistry.getPendingStatus()).willReturn(pendingStatus);
+        given(referenceDataRegistry.getDeactivatedStatus()).willReturn(deactivatedStatus);
+        given(referenceDataRegistry.getDefaultProvider()).willReturn(provider);
+        given(passwordEncoder.encode(anyString())).willReturn("encoded");
+        RecordingStatementInspector.reset();
+    }
+
+    @Test
+    void createUser_InsertsWithoutPreCheckOrMergeSelect() {
+        userService.createUser(new UserCreateRequest("statement new user", "new", "password", "new@test.com"));
+        entityManager.flush();
+
+        List<String> statements = RecordingStatementInspector.statements();
+        assertAll(
+                () -> assertEquals(1, statements.size(), statements::toString),
+                () -> assertEquals(1, count(statements, "insert into users"))
+        );
+    }
+
+    @Test
+    void getUserLogin_SelectsUserWithRoleAndStatusOnce() {
+        given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
+
+        userService.getUserLogin(new UserLoginRequest(USER_ID, "before"));
+
+        List<String> statements = RecordingStatementInspector.statements();
+        assertAll(
+                () -> assertEquals(1, statements.size(), statements::toString),
+                () -> assertTrue(statements.get(0).contains("user_role") && statements.get(0).contains("user_status"),
+                        statements::toString),
+                () -> assertFalse(statements.get(0).contains("user_provider"), statements::toString)
+        );
+    }
+
+    @Test
+    void permitUser_UpdatesOnlyStatus() {
+        userService.permitUser(new PermitUserRequest(USER_ID));
+        entityManager.flush();
+
+        assertSelectThenUpdate("user_role", "status_id", "role_id");
+    }
+
+    @Test
+    void promoteUser_UpdatesOnlyRole() {
+        userService.promoteUser(new PermitUserRequest(USER_ID));
+        entityManager.flush();
+
+        assertSelectThenUpdate("user_status", "role_id", "status_id");
+    }
+
+    @Test
+    void deactivateUser_UpdatesOnlyStatus() {
+        userService.deactivateUser(USER_ID);
+        entityManager.flush();
+
+        assertSelectThenUpdate("user_role", "status_id", "role_id");
+    }
+
+    @Test
+    void updateUser_UpdatesOnlyChangedColumns() {
+        userService.updateUser(new UserUpdateRequest("after", "password", "after@test.com"), USER_ID);
+        entityManager.flush();
+
+        List<String> statements = RecordingStatementInspector.statements();
+        String update = statements.get(statements.size() - 1);
+        assertAll(
+                () -> assertEquals(2, statements.size(), statements::toString),
+                () -> assertTrue(update.startsWith("update users"), update),
+                () -> assertTrue(update.contains("user_name") && update.contains("user_email")
+                        && update.contains("user_password") && update.contains("status_id"), update),
+                () -> assertFalse(update.contains("role_id") || update.contains("created_at"), update)
+        );
+    }
+
+    @Test
+    void deleteUser_SelectsOnceAndDeletes() {
+        userService.deleteUser(new DeleteUserRequest(USER_ID));
+        entityManager.flush();
+
+        List<String> statements = RecordingStatementInspector.statements();
+        assertAll(
+                () -> assertEquals(2, statements.size(), statements::toString),
+                () -> assertFalse(statements.get(0).contains("user_role"), statements::toString),
+                () -> assertTrue(statements.get(1).startsWith("delete from users"), statements::toString)
+        );
+    }
+
+    private void assertSelectThenUpdate(String fetchedTable, String changedColumn, String unchangedColumn) {
+        List<String> statements = RecordingStatementInspector.statements();
+        assertEquals(2, statements.size(), statements::toString);
+
+        String select = statements.get(0);
+        String update = statements.get(1);
+        assertAll(
+                () -> assertTrue(select.startsWith("select") && select.contains(fetchedTable), select),
+                () -> assertFalse(select.contains("user_provider"), select),
+                () -> assertTrue(update.startsWith("update users"), update),
+                () -> assertTrue(update.contains(changedColumn), update),
+                () -> assertFalse(update.contains(unchangedColumn) || update.contains("user_name"), update)
+        );
+    }
+
+    private long count(List<String> statements, String fragment) {
+        return statements.stream()
+                .filter(statement -> statement.startsWith(fragment))
+                .count();
+    }
+
+    /**
+     * Hibernate 가 실행하는 SQL 을 기록하는 inspector
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        static void reset() {
+            STATEMENTS.clear();
+        }
+
+        static List<String> statements() {
+            return STATEMENTS.stream()
+                    .map(sql -> sql.replaceAll("(?s)/\\*.*?\\*/", " "))
+                    .map(sql -> sql.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -1,40 +1,69 @@
 package com.user.management.service.impl;
 
+import com.user.management.buffer.LatestLoginAtBuffer;
+import com.user.management.cache.CacheGenerationManager;
+import com.user.management.data.ReferenceDataRegistry;
+import com.user.management.dto.BulkUserResponse;
 import com.user.management.dto.UserCreateRequest;
+import com.user.management.dto.UserCursorRow;
 import com.user.management.dto.UserDataResponse;
 import com.user.management.dto.UserLoginRequest;
+import com.user.management.dto.UserTransitionRequest;
+import com.user.management.dto.UserTransitionResponse;
 import com.user.management.dto.UserUpdateRequest;
 import com.user.management.entity.Role;
 import com.user.management.entity.Status;
 import com.user.management.entity.User;
 import com.user.management.exception.AdminMustUpdatePasswordException;
 import com.user.management.exception.AlreadyExistEmailException;
+import com.user.management.exception.InvalidUserTransitionException;
 import com.user.management.exception.UserNotFoundException;
-import com.user.management.repository.ProviderRepository;
-import com.user.management.repository.RoleRepository;
-import com.user.management.repository.StatusRepository;
+import com.user.management.page.CountStrategy;
+import com.user.management.page.CursorPage;
+import com.user.management.page.RestPage;
+import com.user.management.page.UserCursor;
+import com.user.management.repository.UserReadModelRepository;
 import com.user.management.repository.UserRepository;
 import com.user.management.service.UserService;
+import com.user.management.shard.ShardingProperties;
+import com.user.management.shard.UserEmailIndex;
+import com.user.management.shard.UserShardRouter;
+import com.user.management.shard.UserShards;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -46,13 +75,41 @@ class UserServiceImplTest {
     @MockBean
     private UserRepository userRepository;
     @MockBean
-    private StatusRepository statusRepository;
+    private ReferenceDataRegistry referenceDataRegistry;
     @MockBean
-    private RoleRepository roleRepository;
+    private PasswordEncoder passwordEncoder;
     @MockBean
-    private ProviderRepository providerRepository;
+    private LatestLoginAtBuffer latestLoginAtBuffer;
     @MockBean
-    private PasswordEncoder passwordEncoder;
+    private CacheManager cacheManager;
+    @MockBean
+    private CacheGenerationManager cacheGeneration;
+    @MockBean
+    private UserCountProvider userCountProvider;
+    @MockBean
+    private UserReadModelRepository userReadModelRepository;
+    @MockBean
+    private UserReadModelSynchronizer userReadModelSynchronizer;
+    @MockBean
+    private UserEmailIndex userEmailIndex;
+
+    @TestConfiguration
+    static class TransactionConfig {
+        @Bean
+        TransactionOperations transactionOperations() {
+            return TransactionOperations.withoutTransaction();
+        }
+
+        @Bean
+        UserShardRouter userShardRouter() {
+            return new UserShardRouter(new ShardingProperties());
+        }
+
+        @Bean
+        UserShards userShards(UserShardRouter userShardRouter) {
+            return new UserShards(userShardRouter, mock(PlatformTransactionManager.class));
+        }
+    }
 
     @Test
     void getAllUsers_AdminAccess() {
@@ -69,15 +126,18 @@ class UserServiceImplTest {
         userDataResponse.setId(adminUser.getId());
         userDataResponse.setRoleName(adminUser.getRole().getName());
 
-        Page<UserDataResponse> expectedPage = new PageImpl<>(List.of(userDataResponse));
+        Page<UserDataResponse> expectedPage = new PageImpl<>(List.of(userDataResponse), pageable, 1L);
 
         given(userRepository.existsById(userId)).willReturn(true);
         given(userRepository.getRoleByUserId(userId)).willReturn(roleAdmin);
-        given(userRepository.getAllUserData(pageable)).willReturn(expectedPage);
+        given(userReadModelRepository.getAllUserDataList(pageable)).willReturn(expectedPage.getContent());
+        given(userCountProvider.countAll(CountStrategy.EXACT)).willReturn(CompletableFuture.completedFuture(1L));
 
-        Page<UserDataResponse> page = userService.getAllUsers(pageable);
+        RestPage<UserDataResponse> page = userService.getAllUsers(pageable, CountStrategy.EXACT);
 
         assertEquals(expectedPage.getSize(), page.getSize());
+        assertEquals(expectedPage.getTotalElements(), page.getTotalElements());
+        assertEquals(CountStrategy.EXACT, page.getCountStrategy());
         assertEquals(expectedPage.getContent().get(0).getId(), page.getContent().get(0).getId());
     }
 
@@ -108,7 +168,7 @@ class UserServiceImplTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        given(userRepository.findById(userLoginRequest.getId())).willReturn(Optional.of(mockedUser));
+        given(userRepository.findWithRoleAndStatusById(userLoginRequest.getId())).willReturn(Optional.of(mockedUser));
         given(passwordEncoder.matches(any(), any())).willReturn(true); // passwordEncoder 는 Mock 객체라 null 이 반환된다.
 
         assertThrows(AdminMustUpdatePasswordException.class, () -> {
@@ -119,14 +179,15 @@ class UserServiceImplTest {
                 .latestLoginAt(LocalDateTime.now())
                 .build();
 
-        given(userRepository.findById(userLoginRequest.getId())).willReturn(Optional.of(updatedUser));
+        given(userRepository.findWithRoleAndStatusById(userLoginRequest.getId())).willReturn(Optional.of(updatedUser));
         given(passwordEncoder.matches(any(), any())).willReturn(true);
-        given(userRepository.save(any())).willReturn(updatedUser);
         UserDataResponse response = userService.getUserLogin(userLoginRequest);
 
         assertEquals(updatedUser.getId(), response.getId());
         assertEquals(updatedUser.getRole().getName(), response.getRoleName());
         assertEquals(updatedUser.getPassword(), response.getPassword());
+        verify(latestLoginAtBuffer, times(1)).record(eq(updatedUser.getId()), any(LocalDateTime.class));
+        verify(userRepository, never()).save(any());
     }
 
     @Test
@@ -148,13 +209,34 @@ class UserServiceImplTest {
                 .latestLoginAt(LocalDateTime.now())
                 .build();
 
-        given(userRepository.existsById(userCreateRequest.getId())).willReturn(false);
-        given(userRepository.getByEmail(userCreateRequest.getEmail())).willReturn(Optional.empty());
-        given(userRepository.save(any())).willReturn(expectedUser);
+        given(userRepository.saveAndFlush(any())).willReturn(expectedUser);
+        userService.createUser(userCreateRequest);
+
+        // 중복 여부는 미리 조회하지 않고 unique 제약으로 판단한다.
+        verify(userRepository, never()).existsById(anyString());
+        verify(userRepository, never()).getByEmail(anyString());
+        verify(userRepository, times(1)).saveAndFlush(any(User.class));
+        verify(userReadModelSynchronizer, times(1)).sync(List.of("testId"));
+    }
+
+    @Test
+    void createUser_EncodesPasswordBeforeRepositoryAccess() {
+        UserCreateRequest userCreateRequest =
+                new UserCreateRequest("testId", "testName", "testPassword", "test@gmail.com");
+
+        User expectedUser = User.builder()
+                .id(userCreateRequest.getId())
+                .role(new Role(2L, "ROLE_USER"))
+                .status(new Status(4L, "PENDING"))
+                .build();
+
+        given(userRepository.saveAndFlush(any())).willReturn(expectedUser);
         userService.createUser(userCreateRequest);
 
-        verify(userRepository, times(1)).existsById(userCreateRequest.getId());
-        verify(userRepository, times(1)).save(any(User.class));
+        // BCrypt 해싱이 커넥션을 점유하지 않도록, 레포지토리 접근보다 먼저 수행되어야 한다.
+        InOrder inOrder = inOrder(passwordEncoder, userRepository);
+        inOrder.verify(passwordEncoder).encode(userCreateRequest.getPassword());
+        inOrder.verify(userRepository).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -181,26 +263,31 @@ class UserServiceImplTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        given(userRepository.findById(userId)).willReturn(Optional.of(originalUser));
-        given(userRepository.getByEmail(newEmail)).willReturn(Optional.empty());
-        given(statusRepository.getActiveStatus()).willReturn(activeStatus);
-        given(userRepository.save(any())).willReturn(originalUser);
+        given(userRepository.findWithRoleById(userId)).willReturn(Optional.of(originalUser));
+        given(referenceDataRegistry.getActiveStatus()).willReturn(activeStatus);
 
-        userService.updateUser(updateRequest, userId);
+        UserDataResponse updatedUser = userService.updateUser(updateRequest, userId);
 
-        // LocalDateTime.now()가 목 객체에서 오류를 일으켜서 ArgumentCaptor<User>로 문제되지 않게 변경
-        ArgumentCaptor<User> userArgumentCaptor = ArgumentCaptor.forClass(User.class);
-        verify(userRepository).save(userArgumentCaptor.capture());
-        User savedUser = userArgumentCaptor.getValue();
+        assertEquals(updateRequest.getName(), originalUser.getName());
+        assertEquals(newEmail, originalUser.getEmail());
+        assertEquals(passwordEncoder.encode(updateRequest.getPassword()), originalUser.getPassword());
+        assertEquals(newEmail, updatedUser.getEmail());
+        verify(userRepository, never()).save(any());
+        verify(userCountProvider, times(1)).invalidate();
+        verify(userEmailIndex).claim(newEmail, userId);
+        verify(userEmailIndex).release(userEmail, userId);
 
-        assertEquals(updateRequest.getName(), savedUser.getName());
-        assertEquals(newEmail, savedUser.getEmail());
-        assertEquals(passwordEncoder.encode(updateRequest.getPassword()), savedUser.getPassword());
-
-        given(userRepository.getByEmail(newEmail)).willReturn(Optional.of(originalUser));
+        User otherUser = originalUser.toBuilder()
+                .email(userEmail)
+                .build();
+        given(userRepository.findWithRoleById(userId)).willReturn(Optional.of(otherUser));
+        willThrow(new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement",
+                        new SQLException("Duplicate entry", "23000", 1062), "users." + User.EMAIL_UNIQUE_KEY)))
+                .given(userRepository).flush();
         assertThrows(AlreadyExistEmailException.class, () -> userService.updateUser(updateRequest, userId));
 
-        given(userRepository.findById(userId)).willReturn(Optional.empty());
+        given(userRepository.findWithRoleById(userId)).willReturn(Optional.empty());
         assertThrows(UserNotFoundException.class, () -> userService.updateUser(updateRequest, userId));
     }
 
@@ -232,12 +319,10 @@ class UserServiceImplTest {
                 .status(status)
                 .build();
 
-        given(userRepository.findById(anyString()))
+        given(userRepository.findWithRoleById(anyString()))
                 .willReturn(Optional.of(existedUser));
-        given(statusRepository.getDeactivatedStatus())
+        given(referenceDataRegistry.getDeactivatedStatus())
                 .willReturn(deactivateStatus);
-        given(userRepository.save(any()))
-                .willReturn(existedUser);
 
         UserDataResponse userDataResponse = userService.deactivateUser(userId);
 
@@ -245,67 +330,185 @@ class UserServiceImplTest {
                 () -> assertNotNull(userDataResponse),
                 () -> assertEquals(userId, userDataResponse.getId()),
                 () -> assertEquals(roleName, userDataResponse.getRoleName()),
-                () -> assertEquals(statusName, userDataResponse.getStatusName())
+                () -> assertEquals(deactivateStatusName, userDataResponse.getStatusName()),
+                () -> assertEquals(deactivateStatus, existedUser.getStatus())
         );
+        verify(userRepository, never()).save(any());
+        verify(userReadModelSynchronizer, times(1)).sync(List.of(userId));
     }
 
     @Test
     void updateUserInactivityStatus() {
         Status inActiveStatus = new Status(2L, "INACTIVE");
         Status activeStatus = new Status(1L, "ACTIVE");
-        Role role = Role.builder()
-                .id(1L)
-                .name("ROLE_USER")
-                .build();
+        Role adminRole = new Role(1L, "ROLE_ADMIN");
+        List<String> candidateIds = List.of("testIdOne", "testIdTwo");
+        Cache userCache = mock(Cache.class);
+
+        given(referenceDataRegistry.getAdminRole()).willReturn(adminRole);
+        given(referenceDataRegistry.getActiveStatus()).willReturn(activeStatus);
+        given(referenceDataRegistry.getInActiveStatus()).willReturn(inActiveStatus);
+        given(cacheManager.getCache("getUser")).willReturn(userCache);
+        given(userRepository.findInactivityCandidateIds(any(), eq(1L), eq(1L), eq(""), any()))
+                .willReturn(candidateIds);
+        given(userRepository.updateStatusToInactive(eq(candidateIds), eq(inActiveStatus), any(), eq(1L), eq(1L)))
+                .willReturn(2);
 
-        User activeUserOne = User.builder()
-                .id("testIdOne")
-                .role(role)
-                .latestLoginAt(LocalDateTime.now().minusMonths(2))
-                .status(activeStatus)
-                .build();
+        userService.updateUserInactivityStatus();
 
-        User activeUserTwo = User.builder()
-                .id("testIdTwo")
-                .role(role)
-                .latestLoginAt(LocalDateTime.now().minusWeeks(1))
-                .status(new Status(1L, "ACTIVE"))
-                .build();
+        verify(latestLoginAtBuffer, times(1)).flush();
+        verify(userRepository, times(1)).updateStatusToInactive(eq(candidateIds), eq(inActiveStatus), any(), eq(1L), eq(1L));
+        verify(userReadModelSynchronizer, times(1)).sync(candidateIds);
+        verify(userRepository, never()).findAll();
+        verify(userCache, times(1)).evict("testIdOne");
+        verify(userCache, times(1)).evict("testIdTwo");
+        verify(cacheGeneration, times(1)).advance("getUsers");
+    }
 
-        given(userRepository.findAll()).willReturn(Arrays.asList(activeUserOne, activeUserTwo));
-        given(statusRepository.getInActiveStatus()).willReturn(inActiveStatus);
+    @Test
+    void getUsersAfter_ReturnsNextCursorFromLastRow() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 9, 0);
+        List<UserCursorRow> rows = List.of(
+                new UserCursorRow("userOne", "one", "one@test.com", "ROLE_USER", "ACTIVE", "COMMON", createdAt),
+                new UserCursorRow("userTwo", "two", "two@test.com", "ROLE_USER", "ACTIVE", "COMMON", createdAt),
+                new UserCursorRow("userThree", "three", "three@test.com", "ROLE_USER", "ACTIVE", "COMMON", createdAt.plusMinutes(1)));
 
-        userService.updateUserInactivityStatus();
+        given(userReadModelRepository.getUserDataAfter(UserCursor.FIRST.getCreatedAt(), "", PageRequest.of(0, 3)))
+                .willReturn(rows);
 
-        ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
-        verify(userRepository, times(1)).save(userCaptor.capture()); // 2번째 테스트는 최근 로그인이 1주일 전이므로, update가 진행되지 않음.
-        List<User> savedUsers = userCaptor.getAllValues();
+        CursorPage<UserDataResponse> page = userService.getUsersAfter(null, 2, false);
+        UserCursor next = UserCursor.decode(page.getNext());
 
-        assertEquals(inActiveStatus, savedUsers.get(0).getStatus()); // 1번째 user는 마지막 로그인이 2달전이니, 휴면 상태로 전환된다.
+        assertAll(
+                () -> assertEquals(2, page.getContent().size()),
+                () -> assertEquals("userTwo", page.getContent().get(1).getId()),
+                () -> assertTrue(page.isHasNext()),
+                () -> assertNull(page.getTotalElements()),
+                () -> assertEquals(createdAt, next.getCreatedAt()),
+                () -> assertEquals("userTwo", next.getId())
+        );
+        verify(userRepository, never()).count();
     }
 
     @Test
-    void checkAndUpdateInactivity() {
-        Role role = Role.builder()
-                .id(1L)
-                .name("ROLE_USER")
+    void permitUsers_DeduplicatesAndReportsEachId() {
+        Status activeStatus = new Status(1L, "ACTIVE");
+        List<String> sortedIds = List.of("a", "b", "c");
+        Cache userCache = mock(Cache.class);
+
+        given(referenceDataRegistry.getActiveStatus()).willReturn(activeStatus);
+        given(cacheManager.getCache("getUser")).willReturn(userCache);
+        given(userRepository.lockIds(sortedIds)).willReturn(List.of("a", "b"));
+        given(userRepository.findIdsWithStatusOtherThan(List.of("a", "b"), 1L)).willReturn(List.of("b"));
+
+        BulkUserResponse response = userService.permitUsers(List.of("c", "b", "a", "b"));
+
+        assertAll(
+                () -> assertEquals(List.of("b"), response.getChanged()),
+                () -> assertEquals(List.of("a"), response.getUnchanged()),
+                () -> assertEquals(List.of("c"), response.getMissing())
+        );
+        verify(userRepository, times(1)).updateStatusByIds(List.of("b"), activeStatus);
+        verify(userReadModelSynchronizer, times(1)).sync(List.of("b"));
+        verify(userCache, times(1)).evict("b");
+        verify(cacheGeneration, times(1)).advance("getUsers");
+        verify(userCountProvider, times(1)).invalidate();
+    }
+
+    @Test
+    void deleteUsers_SkipsCacheWorkWhenNothingChanged() {
+        given(userRepository.lockIds(List.of("ghost"))).willReturn(List.of());
+
+        BulkUserResponse response = userService.deleteUsers(List.of("ghost"));
+
+        assertEquals(List.of("ghost"), response.getMissing());
+        verify(userRepository, never()).deleteByIds(any());
+        verify(cacheGeneration, never()).advance(anyString());
+    }
+
+    @Test
+    void transitionUsers_DryRunOnlyCounts() {
+        UserTransitionRequest request = UserTransitionRequest.builder()
+                .statusId(4L)
+                .targetStatusId(1L)
+                .dryRun(true)
                 .build();
-        User activeUser = User.builder()
-                .id("testId")
-                .role(role)
-                .latestLoginAt(LocalDateTime.now().minusMonths(2))
-                .status(new Status(1L, "ACTIVE"))
+
+        given(referenceDataRegistry.getStatus(1L)).willReturn(new Status(1L, "ACTIVE"));
+        given(userRepository.countTransitionTargets(request)).willReturn(120L);
+
+        UserTransitionResponse response = userService.transitionUsers(request);
+
+        assertAll(
+                () -> assertTrue(response.isDryRun()),
+                () -> assertEquals(120L, response.getMatched()),
+                () -> assertEquals(0, response.getUpdated())
+        );
+        verify(userRepository, never()).applyTransition(any(), any(), any());
+    }
+
+    @Test
+    void transitionUsers_RejectsWhenOverMaxRows() {
+        UserTransitionRequest request = UserTransitionRequest.builder()
+                .statusId(4L)
+                .targetStatusId(1L)
+                .maxRows(2)
                 .build();
 
-        Status inActiveStatus = new Status(2L, "INACTIVE");
-        given(statusRepository.getInActiveStatus()).willReturn(inActiveStatus);
+        given(referenceDataRegistry.getStatus(1L)).willReturn(new Status(1L, "ACTIVE"));
+        given(userRepository.lockTransitionTargetIds(request, 3)).willReturn(List.of("a", "b", "c"));
+
+        assertThrows(InvalidUserTransitionException.class, () -> userService.transitionUsers(request));
+        verify(userRepository, never()).applyTransition(any(), any(), any());
+    }
+
+    @Test
+    void transitionUsers_EvictsOnlyChangedUsers() {
+        Role adminRole = new Role(1L, "ROLE_ADMIN");
+        UserTransitionRequest request = UserTransitionRequest.builder()
+                .providerId("GITHUB")
+                .targetRoleId(1L)
+                .build();
+        Cache userCache = mock(Cache.class);
+        Cache roleCache = mock(Cache.class);
+
+        given(referenceDataRegistry.getRole(1L)).willReturn(adminRole);
+        given(cacheManager.getCache("getUser")).willReturn(userCache);
+        given(cacheManager.getCache("getRole")).willReturn(roleCache);
+        given(userRepository.lockTransitionTargetIds(request, 10_001)).willReturn(List.of("a", "b"));
+        given(userRepository.applyTransition(List.of("a", "b"), null, adminRole)).willReturn(2);
+
+        UserTransitionResponse response = userService.transitionUsers(request);
 
-        userService.checkAndUpdateInactivity(activeUser);
+        assertAll(
+                () -> assertEquals(2L, response.getMatched()),
+                () -> assertEquals(2, response.getUpdated())
+        );
+        verify(userCache, times(1)).evict("a");
+        verify(roleCache, times(1)).evict("b");
+        verify(userCache, never()).clear();
+        verify(cacheGeneration, times(1)).advance("getUsers");
+    }
+
+    @Test
+    void transitionUsers_RequiresExactlyOneTarget() {
+        UserTransitionRequest request = UserTransitionRequest.builder()
+                .statusId(4L)
+                .targetStatusId(1L)
+                .targetRoleId(1L)
+                .build();
+
+        assertThrows(InvalidUserTransitionException.class, () -> userService.transitionUsers(request));
+    }
 
-        ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
-        verify(userRepository, times(1)).save(userCaptor.capture());
-        User savedUser = userCaptor.getValue();
+    @Test
+    void transitionUsers_RejectsRequestWithoutFilter() {
+        UserTransitionRequest request = UserTransitionRequest.builder()
+                .targetRoleId(1L)
+                .build();
 
-        assertEquals(inActiveStatus, savedUser.getStatus());
+        assertThrows(InvalidUserTransitionException.class, () -> userService.transitionUsers(request));
+        verify(userRepository, never()).lockTransitionTargetIds(any(), anyInt());
+        verify(userRepository, never()).applyTransition(any(), any(), any());
     }
-}
\ No newline at end of file
+}
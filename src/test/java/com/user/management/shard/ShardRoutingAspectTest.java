@@ -0,0 +1,230 @@
+package com.user.management.shard;
+
+import com.user.management.dto.BulkShardResult;
+import com.user.management.dto.BulkUserResponse;
+import com.user.management.dto.PermitUserRequest;
+import com.user.management.dto.RoleResponse;
+import com.user.management.entity.Role;
+import com.user.management.exception.UserNotFoundException;
+import com.user.management.repository.UserRepository;
+import com.user.management.service.impl.UserServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShardRoutingAspectTest {
+
+    @Test
+    void singleKey_RunsOnUserShard() {
+        UserShardRouter router = new UserShardRouter(UserShardRouterTest.properties(3, null));
+        Accounts accounts = proxy(new Accounts(), router);
+
+        assertAll(
+                () -> assertEquals(router.shardOf("user-1"), accounts.shardOf("user-1")),
+                () -> assertEquals(router.shardOf("user-2"), accounts.shardOfRequest(new PermitUserRequest("user-2"))),
+                () -> assertEquals(ShardContext.DEFAULT_SHARD, ShardContext.current())
+        );
+    }
+
+    @Test
+    void collectionKey_RunsEachShardWithItsOwnUsers() {
+        UserShardRouter router = new UserShardRouter(UserShardRouterTest.properties(3, null));
+        Accounts target = new Accounts();
+        Accounts accounts = proxy(target, router);
+        List<String> userIds = UserShardRouterTest.userIds(20);
+
+        BulkUserResponse response = accounts.touch(userIds);
+
+        assertAll(
+                () -> assertEquals(userIds.stream().sorted().collect(Collectors.toList()),
+                        response.getChanged().stream().sorted().collect(Collectors.toList())),
+                () -> assertTrue(target.touchedOn.entrySet().stream()
+                        .allMatch(entry -> router.shardOf(entry.getKey()) == entry.getValue())),
+                () -> assertEquals(router.partition(userIds).size(), target.calls)
+        );
+    }
+
+    @Test
+    void collectionKey_ReportsFailedShardWithoutLosingOthers() {
+        UserShardRouter router = new UserShardRouter(UserShardRouterTest.properties(3, null));
+        Accounts target = new Accounts();
+        target.failingShard = 1;
+        Accounts accounts = proxy(target, router);
+        List<String> userIds = UserShardRouterTest.userIds(20);
+
+        BulkUserResponse response = accounts.touch(userIds);
+
+        assertAll(
+                () -> assertEquals(router.partition(userIds).get(1), response.getFailed()),
+                () -> assertEquals(userIds.size() - response.getFailed().size(), response.getChanged().size()),
+                () -> assertNotNull(response.getFailureMessage())
+        );
+    }
+
+    @Test
+    void collectionKey_ReportsWhichShardsCommitted() {
+        UserShardRouter router = new UserShardRouter(UserShardRouterTest.properties(3, null));
+        Accounts target = new Accounts();
+        target.failingShard = 1;
+        Accounts accounts = proxy(target, router);
+        List<String> userIds = UserShardRouterTest.userIds(20);
+        Map<Integer, List<String>> partitions = router.partition(userIds);
+
+        BulkUserResponse response = accounts.touch(userIds);
+
+        assertAll(
+                () -> assertEquals(List.copyOf(partitions.keySet()),
+                        response.getShards().stream().map(BulkShardResult::getShard).collect(Collectors.toList())),
+                () -> assertTrue(response.getShards().stream()
+                        .allMatch(result -> result.getUserIds().equals(partitions.get(result.getShard())))),
+                () -> assertTrue(response.getShards().stream()
+                        .allMatch(result -> result.isCommitted() == (result.getShard() != 1))),
+                () -> assertEquals("shard down", response.getShards().stream()
+                        .filter(result -> !result.isCommitted())
+                        .findFirst()
+                        .orElseThrow()
+                        .getFailureMessage())
+        );
+    }
+
+    @Test
+    void collectionKey_OmitsShardOutcomesWhenUsersShareOneShard() {
+        UserShardRouter router = new UserShardRouter(UserShardRouterTest.properties(3, null));
+        Accounts accounts = proxy(new Accounts(), router);
+        List<String> userIds = router.partition(UserShardRouterTest.userIds(20)).get(0);
+
+        assertNull(accounts.touch(userIds).getShards());
+    }
+
+    @Test
+    void resharding_RetriesPreviousShardWhenUserIsMissing() {
+        UserShardRouter router = new UserShardRouter(UserShardRouterTest.properties(3, 2));
+        String movedUser = UserShardRouterTest.userIds(100).stream()
+                .filter(id -> router.shardOf(id) != router.previousShardOf(id))
+                .findFirst()
+                .orElseThrow();
+        Accounts target = new Accounts();
+        target.storedOn.put(movedUser, List.of(router.previousShardOf(movedUser)));
+        Accounts accounts = proxy(target, router);
+
+        assertEquals(router.previousShardOf(movedUser), accounts.find(movedUser));
+    }
+
+    @Test
+    void resharding_PrefersPreviousShardUntilCopyIsDeleted() {
+        UserShardRouter router = new UserShardRouter(UserShardRouterTest.properties(3, 2));
+        List<String> movedUsers = UserShardRouterTest.userIds(100).stream()
+                .filter(id -> router.shardOf(id) != router.previousShardOf(id))
+                .collect(Collectors.toList());
+        String copiedUser = movedUsers.get(0);
+        String finishedUser = movedUsers.get(1);
+        Accounts target = new Accounts();
+        target.storedOn.put(copiedUser, List.of(router.shardOf(copiedUser), router.previousShardOf(copiedUser)));
+        target.storedOn.put(finishedUser, List.of(router.shardOf(finishedUser)));
+        Accounts accounts = proxy(target, router);
+
+        BulkUserResponse response = accounts.touchStored(List.of(copiedUser, finishedUser));
+
+        assertAll(
+                () -> assertEquals(router.previousShardOf(copiedUser), accounts.find(copiedUser)),
+                () -> assertEquals(router.shardOf(finishedUser), accounts.find(finishedUser)),
+                () -> assertEquals(List.of(), response.getMissing()),
+                () -> assertEquals(router.previousShardOf(copiedUser), target.touchedOn.get(copiedUser)),
+                () -> assertEquals(router.shardOf(finishedUser), target.touchedOn.get(finishedUser)),
+                () -> assertTrue(response.getShards().stream().allMatch(BulkShardResult::isCommitted))
+        );
+    }
+
+    @Test
+    void resharding_CreatesOnNewShard() {
+        UserShardRouter router = new UserShardRouter(UserShardRouterTest.properties(3, 2));
+        String movedUser = UserShardRouterTest.userIds(100).stream()
+                .filter(id -> router.shardOf(id) != router.previousShardOf(id))
+                .findFirst()
+                .orElseThrow();
+        Accounts accounts = proxy(new Accounts(), router);
+
+        assertEquals(router.shardOf(movedUser), accounts.create(movedUser));
+    }
+
+    @Test
+    void resharding_FindsRoleOfMovedUserOnNewShard() {
+        UserShardRouter router = new UserShardRouter(UserShardRouterTest.properties(3, 2));
+        String movedUser = UserShardRouterTest.userIds(100).stream()
+                .filter(id -> router.shardOf(id) != router.previousShardOf(id))
+                .findFirst()
+                .orElseThrow();
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.getRoleByUserId(movedUser)).thenAnswer(invocation ->
+                ShardContext.current() == router.shardOf(movedUser) ? new Role(2L, "ROLE_USER") : null);
+        UserServiceImpl userService = proxy(new UserServiceImpl(null, userRepository, null, null, null, null,
+                null, null, null, null, null, router, null), router);
+
+        assertEquals(new RoleResponse(2L, "ROLE_USER"), userService.getRoleByUserId(movedUser));
+    }
+
+    private static <T> T proxy(T target, UserShardRouter router) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ShardRoutingAspect(router));
+        return factory.getProxy();
+    }
+
+    static class Accounts {
+        private final Map<String, Integer> touchedOn = new HashMap<>();
+        private final Map<String, List<Integer>> storedOn = new HashMap<>();
+        private Integer failingShard;
+        private int calls;
+
+        public int shardOf(@ShardKey String userId) {
+            return ShardContext.current();
+        }
+
+        public int shardOfRequest(@ShardKey PermitUserRequest request) {
+            return ShardContext.current();
+        }
+
+        public BulkUserResponse touch(@ShardKey Collection<String> userIds) {
+            calls++;
+            if (failingShard != null && failingShard == ShardContext.current())
+                throw new IllegalStateException("shard down");
+
+            userIds.forEach(id -> touchedOn.put(id, ShardContext.current()));
+            return new BulkUserResponse(new ArrayList<>(userIds), List.of(), List.of());
+        }
+
+        public BulkUserResponse touchStored(@ShardKey Collection<String> userIds) {
+            List<String> changed = new ArrayList<>();
+            List<String> missing = new ArrayList<>();
+            for (String id : userIds) {
+                if (storedOn.getOrDefault(id, List.of()).contains(ShardContext.current())) {
+                    touchedOn.put(id, ShardContext.current());
+                    changed.add(id);
+                } else {
+                    missing.add(id);
+                }
+            }
+            return new BulkUserResponse(changed, List.of(), missing);
+        }
+
+        public int find(@ShardKey String userId) {
+            if (!storedOn.getOrDefault(userId, List.of()).contains(ShardContext.current()))
+                throw new UserNotFoundException(userId);
+            return ShardContext.current();
+        }
+
+        public int create(@ShardKey(creates = true) String userId) {
+            return ShardContext.current();
+        }
+    }
+}
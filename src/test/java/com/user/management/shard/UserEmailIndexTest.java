@@ -0,0 +1,154 @@
+package com.user.management.shard;
+
+import com.user.management.exception.AlreadyExistEmailException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 서로 다른 shard 에 저장되는 사용자끼리 같은 email 을 쓰지 못하도록 막는지 내장 H2 데이터베이스로 확인합니다.
+ */
+class UserEmailIndexTest {
+    private static final int SHARD_COUNT = 2;
+    private static final String EMAIL = "same@test.com";
+
+    private List<EmbeddedDatabase> databases;
+    private UserShardRouter router;
+    private String userOnShard0;
+    private String userOnShard1;
+
+    @BeforeEach
+    void setUp() {
+        databases = IntStream.range(0, SHARD_COUNT)
+                .mapToObj(i -> new EmbeddedDatabaseBuilder()
+                        .setType(EmbeddedDatabaseType.H2)
+                        .generateUniqueName(true)
+                        .build())
+                .collect(Collectors.toList());
+        databases.forEach(database -> {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+            jdbcTemplate.execute("CREATE TABLE users (user_id VARCHAR(50) PRIMARY KEY, user_email VARCHAR(100) UNIQUE)");
+            jdbcTemplate.execute("CREATE TABLE user_email_index (user_email VARCHAR(100) PRIMARY KEY, "
+                    + "user_id VARCHAR(50) NOT NULL, claimed_at TIMESTAMP NOT NULL)");
+        });
+
+        router = new UserShardRouter(UserShardRouterTest.properties(SHARD_COUNT, null));
+        List<String> userIds = UserShardRouterTest.userIds(100);
+        userOnShard0 = userIds.stream().filter(id -> router.shardOf(id) == 0).findFirst().orElseThrow();
+        userOnShard1 = userIds.stream().filter(id -> router.shardOf(id) == 1).findFirst().orElseThrow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databases.forEach(EmbeddedDatabase::shutdown);
+    }
+
+    @Test
+    void claim_RejectsEmailOfUserOnAnotherShard() {
+        UserEmailIndex index = index(Duration.ofMinutes(1L));
+
+        assertTrue(index.claim(EMAIL, userOnShard1));
+        insertUser(userOnShard1, EMAIL);
+
+        assertAll(
+                () -> assertThrows(AlreadyExistEmailException.class, () -> index.claim(EMAIL, userOnShard0)),
+                () -> assertFalse(index.claim(EMAIL, userOnShard1)),
+                () -> assertEquals(userOnShard1, claimOwner(EMAIL))
+        );
+    }
+
+    @Test
+    void claim_KeepsRecentClaimOfUserNotSavedYet() {
+        UserEmailIndex index = index(Duration.ofMinutes(1L));
+        index.claim(EMAIL, userOnShard1);
+
+        assertThrows(AlreadyExistEmailException.class, () -> index.claim(EMAIL, userOnShard0));
+    }
+
+    @Test
+    void claim_TakesOverExpiredClaimWhoseUserDoesNotUseEmail() {
+        UserEmailIndex index = index(Duration.ZERO);
+        index.claim(EMAIL, userOnShard1);
+        insertUser(userOnShard1, "changed@test.com");
+
+        assertAll(
+                () -> assertTrue(index.claim(EMAIL, userOnShard0)),
+                () -> assertEquals(userOnShard0, claimOwner(EMAIL))
+        );
+    }
+
+    @Test
+    void claim_KeepsExpiredClaimWhileUserStillUsesEmail() {
+        UserEmailIndex index = index(Duration.ZERO);
+        index.claim(EMAIL, userOnShard1);
+        insertUser(userOnShard1, EMAIL);
+
+        assertThrows(AlreadyExistEmailException.class, () -> index.claim(EMAIL, userOnShard0));
+    }
+
+    @Test
+    void claimAll_ReportsEmailsClaimedByOtherUsers() {
+        UserEmailIndex index = index(Duration.ofMinutes(1L));
+        index.claim(EMAIL, userOnShard1);
+        insertUser(userOnShard1, EMAIL);
+
+        Set<String> taken = index.claimAll(Map.of(EMAIL, userOnShard0, "new@test.com", userOnShard0));
+
+        assertAll(
+                () -> assertEquals(Set.of(EMAIL), taken),
+                () -> assertEquals(userOnShard0, claimOwner("new@test.com")),
+                () -> assertEquals(userOnShard1, claimOwner(EMAIL))
+        );
+    }
+
+    @Test
+    void release_KeepsClaimOfAnotherUser() {
+        UserEmailIndex index = index(Duration.ofMinutes(1L));
+        index.claim(EMAIL, userOnShard1);
+
+        index.release(EMAIL, userOnShard0);
+        assertEquals(userOnShard1, claimOwner(EMAIL));
+
+        index.release(EMAIL, userOnShard1);
+        assertTrue(index.claim(EMAIL, userOnShard0));
+    }
+
+    private UserEmailIndex index(Duration claimTimeout) {
+        ShardingProperties properties = UserShardRouterTest.properties(SHARD_COUNT, null);
+        properties.setEmailClaimTimeout(claimTimeout);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ShardRoutingDataSource(new ArrayList<>(databases)));
+        return new UserEmailIndex(router,
+                new JdbcTemplate(dataSource),
+                new NamedParameterJdbcTemplate(dataSource),
+                new DataSourceTransactionManager(dataSource),
+                properties);
+    }
+
+    private void insertUser(String userId, String email) {
+        new JdbcTemplate(databases.get(router.shardOf(userId)))
+                .update("INSERT INTO users (user_id, user_email) VALUES (?, ?)", userId, email);
+    }
+
+    private String claimOwner(String email) {
+        return new JdbcTemplate(databases.get(UserEmailIndex.INDEX_SHARD))
+                .queryForObject("SELECT user_id FROM user_email_index WHERE user_email = ?", String.class, email);
+    }
+}
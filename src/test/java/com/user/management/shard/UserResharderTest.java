@@ -0,0 +1,333 @@
+package com.user.management.shard;
+
+import com.user.management.cache.CacheGenerationManager;
+import com.user.management.dto.ReshardResponse;
+import com.user.management.service.impl.UserReadModelSynchronizer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * 두 개의 shard 에 나뉘어 있던 사용자를 세 개의 shard 로 재분배하는 과정을 내장 H2 데이터베이스로 확인합니다.
+ */
+class UserResharderTest {
+    private static final int SHARD_COUNT = 3;
+    private static final int PREVIOUS_SHARD_COUNT = 2;
+    private static final int USER_COUNT = 40;
+    private static final Timestamp CREATED_AT = Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0));
+
+    private List<EmbeddedDatabase> databases;
+    private UserShardRouter router;
+    private UserResharder resharder;
+    private CacheGenerationManager cacheGeneration;
+    private UserReadModelSynchronizer userReadModelSynchronizer;
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private NamedParameterJdbcTemplate readModelJdbcTemplate;
+    private List<String> userIds;
+
+    @BeforeEach
+    void setUp() {
+        databases = IntStream.range(0, SHARD_COUNT)
+                .mapToObj(i -> new EmbeddedDatabaseBuilder()
+                        .setType(EmbeddedDatabaseType.H2)
+                        .generateUniqueName(true)
+                        .build())
+                .collect(Collectors.toList());
+        databases.forEach(database -> {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+            jdbcTemplate.execute("CREATE TABLE users (user_id VARCHAR(50) PRIMARY KEY, user_name VARCHAR(50), user_password VARCHAR(200), "
+                    + "user_email VARCHAR(100) UNIQUE, role_id BIGINT, status_id BIGINT, provider_id VARCHAR(50), "
+                    + "created_at TIMESTAMP, latest_login_at TIMESTAMP)");
+            jdbcTemplate.execute("CREATE TABLE user_read_model (user_id VARCHAR(50) PRIMARY KEY, user_name VARCHAR(50), created_at TIMESTAMP)");
+        });
+
+        ShardingProperties properties = UserShardRouterTest.properties(SHARD_COUNT, PREVIOUS_SHARD_COUNT);
+        properties.setReshardBatchSize(7);
+        router = new UserShardRouter(properties);
+        cacheGeneration = mock(CacheGenerationManager.class);
+        userReadModelSynchronizer = mock(UserReadModelSynchronizer.class);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ShardRoutingDataSource(new ArrayList<>(databases)));
+        readModelJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        doAnswer(invocation -> {
+            syncReadModel(readModelJdbcTemplate, invocation.getArgument(0));
+            return null;
+        }).when(userReadModelSynchronizer).sync(anyCollection());
+        namedParameterJdbcTemplate = spy(new NamedParameterJdbcTemplate(dataSource));
+        resharder = new UserResharder(router,
+                new JdbcTemplate(dataSource),
+                namedParameterJdbcTemplate,
+                new DataSourceTransactionManager(dataSource),
+                userReadModelSynchronizer,
+                cacheGeneration,
+                properties);
+
+        userIds = UserShardRouterTest.userIds(USER_COUNT);
+        userIds.forEach(id -> insert(router.previousShardOf(id), id, id + "@test.com", CREATED_AT));
+        databases.forEach(database -> new JdbcTemplate(database).update(
+                "INSERT INTO user_read_model (user_id, user_name, created_at) SELECT user_id, user_name, created_at FROM users"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        databases.forEach(EmbeddedDatabase::shutdown);
+    }
+
+    @Test
+    void reshard_MovesEveryUserToItsNewShard() {
+        long misplaced = userIds.stream().filter(id -> router.shardOf(id) != router.previousShardOf(id)).count();
+
+        ReshardResponse response = resharder.reshard();
+
+        assertAll(
+                () -> assertEquals(1, response.getPasses()),
+                () -> assertEquals(misplaced, response.getMoved()),
+                () -> assertEquals(0, response.getConflicts()),
+                () -> assertEquals(0, response.getFailed()),
+                () -> assertEquals(USER_COUNT, IntStream.range(0, SHARD_COUNT).map(shard -> storedOn(shard).size()).sum()),
+                () -> assertTrue(IntStream.range(0, SHARD_COUNT)
+                        .allMatch(shard -> storedOn(shard).stream().allMatch(id -> router.shardOf(id) == shard))),
+                () -> assertTrue(IntStream.range(0, SHARD_COUNT)
+                        .allMatch(shard -> Set.copyOf(listedOn(shard)).equals(Set.copyOf(storedOn(shard)))))
+        );
+        verify(cacheGeneration).advance("getUsers");
+    }
+
+    @Test
+    void reshard_ListsEachUserOnceWhileCopyAwaitsDelete() {
+        List<List<String>> listedBeforeDelete = new ArrayList<>();
+        List<Integer> storedBeforeDelete = new ArrayList<>();
+        beforeSourceLock(locked -> {
+            if (!listedBeforeDelete.isEmpty())
+                return;
+            listedBeforeDelete.add(IntStream.range(0, SHARD_COUNT)
+                    .boxed()
+                    .flatMap(shard -> listedOn(shard).stream())
+                    .collect(Collectors.toList()));
+            storedBeforeDelete.add(IntStream.range(0, SHARD_COUNT).map(shard -> storedOn(shard).size()).sum());
+        });
+
+        resharder.reshard();
+
+        assertAll(
+                () -> assertTrue(storedBeforeDelete.get(0) > USER_COUNT),
+                () -> assertEquals(USER_COUNT, listedBeforeDelete.get(0).size()),
+                () -> assertEquals(Set.copyOf(userIds), Set.copyOf(listedBeforeDelete.get(0)))
+        );
+    }
+
+    @Test
+    void reshard_SyncsReadModelAgainWhenTargetSyncFails() {
+        String userId = firstMisplacedUser();
+        int target = router.shardOf(userId);
+        AtomicBoolean failed = new AtomicBoolean();
+        doAnswer(invocation -> {
+            Collection<String> synced = invocation.getArgument(0);
+            if (ShardContext.current() == target && synced.contains(userId) && failed.compareAndSet(false, true))
+                throw new DataAccessResourceFailureException("read model unavailable");
+            syncReadModel(readModelJdbcTemplate, synced);
+            return null;
+        }).when(userReadModelSynchronizer).sync(anyCollection());
+
+        ReshardResponse response = resharder.reshard();
+
+        assertAll(
+                () -> assertEquals(2, response.getPasses()),
+                () -> assertEquals(0, response.getFailed()),
+                () -> assertFalse(storedOn(router.previousShardOf(userId)).contains(userId)),
+                () -> assertTrue(listedOn(target).contains(userId)),
+                () -> assertEquals(USER_COUNT, IntStream.range(0, SHARD_COUNT).map(shard -> listedOn(shard).size()).sum())
+        );
+    }
+
+    @Test
+    void reshard_KeepsUserWhenAnotherUserHasSameIdOnTarget() {
+        String userId = firstMisplacedUser();
+        insert(router.shardOf(userId), userId, "other@test.com", Timestamp.valueOf(LocalDateTime.of(2024, 6, 1, 0, 0)));
+
+        ReshardResponse response = resharder.reshard();
+
+        assertAll(
+                () -> assertEquals(1, response.getConflicts()),
+                () -> assertTrue(storedOn(router.previousShardOf(userId)).contains(userId)),
+                () -> assertEquals("other@test.com", emailOn(router.shardOf(userId), userId))
+        );
+    }
+
+    @Test
+    void reshard_DeletesSourceWhenUserWasAlreadyCopied() {
+        String userId = firstMisplacedUser();
+        insert(router.shardOf(userId), userId, userId + "@test.com", CREATED_AT);
+
+        ReshardResponse response = resharder.reshard();
+
+        assertAll(
+                () -> assertEquals(0, response.getConflicts()),
+                () -> assertFalse(storedOn(router.previousShardOf(userId)).contains(userId)),
+                () -> assertEquals(userId + "@test.com", emailOn(router.shardOf(userId), userId))
+        );
+    }
+
+    @Test
+    void reshard_RefreshesCopyLeftByInterruptedMove() {
+        String userId = firstMisplacedUser();
+        insert(router.shardOf(userId), userId, userId + "@test.com", CREATED_AT);
+        new JdbcTemplate(databases.get(router.shardOf(userId)))
+                .update("UPDATE users SET user_name = 'stale' WHERE user_id = ?", userId);
+
+        ReshardResponse response = resharder.reshard();
+
+        assertAll(
+                () -> assertEquals(0, response.getConflicts()),
+                () -> assertFalse(storedOn(router.previousShardOf(userId)).contains(userId)),
+                () -> assertEquals(userId, nameOn(router.shardOf(userId), userId))
+        );
+    }
+
+    @Test
+    void reshard_CopiesAgainWhenUserChangesWhileBeingCopied() {
+        String userId = firstMisplacedUser();
+        int source = router.previousShardOf(userId);
+        AtomicBoolean changed = new AtomicBoolean();
+        beforeSourceLock(locked -> {
+            if (locked.contains(userId) && changed.compareAndSet(false, true))
+                new JdbcTemplate(databases.get(source)).update("UPDATE users SET user_name = 'changed' WHERE user_id = ?", userId);
+        });
+
+        ReshardResponse response = resharder.reshard();
+
+        assertAll(
+                () -> assertEquals(2, response.getPasses()),
+                () -> assertEquals(0, response.getFailed()),
+                () -> assertFalse(storedOn(source).contains(userId)),
+                () -> assertEquals("changed", nameOn(router.shardOf(userId), userId))
+        );
+    }
+
+    @Test
+    void reshard_RemovesCopyOfUserDeletedWhileBeingCopied() {
+        String userId = firstMisplacedUser();
+        int source = router.previousShardOf(userId);
+        beforeSourceLock(locked -> {
+            if (locked.contains(userId))
+                new JdbcTemplate(databases.get(source)).update("DELETE FROM users WHERE user_id = ?", userId);
+        });
+
+        ReshardResponse response = resharder.reshard();
+
+        assertAll(
+                () -> assertEquals(0, response.getFailed()),
+                () -> assertFalse(storedOn(source).contains(userId)),
+                () -> assertFalse(storedOn(router.shardOf(userId)).contains(userId)),
+                () -> assertFalse(listedOn(router.shardOf(userId)).contains(userId))
+        );
+    }
+
+    @Test
+    void reshard_KeepsUserWhenEmailIsTakenOnTarget() {
+        String userId = firstMisplacedUser();
+        String otherUser = UserShardRouterTest.userIds(USER_COUNT * 10).stream()
+                .skip(USER_COUNT)
+                .filter(id -> router.shardOf(id) == router.shardOf(userId))
+                .findFirst()
+                .orElseThrow();
+        insert(router.shardOf(userId), otherUser, userId + "@test.com", CREATED_AT);
+
+        ReshardResponse response = resharder.reshard();
+
+        assertAll(
+                () -> assertEquals(1, response.getConflicts()),
+                () -> assertTrue(storedOn(router.previousShardOf(userId)).contains(userId)),
+                () -> assertFalse(storedOn(router.shardOf(userId)).contains(userId))
+        );
+    }
+
+    @Test
+    void reshard_DoesNothingWhenNotSharded() {
+        UserResharder unsharded = new UserResharder(new UserShardRouter(new ShardingProperties()),
+                null, null, mock(DataSourceTransactionManager.class), null, cacheGeneration, new ShardingProperties());
+
+        assertEquals(0, unsharded.reshard().getPasses());
+        verifyNoInteractions(cacheGeneration);
+    }
+
+    // 복사를 커밋한 뒤 이전 shard 의 행을 잠그고 삭제하기 직전에 실행한다
+    private void beforeSourceLock(Consumer<Collection<String>> hook) {
+        doAnswer(invocation -> {
+            Map<String, Collection<String>> params = invocation.getArgument(1);
+            hook.accept(params.get("ids"));
+            return invocation.callRealMethod();
+        }).when(namedParameterJdbcTemplate).query(argThat(sql -> sql.endsWith("FOR UPDATE")), anyMap(), any(RowMapper.class));
+    }
+
+    // UserReadModelSynchronizer.sync 처럼 호출한 shard 트랜잭션 안에서 읽기 모델을 users 와 맞춘다
+    private static void syncReadModel(NamedParameterJdbcTemplate jdbcTemplate, Collection<String> ids) {
+        if (ids.isEmpty())
+            return;
+        Map<String, Collection<String>> params = Map.of("ids", ids);
+        jdbcTemplate.update("MERGE INTO user_read_model (user_id, user_name, created_at) KEY (user_id) "
+                + "SELECT user_id, user_name, created_at FROM users WHERE user_id IN (:ids)", params);
+        jdbcTemplate.update("DELETE FROM user_read_model WHERE user_id IN (:ids) "
+                + "AND user_id NOT IN (SELECT user_id FROM users WHERE user_id IN (:ids))", params);
+    }
+
+    private String firstMisplacedUser() {
+        return userIds.stream()
+                .filter(id -> router.shardOf(id) != router.previousShardOf(id))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private void insert(int shard, String userId, String email, Timestamp createdAt) {
+        new JdbcTemplate(databases.get(shard)).update(
+                "INSERT INTO users (user_id, user_name, user_password, user_email, role_id, status_id, provider_id, created_at) "
+                        + "VALUES (?, ?, ?, ?, 1, 1, NULL, ?)",
+                userId, userId, "password", email, createdAt);
+    }
+
+    private List<String> storedOn(int shard) {
+        return new JdbcTemplate(databases.get(shard)).queryForList("SELECT user_id FROM users", String.class);
+    }
+
+    private List<String> listedOn(int shard) {
+        return new JdbcTemplate(databases.get(shard)).queryForList("SELECT user_id FROM user_read_model", String.class);
+    }
+
+    private String nameOn(int shard, String userId) {
+        return new JdbcTemplate(databases.get(shard))
+                .queryForObject("SELECT user_name FROM users WHERE user_id = ?", String.class, userId);
+    }
+
+    private String emailOn(int shard, String userId) {
+        return new JdbcTemplate(databases.get(shard))
+                .queryForObject("SELECT user_email FROM users WHERE user_id = ?", String.class, userId);
+    }
+}
@@ -0,0 +1,88 @@
+package com.user.management.shard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserShardRouterTest {
+
+    @Test
+    void disabled_RoutesEveryUserToDefaultShard() {
+        UserShardRouter router = new UserShardRouter(new ShardingProperties());
+
+        assertAll(
+                () -> assertFalse(router.isSharded()),
+                () -> assertFalse(router.isResharding()),
+                () -> assertEquals(1, router.getShardCount()),
+                () -> assertEquals(ShardContext.DEFAULT_SHARD, router.shardOf("user")),
+                () -> assertEquals(ShardContext.DEFAULT_SHARD, router.previousShardOf("user"))
+        );
+    }
+
+    @Test
+    void shardOf_IsStableAndSpreadsUsers() {
+        UserShardRouter router = new UserShardRouter(properties(4, null));
+        List<String> userIds = userIds(400);
+
+        Map<Integer, Long> perShard = userIds.stream()
+                .collect(Collectors.groupingBy(router::shardOf, Collectors.counting()));
+
+        assertAll(
+                () -> assertEquals(router.shardOf("user-1"), new UserShardRouter(properties(4, null)).shardOf("user-1")),
+                () -> assertEquals(4, perShard.size()),
+                () -> assertTrue(perShard.values().stream().allMatch(count -> count > 50))
+        );
+    }
+
+    @Test
+    void partition_GroupsUsersByShardInShardOrder() {
+        UserShardRouter router = new UserShardRouter(properties(3, null));
+        List<String> userIds = userIds(30);
+
+        Map<Integer, List<String>> partitions = router.partition(userIds);
+
+        assertAll(
+                () -> assertEquals(List.copyOf(partitions.keySet()), partitions.keySet().stream().sorted().collect(Collectors.toList())),
+                () -> assertEquals(30, partitions.values().stream().mapToInt(List::size).sum()),
+                () -> assertTrue(partitions.entrySet().stream()
+                        .allMatch(entry -> entry.getValue().stream().allMatch(id -> router.shardOf(id) == entry.getKey())))
+        );
+    }
+
+    @Test
+    void previousShardCount_KeepsOldHomesWhileResharding() {
+        UserShardRouter router = new UserShardRouter(properties(3, 2));
+        UserShardRouter previous = new UserShardRouter(properties(2, null));
+
+        assertAll(
+                () -> assertTrue(router.isResharding()),
+                () -> assertTrue(userIds(50).stream().allMatch(id -> router.previousShardOf(id) == previous.shardOf(id))),
+                () -> assertThrows(IllegalArgumentException.class, () -> new UserShardRouter(properties(2, 3)))
+        );
+    }
+
+    static ShardingProperties properties(int shardCount, Integer previousShardCount) {
+        ShardingProperties properties = new ShardingProperties();
+        properties.setEnabled(true);
+        properties.setPreviousShardCount(previousShardCount);
+        properties.setShards(IntStream.range(0, shardCount)
+                .mapToObj(i -> {
+                    ShardingProperties.Shard shard = new ShardingProperties.Shard();
+                    shard.setName("shard-" + i);
+                    return shard;
+                })
+                .collect(Collectors.toList()));
+        return properties;
+    }
+
+    static List<String> userIds(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "user-" + i)
+                .collect(Collectors.toList());
+    }
+}
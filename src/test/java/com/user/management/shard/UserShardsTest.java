@@ -0,0 +1,140 @@
+package com.user.management.shard;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 세 개의 내장 H2 데이터베이스를 shard 로 사용하여 사용자 ID 라우팅과 scatter-gather 병합을 확인합니다.
+ */
+class UserShardsTest {
+    private static final int SHARD_COUNT = 3;
+    private static final int USER_COUNT = 30;
+    private static final String SELECT_IDS = "SELECT user_id FROM users ORDER BY user_id LIMIT ? OFFSET ?";
+
+    private List<EmbeddedDatabase> databases;
+    private UserShardRouter router;
+    private JdbcTemplate jdbcTemplate;
+    private UserShards userShards;
+    private List<String> userIds;
+
+    @BeforeEach
+    void setUp() {
+        databases = IntStream.range(0, SHARD_COUNT)
+                .mapToObj(i -> new EmbeddedDatabaseBuilder()
+                        .setType(EmbeddedDatabaseType.H2)
+                        .generateUniqueName(true)
+                        .build())
+                .collect(Collectors.toList());
+        databases.forEach(database -> new JdbcTemplate(database)
+                .execute("CREATE TABLE users (user_id VARCHAR(255) PRIMARY KEY)"));
+
+        router = new UserShardRouter(UserShardRouterTest.properties(SHARD_COUNT, null));
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ShardRoutingDataSource(new ArrayList<>(databases)));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        userShards = new UserShards(router, new DataSourceTransactionManager(dataSource));
+
+        userIds = UserShardRouterTest.userIds(USER_COUNT);
+        userIds.forEach(id -> ShardContext.runOn(router.shardOf(id),
+                () -> jdbcTemplate.update("INSERT INTO users (user_id) VALUES (?)", id)));
+        userIds.sort(Comparator.naturalOrder());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userShards.destroy();
+        databases.forEach(EmbeddedDatabase::shutdown);
+    }
+
+    @Test
+    void shardContext_RoutesUsersToTheirHomeShard() {
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            int current = shard;
+            List<String> stored = new JdbcTemplate(databases.get(shard)).queryForList("SELECT user_id FROM users", String.class);
+
+            assertFalse(stored.isEmpty());
+            assertTrue(stored.stream().allMatch(id -> router.shardOf(id) == current));
+        }
+    }
+
+    @Test
+    void gather_MergesSortedShardResults() {
+        List<String> firstTen = userShards.gather(
+                () -> jdbcTemplate.queryForList(SELECT_IDS, String.class, 10, 0),
+                Comparator.naturalOrder(), 10);
+
+        assertEquals(userIds.subList(0, 10), firstTen);
+    }
+
+    @Test
+    void gatherPage_SkipsOffsetAfterMerge() {
+        List<String> secondPage = userShards.gatherPage(PageRequest.of(1, 7),
+                page -> jdbcTemplate.queryForList(SELECT_IDS, String.class, page.getPageSize(), page.getOffset()),
+                Sort.by("id"),
+                Comparator.naturalOrder());
+
+        assertEquals(userIds.subList(7, 14), secondPage);
+    }
+
+    @Test
+    void sum_AddsEveryShard() {
+        Long total = userShards.sum(() -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class));
+
+        assertEquals(Long.valueOf(USER_COUNT), total);
+    }
+
+    @Test
+    void forEachShard_VisitsShardsInOrder() {
+        List<Integer> visited = new ArrayList<>();
+
+        userShards.forEachShard(shard -> visited.add(ShardContext.current()));
+
+        assertEquals(List.of(0, 1, 2), visited);
+    }
+
+    @Test
+    void inEveryShardTransaction_CommitsEveryShard() {
+        List<Integer> results = userShards.inEveryShardTransaction(shard -> {
+            jdbcTemplate.update("INSERT INTO users (user_id) VALUES (?)", "new-" + shard);
+            return ShardContext.current();
+        });
+
+        assertAll(
+                () -> assertEquals(List.of(0, 1, 2), results),
+                () -> assertTrue(IntStream.range(0, SHARD_COUNT).allMatch(shard -> storedOn(shard).contains("new-" + shard)))
+        );
+    }
+
+    @Test
+    void inEveryShardTransaction_RollsBackEveryShardWhenOneFails() {
+        assertThrows(IllegalStateException.class, () -> userShards.inEveryShardTransaction(shard -> {
+            jdbcTemplate.update("INSERT INTO users (user_id) VALUES (?)", "new-" + shard);
+            if (shard == SHARD_COUNT - 1)
+                throw new IllegalStateException("too many rows");
+            return shard;
+        }));
+
+        assertTrue(IntStream.range(0, SHARD_COUNT).noneMatch(shard -> storedOn(shard).contains("new-" + shard)));
+    }
+
+    private List<String> storedOn(int shard) {
+        return new JdbcTemplate(databases.get(shard)).queryForList("SELECT user_id FROM users", String.class);
+    }
+}